@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.core.agent.ParticipantAgentServiceImpl;
 import org.eclipse.edc.connector.core.command.CommandHandlerRegistryImpl;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
 import org.eclipse.edc.connector.core.event.EventRouterImpl;
+import org.eclipse.edc.connector.core.event.EventSubscriberQueueConfiguration;
 import org.eclipse.edc.connector.core.message.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.edc.connector.core.validator.DataAddressValidatorRegistryImpl;
 import org.eclipse.edc.connector.core.validator.JsonObjectValidatorRegistryImpl;
@@ -44,6 +45,7 @@ import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -65,6 +67,24 @@ public class CoreServicesExtension implements ServiceExtension {
     public static final String EDC_HOSTNAME = "edc.hostname";
     @Setting(value = "The name of the claim key used to determine the participant identity", defaultValue = DEFAULT_IDENTITY_CLAIM_KEY)
     public static final String EDC_AGENT_IDENTITY_KEY = "edc.agent.identity.key";
+    private static final boolean DEFAULT_POLICY_ENGINE_COMPILED = false;
+    @Setting(value = "If true, policies are compiled once per scope and the compiled form is cached and reused for evaluation", defaultValue = DEFAULT_POLICY_ENGINE_COMPILED + "", type = "boolean")
+    public static final String EDC_POLICY_ENGINE_COMPILED = "edc.policy.engine.compiled";
+    private static final int DEFAULT_POLICY_ENGINE_COMPILED_CACHE_SIZE = 1000;
+    @Setting(value = "Maximum number of compiled policies kept in cache for every scope, when compiled mode is enabled", defaultValue = DEFAULT_POLICY_ENGINE_COMPILED_CACHE_SIZE + "", type = "int")
+    public static final String EDC_POLICY_ENGINE_COMPILED_CACHE_SIZE = "edc.policy.engine.compiled.cache.size";
+    private static final boolean DEFAULT_EVENTS_SUBSCRIBER_QUEUE_ENABLED = false;
+    @Setting(value = "If true, every asynchronous event subscriber gets its own bounded queue and threads, instead of sharing the event executor", defaultValue = DEFAULT_EVENTS_SUBSCRIBER_QUEUE_ENABLED + "", type = "boolean")
+    public static final String EDC_EVENTS_SUBSCRIBER_QUEUE_ENABLED = "edc.events.subscriber.queue.enabled";
+    private static final int DEFAULT_EVENTS_SUBSCRIBER_PARALLELISM = 1;
+    @Setting(value = "Number of threads delivering events to every asynchronous subscriber, events of the same entity are kept in order", defaultValue = DEFAULT_EVENTS_SUBSCRIBER_PARALLELISM + "", type = "int")
+    public static final String EDC_EVENTS_SUBSCRIBER_PARALLELISM = "edc.events.subscriber.parallelism";
+    private static final int DEFAULT_EVENTS_SUBSCRIBER_QUEUE_SIZE = 1000;
+    @Setting(value = "Maximum number of events waiting for every asynchronous subscriber", defaultValue = DEFAULT_EVENTS_SUBSCRIBER_QUEUE_SIZE + "", type = "int")
+    public static final String EDC_EVENTS_SUBSCRIBER_QUEUE_SIZE = "edc.events.subscriber.queue.size";
+    private static final String DEFAULT_EVENTS_SUBSCRIBER_OVERFLOW_POLICY = "BLOCK";
+    @Setting(value = "What happens when an event is published to a full subscriber queue: BLOCK, DROP_NEWEST or DROP_OLDEST", defaultValue = DEFAULT_EVENTS_SUBSCRIBER_OVERFLOW_POLICY)
+    public static final String EDC_EVENTS_SUBSCRIBER_OVERFLOW_POLICY = "edc.events.subscriber.overflow.policy";
     @Inject
     private EventExecutorServiceContainer eventExecutorServiceContainer;
 
@@ -77,8 +97,13 @@ public class CoreServicesExtension implements ServiceExtension {
     @Inject
     private ControlClientAuthenticationProvider controlClientAuthenticationProvider;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     private RuleBindingRegistry ruleBindingRegistry;
 
+    private EventRouterImpl eventRouter;
+
     @Override
     public String name() {
         return NAME;
@@ -91,6 +116,9 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Override
     public void shutdown() {
+        if (eventRouter != null) {
+            eventRouter.shutdown();
+        }
         ServiceExtension.super.shutdown();
     }
 
@@ -138,15 +166,25 @@ public class CoreServicesExtension implements ServiceExtension {
     }
 
     @Provider
-    public PolicyEngine policyEngine() {
+    public PolicyEngine policyEngine(ServiceExtensionContext context) {
         var scopeFilter = new ScopeFilter(ruleBindingRegistry);
         var ruleValidator = new RuleValidator(ruleBindingRegistry);
-        return new PolicyEngineImpl(scopeFilter, ruleValidator);
+        var compiled = context.getSetting(EDC_POLICY_ENGINE_COMPILED, DEFAULT_POLICY_ENGINE_COMPILED);
+        var cacheSize = context.getSetting(EDC_POLICY_ENGINE_COMPILED_CACHE_SIZE, DEFAULT_POLICY_ENGINE_COMPILED_CACHE_SIZE);
+        return new PolicyEngineImpl(scopeFilter, ruleValidator, compiled, cacheSize);
     }
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        EventSubscriberQueueConfiguration queueConfiguration = null;
+        if (context.getSetting(EDC_EVENTS_SUBSCRIBER_QUEUE_ENABLED, DEFAULT_EVENTS_SUBSCRIBER_QUEUE_ENABLED)) {
+            queueConfiguration = new EventSubscriberQueueConfiguration(
+                    context.getSetting(EDC_EVENTS_SUBSCRIBER_PARALLELISM, DEFAULT_EVENTS_SUBSCRIBER_PARALLELISM),
+                    context.getSetting(EDC_EVENTS_SUBSCRIBER_QUEUE_SIZE, DEFAULT_EVENTS_SUBSCRIBER_QUEUE_SIZE),
+                    EventSubscriberQueueConfiguration.OverflowPolicy.valueOf(context.getSetting(EDC_EVENTS_SUBSCRIBER_OVERFLOW_POLICY, DEFAULT_EVENTS_SUBSCRIBER_OVERFLOW_POLICY)));
+        }
+        eventRouter = new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(), queueConfiguration, executorInstrumentation);
+        return eventRouter;
     }
 
     @Provider
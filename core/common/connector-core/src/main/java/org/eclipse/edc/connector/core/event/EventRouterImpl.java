@@ -20,68 +20,109 @@ import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Default {@link EventRouter}. The subscribers of every concrete event class are resolved once and kept in a routing
+ * table, which is rebuilt when a new subscriber registers.
+ * <p>
+ * Asynchronous subscribers are notified on the shared executor, or, when a {@link EventSubscriberQueueConfiguration} is
+ * provided, every asynchronous subscriber gets its own {@link EventSubscriberQueue}.
+ */
 public class EventRouterImpl implements EventRouter {
 
-    private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
-    private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final List<Registration> syncRegistrations = new CopyOnWriteArrayList<>();
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private volatile Map<Class<?>, Route> routes = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final EventSubscriberQueueConfiguration queueConfiguration;
+    private final ExecutorInstrumentation instrumentation;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, null, ExecutorInstrumentation.noop());
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, @Nullable EventSubscriberQueueConfiguration queueConfiguration,
+                           ExecutorInstrumentation instrumentation) {
         this.monitor = monitor;
         this.executor = executor;
+        this.queueConfiguration = queueConfiguration;
+        this.instrumentation = instrumentation;
     }
 
     @Override
-    public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+    public synchronized <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
+        syncRegistrations.add(new Registration(eventKind, subscriber, null));
+        routes = new ConcurrentHashMap<>();
     }
 
     @Override
-    public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+    public synchronized <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
+        var queue = queueConfiguration != null
+                ? new EventSubscriberQueue(subscriber.getClass().getSimpleName() + "-" + registrations.size(), subscriber, queueConfiguration, monitor, instrumentation)
+                : null;
+        registrations.add(new Registration(eventKind, subscriber, queue));
+        routes = new ConcurrentHashMap<>();
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
+        var route = routes.computeIfAbsent(event.getPayload().getClass(), this::route);
+
+        route.sync().forEach(registration -> registration.subscriber().on(event));
 
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
+        for (var registration : route.async()) {
+            if (registration.queue() != null) {
+                registration.queue().submit(event);
+            } else {
+                var subscriber = registration.subscriber();
+                runAsync(() -> subscriber.on(event), executor).whenComplete((v, throwable) -> {
                     if (throwable != null) {
                         var subscriberName = subscriber.getClass().getSimpleName();
                         var eventName = event.getClass().getSimpleName();
                         monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
                     }
-                }));
+                });
+            }
+        }
+    }
+
+    /**
+     * Stops the subscriber queues, the events still waiting in them are delivered.
+     */
+    public void shutdown() {
+        registrations.stream()
+                .map(Registration::queue)
+                .filter(Objects::nonNull)
+                .forEach(EventSubscriberQueue::shutdown);
+    }
+
+    private Route route(Class<?> eventClass) {
+        return new Route(matching(syncRegistrations, eventClass), matching(registrations, eventClass));
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private List<Registration> matching(List<Registration> registrations, Class<?> eventClass) {
+        return registrations.stream()
+                .filter(registration -> registration.eventKind().isAssignableFrom(eventClass))
+                .toList();
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    private record Registration(Class<?> eventKind, EventSubscriber subscriber, @Nullable EventSubscriberQueue queue) {
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    private record Route(List<Registration> sync, List<Registration> async) {
     }
 }
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded queue through which the events are delivered to a single asynchronous subscriber, so that a slow subscriber
+ * does not delay the others. The queue is split in lanes, each one served by its own thread: the events of the same
+ * entity always go to the same lane, the ones not referring to an entity are spread over all of them.
+ * <p>
+ * Every lane executor is passed through the {@link ExecutorInstrumentation}, which exposes its queue depth. Note that
+ * with the {@link EventSubscriberQueueConfiguration.OverflowPolicy#BLOCK} policy, a subscriber that publishes events to
+ * itself can block on its own full queue.
+ */
+public class EventSubscriberQueue {
+
+    private final EventSubscriber subscriber;
+    private final String name;
+    private final Monitor monitor;
+    private final List<ThreadPoolExecutor> lanes = new ArrayList<>();
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private final AtomicInteger nextLane = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public EventSubscriberQueue(String name, EventSubscriber subscriber, EventSubscriberQueueConfiguration configuration,
+                                Monitor monitor, ExecutorInstrumentation instrumentation) {
+        this.name = name;
+        this.subscriber = subscriber;
+        this.monitor = monitor;
+
+        var parallelism = Math.max(1, configuration.parallelism());
+        var laneCapacity = Math.max(1, configuration.capacity() / parallelism);
+        var rejectionHandler = rejectionHandler(configuration.overflowPolicy());
+        for (var i = 0; i < parallelism; i++) {
+            var lane = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(laneCapacity),
+                    threadFactory(i), rejectionHandler);
+            lanes.add(lane);
+            executors.add(instrumentation.instrument(lane, "event-subscriber-" + name + "-" + i));
+        }
+    }
+
+    /**
+     * Queues the delivery of the event to the subscriber.
+     *
+     * @param envelope the event.
+     */
+    public <E extends Event> void submit(EventEnvelope<E> envelope) {
+        var entityId = envelope.getPayload().entityId();
+        var lane = entityId != null
+                ? Math.floorMod(entityId.hashCode(), executors.size())
+                : Math.floorMod(nextLane.getAndIncrement(), executors.size());
+
+        executors.get(lane).execute(() -> {
+            try {
+                subscriber.on(envelope);
+            } catch (Throwable e) {
+                monitor.severe(format("Subscriber %s failed to handle event %s", name, envelope.getPayload().getClass().getSimpleName()), e);
+            }
+        });
+    }
+
+    /**
+     * The number of events waiting to be delivered.
+     *
+     * @return the queue depth.
+     */
+    public int getQueueDepth() {
+        return lanes.stream().mapToInt(lane -> lane.getQueue().size()).sum();
+    }
+
+    /**
+     * The number of events discarded because the queue was full.
+     *
+     * @return the dropped events.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public void shutdown() {
+        executors.forEach(ExecutorService::shutdown);
+    }
+
+    private RejectedExecutionHandler rejectionHandler(EventSubscriberQueueConfiguration.OverflowPolicy overflowPolicy) {
+        return switch (overflowPolicy) {
+            case BLOCK -> (task, executor) -> {
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException(format("Event subscriber %s is shut down", name));
+                }
+                try {
+                    executor.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException(e);
+                }
+            };
+            case DROP_NEWEST -> (task, executor) -> drop();
+            case DROP_OLDEST -> (task, executor) -> {
+                if (!executor.isShutdown()) {
+                    executor.getQueue().poll();
+                    drop();
+                    executor.execute(task);
+                }
+            };
+        };
+    }
+
+    private void drop() {
+        if (dropped.incrementAndGet() % 1000 == 1) {
+            monitor.warning(format("Queue of event subscriber %s is full, %d events dropped so far", name, dropped.get()));
+        }
+    }
+
+    private ThreadFactory threadFactory(int lane) {
+        return r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("EventSubscriber-" + name + "-" + lane);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
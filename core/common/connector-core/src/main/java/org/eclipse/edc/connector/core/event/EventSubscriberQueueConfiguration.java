@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+/**
+ * Configuration of the {@link EventSubscriberQueue} that every asynchronous subscriber gets.
+ *
+ * @param parallelism    the number of threads delivering events to the subscriber. Events of the same entity are
+ *                       always delivered by the same thread, so they are never reordered.
+ * @param capacity       the maximum number of events waiting for the subscriber, shared among its threads.
+ * @param overflowPolicy what happens when an event is published while the queue is full.
+ */
+public record EventSubscriberQueueConfiguration(int parallelism, int capacity, OverflowPolicy overflowPolicy) {
+
+    public enum OverflowPolicy {
+        /**
+         * The publisher waits until there is room in the queue.
+         */
+        BLOCK,
+        /**
+         * The published event is discarded.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest event waiting in the queue is discarded to make room for the published one.
+         */
+        DROP_OLDEST
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
@@ -149,6 +150,47 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldRouteToSubscriberRegisteredAfterPublish() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+        eventRouter.publish(EventEnvelope.Builder.newInstance().at(clock.millis()).payload(TestEvent.Builder.newInstance().build()).build());
+
+        eventRouter.registerSync(TestEventBase.class, subscriberB);
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        eventRouter.publish(event);
+
+        verify(subscriberA).on(eq(event));
+        verify(subscriberB).on(eq(event));
+    }
+
+    @Test
+    void shouldPublishThroughSubscriberQueues_whenConfigured() {
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(),
+                new EventSubscriberQueueConfiguration(2, 10, EventSubscriberQueueConfiguration.OverflowPolicy.BLOCK), ExecutorInstrumentation.noop());
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        doThrow(new RuntimeException("unexpected exception")).when(subscriberA).on(any());
+        router.register(TestEvent.class, subscriberA);
+        router.register(Event.class, subscriberB);
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        router.publish(event);
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(subscriberA).on(eq(event));
+            verify(subscriberB).on(eq(event));
+        });
+        router.shutdown();
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.connector.core.event.EventSubscriberQueueConfiguration.OverflowPolicy;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class EventSubscriberQueueTest {
+
+    private EventSubscriberQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void submit_shouldKeepOrderPerEntity() {
+        var received = Collections.synchronizedList(new ArrayList<String>());
+        queue = queue(new RecordingSubscriber(received, null), new EventSubscriberQueueConfiguration(4, 1000, OverflowPolicy.BLOCK));
+
+        IntStream.range(0, 100).forEach(i -> {
+            queue.submit(envelope("a", i));
+            queue.submit(envelope("b", i));
+        });
+
+        await().untilAsserted(() -> assertThat(received).hasSize(200));
+        assertThat(received.stream().filter(e -> e.startsWith("a")).toList()).isEqualTo(expected("a"));
+        assertThat(received.stream().filter(e -> e.startsWith("b")).toList()).isEqualTo(expected("b"));
+    }
+
+    @Test
+    void submit_shouldDeliverConcurrently_whenParallel() throws InterruptedException {
+        var allRunning = new CountDownLatch(2);
+        queue = queue(new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                allRunning.countDown();
+                waitFor(allRunning);
+            }
+        }, new EventSubscriberQueueConfiguration(2, 10, OverflowPolicy.BLOCK));
+
+        queue.submit(envelope(null, 0));
+        queue.submit(envelope(null, 1));
+
+        assertThat(allRunning.await(5, SECONDS)).isTrue();
+    }
+
+    @Test
+    void submit_shouldDropNewest_whenFull() {
+        var release = new CountDownLatch(1);
+        var received = Collections.synchronizedList(new ArrayList<String>());
+        queue = queue(new RecordingSubscriber(received, release), new EventSubscriberQueueConfiguration(1, 2, OverflowPolicy.DROP_NEWEST));
+
+        IntStream.range(0, 5).forEach(i -> queue.submit(envelope("a", i)));
+        release.countDown();
+
+        await().untilAsserted(() -> assertThat(received).hasSize(3));
+        assertThat(queue.getDropped()).isEqualTo(2);
+        assertThat(received).containsExactly("a-0", "a-1", "a-2");
+    }
+
+    @Test
+    void submit_shouldDropOldest_whenFull() {
+        var release = new CountDownLatch(1);
+        var received = Collections.synchronizedList(new ArrayList<String>());
+        queue = queue(new RecordingSubscriber(received, release), new EventSubscriberQueueConfiguration(1, 2, OverflowPolicy.DROP_OLDEST));
+
+        IntStream.range(0, 5).forEach(i -> queue.submit(envelope("a", i)));
+        assertThat(queue.getQueueDepth()).isEqualTo(2);
+        release.countDown();
+
+        await().untilAsserted(() -> assertThat(received).hasSize(3));
+        assertThat(queue.getDropped()).isEqualTo(2);
+        assertThat(received).containsExactly("a-0", "a-3", "a-4");
+    }
+
+    private EventSubscriberQueue queue(EventSubscriber subscriber, EventSubscriberQueueConfiguration configuration) {
+        return new EventSubscriberQueue("test", subscriber, configuration, mock(), ExecutorInstrumentation.noop());
+    }
+
+    private List<String> expected(String entityId) {
+        return IntStream.range(0, 100).mapToObj(i -> entityId + "-" + i).toList();
+    }
+
+    private EventEnvelope<TestEvent> envelope(String entityId, int sequence) {
+        return EventEnvelope.Builder.newInstance().at(1).payload(new TestEvent(entityId, sequence)).build();
+    }
+
+    private static void waitFor(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingSubscriber implements EventSubscriber {
+
+        private final List<String> received;
+        private final CountDownLatch release;
+
+        RecordingSubscriber(List<String> received, CountDownLatch release) {
+            this.received = received;
+            this.release = release;
+        }
+
+        @Override
+        public <E extends Event> void on(EventEnvelope<E> event) {
+            if (release != null) {
+                waitFor(release);
+            }
+            var payload = (TestEvent) event.getPayload();
+            received.add(payload.entityId() + "-" + payload.sequence);
+        }
+    }
+
+    private static class TestEvent extends Event {
+
+        private final String entityId;
+        private final int sequence;
+
+        TestEvent(String entityId, int sequence) {
+            this.entityId = entityId;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String entityId() {
+            return entityId;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+    }
+}
@@ -14,11 +14,18 @@
 
 package org.eclipse.edc.jsonld;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 public class JsonLdConfiguration {
 
     private boolean httpEnabled = false;
     private boolean httpsEnabled = false;
     private boolean checkPrefixes = true;
+    private boolean remoteCacheEnabled = false;
+    private Duration remoteCacheTtl = Duration.ofHours(1);
+    private int remoteCacheSize = 100;
+    private Path remoteCacheDirectory;
 
     private JsonLdConfiguration() {
 
@@ -36,6 +43,22 @@ public class JsonLdConfiguration {
         return checkPrefixes;
     }
 
+    public boolean isRemoteCacheEnabled() {
+        return remoteCacheEnabled;
+    }
+
+    public Duration getRemoteCacheTtl() {
+        return remoteCacheTtl;
+    }
+
+    public int getRemoteCacheSize() {
+        return remoteCacheSize;
+    }
+
+    public Path getRemoteCacheDirectory() {
+        return remoteCacheDirectory;
+    }
+
     public static class Builder {
 
         private final JsonLdConfiguration configuration = new JsonLdConfiguration();
@@ -59,6 +82,26 @@ public class JsonLdConfiguration {
             return this;
         }
 
+        public Builder remoteCacheEnabled(boolean remoteCacheEnabled) {
+            configuration.remoteCacheEnabled = remoteCacheEnabled;
+            return this;
+        }
+
+        public Builder remoteCacheTtl(Duration remoteCacheTtl) {
+            configuration.remoteCacheTtl = remoteCacheTtl;
+            return this;
+        }
+
+        public Builder remoteCacheSize(int remoteCacheSize) {
+            configuration.remoteCacheSize = remoteCacheSize;
+            return this;
+        }
+
+        public Builder remoteCacheDirectory(Path remoteCacheDirectory) {
+            configuration.remoteCacheDirectory = remoteCacheDirectory;
+            return this;
+        }
+
         public JsonLdConfiguration build() {
             return configuration;
         }
@@ -16,6 +16,8 @@ package org.eclipse.edc.jsonld;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.cache.Cache;
+import com.apicatalog.jsonld.context.cache.LruCache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.loader.DocumentLoader;
@@ -25,6 +27,7 @@ import com.apicatalog.jsonld.loader.HttpLoader;
 import com.apicatalog.jsonld.loader.SchemeRouter;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
+import org.eclipse.edc.jsonld.document.CachingDocumentLoader;
 import org.eclipse.edc.jsonld.document.JarLoader;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
@@ -35,6 +38,7 @@ import org.eclipse.edc.validator.jsonobject.JsonObjectValidator;
 import org.eclipse.edc.validator.jsonobject.validators.MissingPrefixes;
 
 import java.net.URI;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -42,31 +46,45 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.Optional.ofNullable;
 
 /**
  * Implementation of the {@link JsonLd} interface that uses the Titanium library for all JSON-LD operations.
+ * <p>
+ * The compaction context of every scope is computed once and reused until a namespace or a context gets registered.
+ * The documents registered through {@link #registerCachedDocument(String, URI)} and the contexts they define are
+ * processed once and shared across operations, instead of once per operation. Remote documents are not kept there, so
+ * they stay subject to the loader configuration.
  */
 public class TitaniumJsonLd implements JsonLd {
     private static final Map<String, String> EMPTY_NAMESPACES = Collections.emptyMap();
 
     private static final Set<String> EMPTY_CONTEXTS = Collections.emptySet();
 
+    private static final int CONTEXT_CACHE_SIZE = 256;
+
+    private static final int DOCUMENT_CACHE_SIZE = 64;
+
     private final Monitor monitor;
     private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
     private final Map<String, Set<String>> scopedContexts = new HashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private final Map<String, Document> compactionContexts = new ConcurrentHashMap<>();
 
     private final JsonObjectValidator validator;
 
     private final boolean shouldCheckPrefixes;
 
+    private volatile Cache<String, JsonValue> contextCache;
+    private volatile Cache<String, Document> documentCache;
+
     public TitaniumJsonLd(Monitor monitor) {
         this(monitor, JsonLdConfiguration.Builder.newInstance().build());
     }
@@ -74,6 +92,7 @@ public class TitaniumJsonLd implements JsonLd {
     public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration) {
         this.monitor = monitor;
         this.documentLoader = new CachedDocumentLoader(configuration, monitor);
+        resetCaches();
         this.shouldCheckPrefixes = configuration.shouldCheckPrefixes();
         this.validator = JsonObjectValidator.newValidator()
                 .verify((path) -> new MissingPrefixes(path, this::getAllPrefixes))
@@ -85,7 +104,7 @@ public class TitaniumJsonLd implements JsonLd {
         try {
             var document = JsonDocument.of(injectVocab(json));
             var expanded = com.apicatalog.jsonld.JsonLd.expand(document)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             if (!expanded.isEmpty()) {
                 var object = expanded.getJsonObject(0);
@@ -108,12 +127,9 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(JsonLdKeywords.CONTEXT, createContext(scope))
-                    .build());
+            var contextDocument = compactionContexts.computeIfAbsent(scope, this::createContextDocument);
             var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
@@ -126,34 +142,52 @@ public class TitaniumJsonLd implements JsonLd {
     public void registerNamespace(String prefix, String contextIri, String scope) {
         var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
         namespaces.put(prefix, contextIri);
+        compactionContexts.clear();
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
         var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
         contexts.add(contextIri);
+        compactionContexts.clear();
     }
 
     @Override
     public void registerCachedDocument(String contextUrl, URI uri) {
         documentLoader.register(contextUrl, uri);
+        resetCaches();
+    }
+
+    private void resetCaches() {
+        contextCache = new RegisteredDocumentsCache<>(new LruCache<>(CONTEXT_CACHE_SIZE), documentLoader::isRegistered);
+        documentCache = new RegisteredDocumentsCache<>(new LruCache<>(DOCUMENT_CACHE_SIZE), documentLoader::isRegistered);
+    }
+
+    private JsonLdOptions options() {
+        var options = new JsonLdOptions(documentLoader);
+        options.setContextCache(contextCache);
+        options.setDocumentCache(documentCache);
+        return options;
+    }
+
+    private Document createContextDocument(String scope) {
+        var jsonFactory = createBuilderFactory(Map.of());
+        return JsonDocument.of(jsonFactory.createObjectBuilder()
+                .add(JsonLdKeywords.CONTEXT, createContext(scope))
+                .build());
     }
 
     private JsonObject injectVocab(JsonObject json) {
-        var jsonObjectBuilder = createObjectBuilder(json);
-
-        //only inject the vocab if the @context is an object, not a URL
-        if (json.get(JsonLdKeywords.CONTEXT) instanceof JsonObject) {
-            var contextObject = ofNullable(json.getJsonObject(JsonLdKeywords.CONTEXT)).orElseGet(() -> createObjectBuilder().build());
-            var contextBuilder = createObjectBuilder(contextObject);
-            if (!contextObject.containsKey(JsonLdKeywords.VOCAB)) {
-                var newContextObject = contextBuilder
-                        .add(JsonLdKeywords.VOCAB, CoreConstants.EDC_NAMESPACE)
-                        .build();
-                jsonObjectBuilder.add(JsonLdKeywords.CONTEXT, newContextObject);
-            }
+        //only inject the vocab if the @context is an object, not a URL, and it doesn't define it already
+        if (json.get(JsonLdKeywords.CONTEXT) instanceof JsonObject contextObject && !contextObject.containsKey(JsonLdKeywords.VOCAB)) {
+            var newContextObject = createObjectBuilder(contextObject)
+                    .add(JsonLdKeywords.VOCAB, CoreConstants.EDC_NAMESPACE)
+                    .build();
+            return createObjectBuilder(json)
+                    .add(JsonLdKeywords.CONTEXT, newContextObject)
+                    .build();
         }
-        return jsonObjectBuilder.build();
+        return json;
     }
 
     private JsonValue createContext(String scope) {
@@ -198,6 +232,29 @@ public class TitaniumJsonLd implements JsonLd {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Thread-safe Titanium cache that only keeps entries for the registered documents.
+     */
+    private record RegisteredDocumentsCache<V>(Cache<String, V> cache, Predicate<String> isRegistered) implements Cache<String, V> {
+
+        @Override
+        public synchronized boolean containsKey(String key) {
+            return cache.containsKey(key);
+        }
+
+        @Override
+        public synchronized V get(String key) {
+            return cache.get(key);
+        }
+
+        @Override
+        public synchronized void put(String key, V value) {
+            if (isRegistered.test(key)) {
+                cache.put(key, value);
+            }
+        }
+    }
+
     private static class CachedDocumentLoader implements DocumentLoader {
 
         private final Map<String, URI> uriCache = new HashMap<>();
@@ -206,9 +263,14 @@ public class TitaniumJsonLd implements JsonLd {
         private final Monitor monitor;
 
         CachedDocumentLoader(JsonLdConfiguration configuration, Monitor monitor) {
+            DocumentLoader remoteLoader = HttpLoader.defaultInstance();
+            if (configuration.isRemoteCacheEnabled()) {
+                remoteLoader = new CachingDocumentLoader(remoteLoader, configuration.getRemoteCacheTtl(), configuration.getRemoteCacheSize(),
+                        configuration.getRemoteCacheDirectory(), Clock.systemUTC(), monitor);
+            }
             loader = new SchemeRouter()
-                    .set("http", configuration.isHttpEnabled() ? HttpLoader.defaultInstance() : null)
-                    .set("https", configuration.isHttpsEnabled() ? HttpLoader.defaultInstance() : null)
+                    .set("http", configuration.isHttpEnabled() ? remoteLoader : null)
+                    .set("https", configuration.isHttpsEnabled() ? remoteLoader : null)
                     .set("file", new FileLoader())
                     .set("jar", new JarLoader());
             this.monitor = monitor;
@@ -228,6 +290,10 @@ public class TitaniumJsonLd implements JsonLd {
             }
         }
 
+        boolean isRegistered(String contextUrl) {
+            return uriCache.containsKey(contextUrl);
+        }
+
         public void register(String contextUrl, URI uri) {
             uriCache.put(contextUrl, uri);
             try {
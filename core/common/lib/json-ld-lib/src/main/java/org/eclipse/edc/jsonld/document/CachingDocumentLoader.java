@@ -0,0 +1,267 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld.document;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import jakarta.json.Json;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the documents loaded by another {@link DocumentLoader}, typically the remote contexts fetched over HTTP.
+ * <p>
+ * The cache is bounded and every document is kept for a fixed time. Concurrent loads of the same document are
+ * coalesced into a single fetch. When a directory is configured the documents are also stored there, so that they can
+ * be reused after a restart as long as they are not expired. Fetches and hits are counted per cached document URL,
+ * the ones of the documents that are not cached, e.g. because they have been evicted, under {@value #OTHER}. The
+ * statistics are reported to the monitor every time a document is fetched.
+ */
+public class CachingDocumentLoader implements DocumentLoader {
+
+    public static final String OTHER = "other";
+
+    private final Map<URI, CachedDocument> documents = new ConcurrentHashMap<>();
+    private final Map<URI, CompletableFuture<Document>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final Counters other = new Counters();
+    private final DocumentLoader loader;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Path directory;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param loader     the loader that fetches the documents.
+     * @param ttl        how long a document is cached.
+     * @param maxEntries the maximum number of documents kept in memory.
+     * @param directory  the directory in which documents are persisted, null to keep them only in memory.
+     * @param clock      the clock.
+     * @param monitor    the monitor.
+     */
+    public CachingDocumentLoader(DocumentLoader loader, Duration ttl, int maxEntries, @Nullable Path directory, Clock clock, Monitor monitor) {
+        this.loader = loader;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.directory = directory;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        var cached = documents.get(url);
+        if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+            counters(url).hits.incrementAndGet();
+            return cached.document();
+        }
+
+        var future = new CompletableFuture<Document>();
+        var existing = inFlight.putIfAbsent(url, future);
+        if (existing != null) {
+            var document = join(existing);
+            counters(url).hits.incrementAndGet();
+            return document;
+        }
+
+        try {
+            future.complete(load(url, options));
+        } catch (JsonLdError | RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(url, future);
+        }
+        return join(future);
+    }
+
+    /**
+     * Returns the number of fetches and hits for every cached document URL, and for all the others together.
+     *
+     * @return the statistics, keyed by document URL or {@value #OTHER}.
+     */
+    public Map<String, Statistics> getStatistics() {
+        var statistics = new HashMap<String, Statistics>();
+        counters.forEach((url, c) -> statistics.put(url, new Statistics(c.fetches.get(), c.hits.get())));
+        statistics.put(OTHER, new Statistics(other.fetches.get(), other.hits.get()));
+        return statistics;
+    }
+
+    private Document load(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        var persisted = readPersisted(url);
+        if (persisted != null) {
+            store(url, persisted.document(), persisted.expiresAt());
+            counters(url).hits.incrementAndGet();
+            return persisted.document();
+        }
+
+        Document document;
+        try {
+            document = loader.loadDocument(url, options);
+        } catch (JsonLdError | RuntimeException e) {
+            other.fetches.incrementAndGet();
+            throw e;
+        }
+        var expiresAt = clock.instant().plus(ttl);
+        store(url, document, expiresAt);
+        counters(url).fetches.incrementAndGet();
+        persist(url, document);
+        monitor.debug(() -> "Fetched JSON-LD document %s, cache statistics: %s".formatted(url, getStatistics()));
+        return document;
+    }
+
+    private void store(URI url, Document document, Instant expiresAt) {
+        if (documents.size() >= maxEntries && !documents.containsKey(url)) {
+            var now = clock.instant();
+            documents.entrySet().stream()
+                    .filter(entry -> !now.isBefore(entry.getValue().expiresAt()))
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(this::evict);
+            if (documents.size() >= maxEntries) {
+                documents.entrySet().stream()
+                        .min(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+                        .ifPresent(entry -> evict(entry.getKey()));
+            }
+        }
+        documents.put(url, new CachedDocument(document, expiresAt));
+        counters.computeIfAbsent(url.toString(), k -> new Counters());
+    }
+
+    /**
+     * Removes the document from the cache, its counters are added to the ones of the documents that are not cached.
+     */
+    private void evict(URI url) {
+        documents.remove(url);
+        var evicted = counters.remove(url.toString());
+        if (evicted != null) {
+            other.fetches.addAndGet(evicted.fetches.get());
+            other.hits.addAndGet(evicted.hits.get());
+        }
+    }
+
+    private @Nullable CachedDocument readPersisted(URI url) {
+        if (directory == null) {
+            return null;
+        }
+        var file = fileFor(url);
+        try {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            var expiresAt = Files.getLastModifiedTime(file).toInstant().plus(ttl);
+            if (!clock.instant().isBefore(expiresAt)) {
+                return null;
+            }
+            try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                var document = JsonDocument.of(reader);
+                document.setDocumentUrl(url);
+                return new CachedDocument(document, expiresAt);
+            }
+        } catch (IOException | JsonLdError e) {
+            monitor.warning("Cannot read persisted JSON-LD document %s from %s".formatted(url, file), e);
+            return null;
+        }
+    }
+
+    private void persist(URI url, Document document) {
+        if (directory == null) {
+            return;
+        }
+        var content = document.getJsonContent();
+        if (content.isEmpty()) {
+            return;
+        }
+        var file = fileFor(url);
+        try {
+            Files.createDirectories(directory);
+            var temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (var writer = Json.createWriter(Files.newBufferedWriter(temp, StandardCharsets.UTF_8))) {
+                writer.write(content.get());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            monitor.warning("Cannot persist JSON-LD document %s to %s".formatted(url, file), e);
+        }
+    }
+
+    private Path fileFor(URI url) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(url.toString().getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + ".jsonld");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Counters counters(URI url) {
+        var urlCounters = counters.get(url.toString());
+        return urlCounters != null ? urlCounters : other;
+    }
+
+    private Document join(CompletableFuture<Document> future) throws JsonLdError {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof JsonLdError jsonLdError) {
+                throw jsonLdError;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e.getCause());
+        }
+    }
+
+    /**
+     * The number of times a document has been fetched and the number of times it has been served from the cache.
+     */
+    public record Statistics(long fetches, long hits) {
+    }
+
+    private record CachedDocument(Document document, Instant expiresAt) {
+    }
+
+    private static class Counters {
+        private final AtomicLong fetches = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+    }
+}
@@ -169,6 +169,26 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compact_shouldUseNamespace_whenRegisteredAfterFirstCompaction() {
+        var ns = "https://test.org/schema/";
+        var prefix = "customContext";
+        var expanded = createObjectBuilder()
+                .add(ns + "item", createObjectBuilder()
+                        .add(JsonLdKeywords.TYPE, ns + "TestItem")
+                        .add(ns + "key1", createArrayBuilder().add(createObjectBuilder().add(JsonLdKeywords.VALUE, "value1").build()).build()))
+                .build();
+
+        var service = defaultService();
+        assertThat(service.compact(expanded)).isSucceeded()
+                .satisfies(c -> Assertions.assertThat(c.getJsonObject(ns + "item")).isNotNull());
+
+        service.registerNamespace(prefix, ns);
+
+        assertThat(service.compact(expanded)).isSucceeded()
+                .satisfies(c -> Assertions.assertThat(c.getJsonObject(prefix + ":item")).isNotNull());
+    }
+
     @Test
     void expandAndCompact_withCustomContext() {
         var context = "http://schema.org/";
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld.document;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDocumentLoaderTest {
+
+    private final URI url = URI.create("https://example.org/context.jsonld");
+    private final DocumentLoader delegate = mock();
+    private final Clock clock = mock();
+    private final Monitor monitor = mock();
+    private final Instant now = Instant.now();
+
+    @BeforeEach
+    void setUp() throws JsonLdError {
+        when(clock.instant()).thenReturn(now);
+        when(delegate.loadDocument(any(), any())).thenAnswer(i -> document());
+    }
+
+    @Test
+    void shouldFetchOnlyOnce_whenDocumentIsCached() throws JsonLdError {
+        var loader = loader(null);
+
+        var first = loader.loadDocument(url, new DocumentLoaderOptions());
+        var second = loader.loadDocument(url, new DocumentLoaderOptions());
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).loadDocument(any(), any());
+        assertThat(loader.getStatistics()).containsEntry(url.toString(), new CachingDocumentLoader.Statistics(1, 1));
+    }
+
+    @Test
+    void shouldFetchAgain_whenDocumentIsExpired() throws JsonLdError {
+        var loader = loader(null);
+        loader.loadDocument(url, new DocumentLoaderOptions());
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(2)));
+
+        loader.loadDocument(url, new DocumentLoaderOptions());
+
+        verify(delegate, times(2)).loadDocument(any(), any());
+    }
+
+    @Test
+    void shouldEvictDocument_whenMaxEntriesIsReached() throws JsonLdError {
+        var loader = loader(null);
+        var other = URI.create("https://example.org/other.jsonld");
+        var another = URI.create("https://example.org/another.jsonld");
+
+        loader.loadDocument(url, new DocumentLoaderOptions());
+        loader.loadDocument(other, new DocumentLoaderOptions());
+        loader.loadDocument(another, new DocumentLoaderOptions());
+        loader.loadDocument(another, new DocumentLoaderOptions());
+
+        verify(delegate, times(3)).loadDocument(any(), any());
+        assertThat(loader.getStatistics().get(another.toString())).isEqualTo(new CachingDocumentLoader.Statistics(1, 1));
+    }
+
+    @Test
+    void shouldCountEvictedDocumentsUnderOther() throws JsonLdError {
+        var loader = loader(null);
+
+        for (var i = 0; i < 10; i++) {
+            loader.loadDocument(URI.create("https://example.org/context-" + i + ".jsonld"), new DocumentLoaderOptions());
+        }
+
+        var statistics = loader.getStatistics();
+        assertThat(statistics).hasSize(3)
+                .containsEntry(CachingDocumentLoader.OTHER, new CachingDocumentLoader.Statistics(8, 0))
+                .containsEntry("https://example.org/context-9.jsonld", new CachingDocumentLoader.Statistics(1, 0));
+        verify(monitor, atLeastOnce()).debug(ArgumentMatchers.<Supplier<String>>any());
+    }
+
+    @Test
+    void shouldNotCacheFailures() throws JsonLdError {
+        when(delegate.loadDocument(any(), any()))
+                .thenThrow(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED))
+                .thenAnswer(i -> document());
+        var loader = loader(null);
+
+        assertThatThrownBy(() -> loader.loadDocument(url, new DocumentLoaderOptions())).isInstanceOf(JsonLdError.class);
+        assertThat(loader.loadDocument(url, new DocumentLoaderOptions())).isNotNull();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentFetches() throws Exception {
+        var release = new CountDownLatch(1);
+        when(delegate.loadDocument(any(), any())).thenAnswer(i -> {
+            release.await(5, TimeUnit.SECONDS);
+            return document();
+        });
+        var loader = loader(null);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> loader.loadDocument(url, new DocumentLoaderOptions())))
+                    .toList();
+            Thread.sleep(200);
+            release.countDown();
+
+            for (var future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isNotNull();
+            }
+            verify(delegate, times(1)).loadDocument(any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReusePersistedDocument_whenRestarted(@TempDir Path directory) throws JsonLdError {
+        loader(directory).loadDocument(url, new DocumentLoaderOptions());
+
+        var restarted = loader(directory);
+        var document = restarted.loadDocument(url, new DocumentLoaderOptions());
+
+        verify(delegate, times(1)).loadDocument(any(), any());
+        assertThat(document.getJsonContent()).isPresent().get().isEqualTo(document().getJsonContent().get());
+        assertThat(document.getDocumentUrl()).isEqualTo(url);
+    }
+
+    @Test
+    void shouldNotReusePersistedDocument_whenExpired(@TempDir Path directory) throws JsonLdError {
+        loader(directory).loadDocument(url, new DocumentLoaderOptions());
+        when(clock.instant()).thenReturn(Instant.now().plus(Duration.ofMinutes(2)));
+
+        loader(directory).loadDocument(url, new DocumentLoaderOptions());
+
+        verify(delegate, times(2)).loadDocument(any(), any());
+    }
+
+    private CachingDocumentLoader loader(Path directory) {
+        return new CachingDocumentLoader(delegate, Duration.ofMinutes(1), 2, directory, clock, monitor);
+    }
+
+    private Document document() {
+        return JsonDocument.of(createObjectBuilder()
+                .add("@context", createObjectBuilder().add("key", "https://example.org/key"))
+                .build());
+    }
+}
@@ -14,6 +14,9 @@
 
 package org.eclipse.edc.policy.engine;
 
+import org.eclipse.edc.policy.engine.compiled.CompiledPolicy;
+import org.eclipse.edc.policy.engine.compiled.IdentityLruCache;
+import org.eclipse.edc.policy.engine.compiled.ScopedFunctions;
 import org.eclipse.edc.policy.engine.plan.PolicyEvaluationPlanner;
 import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
 import org.eclipse.edc.policy.engine.spi.DynamicAtomicConstraintFunction;
@@ -39,6 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -61,10 +65,35 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
     private final ScopeFilter scopeFilter;
     private final RuleValidator ruleValidator;
+    private final boolean compiled;
+    private final int compiledPolicyCacheSize;
+    private final Map<String, ScopedFunctions> scopedFunctions = new ConcurrentHashMap<>();
+    private final Map<String, IdentityLruCache<Policy, CompiledPolicy>> compiledPolicies = new ConcurrentHashMap<>();
 
     public PolicyEngineImpl(ScopeFilter scopeFilter, RuleValidator ruleValidator) {
+        this(scopeFilter, ruleValidator, false, 0);
+    }
+
+    /**
+     * Creates the policy engine.
+     * <p>
+     * In compiled mode every {@code (scope, policy)} pair is filtered and turned into a {@link CompiledPolicy} once, the
+     * result is cached and reused for all the following evaluations. Policies are matched by identity, so looking up
+     * the compiled policy neither serializes nor allocates; every scope keeps up to the cache size compiled policies and
+     * evicts the least recently used one when full. The cache is dropped every time a function or validator gets
+     * registered. Since the scope filtering result is
+     * cached too, rule bindings are expected to be registered before policies get evaluated.
+     *
+     * @param scopeFilter             the scope filter.
+     * @param ruleValidator           the rule validator.
+     * @param compiled                whether policies should be compiled and cached.
+     * @param compiledPolicyCacheSize the maximum number of compiled policies kept in the cache of every scope.
+     */
+    public PolicyEngineImpl(ScopeFilter scopeFilter, RuleValidator ruleValidator, boolean compiled, int compiledPolicyCacheSize) {
         this.scopeFilter = scopeFilter;
         this.ruleValidator = ruleValidator;
+        this.compiled = compiled;
+        this.compiledPolicyCacheSize = compiledPolicyCacheSize;
     }
 
     public static boolean scopeFilter(String entry, String scope) {
@@ -78,6 +107,10 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
+        if (compiled) {
+            return compile(scope, policy).evaluate(policy, context);
+        }
+
         var delimitedScope = scope + ".";
 
         var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
@@ -140,6 +173,22 @@ public class PolicyEngineImpl implements PolicyEngine {
         }
     }
 
+    /**
+     * Returns the {@link CompiledPolicy} for the given scope and policy, compiling it on cache miss.
+     */
+    public CompiledPolicy compile(String scope, Policy policy) {
+        var cache = compiledPolicies.get(scope);
+        if (cache == null) {
+            cache = compiledPolicies.computeIfAbsent(scope, s -> new IdentityLruCache<>(compiledPolicyCacheSize));
+        }
+        var compiledPolicy = cache.get(policy);
+        if (compiledPolicy == null) {
+            compiledPolicy = compileUncached(scope, policy);
+            cache.put(policy, compiledPolicy);
+        }
+        return compiledPolicy;
+    }
+
     @Override
     public Result<Void> validate(Policy policy) {
         var validatorBuilder = PolicyValidator.Builder.newInstance()
@@ -180,28 +229,66 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        invalidateCompiledPolicies();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintFunction<R> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(type, scope + DELIMITER, function));
+        invalidateCompiledPolicies();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        invalidateCompiledPolicies();
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        invalidateCompiledPolicies();
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        invalidateCompiledPolicies();
+    }
+
+    private CompiledPolicy compileUncached(String scope, Policy policy) {
+        var functions = scopedFunctions.computeIfAbsent(scope, this::resolveScopedFunctions);
+        return CompiledPolicy.compile(scopeFilter.applyScope(policy, scope), functions);
+    }
+
+    private void invalidateCompiledPolicies() {
+        scopedFunctions.clear();
+        compiledPolicies.clear();
+    }
+
+    /**
+     * Resolves the functions that apply to a scope, with the same iteration order used in {@link #evaluate}, so that
+     * the same function wins when more of them are bound to a key.
+     */
+    private ScopedFunctions resolveScopedFunctions(String scope) {
+        var delimitedScope = scope + ".";
+        var builder = ScopedFunctions.Builder.newInstance();
+
+        preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).forEach(builder::preValidator);
+        postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).forEach(builder::postValidator);
+
+        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream())
+                .forEach(entry -> builder.ruleFunction(entry.type, entry.function));
+
+        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream())
+                .forEach(entry -> builder.constraintFunction(entry.type, entry.key, entry.function));
+
+        dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope))
+                .forEach(entry -> builder.dynamicConstraintFunction(entry.type, entry.function));
+
+        return builder.build();
     }
 
     @NotNull
@@ -0,0 +1,237 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.policy.engine.compiled;
+
+import org.eclipse.edc.policy.engine.compiled.ScopedFunctions.ResolvedConstraintFunction;
+import org.eclipse.edc.policy.engine.compiled.ScopedFunctions.RuleKind;
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.engine.spi.RuleFunction;
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.OrConstraint;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Rule;
+import org.eclipse.edc.policy.model.XoneConstraint;
+import org.eclipse.edc.spi.result.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * A policy already filtered for a scope and turned into an immutable evaluation tree, in which every atomic constraint
+ * is bound to the function that evaluates it. The same instance can be evaluated concurrently against any number of
+ * {@link PolicyContext}s; the evaluation outcome is the same of the {@link org.eclipse.edc.policy.evaluator.PolicyEvaluator}
+ * built by the policy engine for the same scope.
+ */
+public class CompiledPolicy {
+
+    private static final String PROBLEM_PREFIX = "Evalution failed for: ";
+
+    private final ScopedFunctions functions;
+    private final List<CompiledRule> permissions;
+    private final List<CompiledRule> prohibitions;
+    private final List<CompiledRule> obligations;
+
+    private CompiledPolicy(ScopedFunctions functions, List<CompiledRule> permissions, List<CompiledRule> prohibitions, List<CompiledRule> obligations) {
+        this.functions = functions;
+        this.permissions = permissions;
+        this.prohibitions = prohibitions;
+        this.obligations = obligations;
+    }
+
+    /**
+     * Compiles a policy.
+     *
+     * @param filteredPolicy the policy, already filtered for the scope.
+     * @param functions      the functions that apply to the scope.
+     * @return the compiled policy.
+     */
+    public static CompiledPolicy compile(Policy filteredPolicy, ScopedFunctions functions) {
+        var permissions = filteredPolicy.getPermissions().stream().map(it -> compileRule(it, RuleKind.PERMISSION, functions)).toList();
+        var prohibitions = filteredPolicy.getProhibitions().stream().map(it -> compileRule(it, RuleKind.PROHIBITION, functions)).toList();
+        var obligations = filteredPolicy.getObligations().stream().map(it -> compileRule(it, RuleKind.DUTY, functions)).toList();
+        return new CompiledPolicy(functions, permissions, prohibitions, obligations);
+    }
+
+    /**
+     * Evaluates the compiled policy.
+     *
+     * @param policy  the original (unfiltered) policy, passed to the pre- and post-validators.
+     * @param context the policy context.
+     * @return the evaluation result.
+     */
+    public Result<Void> evaluate(Policy policy, PolicyContext context) {
+        for (var validator : functions.preValidators()) {
+            if (!validator.apply(policy, context)) {
+                return failValidator("Pre-validator", validator, context);
+            }
+        }
+
+        var problems = new ArrayList<String>(0);
+        permissions.forEach(permission -> permission.evaluate(context, problems));
+        prohibitions.forEach(prohibition -> prohibition.evaluate(context, problems));
+        obligations.forEach(obligation -> obligation.evaluate(context, problems));
+
+        if (!problems.isEmpty()) {
+            return failure(problems);
+        }
+
+        for (var validator : functions.postValidators()) {
+            if (!validator.apply(policy, context)) {
+                return failValidator("Post-validator", validator, context);
+            }
+        }
+
+        return success();
+    }
+
+    private static CompiledRule compileRule(Rule rule, RuleKind kind, ScopedFunctions functions) {
+        var constraints = rule.getConstraints().stream().map(it -> compileConstraint(it, kind, functions)).toList();
+        var duties = rule instanceof Permission permission && permission.getDuties() != null ?
+                permission.getDuties().stream().map(it -> compileRule(it, RuleKind.DUTY, functions)).toList() :
+                List.<CompiledRule>of();
+        return new CompiledRule(rule, kind, functions.ruleFunctions(kind), constraints, duties);
+    }
+
+    private static CompiledConstraint compileConstraint(Constraint constraint, RuleKind kind, ScopedFunctions functions) {
+        return constraint.accept(new Constraint.Visitor<>() {
+            @Override
+            public CompiledConstraint visitAndConstraint(AndConstraint and) {
+                var children = and.getConstraints().stream().map(it -> compileConstraint(it, kind, functions)).toList();
+                return (rule, context) -> {
+                    for (var child : children) {
+                        if (!child.evaluate(rule, context)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            }
+
+            @Override
+            public CompiledConstraint visitOrConstraint(OrConstraint or) {
+                var children = or.getConstraints().stream().map(it -> compileConstraint(it, kind, functions)).toList();
+                return (rule, context) -> {
+                    for (var child : children) {
+                        if (child.evaluate(rule, context)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+
+            @Override
+            public CompiledConstraint visitXoneConstraint(XoneConstraint xone) {
+                var children = xone.getConstraints().stream().map(it -> compileConstraint(it, kind, functions)).toList();
+                return (rule, context) -> {
+                    var count = 0;
+                    for (var child : children) {
+                        if (child.evaluate(rule, context) && ++count > 1) {
+                            return false;
+                        }
+                    }
+                    return count == 1;
+                };
+            }
+
+            @Override
+            public CompiledConstraint visitAtomicConstraint(AtomicConstraint atomic) {
+                var leftValue = literalValue(atomic.getLeftExpression());
+                var rightValue = literalValue(atomic.getRightExpression());
+                var operator = atomic.getOperator();
+                ResolvedConstraintFunction function = leftValue instanceof String key ? functions.resolve(kind, key) : null;
+                if (function != null) {
+                    return (rule, context) -> function.evaluate(operator, rightValue, rule, context);
+                }
+                var fallback = fallback(operator, leftValue, rightValue);
+                return (rule, context) -> fallback;
+            }
+        });
+    }
+
+    private static Object literalValue(Object expression) {
+        return expression instanceof LiteralExpression literal ? literal.getValue() : null;
+    }
+
+    /**
+     * Mirrors the evaluation of atomic constraints that are not bound to any function.
+     */
+    private static Boolean fallback(Operator operator, Object leftValue, Object rightValue) {
+        return switch (operator) {
+            case EQ, IN -> Objects.equals(leftValue, rightValue);
+            case NEQ -> !Objects.equals(leftValue, rightValue);
+            default -> null;
+        };
+    }
+
+    private static Result<Void> failValidator(String type, BiFunction<Policy, PolicyContext, Boolean> validator, PolicyContext context) {
+        return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
+    }
+
+    @FunctionalInterface
+    private interface CompiledConstraint {
+        Boolean evaluate(Rule rule, PolicyContext context);
+    }
+
+    private record CompiledRule(Rule rule, RuleKind kind, List<RuleFunction<Rule>> ruleFunctions,
+                                List<CompiledConstraint> constraints, List<CompiledRule> duties) {
+
+        /**
+         * Evaluates a root rule, adding the descriptions of the found problems to the passed list.
+         *
+         * @return true if the rule is satisfied.
+         */
+        boolean evaluate(PolicyContext context, List<String> problems) {
+            for (var function : ruleFunctions) {
+                if (kind == RuleKind.PROHIBITION == function.evaluate(rule, context)) {
+                    problems.add(PROBLEM_PREFIX + rule);
+                    return false;
+                }
+            }
+
+            for (var duty : duties) {
+                if (!duty.evaluateConstraints(context, problems)) {
+                    return false;
+                }
+            }
+
+            return evaluateConstraints(context, problems);
+        }
+
+        private boolean evaluateConstraints(PolicyContext context, List<String> problems) {
+            var valid = true;
+            for (var constraint : constraints) {
+                boolean result = constraint.evaluate(rule, context);
+                if (kind == RuleKind.PROHIBITION == result) {
+                    valid = false;
+                }
+            }
+            if (!valid) {
+                problems.add(rule.toString());
+            }
+            return valid;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.policy.engine.compiled;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache whose keys are compared by identity. When full, the least recently used entry is evicted. Lookups do
+ * not allocate, so the cache can be used on the policy evaluation path.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ */
+public final class IdentityLruCache<K, V> {
+
+    private final Map<K, Node<K, V>> nodes = new IdentityHashMap<>();
+    private final Node<K, V> head = new Node<>(null, null);
+    private final int maxSize;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maxSize the maximum number of entries, nothing is cached when not positive.
+     */
+    public IdentityLruCache(int maxSize) {
+        this.maxSize = maxSize;
+        head.previous = head;
+        head.next = head;
+    }
+
+    public synchronized V get(K key) {
+        var node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        unlink(node);
+        linkFirst(node);
+        return node.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (maxSize <= 0) {
+            return;
+        }
+        var node = nodes.get(key);
+        if (node != null) {
+            node.value = value;
+            unlink(node);
+        } else {
+            if (nodes.size() >= maxSize) {
+                var eldest = head.previous;
+                unlink(eldest);
+                nodes.remove(eldest.key);
+            }
+            node = new Node<>(key, value);
+            nodes.put(key, node);
+        }
+        linkFirst(node);
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    public synchronized void clear() {
+        nodes.clear();
+        head.previous = head;
+        head.next = head;
+    }
+
+    private void linkFirst(Node<K, V> node) {
+        node.previous = head;
+        node.next = head.next;
+        head.next.previous = node;
+        head.next = node;
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private V value;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
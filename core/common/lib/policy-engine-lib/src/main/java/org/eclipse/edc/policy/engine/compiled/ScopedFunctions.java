@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.policy.engine.compiled;
+
+import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
+import org.eclipse.edc.policy.engine.spi.DynamicAtomicConstraintFunction;
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.engine.spi.RuleFunction;
+import org.eclipse.edc.policy.model.Duty;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Prohibition;
+import org.eclipse.edc.policy.model.Rule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * The functions and validators registered on the policy engine that apply to a single scope, already resolved against
+ * the scope hierarchy and split by rule type. Instances are immutable once built.
+ */
+public class ScopedFunctions {
+
+    private final Map<RuleKind, List<RuleFunction<Rule>>> ruleFunctions = new HashMap<>();
+    private final Map<RuleKind, Map<String, AtomicConstraintFunction<Rule>>> constraintFunctions = new HashMap<>();
+    private final Map<RuleKind, List<DynamicAtomicConstraintFunction<Rule>>> dynamicConstraintFunctions = new HashMap<>();
+    private final List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new ArrayList<>();
+    private final List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new ArrayList<>();
+
+    private ScopedFunctions() {
+        for (var kind : RuleKind.values()) {
+            ruleFunctions.put(kind, new ArrayList<>());
+            constraintFunctions.put(kind, new HashMap<>());
+            dynamicConstraintFunctions.put(kind, new ArrayList<>());
+        }
+    }
+
+    List<RuleFunction<Rule>> ruleFunctions(RuleKind kind) {
+        return ruleFunctions.get(kind);
+    }
+
+    List<BiFunction<Policy, PolicyContext, Boolean>> preValidators() {
+        return preValidators;
+    }
+
+    List<BiFunction<Policy, PolicyContext, Boolean>> postValidators() {
+        return postValidators;
+    }
+
+    /**
+     * Resolves the constraint function for the left operand of an atomic constraint, giving precedence to functions
+     * bound to the key over dynamic ones, exactly like the {@link org.eclipse.edc.policy.evaluator.PolicyEvaluator}.
+     *
+     * @return the resolved function, null if none applies.
+     */
+    ResolvedConstraintFunction resolve(RuleKind kind, String key) {
+        var function = constraintFunctions.get(kind).get(key);
+        if (function != null) {
+            return (operator, rightValue, rule, context) -> function.evaluate(operator, rightValue, rule, context);
+        }
+        return dynamicConstraintFunctions.get(kind).stream()
+                .filter(dynamicFunction -> dynamicFunction.canHandle(key))
+                .findFirst()
+                .<ResolvedConstraintFunction>map(dynamicFunction -> (operator, rightValue, rule, context) -> dynamicFunction.evaluate(key, operator, rightValue, rule, context))
+                .orElse(null);
+    }
+
+    /**
+     * The rule type a function applies to.
+     */
+    enum RuleKind {
+        PERMISSION, PROHIBITION, DUTY;
+
+        static RuleKind of(Class<?> type) {
+            if (Duty.class.isAssignableFrom(type)) {
+                return DUTY;
+            } else if (Permission.class.isAssignableFrom(type)) {
+                return PERMISSION;
+            } else if (Prohibition.class.isAssignableFrom(type)) {
+                return PROHIBITION;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A constraint function with its left operand already bound.
+     */
+    @FunctionalInterface
+    interface ResolvedConstraintFunction {
+        boolean evaluate(Operator operator, Object rightValue, Rule rule, PolicyContext context);
+    }
+
+    public static class Builder {
+        private final ScopedFunctions functions;
+
+        private Builder() {
+            functions = new ScopedFunctions();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Adds a rule function. Functions for rule types other than permissions, prohibitions and duties are ignored.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public Builder ruleFunction(Class<? extends Rule> type, RuleFunction<? extends Rule> function) {
+            var kind = RuleKind.of(type);
+            if (kind != null) {
+                functions.ruleFunctions.get(kind).add((RuleFunction) function);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a constraint function bound to a key. A function added later for the same key and rule type replaces
+         * the previous one.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public Builder constraintFunction(Class<? extends Rule> type, String key, AtomicConstraintFunction<? extends Rule> function) {
+            var kind = RuleKind.of(type);
+            if (kind != null) {
+                functions.constraintFunctions.get(kind).put(key, (AtomicConstraintFunction) function);
+            }
+            return this;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public Builder dynamicConstraintFunction(Class<? extends Rule> type, DynamicAtomicConstraintFunction<? extends Rule> function) {
+            var kind = RuleKind.of(type);
+            if (kind != null) {
+                functions.dynamicConstraintFunctions.get(kind).add((DynamicAtomicConstraintFunction) function);
+            }
+            return this;
+        }
+
+        public Builder preValidator(BiFunction<Policy, PolicyContext, Boolean> validator) {
+            functions.preValidators.add(validator);
+            return this;
+        }
+
+        public Builder postValidator(BiFunction<Policy, PolicyContext, Boolean> validator) {
+            functions.postValidators.add(validator);
+            return this;
+        }
+
+        public ScopedFunctions build() {
+            return functions;
+        }
+    }
+}
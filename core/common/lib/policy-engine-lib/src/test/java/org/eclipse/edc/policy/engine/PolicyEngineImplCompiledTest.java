@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.policy.engine;
+
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
+import org.eclipse.edc.policy.engine.validation.RuleValidator;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.policy.engine.spi.PolicyEngine.ALL_SCOPES;
+import static org.eclipse.edc.policy.model.Operator.EQ;
+
+/**
+ * Runs all the {@link PolicyEngineImplTest} tests against the compiled mode, plus the compiled mode specific ones.
+ */
+class PolicyEngineImplCompiledTest extends PolicyEngineImplTest {
+
+    @Override
+    protected PolicyEngine createPolicyEngine(RuleBindingRegistry bindingRegistry) {
+        return new PolicyEngineImpl(new ScopeFilter(bindingRegistry), new RuleValidator(bindingRegistry), true, 10);
+    }
+
+    @Test
+    void compile_shouldReturnCachedCompiledPolicy() {
+        var engine = (PolicyEngineImpl) policyEngine;
+        var policy = createPolicy();
+
+        var compiled = engine.compile(TEST_SCOPE, policy);
+
+        assertThat(engine.compile(TEST_SCOPE, policy)).isSameAs(compiled);
+        assertThat(engine.compile("another", policy)).isNotSameAs(compiled);
+    }
+
+    @Test
+    void compile_shouldCompileAgain_whenPolicyIsAnotherInstance() {
+        var engine = (PolicyEngineImpl) policyEngine;
+        var compiled = engine.compile(TEST_SCOPE, createPolicy());
+
+        assertThat(engine.compile(TEST_SCOPE, createPolicy())).isNotSameAs(compiled);
+    }
+
+    @Test
+    void compile_shouldEvictLeastRecentlyUsed_whenCacheIsFull() {
+        var engine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry), new RuleValidator(bindingRegistry), true, 2);
+        var first = createPolicy();
+        var second = createPolicy();
+        var compiledFirst = engine.compile(TEST_SCOPE, first);
+        var compiledSecond = engine.compile(TEST_SCOPE, second);
+
+        engine.compile(TEST_SCOPE, first);
+        engine.compile(TEST_SCOPE, createPolicy());
+
+        assertThat(engine.compile(TEST_SCOPE, first)).isSameAs(compiledFirst);
+        assertThat(engine.compile(TEST_SCOPE, second)).isNotSameAs(compiledSecond);
+    }
+
+    @Test
+    void compile_shouldInvalidateCache_whenFunctionRegistered() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var policy = createPolicy();
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, permission, ctx) -> false);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isFailed();
+
+        policyEngine.registerFunction(TEST_SCOPE, Permission.class, "foo", (op, rv, permission, ctx) -> true);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+    }
+
+    @Test
+    void evaluate_shouldUseContext_whenCompiledPolicyIsReused() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var policy = createPolicy();
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, permission, ctx) -> ctx.getContextData(String.class).equals(rv));
+
+        var matching = PolicyContextImpl.Builder.newInstance().additional(String.class, "bar").build();
+        var notMatching = PolicyContextImpl.Builder.newInstance().additional(String.class, "baz").build();
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, matching)).isSucceeded();
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, notMatching)).isFailed();
+    }
+
+    private Policy createPolicy() {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("foo"))
+                .operator(EQ)
+                .rightExpression(new LiteralExpression("bar"))
+                .build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        return Policy.Builder.newInstance().permission(permission).build();
+    }
+}
@@ -54,14 +54,18 @@ import static org.mockito.Mockito.when;
 
 class PolicyEngineImplTest {
 
-    private static final String TEST_SCOPE = "test";
-    private final RuleBindingRegistry bindingRegistry = new RuleBindingRegistryImpl();
-    private PolicyEngine policyEngine;
+    protected static final String TEST_SCOPE = "test";
+    protected final RuleBindingRegistry bindingRegistry = new RuleBindingRegistryImpl();
+    protected PolicyEngine policyEngine;
 
 
     @BeforeEach
     void setUp() {
-        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry), new RuleValidator(bindingRegistry));
+        policyEngine = createPolicyEngine(bindingRegistry);
+    }
+
+    protected PolicyEngine createPolicyEngine(RuleBindingRegistry bindingRegistry) {
+        return new PolicyEngineImpl(new ScopeFilter(bindingRegistry), new RuleValidator(bindingRegistry));
     }
 
     @Test
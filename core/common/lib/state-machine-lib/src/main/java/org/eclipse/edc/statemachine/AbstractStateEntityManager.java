@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.entity.StateEntityManager;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -27,6 +28,7 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -41,6 +43,9 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final int DEFAULT_WORKERS = 0;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 100;
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 10;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
@@ -50,12 +55,17 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected StateMachineManager stateMachineManager;
+    protected EntityWorkerConfiguration entityWorkerConfiguration = EntityWorkerConfiguration.sequential();
+    protected EntityWorkerPool entityWorkerPool;
     protected Clock clock = Clock.systemUTC();
     protected S store;
 
     @Override
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
+        if (entityWorkerConfiguration.isConcurrent()) {
+            entityWorkerPool = new EntityWorkerPool(getClass().getSimpleName(), entityWorkerConfiguration, monitor, executorInstrumentation);
+        }
         var stateMachineManagerBuilder = StateMachineManager.Builder
                 .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
@@ -68,6 +78,19 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         if (stateMachineManager != null) {
             stateMachineManager.stop();
         }
+        if (entityWorkerPool != null) {
+            entityWorkerPool.shutdown(SHUTDOWN_TIMEOUT_SECONDS);
+        }
+    }
+
+    /**
+     * Signal that an entity could have entered a state that can be processed, so that the state machine does not wait
+     * for the next polling iteration to pick it up.
+     */
+    public void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
     }
 
     /**
@@ -83,6 +106,26 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
     }
 
+    /**
+     * Creates a processor builder that fetches the entities matching the filter with
+     * {@link StateEntityStore#nextNotLeased(int, Criterion...)}. When a worker pool is configured the entities are
+     * processed on it, partitioned by entity id, and no more entities are fetched than the pool can accept.
+     *
+     * @param filter the criteria the entities must match.
+     * @return the processor builder.
+     */
+    protected ProcessorImpl.Builder<E> processorBuilder(Criterion... filter) {
+        var pool = entityWorkerPool;
+        if (pool == null) {
+            return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter));
+        }
+
+        return ProcessorImpl.Builder.<E>newInstance(() -> {
+            var max = Math.min(batchSize, pool.availableCapacity());
+            return max > 0 ? store.nextNotLeased(max, filter) : List.of();
+        }).workerPool(pool, StatefulEntity::getId);
+    }
+
     protected void update(E entity) {
         store.save(entity);
         monitor.debug(() -> "[%s] %s %s is now in state %s"
@@ -139,6 +182,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B entityWorkerConfiguration(EntityWorkerConfiguration entityWorkerConfiguration) {
+            manager.entityWorkerConfiguration = entityWorkerConfiguration;
+            return self();
+        }
+
         public B store(S store) {
             manager.store = store;
             return self();
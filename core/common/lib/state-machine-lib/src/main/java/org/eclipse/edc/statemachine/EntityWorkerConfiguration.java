@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+/**
+ * Configure the {@link EntityWorkerPool} of a state machine. With zero workers the entities are processed sequentially
+ * on the state machine thread.
+ */
+public class EntityWorkerConfiguration {
+
+    private final int workers;
+    private final boolean partitioned;
+    private final int maxInFlight;
+
+    public EntityWorkerConfiguration(int workers, boolean partitioned, int maxInFlight) {
+        this.workers = workers;
+        this.partitioned = partitioned;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static EntityWorkerConfiguration sequential() {
+        return new EntityWorkerConfiguration(0, false, 0);
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public boolean isConcurrent() {
+        return workers > 0;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Pool of worker threads on which the entities fetched by the {@link ProcessorImpl}s of a state machine are processed
+ * concurrently. When partitioned, every worker has its own queue and an entity is always processed by the same worker,
+ * so the processing of a single entity is never reordered even if it gets fetched again while still in flight.
+ * <p>
+ * The pool keeps track of the entities in flight, so that processors only fetch as many entities as can be handled
+ * without exceeding the configured maximum.
+ */
+public class EntityWorkerPool {
+
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int maxInFlight;
+    private final Monitor monitor;
+    private final String name;
+
+    public EntityWorkerPool(String name, EntityWorkerConfiguration configuration, Monitor monitor, ExecutorInstrumentation instrumentation) {
+        this.name = name;
+        this.monitor = monitor;
+        this.maxInFlight = configuration.getMaxInFlight();
+
+        if (configuration.isPartitioned()) {
+            for (var i = 0; i < configuration.getWorkers(); i++) {
+                executors.add(instrumentation.instrument(Executors.newSingleThreadExecutor(threadFactory("-" + i)), name + "-" + i));
+            }
+        } else {
+            executors.add(instrumentation.instrument(Executors.newFixedThreadPool(configuration.getWorkers(), threadFactory("")), name));
+        }
+    }
+
+    /**
+     * The number of entities that can still be submitted before reaching the maximum in flight.
+     *
+     * @return the available capacity, never negative.
+     */
+    public int availableCapacity() {
+        return Math.max(0, maxInFlight - inFlight.get());
+    }
+
+    /**
+     * Submits the processing of an entity.
+     *
+     * @param entityId the entity id, used to choose the worker when the pool is partitioned.
+     * @param task     the processing.
+     */
+    public void submit(String entityId, Runnable task) {
+        var executor = executors.get(Math.floorMod(entityId.hashCode(), executors.size()));
+        inFlight.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                monitor.severe(format("EntityWorkerPool [%s] error processing entity %s", name, entityId), e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Stops accepting new entities and waits for the ones in flight to complete.
+     *
+     * @param timeoutSeconds the maximum time to wait for every worker.
+     */
+    public void shutdown(int timeoutSeconds) {
+        executors.forEach(ExecutorService::shutdown);
+        for (var executor : executors) {
+            try {
+                if (!executor.awaitTermination(timeoutSeconds, SECONDS)) {
+                    monitor.warning(format("EntityWorkerPool [%s] did not terminate in %d seconds", name, timeoutSeconds));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private ThreadFactory threadFactory(String suffix) {
+        var counter = new AtomicInteger();
+        return r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("EntityWorker-" + name + suffix + "-" + counter.getAndIncrement());
+            return thread;
+        };
+    }
+}
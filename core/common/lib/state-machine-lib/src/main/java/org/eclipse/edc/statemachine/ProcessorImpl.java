@@ -33,6 +33,8 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - An {@link EntityWorkerPool} can be registered, then the entities are submitted to the pool and processed concurrently,
+ * in this case the run method returns the submitted entity count.
  *
  * @param <E> the entity that is processed
  */
@@ -42,6 +44,8 @@ public class ProcessorImpl<E> implements Processor {
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private EntityWorkerPool workerPool;
+    private Function<E, String> partitionKey;
 
     private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
@@ -49,19 +53,27 @@ public class ProcessorImpl<E> implements Processor {
 
     @Override
     public Long process() {
+        if (workerPool != null) {
+            var batch = entities.get();
+            batch.forEach(entity -> workerPool.submit(partitionKey.apply(entity), () -> processEntity(entity)));
+            return (long) batch.size();
+        }
+
         return entities.get().stream()
-                .map(entity -> {
-                    var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-                    var hasBeenProcessed = actualProcess.apply(entity);
-                    if (!hasBeenProcessed) {
-                        onNotProcessed.accept(entity);
-                    }
-                    return hasBeenProcessed;
-                })
+                .map(this::processEntity)
                 .filter(isEqual(true))
                 .count();
     }
 
+    private boolean processEntity(E entity) {
+        var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
+        var hasBeenProcessed = actualProcess.apply(entity);
+        if (!hasBeenProcessed) {
+            onNotProcessed.accept(entity);
+        }
+        return hasBeenProcessed;
+    }
+
     public static class Builder<E> {
 
         private final ProcessorImpl<E> processor;
@@ -95,6 +107,19 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Processes the entities concurrently on a worker pool.
+         *
+         * @param workerPool   the worker pool.
+         * @param partitionKey provides the key used to choose the worker for an entity, usually its id.
+         * @return the builder.
+         */
+        public Builder<E> workerPool(EntityWorkerPool workerPool, Function<E, String> partitionKey) {
+            processor.workerPool = workerPool;
+            processor.partitionKey = partitionKey;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
@@ -25,6 +25,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
@@ -35,16 +36,23 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * The wait can be interrupted with {@link #wakeUp()} when new work is known to be available, while polling stays as
+ * fallback.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
     private final AtomicBoolean active = new AtomicBoolean();
+    private final Object scheduleLock = new Object();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
     private int shutdownTimeout = 10;
+    private ScheduledFuture<?> nextIteration;
+    private boolean waitingForWork;
+    private boolean wakeUpRequested;
+    private long iteration;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
@@ -65,7 +73,26 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return scheduleNextIterationIn(0L);
+        return scheduleNextIterationIn(0L, false);
+    }
+
+    /**
+     * Signal that there could be new entities to process. If the loop is waiting because the last iteration didn't
+     * process any entity, the next iteration starts immediately, if an iteration is running the loop won't wait after
+     * it. The wait applied after errors is not interrupted.
+     */
+    public void wakeUp() {
+        if (!active.get()) {
+            return;
+        }
+        synchronized (scheduleLock) {
+            if (waitingForWork) {
+                nextIteration.cancel(false);
+                scheduleNextIterationIn(0L, false);
+            } else {
+                wakeUpRequested = true;
+            }
+        }
     }
 
     /**
@@ -95,8 +122,15 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
+    private Runnable loop(long id) {
         return () -> {
+            synchronized (scheduleLock) {
+                if (id != iteration) {
+                    return;
+                }
+                waitingForWork = false;
+                wakeUpRequested = false;
+            }
             if (active.get()) {
                 performLogic();
             }
@@ -111,21 +145,28 @@ public class StateMachineManager {
 
             waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+            synchronized (scheduleLock) {
+                var idle = processed == 0 && !wakeUpRequested;
+                var delay = idle ? waitStrategy.waitForMillis() : 0;
 
-            scheduleNextIterationIn(delay);
+                scheduleNextIterationIn(delay, idle);
+            }
         } catch (Error e) {
             active.set(false);
             monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
         } catch (Throwable e) {
             monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            scheduleNextIterationIn(waitStrategy.retryInMillis());
+            scheduleNextIterationIn(waitStrategy.retryInMillis(), false);
         }
     }
 
     @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+    private Future<?> scheduleNextIterationIn(long delayMillis, boolean waitingForWork) {
+        synchronized (scheduleLock) {
+            this.waitingForWork = waitingForWork;
+            nextIteration = executor.schedule(loop(++iteration), delayMillis, MILLISECONDS);
+            return nextIteration;
+        }
     }
 
     public static class Builder {
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.List;
+
+import static org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization.afterCommit;
+
+/**
+ * Wakes up state machines on every received event, so that an entity that got into a processable state is picked up
+ * right away instead of on the next polling iteration.
+ * <p>
+ * Events are published within the transaction that saved the entity, so the subscriber must be registered as
+ * synchronous: the wake-up is deferred until that transaction has been committed, otherwise the state machine could
+ * query the store before the entity is visible. Nothing happens if the transaction is rolled back.
+ */
+public class WakeUpEventSubscriber implements EventSubscriber {
+
+    private final TransactionContext transactionContext;
+    private final List<AbstractStateEntityManager<?, ?>> managers;
+
+    public WakeUpEventSubscriber(TransactionContext transactionContext, AbstractStateEntityManager<?, ?>... managers) {
+        this.transactionContext = transactionContext;
+        this.managers = List.of(managers);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        transactionContext.execute(() -> transactionContext.registerSynchronization(afterCommit(this::wakeUp)));
+    }
+
+    private void wakeUp() {
+        managers.forEach(AbstractStateEntityManager::wakeUp);
+    }
+}
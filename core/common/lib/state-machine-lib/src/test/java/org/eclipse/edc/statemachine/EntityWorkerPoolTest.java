@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class EntityWorkerPoolTest {
+
+    private EntityWorkerPool pool;
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown(1);
+    }
+
+    @Test
+    void availableCapacity_shouldConsiderEntitiesInFlight() {
+        pool = new EntityWorkerPool("test", new EntityWorkerConfiguration(2, false, 5), mock(), ExecutorInstrumentation.noop());
+        var release = new CountDownLatch(1);
+
+        pool.submit("1", () -> waitFor(release));
+        pool.submit("2", () -> waitFor(release));
+
+        assertThat(pool.availableCapacity()).isEqualTo(3);
+
+        release.countDown();
+
+        await().untilAsserted(() -> assertThat(pool.availableCapacity()).isEqualTo(5));
+    }
+
+    @Test
+    void submit_shouldProcessEntitiesConcurrently() throws InterruptedException {
+        pool = new EntityWorkerPool("test", new EntityWorkerConfiguration(4, false, 100), mock(), ExecutorInstrumentation.noop());
+        var allRunning = new CountDownLatch(4);
+
+        IntStream.range(0, 4).forEach(i -> pool.submit(String.valueOf(i), () -> {
+            allRunning.countDown();
+            waitFor(allRunning);
+        }));
+
+        assertThat(allRunning.await(5, SECONDS)).isTrue();
+    }
+
+    @Test
+    void submit_shouldKeepOrderPerEntity_whenPartitioned() {
+        pool = new EntityWorkerPool("test", new EntityWorkerConfiguration(4, true, 1000), mock(), ExecutorInstrumentation.noop());
+        var processed = Collections.synchronizedList(new ArrayList<Integer>());
+
+        IntStream.range(0, 100).forEach(i -> pool.submit("entity-id", () -> processed.add(i)));
+
+        await().untilAsserted(() -> assertThat(processed).hasSize(100).isSorted());
+    }
+
+    @Test
+    void submit_shouldReleaseCapacity_whenProcessingFails() {
+        pool = new EntityWorkerPool("test", new EntityWorkerConfiguration(1, false, 1), mock(), ExecutorInstrumentation.noop());
+
+        pool.submit("id", () -> {
+            throw new RuntimeException("error");
+        });
+
+        await().untilAsserted(() -> assertThat(pool.availableCapacity()).isEqualTo(1));
+    }
+
+    private void waitFor(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -117,4 +119,27 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldSubmitEntitiesToWorkerPool_whenConfigured() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("1").build(), TestEntity.Builder.newInstance().id("2").build());
+        EntityWorkerPool workerPool = mock();
+        doAnswer(i -> {
+            i.getArgument(1, Runnable.class).run();
+            return null;
+        }).when(workerPool).submit(any(), any());
+        Consumer<TestEntity> onNotProcessed = mock();
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                .process(e -> e.getId().equals("1"))
+                .onNotProcessed(onNotProcessed)
+                .workerPool(workerPool, TestEntity::getId)
+                .build();
+
+        var count = processor.process();
+
+        assertThat(count).isEqualTo(2);
+        verify(workerPool).submit(eq("1"), any());
+        verify(workerPool).submit(eq("2"), any());
+        verify(onNotProcessed).accept(entities.get(1));
+    }
 }
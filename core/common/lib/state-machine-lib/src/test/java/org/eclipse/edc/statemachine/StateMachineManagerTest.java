@@ -28,6 +28,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -105,6 +106,43 @@ class StateMachineManagerTest {
         });
     }
 
+    @Test
+    void shouldRunNextIterationImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(waitStrategy).waitForMillis());
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+    }
+
+    @Test
+    void shouldNotWait_whenWokenUpDuringIteration() {
+        var processor = mock(Processor.class);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+        when(processor.process()).thenAnswer(i -> {
+            stateMachine.wakeUp();
+            return 0L;
+        }).thenReturn(0L);
+
+        stateMachine.start();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> {
+            verify(processor, times(2)).process();
+            verify(waitStrategy).waitForMillis();
+        });
+    }
+
     @Test
     void shouldExitWithAnExceptionIfProcessorExitsWithAnUnrecoverableError() {
         var processor = mock(Processor.class);
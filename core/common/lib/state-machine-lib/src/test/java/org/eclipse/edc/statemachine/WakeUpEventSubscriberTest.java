@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext.TransactionBlock;
+import org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class WakeUpEventSubscriberTest {
+
+    private final TransactionContext transactionContext = mock();
+    private final AbstractStateEntityManager<?, ?> manager = mock();
+    private final WakeUpEventSubscriber subscriber = new WakeUpEventSubscriber(transactionContext, manager);
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(i -> {
+            i.getArgument(0, TransactionBlock.class).execute();
+            return null;
+        }).when(transactionContext).execute(any(TransactionBlock.class));
+    }
+
+    @Test
+    void on_shouldWakeUpManagers_afterCommit() {
+        subscriber.on(event());
+
+        var synchronization = registeredSynchronization();
+        verifyNoInteractions(manager);
+
+        synchronization.beforeCompletion();
+        synchronization.afterCompletion(true);
+
+        verify(manager).wakeUp();
+    }
+
+    @Test
+    void on_shouldNotWakeUpManagers_whenRolledBack() {
+        subscriber.on(event());
+
+        var synchronization = registeredSynchronization();
+        synchronization.beforeCompletion();
+        synchronization.afterCompletion(false);
+
+        verifyNoInteractions(manager);
+    }
+
+    private TransactionSynchronization registeredSynchronization() {
+        var captor = ArgumentCaptor.forClass(TransactionSynchronization.class);
+        verify(transactionContext).registerSynchronization(captor.capture());
+        return captor.getValue();
+    }
+
+    private EventEnvelope<Event> event() {
+        return EventEnvelope.Builder.newInstance()
+                .at(1)
+                .payload(mock(Event.class))
+                .build();
+    }
+}
@@ -19,23 +19,33 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Transformers are indexed by output type. The transformer resolved for every (input class, output type) couple is
+ * memoized, so that a lookup is a single map access after the first resolution. Registering a new transformer resets
+ * the memoized resolutions.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
+    private final Map<Class<?>, List<TypeTransformer<?, ?>>> transformersByOutputType = new ConcurrentHashMap<>();
+    private final Map<TransformerKey, Optional<TypeTransformer<?, ?>>> resolved = new ConcurrentHashMap<>();
     private final Map<String, TypeTransformerRegistry> contextRegistries = new HashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
-        this.transformers.add(transformer);
+        transformersByOutputType.computeIfAbsent(transformer.getOutputType(), k -> new CopyOnWriteArrayList<>()).add(transformer);
+        resolved.clear();
     }
 
     @Override
@@ -45,11 +55,11 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
-                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+        var transformer = findTransformer(input.getClass(), outputType);
+        if (transformer == null) {
+            throw new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType));
+        }
+        return (TypeTransformer<INPUT, OUTPUT>) transformer;
     }
 
     @Override
@@ -66,11 +76,31 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         }
     }
 
+    /**
+     * Returns the first registered transformer that can handle the input class and the output type.
+     *
+     * @param inputClass the input class.
+     * @param outputType the output type.
+     * @return the transformer, null if none is registered.
+     */
+    protected @Nullable TypeTransformer<?, ?> findTransformer(Class<?> inputClass, Class<?> outputType) {
+        return resolved.computeIfAbsent(new TransformerKey(inputClass, outputType), this::resolve).orElse(null);
+    }
+
+    private Optional<TypeTransformer<?, ?>> resolve(TransformerKey key) {
+        return transformersByOutputType.getOrDefault(key.outputType(), List.of()).stream()
+                .filter(t -> t.getInputType().isAssignableFrom(key.inputClass()))
+                .findFirst();
+    }
+
+    private record TransformerKey(Class<?> inputClass, Class<?> outputType) {
+    }
+
     private static class ContextTransformerRegistry extends TypeTransformerRegistryImpl {
 
-        private final TypeTransformerRegistry parent;
+        private final TypeTransformerRegistryImpl parent;
 
-        ContextTransformerRegistry(TypeTransformerRegistry parent) {
+        ContextTransformerRegistry(TypeTransformerRegistryImpl parent) {
             this.parent = parent;
         }
 
@@ -80,12 +110,9 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         }
 
         @Override
-        public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-            try {
-                return super.transformerFor(input, outputType);
-            } catch (EdcException e) {
-                return parent.transformerFor(input, outputType);
-            }
+        protected @Nullable TypeTransformer<?, ?> findTransformer(Class<?> inputClass, Class<?> outputType) {
+            var transformer = super.findTransformer(inputClass, outputType);
+            return transformer != null ? transformer : parent.findTransformer(inputClass, outputType);
         }
     }
 }
@@ -51,6 +51,24 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transformerFor(notString, Integer.class)).isInstanceOf(EdcException.class);
             assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
         }
+
+        @Test
+        void shouldReturnTransformer_whenRegisteredAfterFailedLookup() {
+            assertThatThrownBy(() -> registry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(registry.transformerFor(5, String.class)).isInstanceOf(IntegerStringTypeTransformer.class);
+        }
+
+        @Test
+        void shouldReturnFirstRegisteredTransformer_whenMoreCanHandleTheInput() {
+            var first = new IntegerStringTypeTransformer();
+            registry.register(first);
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(registry.transformerFor(5, String.class)).isSameAs(first);
+        }
     }
 
     @Nested
@@ -15,6 +15,7 @@
 package org.eclipse.edc.token;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
@@ -25,12 +26,36 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Default implementation of the {@link TokenValidationService}. The {@link JWSVerifier}s are cached per key ID and
+ * reused for as long as the {@link PublicKeyResolver} returns the same key instance, so resolvers that cache their
+ * parsed keys avoid rebuilding a verifier for every token.
+ */
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    private static final int DEFAULT_VERIFIER_CACHE_SIZE = 100;
+
+    private final Map<String, CachedVerifier> verifierCache = new ConcurrentHashMap<>();
+    private final int verifierCacheSize;
+
     public TokenValidationServiceImpl() {
+        this(DEFAULT_VERIFIER_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param verifierCacheSize the maximum number of cached verifiers, the cache is cleared when it is full. Pass 0 to
+     *                          deactivate the cache.
+     */
+    public TokenValidationServiceImpl(int verifierCacheSize) {
+        this.verifierCacheSize = verifierCacheSize;
     }
 
     @Override
@@ -47,9 +72,9 @@ public class TokenValidationServiceImpl implements TokenValidationService {
                 return publicKeyResolutionResult.mapFailure();
             }
 
-            var verifierCreationResult = CryptoConverter.createVerifierFor(publicKeyResolutionResult.getContent());
+            var verifier = getVerifier(publicKeyId, publicKeyResolutionResult.getContent());
 
-            if (!signedJwt.verify(verifierCreationResult)) {
+            if (!signedJwt.verify(verifier)) {
                 return Result.failure("Token verification failed");
             }
 
@@ -83,4 +108,22 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
+    private JWSVerifier getVerifier(String publicKeyId, PublicKey publicKey) {
+        var cached = publicKeyId != null ? verifierCache.get(publicKeyId) : null;
+        if (cached != null && cached.publicKey() == publicKey) {
+            return cached.verifier();
+        }
+        var verifier = CryptoConverter.createVerifierFor(publicKey);
+        if (verifierCacheSize > 0 && publicKeyId != null) {
+            if (verifierCache.size() >= verifierCacheSize && !verifierCache.containsKey(publicKeyId)) {
+                verifierCache.clear();
+            }
+            verifierCache.put(publicKeyId, new CachedVerifier(publicKey, verifier));
+        }
+        return verifier;
+    }
+
+    private record CachedVerifier(PublicKey publicKey, JWSVerifier verifier) {
+    }
+
 }
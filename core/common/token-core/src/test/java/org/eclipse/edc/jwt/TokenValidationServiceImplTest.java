@@ -121,6 +121,18 @@ class TokenValidationServiceImplTest {
         assertThat(result.getFailureMessages()).containsExactlyInAnyOrder("test-failure1", "test-failure2");
     }
 
+    @Test
+    void validation_shouldUseNewKey_whenResolvedKeyChanges() throws JOSEException {
+        var claims = createClaims(now);
+        assertThat(tokenValidationService.validate(createJwt(publicKeyId, claims, key.toPrivateKey()), publicKeyResolver).succeeded()).isTrue();
+
+        var rotatedKey = testKey();
+        when(publicKeyResolver.resolveKey(eq(publicKeyId))).thenReturn(Result.success(rotatedKey.toPublicKey()));
+
+        assertThat(tokenValidationService.validate(createJwt(publicKeyId, claims, rotatedKey.toPrivateKey()), publicKeyResolver).succeeded()).isTrue();
+        assertThat(tokenValidationService.validate(createJwt(publicKeyId, claims, key.toPrivateKey()), publicKeyResolver).failed()).isTrue();
+    }
+
     private String createJwt(String publicKeyId, JWTClaimsSet claimsSet, PrivateKey pk) {
         var header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(publicKeyId).build();
         try {
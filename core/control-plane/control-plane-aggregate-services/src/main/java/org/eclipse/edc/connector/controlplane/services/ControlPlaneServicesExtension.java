@@ -68,6 +68,7 @@ import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
@@ -88,6 +89,10 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Control Plane Services";
 
+    private static final int DEFAULT_STREAMED_CATALOG_PAGE_SIZE = 1000;
+    @Setting(value = "The maximum number of datasets of a streamed catalog page, the datasets of a page are held in memory before it is sent", type = "int", defaultValue = DEFAULT_STREAMED_CATALOG_PAGE_SIZE + "")
+    private static final String STREAMED_CATALOG_PAGE_SIZE = "edc.catalog.streaming.page.size.max";
+
     @Inject
     private Clock clock;
 
@@ -199,8 +204,8 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
 
     @Provider
     public CatalogProtocolService catalogProtocolService(ServiceExtensionContext context) {
-        return new CatalogProtocolServiceImpl(datasetResolver, dataServiceRegistry,
-                protocolTokenValidator(), context.getParticipantId(), transactionContext);
+        return new CatalogProtocolServiceImpl(datasetResolver, dataServiceRegistry, protocolTokenValidator(), context.getParticipantId(),
+                transactionContext, context.getSetting(STREAMED_CATALOG_PAGE_SIZE, DEFAULT_STREAMED_CATALOG_PAGE_SIZE));
     }
 
     @Provider
@@ -19,14 +19,20 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.lang.String.format;
 
 public class CatalogProtocolServiceImpl implements CatalogProtocolService {
@@ -40,17 +46,39 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     private final TransactionContext transactionContext;
 
     private final ProtocolTokenValidator protocolTokenValidator;
+    private final int maxStreamedPageSize;
 
     public CatalogProtocolServiceImpl(DatasetResolver datasetResolver,
                                       DataServiceRegistry dataServiceRegistry,
                                       ProtocolTokenValidator protocolTokenValidator,
                                       String participantId,
                                       TransactionContext transactionContext) {
+        this(datasetResolver, dataServiceRegistry, protocolTokenValidator, participantId, transactionContext, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param datasetResolver        the dataset resolver.
+     * @param dataServiceRegistry    the data service registry.
+     * @param protocolTokenValidator the protocol token validator.
+     * @param participantId          the participant id.
+     * @param transactionContext     the transaction context.
+     * @param maxStreamedPageSize    the maximum number of datasets of a streamed catalog page, bigger requested pages are
+     *                               cut to this size.
+     */
+    public CatalogProtocolServiceImpl(DatasetResolver datasetResolver,
+                                      DataServiceRegistry dataServiceRegistry,
+                                      ProtocolTokenValidator protocolTokenValidator,
+                                      String participantId,
+                                      TransactionContext transactionContext,
+                                      int maxStreamedPageSize) {
         this.datasetResolver = datasetResolver;
         this.dataServiceRegistry = dataServiceRegistry;
         this.protocolTokenValidator = protocolTokenValidator;
         this.participantId = participantId;
         this.transactionContext = transactionContext;
+        this.maxStreamedPageSize = maxStreamedPageSize;
     }
 
     @Override
@@ -71,6 +99,25 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
         );
     }
 
+    @Override
+    public @NotNull ServiceResult<StreamedCatalog> getStreamedCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
+        return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE, message)
+                .map(agent -> {
+                    var requested = message.getQuerySpec();
+                    var page = requested.getLimit() > maxStreamedPageSize ? requested.toBuilder().limit(maxStreamedPageSize).build() : requested;
+                    var datasets = new ArrayList<Dataset>();
+                    var hasNextPage = resolvePage(agent, page, datasets);
+
+                    var catalog = Catalog.Builder.newInstance()
+                            .dataServices(dataServiceRegistry.getDataServices())
+                            .datasets(datasets)
+                            .participantId(participantId)
+                            .build();
+                    return new StreamedCatalog(catalog, page, hasNextPage);
+                })
+        );
+    }
+
     @Override
     public @NotNull ServiceResult<Dataset> getDataset(String datasetId, TokenRepresentation tokenRepresentation) {
         return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE)
@@ -84,5 +131,24 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
                 }));
     }
 
-}
+    /**
+     * Resolves one dataset more than the page limit in the same query, so that the extra one tells whether a next page
+     * exists without being added to the page.
+     */
+    private boolean resolvePage(ParticipantAgent agent, QuerySpec page, List<Dataset> datasets) {
+        var limit = page.getLimit();
+        var query = limit < Integer.MAX_VALUE ? page.toBuilder().limit(limit + 1).build() : page;
+        try (var resolved = datasetResolver.query(agent, query)) {
+            var iterator = resolved.iterator();
+            while (iterator.hasNext()) {
+                var dataset = iterator.next();
+                if (datasets.size() >= limit) {
+                    return true;
+                }
+                datasets.add(dataset);
+            }
+            return false;
+        }
+    }
 
+}
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
@@ -45,6 +46,7 @@ import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNAUTHORIZED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -116,6 +118,90 @@ class CatalogProtocolServiceImplTest {
         }
     }
 
+    @Nested
+    class GetStreamedCatalog {
+
+        @Test
+        void shouldResolvePageWithOneDatasetLookAhead() {
+            var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(2).build();
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+            var tokenRepresentation = createTokenRepresentation();
+            var participantAgent = createParticipantAgent();
+            var dataService = DataService.Builder.newInstance().build();
+
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE), eq(message))).thenReturn(ServiceResult.success(participantAgent));
+            when(dataServiceRegistry.getDataServices()).thenReturn(List.of(dataService));
+            when(datasetResolver.query(any(), any())).thenAnswer(i -> Stream.of(createDataset(), createDataset(), createDataset()));
+
+            var result = service.getStreamedCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded().satisfies(streamed -> {
+                assertThat(streamed.getCatalog().getDataServices()).hasSize(1).first().isSameAs(dataService);
+                assertThat(streamed.getCatalog().getDatasets()).hasSize(2);
+                assertThat(streamed.getCatalog().getParticipantId()).isEqualTo("participantId");
+                assertThat(streamed.getPage()).isEqualTo(querySpec);
+                assertThat(streamed.hasNextPage()).isTrue();
+            });
+            verify(datasetResolver).query(any(), eq(querySpec.toBuilder().limit(3).build()));
+            verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        }
+
+        @Test
+        void shouldNotHaveNextPage_whenNoDatasetFollowsThePage() {
+            var querySpec = QuerySpec.Builder.newInstance().offset(10).limit(5).build();
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+            var tokenRepresentation = createTokenRepresentation();
+
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE), eq(message))).thenReturn(ServiceResult.success(createParticipantAgent()));
+            when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+            when(datasetResolver.query(any(), any())).thenAnswer(i -> Stream.of(createDataset(), createDataset(), createDataset(), createDataset(), createDataset()));
+
+            var result = service.getStreamedCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded().satisfies(streamed -> {
+                assertThat(streamed.getCatalog().getDatasets()).hasSize(5);
+                assertThat(streamed.hasNextPage()).isFalse();
+            });
+            verify(datasetResolver).query(any(), eq(querySpec.toBuilder().limit(6).build()));
+        }
+
+        @Test
+        void shouldCapPage_whenRequestedLimitExceedsMaxPageSize() {
+            var service = new CatalogProtocolServiceImpl(datasetResolver, dataServiceRegistry, protocolTokenValidator,
+                    "participantId", transactionContext, 2);
+            var querySpec = QuerySpec.Builder.newInstance().offset(4).limit(50).build();
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+            var tokenRepresentation = createTokenRepresentation();
+
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE), eq(message))).thenReturn(ServiceResult.success(createParticipantAgent()));
+            when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+            when(datasetResolver.query(any(), any())).thenAnswer(i -> Stream.of(createDataset(), createDataset(), createDataset()));
+
+            var result = service.getStreamedCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded().satisfies(streamed -> {
+                assertThat(streamed.getCatalog().getDatasets()).hasSize(2);
+                assertThat(streamed.getPage().getOffset()).isEqualTo(4);
+                assertThat(streamed.getPage().getLimit()).isEqualTo(2);
+                assertThat(streamed.hasNextPage()).isTrue();
+            });
+            verify(datasetResolver).query(any(), eq(querySpec.toBuilder().limit(3).build()));
+        }
+
+        @Test
+        void shouldFail_whenTokenValidationFails() {
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(QuerySpec.none()).build();
+            var tokenRepresentation = createTokenRepresentation();
+
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE), eq(message))).thenReturn(ServiceResult.unauthorized("unauthorized"));
+
+            var result = service.getStreamedCatalog(message, tokenRepresentation);
+
+            assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNAUTHORIZED);
+            verify(datasetResolver, never()).query(any(), any());
+        }
+    }
+
     @Nested
     class GetDataset {
 
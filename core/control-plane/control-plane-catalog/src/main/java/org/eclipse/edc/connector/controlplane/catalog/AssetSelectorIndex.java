@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index over the assets selectors of a set of contract definitions, built once per catalog request.
+ * Every definition is indexed by one of its "=" or "in" criteria with string operands: for an asset, only the
+ * definitions indexed by a value of the asset's properties, plus the ones that cannot be indexed, are evaluated with
+ * the full assets selector. Whenever the asset property is not a plain string the index falls back to evaluating all
+ * the definitions indexed on that property, so the matched definitions are always the same as a full scan.
+ */
+class AssetSelectorIndex {
+
+    private final List<IndexedDefinition> definitions = new ArrayList<>();
+    private final Map<String, PropertyIndex> properties = new HashMap<>();
+    private final BitSet notIndexed = new BitSet();
+    private boolean matchesAllAssets;
+
+    AssetSelectorIndex(List<OfferDefinition> offerDefinitions, CriterionOperatorRegistry criterionOperatorRegistry) {
+        for (var offerDefinition : offerDefinitions) {
+            var position = definitions.size();
+            var assetsSelector = offerDefinition.definition().getAssetsSelector();
+            var predicate = assetsSelector.stream()
+                    .map(criterionOperatorRegistry::<Asset>toPredicate)
+                    .reduce(x -> true, Predicate::and);
+            definitions.add(new IndexedDefinition(offerDefinition, predicate));
+
+            matchesAllAssets |= assetsSelector.isEmpty();
+
+            var indexable = assetsSelector.stream()
+                    .filter(criterion -> indexedValues(criterion) != null)
+                    .findFirst();
+
+            if (indexable.isPresent()) {
+                var criterion = indexable.get();
+                var propertyIndex = properties.computeIfAbsent((String) criterion.getOperandLeft(), k -> new PropertyIndex());
+                propertyIndex.all.set(position);
+                indexedValues(criterion).forEach(value -> propertyIndex.byValue.computeIfAbsent(value, v -> new BitSet()).set(position));
+            } else {
+                notIndexed.set(position);
+            }
+        }
+    }
+
+    /**
+     * Whether at least one definition has an empty assets selector, which means that every asset will have an offer.
+     */
+    boolean matchesAllAssets() {
+        return matchesAllAssets;
+    }
+
+    /**
+     * Returns the definitions whose assets selector matches the asset, in the same order they were passed.
+     *
+     * @param asset the asset.
+     * @return the matching definitions.
+     */
+    Stream<OfferDefinition> matching(Asset asset) {
+        var candidates = (BitSet) notIndexed.clone();
+        properties.forEach((key, propertyIndex) -> {
+            if (asset.getPropertyOrPrivate(key) instanceof String value) {
+                var matching = propertyIndex.byValue.get(value);
+                if (matching != null) {
+                    candidates.or(matching);
+                }
+            } else {
+                candidates.or(propertyIndex.all);
+            }
+        });
+
+        return candidates.stream()
+                .mapToObj(definitions::get)
+                .filter(definition -> definition.predicate().test(asset))
+                .map(IndexedDefinition::offerDefinition);
+    }
+
+    /**
+     * Returns the values a criterion can be indexed by, null if it cannot be indexed.
+     */
+    private static List<String> indexedValues(Criterion criterion) {
+        if (!(criterion.getOperandLeft() instanceof String)) {
+            return null;
+        }
+
+        var operator = criterion.getOperator();
+        var operandRight = criterion.getOperandRight();
+        if ("=".equals(operator) && operandRight instanceof String value) {
+            return List.of(value);
+        }
+
+        if ("in".equalsIgnoreCase(operator) && operandRight instanceof Iterable<?> iterable) {
+            var values = new ArrayList<String>();
+            for (var value : iterable) {
+                if (!(value instanceof String string)) {
+                    return null;
+                }
+                values.add(string);
+            }
+            return values;
+        }
+
+        return null;
+    }
+
+    /**
+     * A contract definition with the policy that will be offered for the assets it selects.
+     */
+    record OfferDefinition(ContractDefinition definition, Policy offerPolicy) {
+    }
+
+    private record IndexedDefinition(OfferDefinition offerDefinition, Predicate<Asset> predicate) {
+    }
+
+    private static class PropertyIndex {
+        private final Map<String, BitSet> byValue = new HashMap<>();
+        private final BitSet all = new BitSet();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Caches the pages of datasets resolved by another {@link DatasetResolver}, keyed by the claims and attributes of the
+ * {@link ParticipantAgent} and by the {@link QuerySpec}. Claims that change on every token without affecting the
+ * policies, like the issue and expiration time, are ignored, and verifiable credentials are compared by their types,
+ * issuer and subjects, so that consumers presenting the same credentials share the same entries. When the claims
+ * contain values that cannot be compared by content the cache is bypassed.
+ * <p>
+ * The datasets are still streamed from the underlying resolver: they are recorded while the page is consumed, and the
+ * page is cached only if it is consumed entirely and doesn't exceed the maximum page size. When the cache is full the
+ * least recently used page is evicted.
+ * <p>
+ * Entries expire after the configured time to live. Being an {@link EventSubscriber}, the cache is also cleared on
+ * every received event, so it should be registered for the events about changes on assets, contract definitions and
+ * policy definitions.
+ */
+public class CachingDatasetResolver implements DatasetResolver, EventSubscriber {
+
+    private final Map<CacheKey, CachedPage> pages;
+    private final AtomicLong generation = new AtomicLong();
+    private final DatasetResolver resolver;
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final int maxPageSize;
+    private final Set<String> ignoredClaims;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param resolver      the resolver that actually resolves the datasets.
+     * @param clock         the clock.
+     * @param ttl           how long a page is cached.
+     * @param maxEntries    the maximum number of cached pages.
+     * @param maxPageSize   the maximum number of datasets of a cached page, bigger pages are not cached.
+     * @param ignoredClaims the claims of the agent that are not considered in the cache key.
+     */
+    public CachingDatasetResolver(DatasetResolver resolver, Clock clock, Duration ttl, int maxEntries, int maxPageSize, Set<String> ignoredClaims) {
+        this.resolver = resolver;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.maxPageSize = maxPageSize;
+        this.ignoredClaims = ignoredClaims;
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedPage> eldest) {
+                return size() > CachingDatasetResolver.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
+        var key = key(agent, querySpec);
+        if (key == null || maxEntries <= 0) {
+            return resolver.query(agent, querySpec);
+        }
+
+        var now = clock.instant();
+        synchronized (pages) {
+            var cached = pages.get(key);
+            if (cached != null) {
+                if (now.isBefore(cached.expiresAt())) {
+                    return cached.datasets().stream();
+                }
+                pages.remove(key);
+            }
+        }
+
+        var currentGeneration = generation.get();
+        var stream = resolver.query(agent, querySpec);
+        var recording = new RecordingSpliterator(stream.spliterator(), datasets -> store(key, new CachedPage(datasets, now.plus(ttl)), currentGeneration));
+        return StreamSupport.stream(recording, false).onClose(stream::close);
+    }
+
+    @Override
+    public Dataset getById(ParticipantAgent participantAgent, String id) {
+        return resolver.getById(participantAgent, id);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        invalidate();
+    }
+
+    /**
+     * Removes all the cached pages.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        synchronized (pages) {
+            pages.clear();
+        }
+    }
+
+    private void store(CacheKey key, CachedPage page, long resolvedAtGeneration) {
+        synchronized (pages) {
+            // the page could have been resolved before a change: don't keep it if an invalidation happened in the meantime
+            if (generation.get() == resolvedAtGeneration) {
+                pages.put(key, page);
+            }
+        }
+    }
+
+    private CacheKey key(ParticipantAgent agent, QuerySpec querySpec) {
+        var claims = new HashMap<>(agent.getClaims());
+        claims.keySet().removeAll(ignoredClaims);
+        var fingerprint = ClaimsFingerprint.of(claims);
+        if (fingerprint == ClaimsFingerprint.NOT_CACHEABLE) {
+            return null;
+        }
+        return new CacheKey(fingerprint, new HashMap<>(agent.getAttributes()), querySpec);
+    }
+
+    private record CachedPage(List<Dataset> datasets, Instant expiresAt) {
+    }
+
+    private record CacheKey(Object claims, Map<String, String> attributes, QuerySpec querySpec) {
+    }
+
+    /**
+     * Passes the datasets through while recording them, hands the recorded page over when the underlying spliterator
+     * is exhausted. Stops recording when the page exceeds the maximum size.
+     */
+    private class RecordingSpliterator extends Spliterators.AbstractSpliterator<Dataset> {
+
+        private final Spliterator<Dataset> source;
+        private final Consumer<List<Dataset>> onComplete;
+        private List<Dataset> recorded = new ArrayList<>();
+
+        RecordingSpliterator(Spliterator<Dataset> source, Consumer<List<Dataset>> onComplete) {
+            super(source.estimateSize(), source.characteristics() & ORDERED);
+            this.source = source;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Dataset> action) {
+            var advanced = source.tryAdvance(dataset -> {
+                if (recorded != null) {
+                    if (recorded.size() < maxPageSize) {
+                        recorded.add(dataset);
+                    } else {
+                        recorded = null;
+                    }
+                }
+                action.accept(dataset);
+            });
+            if (!advanced && recorded != null) {
+                onComplete.accept(List.copyOf(recorded));
+                recorded = null;
+            }
+            return advanced;
+        }
+    }
+}
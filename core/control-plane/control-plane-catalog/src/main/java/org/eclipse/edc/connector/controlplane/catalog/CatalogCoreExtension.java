@@ -14,22 +14,49 @@
 
 package org.eclipse.edc.connector.controlplane.catalog;
 
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 @Extension(CatalogCoreExtension.NAME)
 public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    private static final boolean DEFAULT_CACHE_ENABLED = false;
+    @Setting(value = "If true the datasets resolved for catalog requests are cached per participant agent and query", type = "boolean", defaultValue = DEFAULT_CACHE_ENABLED + "")
+    private static final String CACHE_ENABLED = "edc.catalog.cache.enabled";
+    private static final long DEFAULT_CACHE_TTL = 60 * 1000;
+    @Setting(value = "How long the datasets resolved for a catalog request are cached, in milliseconds", type = "long", defaultValue = DEFAULT_CACHE_TTL + "")
+    private static final String CACHE_TTL = "edc.catalog.cache.ttl";
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+    @Setting(value = "The maximum number of catalog pages kept in the cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE = "edc.catalog.cache.size";
+    private static final int DEFAULT_CACHE_PAGE_SIZE = 1000;
+    @Setting(value = "The maximum number of datasets of a cached catalog page, bigger pages are not cached", type = "int", defaultValue = DEFAULT_CACHE_PAGE_SIZE + "")
+    private static final String CACHE_PAGE_SIZE = "edc.catalog.cache.page.size";
+    private static final String DEFAULT_CACHE_IGNORED_CLAIMS = "iat,exp,nbf,jti";
+    @Setting(value = "Comma separated list of the participant agent claims that are not considered in the catalog cache key", defaultValue = DEFAULT_CACHE_IGNORED_CLAIMS)
+    private static final String CACHE_IGNORED_CLAIMS = "edc.catalog.cache.claims.ignored";
+
     @Inject
     private ContractDefinitionResolver contractDefinitionResolver;
 
@@ -45,14 +72,36 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
     }
 
     @Provider
-    public DatasetResolver datasetResolver() {
-        return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
+    public DatasetResolver datasetResolver(ServiceExtensionContext context) {
+        var resolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
                 distributionResolver, criterionOperatorRegistry);
+
+        var config = context.getConfig();
+        if (!config.getBoolean(CACHE_ENABLED, DEFAULT_CACHE_ENABLED)) {
+            return resolver;
+        }
+
+        var ignoredClaims = Arrays.stream(config.getString(CACHE_IGNORED_CLAIMS, DEFAULT_CACHE_IGNORED_CLAIMS).split(","))
+                .map(String::trim)
+                .filter(claim -> !claim.isEmpty())
+                .collect(Collectors.toSet());
+        var cachingResolver = new CachingDatasetResolver(resolver, clock, Duration.ofMillis(config.getLong(CACHE_TTL, DEFAULT_CACHE_TTL)),
+                config.getInteger(CACHE_SIZE, DEFAULT_CACHE_SIZE), config.getInteger(CACHE_PAGE_SIZE, DEFAULT_CACHE_PAGE_SIZE), ignoredClaims);
+        eventRouter.registerSync(AssetEvent.class, cachingResolver);
+        eventRouter.registerSync(ContractDefinitionEvent.class, cachingResolver);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cachingResolver);
+        return cachingResolver;
     }
 }
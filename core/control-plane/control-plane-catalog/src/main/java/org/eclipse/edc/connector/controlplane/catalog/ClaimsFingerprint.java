@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns claim values into comparable fingerprints, to be used in cache keys. Only the content that policies can
+ * evaluate is kept: of a {@link VerifiableCredential} its types, issuer and subjects, but not its id, dates, status
+ * or proof, which change on every issuance. Values whose type is not known to be comparable by content make the
+ * claims not cacheable.
+ */
+final class ClaimsFingerprint {
+
+    /**
+     * Returned for the values that cannot be fingerprinted.
+     */
+    static final Object NOT_CACHEABLE = new Object();
+
+    private ClaimsFingerprint() {
+    }
+
+    /**
+     * Fingerprints a claim value.
+     *
+     * @param value the claim value.
+     * @return the fingerprint, {@link #NOT_CACHEABLE} if the value cannot be fingerprinted.
+     */
+    static Object of(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>) {
+            return value;
+        }
+        if (value instanceof VerifiableCredential credential) {
+            var subjects = new ArrayList<>();
+            for (var subject : credential.getCredentialSubject()) {
+                var claims = of(subject.getClaims());
+                if (claims == NOT_CACHEABLE) {
+                    return NOT_CACHEABLE;
+                }
+                subjects.add(new SubjectFingerprint(subject.getId(), claims));
+            }
+            var issuer = credential.getIssuer() != null ? credential.getIssuer().id() : null;
+            return new CredentialFingerprint(List.copyOf(credential.getType()), issuer, subjects);
+        }
+        if (value instanceof CredentialSubject subject) {
+            var claims = of(subject.getClaims());
+            return claims == NOT_CACHEABLE ? NOT_CACHEABLE : new SubjectFingerprint(subject.getId(), claims);
+        }
+        if (value instanceof Map<?, ?> map) {
+            var fingerprint = new HashMap<Object, Object>();
+            for (var entry : map.entrySet()) {
+                var entryFingerprint = of(entry.getValue());
+                if (entryFingerprint == NOT_CACHEABLE) {
+                    return NOT_CACHEABLE;
+                }
+                fingerprint.put(entry.getKey(), entryFingerprint);
+            }
+            return fingerprint;
+        }
+        if (value instanceof Collection<?> collection) {
+            var fingerprint = new ArrayList<>(collection.size());
+            for (var element : collection) {
+                var elementFingerprint = of(element);
+                if (elementFingerprint == NOT_CACHEABLE) {
+                    return NOT_CACHEABLE;
+                }
+                fingerprint.add(elementFingerprint);
+            }
+            return fingerprint;
+        }
+        return NOT_CACHEABLE;
+    }
+
+    private record CredentialFingerprint(List<String> types, String issuer, List<Object> subjects) {
+    }
+
+    private record SubjectFingerprint(String id, Object claims) {
+    }
+}
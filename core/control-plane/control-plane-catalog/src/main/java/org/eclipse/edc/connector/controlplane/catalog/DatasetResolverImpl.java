@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.catalog;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.AssetSelectorIndex.OfferDefinition;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
@@ -34,8 +35,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.Integer.MAX_VALUE;
@@ -61,10 +62,12 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
+        var selectorIndex = createSelectorIndex(agent);
+        // when every asset gets an offer no asset past offset + limit can end up in the page
+        var assetsLimit = selectorIndex.matchesAllAssets() ? (int) Math.min((long) querySpec.getOffset() + querySpec.getLimit(), MAX_VALUE) : MAX_VALUE;
+        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(assetsLimit).filter(querySpec.getFilterExpression()).build();
         return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(selectorIndex, asset))
                 .filter(Dataset::hasOffers)
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
@@ -75,10 +78,29 @@ public class DatasetResolverImpl implements DatasetResolver {
         var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(createSelectorIndex(contractDefinitions), asset))
                 .orElse(null);
     }
 
+    private AssetSelectorIndex createSelectorIndex(ParticipantAgent agent) {
+        return createSelectorIndex(contractDefinitionResolver.definitionsFor(agent).toList());
+    }
+
+    /**
+     * Resolves the offer policy of every contract definition once per request, definitions whose policy does not
+     * exist cannot produce offers and are discarded.
+     */
+    private AssetSelectorIndex createSelectorIndex(List<ContractDefinition> contractDefinitions) {
+        var offerDefinitions = contractDefinitions.stream()
+                .map(contractDefinition -> Optional.ofNullable(policyDefinitionStore.findById(contractDefinition.getContractPolicyId()))
+                        .map(policyDefinition -> policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build())
+                        .map(offerPolicy -> new OfferDefinition(contractDefinition, offerPolicy))
+                        .orElse(null))
+                .filter(Objects::nonNull)
+                .toList();
+        return new AssetSelectorIndex(offerDefinitions, criterionOperatorRegistry);
+    }
+
     private Dataset.Builder buildDataset(Asset asset) {
         if (!asset.isCatalog()) {
             return Dataset.Builder.newInstance();
@@ -92,7 +114,7 @@ public class DatasetResolverImpl implements DatasetResolver {
                         .build());
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    private Dataset toDataset(AssetSelectorIndex selectorIndex, Asset asset) {
 
         var distributions = distributionResolver.getDistributions(asset);
         var datasetBuilder = buildDataset(asset)
@@ -100,20 +122,10 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        var offerPolicy = policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build();
-                        datasetBuilder.offer(contractId.toString(), offerPolicy);
-                    }
-                });
+        selectorIndex.matching(asset).forEach(offerDefinition -> {
+            var contractId = ContractOfferId.create(offerDefinition.definition().getId(), asset.getId());
+            datasetBuilder.offer(contractId.toString(), offerDefinition.offerPolicy());
+        });
 
         return datasetBuilder.build();
     }
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDatasetResolverTest {
+
+    private final DatasetResolver delegate = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final CachingDatasetResolver resolver = new CachingDatasetResolver(delegate, clock, Duration.ofSeconds(60), 2, 10, Set.of("iat"));
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset("dataset")));
+    }
+
+    @Test
+    void query_shouldReuseDatasets_whenAgentAndQueryAreEqual() {
+        var first = resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+        var second = resolver.query(agent("consumer", 2), QuerySpec.max()).toList();
+
+        assertThat(second).isEqualTo(first);
+        verify(delegate, times(1)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldResolveDatasets_whenAgentOrQueryDiffer() {
+        resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+        resolver.query(agent("another-consumer", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer", 1), QuerySpec.Builder.newInstance().offset(10).build()).toList();
+
+        verify(delegate, times(3)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldResolveDatasets_whenExpired() {
+        resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+        when(clock.instant()).thenReturn(now.plusSeconds(60));
+
+        resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldResolveDatasets_whenChangeEventReceived() {
+        resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+
+        resolver.on(EventEnvelope.Builder.newInstance().at(now.toEpochMilli())
+                .payload(AssetUpdated.Builder.newInstance().assetId("asset").build()).build());
+        resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldNotExceedMaxEntries() {
+        resolver.query(agent("consumer-1", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer-2", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer-3", 1), QuerySpec.max()).toList();
+
+        resolver.query(agent("consumer-3", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer-1", 1), QuerySpec.max()).toList();
+
+        verify(delegate, times(4)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldEvictLeastRecentlyUsed_whenFull() {
+        resolver.query(agent("consumer-1", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer-2", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer-1", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer-3", 1), QuerySpec.max()).toList();
+
+        resolver.query(agent("consumer-1", 1), QuerySpec.max()).toList();
+
+        verify(delegate, times(3)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldReuseDatasets_whenSameCredentialsArePresentedAgain() {
+        resolver.query(credentialAgent("member"), QuerySpec.max()).toList();
+        resolver.query(credentialAgent("member"), QuerySpec.max()).toList();
+
+        verify(delegate, times(1)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldResolveDatasets_whenCredentialClaimsDiffer() {
+        resolver.query(credentialAgent("member"), QuerySpec.max()).toList();
+        resolver.query(credentialAgent("partner"), QuerySpec.max()).toList();
+
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldBypassCache_whenClaimsAreNotComparable() {
+        var agent = new ParticipantAgent(Map.of("client_id", "consumer", "custom", new Object()), Map.of());
+
+        resolver.query(agent, QuerySpec.max()).toList();
+        resolver.query(agent, QuerySpec.max()).toList();
+
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldNotCachePage_whenNotEntirelyConsumed() {
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset("first"), dataset("second")));
+
+        resolver.query(agent("consumer", 1), QuerySpec.max()).findFirst();
+        var datasets = resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+
+        assertThat(datasets).hasSize(2);
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldNotCachePage_whenBiggerThanMaxPageSize() {
+        when(delegate.query(any(), any())).thenAnswer(i -> IntStream.range(0, 11).mapToObj(index -> dataset("dataset-" + index)));
+
+        var datasets = resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+        resolver.query(agent("consumer", 1), QuerySpec.max()).toList();
+
+        assertThat(datasets).hasSize(11);
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldCloseUnderlyingStream() {
+        var closed = new boolean[1];
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset("dataset")).onClose(() -> closed[0] = true));
+
+        try (var stream = resolver.query(agent("consumer", 1), QuerySpec.max())) {
+            stream.toList();
+        }
+
+        assertThat(closed[0]).isTrue();
+    }
+
+    private ParticipantAgent credentialAgent(String membership) {
+        // every token carries newly parsed credential instances, with their own id and dates
+        var credential = VerifiableCredential.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .type("MembershipCredential")
+                .issuer(new Issuer("did:web:issuer", Map.of()))
+                .issuanceDate(Instant.now())
+                .credentialSubject(CredentialSubject.Builder.newInstance().id("did:web:consumer").claim("membership", membership).build())
+                .build();
+        return new ParticipantAgent(Map.of("client_id", "consumer", "iat", Instant.now().toEpochMilli(), "vc", List.of(credential)), Map.of());
+    }
+
+    private ParticipantAgent agent(String identity, long issuedAt) {
+        return new ParticipantAgent(Map.of("client_id", identity, "iat", issuedAt), Map.of());
+    }
+
+    private Dataset dataset(String id) {
+        return Dataset.Builder.newInstance().id(id).build();
+    }
+}
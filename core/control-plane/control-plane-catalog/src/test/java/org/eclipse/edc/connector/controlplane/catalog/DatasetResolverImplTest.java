@@ -56,6 +56,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -222,6 +223,79 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldReturnOffersOfMatchingDefinitionsOnly() {
+        var idProperty = EDC_NAMESPACE + "id";
+        var tagsProperty = EDC_NAMESPACE + "tags";
+        var contractDefinitions = List.of(
+                contractDefinitionBuilder("equal").assetsSelector(List.of(new Criterion(idProperty, "=", "1"))).build(),
+                contractDefinitionBuilder("in").assetsSelector(List.of(new Criterion(idProperty, "in", List.of("2", "3")))).build(),
+                contractDefinitionBuilder("list").assetsSelector(List.of(new Criterion(tagsProperty, "=", "tag"))).build(),
+                contractDefinitionBuilder("like").assetsSelector(List.of(new Criterion(idProperty, "like", "%3"))).build()
+        );
+        var assets = range(0, 5).mapToObj(it -> createAsset(String.valueOf(it)))
+                .map(builder -> builder.property(tagsProperty, List.of("another", "tag")))
+                .map(Asset.Builder::build)
+                .toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none()).toList();
+
+        assertThat(datasets).hasSize(5).allSatisfy(dataset -> {
+            var expected = switch (dataset.getId()) {
+                case "1" -> List.of("equal", "list");
+                case "2" -> List.of("in", "list");
+                case "3" -> List.of("in", "list", "like");
+                default -> List.of("list");
+            };
+            assertThat(dataset.getOffers().keySet()).map(id -> ContractOfferId.parseId(id).getContent().definitionPart())
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        });
+    }
+
+    @Test
+    void query_shouldResolvePolicyOncePerDefinition() {
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(10);
+        verify(policyStore, times(1)).findById("contractPolicyId");
+    }
+
+    @Test
+    void query_shouldLimitAssetsQuery_whenEveryAssetHasOffers() {
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> Stream.empty());
+        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
+
+        datasetResolver.query(createParticipantAgent(), querySpec).toList();
+
+        verify(assetIndex).queryAssets(argThat(q -> q.getOffset() == 0 && q.getLimit() == 5));
+    }
+
+    @Test
+    void query_shouldNotLimitAssetsQuery_whenDefinitionsHaveSelectors() {
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId")
+                .assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "id", "=", "id"))).build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> Stream.empty());
+        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
+
+        datasetResolver.query(createParticipantAgent(), querySpec).toList();
+
+        verify(assetIndex).queryAssets(argThat(q -> q.getOffset() == 0 && q.getLimit() == Integer.MAX_VALUE));
+    }
+
     @Test
     void query_shouldReturnCatalogWithinCatalog_whenAssetIsCatalogAsset() {
         var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.controlplane.contract.listener.ContractNegotiat
 import org.eclipse.edc.connector.controlplane.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.controlplane.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.controlplane.contract.policy.PolicyEquality;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.NegotiationWaitStrategy;
@@ -51,7 +52,10 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.EntityWorkerConfiguration;
+import org.eclipse.edc.statemachine.WakeUpEventSubscriber;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -61,8 +65,10 @@ import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExp
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_MAX_IN_FLIGHT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 @Provides({
         ContractValidationService.class, ConsumerContractNegotiationManager.class,
@@ -83,6 +89,15 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of workers processing negotiations concurrently in each negotiation state machine, 0 processes them sequentially on the state machine thread", type = "int", defaultValue = DEFAULT_WORKERS + "")
+    private static final String NEGOTIATION_STATE_MACHINE_WORKERS = "edc.negotiation.state-machine.workers";
+
+    @Setting(value = "whether every negotiation should always be processed by the same worker", type = "boolean", defaultValue = "false")
+    private static final String NEGOTIATION_STATE_MACHINE_PARTITIONED = "edc.negotiation.state-machine.partitioned";
+
+    @Setting(value = "the maximum number of negotiations being processed by the workers of each negotiation state machine at the same time", type = "int", defaultValue = DEFAULT_MAX_IN_FLIGHT + "")
+    private static final String NEGOTIATION_STATE_MACHINE_MAX_IN_FLIGHT = "edc.negotiation.state-machine.max-in-flight";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -144,6 +159,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
@@ -203,6 +221,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
+                .entityWorkerConfiguration(entityWorkerConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
                 .build();
@@ -220,12 +239,14 @@ public class ContractCoreExtension implements ServiceExtension {
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
+                .entityWorkerConfiguration(entityWorkerConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
                 .build();
 
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
         context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
+        eventRouter.registerSync(ContractNegotiationEvent.class, new WakeUpEventSubscriber(transactionContext, consumerNegotiationManager, providerNegotiationManager));
     }
 
     private EntityRetryProcessConfiguration providerEntityRetryProcessConfiguration(ServiceExtensionContext context) {
@@ -241,4 +262,12 @@ public class ContractCoreExtension implements ServiceExtension {
         return new EntityRetryProcessConfiguration(retryLimit, () -> new ExponentialWaitStrategy(retryBaseDelay));
     }
 
+    @NotNull
+    private EntityWorkerConfiguration entityWorkerConfiguration(ServiceExtensionContext context) {
+        var workers = context.getSetting(NEGOTIATION_STATE_MACHINE_WORKERS, DEFAULT_WORKERS);
+        var partitioned = context.getSetting(NEGOTIATION_STATE_MACHINE_PARTITIONED, false);
+        var maxInFlight = context.getSetting(NEGOTIATION_STATE_MACHINE_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT);
+        return new EntityWorkerConfiguration(workers, partitioned, maxInFlight);
+    }
+
 }
@@ -21,12 +21,14 @@ import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractD
 import org.eclipse.edc.connector.controlplane.defaults.callback.CallbackRegistryImpl;
 import org.eclipse.edc.connector.controlplane.defaults.protocol.ProtocolVersionRegistryImpl;
 import org.eclipse.edc.connector.controlplane.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.controlplane.defaults.storage.callback.InMemoryCallbackOutboxStore;
 import org.eclipse.edc.connector.controlplane.defaults.storage.contractdefinition.InMemoryContractDefinitionStore;
 import org.eclipse.edc.connector.controlplane.defaults.storage.contractnegotiation.InMemoryContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.defaults.storage.policydefinition.InMemoryPolicyDefinitionStore;
 import org.eclipse.edc.connector.controlplane.defaults.storage.transferprocess.InMemoryTransferProcessStore;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.connector.controlplane.query.asset.AssetPropertyLookup;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolVersionRegistry;
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
@@ -98,6 +100,11 @@ public class ControlPlaneDefaultServicesExtension implements ServiceExtension {
         return new CallbackRegistryImpl();
     }
 
+    @Provider(isDefault = true)
+    public CallbackOutboxStore defaultCallbackOutboxStore() {
+        return new InMemoryCallbackOutboxStore();
+    }
+
     @Provider(isDefault = true)
     public ProtocolVersionRegistry protocolVersionRegistry() {
         return new ProtocolVersionRegistryImpl();
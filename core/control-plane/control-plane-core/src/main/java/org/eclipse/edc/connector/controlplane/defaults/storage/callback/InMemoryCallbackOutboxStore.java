@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.defaults.storage.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory implementation of the {@link CallbackOutboxStore}. Entries do not survive a restart of the runtime.
+ */
+public class InMemoryCallbackOutboxStore implements CallbackOutboxStore {
+
+    private final Map<String, CallbackOutboxEntry> entries = new LinkedHashMap<>();
+
+    @Override
+    public synchronized void save(CallbackOutboxEntry entry) {
+        entries.put(entry.getId(), entry);
+    }
+
+    @Override
+    public synchronized List<CallbackOutboxEntry> claimPending(int max, long now, long claimedUntil) {
+        var claimed = entries.values().stream()
+                .filter(entry -> !entry.isDeadLettered() && entry.getNextAttemptAt() <= now)
+                .sorted(Comparator.comparingLong(CallbackOutboxEntry::getNextAttemptAt))
+                .limit(max)
+                .map(entry -> entry.toBuilder().nextAttemptAt(claimedUntil).build())
+                .toList();
+
+        claimed.forEach(entry -> entries.put(entry.getId(), entry));
+        return claimed;
+    }
+
+    @Override
+    public synchronized void delete(String id) {
+        entries.remove(id);
+    }
+
+    @Override
+    public synchronized long countPending() {
+        return entries.values().stream().filter(entry -> !entry.isDeadLettered()).count();
+    }
+
+    @Override
+    public synchronized long countDeadLettered() {
+        return entries.values().stream().filter(CallbackOutboxEntry::isDeadLettered).count();
+    }
+}
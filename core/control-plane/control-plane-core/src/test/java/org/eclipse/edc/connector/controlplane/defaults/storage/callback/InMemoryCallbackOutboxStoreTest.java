@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.defaults.storage.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryCallbackOutboxStoreTest {
+
+    private final InMemoryCallbackOutboxStore store = new InMemoryCallbackOutboxStore();
+
+    @Test
+    void claimPending_shouldReturnDueEntriesOldestFirst() {
+        store.save(entry("later", 150));
+        store.save(entry("first", 100));
+        store.save(entry("not-due", 300));
+
+        var claimed = store.claimPending(10, 200, 1000);
+
+        assertThat(claimed).extracting(CallbackOutboxEntry::getId).containsExactly("first", "later");
+        assertThat(claimed).allSatisfy(entry -> assertThat(entry.getNextAttemptAt()).isEqualTo(1000));
+        assertThat(store.claimPending(10, 200, 1000)).isEmpty();
+    }
+
+    @Test
+    void claimPending_shouldLimitAndSkipDeadLettered() {
+        store.save(entry("dead", 50).toBuilder().deadLettered(true).build());
+        store.save(entry("first", 100));
+        store.save(entry("second", 110));
+
+        assertThat(store.claimPending(1, 200, 1000)).extracting(CallbackOutboxEntry::getId).containsExactly("first");
+    }
+
+    @Test
+    void count_shouldDistinguishPendingAndDeadLettered() {
+        store.save(entry("pending", 100));
+        store.save(entry("dead", 100).toBuilder().deadLettered(true).build());
+        store.save(entry("deleted", 100));
+        store.delete("deleted");
+
+        assertThat(store.countPending()).isEqualTo(1);
+        assertThat(store.countDeadLettered()).isEqualTo(1);
+    }
+
+    private CallbackOutboxEntry entry(String id, long nextAttemptAt) {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(id)
+                .callbackAddress(CallbackAddress.Builder.newInstance().uri("http://callback").events(Set.of("test")).build())
+                .eventEnvelope(EventEnvelope.Builder.newInstance().at(10).payload(new TestEvent()).build())
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+    private static class TestEvent extends Event {
+        @Override
+        public String name() {
+            return "test";
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.eclipse.edc.connector.controlplane.transfer.provision.ProvisionRespon
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessPendingGuard;
 import org.eclipse.edc.connector.controlplane.transfer.spi.edr.EndpointDataReferenceReceiverRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
 import org.eclipse.edc.connector.controlplane.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.observe.TransferProcessObservable;
@@ -53,7 +54,10 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.EntityWorkerConfiguration;
+import org.eclipse.edc.statemachine.WakeUpEventSubscriber;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
@@ -61,8 +65,10 @@ import java.time.Clock;
 
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_MAX_IN_FLIGHT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core data transfer services to the system.
@@ -80,6 +86,15 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of workers processing transfer processes concurrently, 0 processes them sequentially on the state machine thread", type = "int", defaultValue = DEFAULT_WORKERS + "")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
+    @Setting(value = "whether every transfer process should always be processed by the same worker", type = "boolean", defaultValue = "false")
+    private static final String TRANSFER_STATE_MACHINE_PARTITIONED = "edc.transfer.state-machine.partitioned";
+
+    @Setting(value = "the maximum number of transfer processes being processed by the workers at the same time", type = "int", defaultValue = DEFAULT_MAX_IN_FLIGHT + "")
+    private static final String TRANSFER_STATE_MACHINE_MAX_IN_FLIGHT = "edc.transfer.state-machine.max-in-flight";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -140,6 +155,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -186,6 +204,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
+                .entityWorkerConfiguration(getEntityWorkerConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .provisionResponsesHandler(provisionResponsesHandler)
                 .deprovisionResponsesHandler(deprovisionResponsesHandler)
@@ -193,6 +212,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .build();
 
         context.registerService(TransferProcessManager.class, processManager);
+        eventRouter.registerSync(TransferProcessEvent.class, new WakeUpEventSubscriber(transactionContext, processManager));
 
         registry.register(new AddProvisionedResourceCommandHandler(transferProcessStore, provisionResponsesHandler));
         registry.register(new DeprovisionCompleteCommandHandler(transferProcessStore, deprovisionResponsesHandler));
@@ -217,6 +237,14 @@ public class TransferCoreExtension implements ServiceExtension {
         return new EntityRetryProcessConfiguration(retryLimit, () -> new ExponentialWaitStrategy(retryBaseDelay));
     }
 
+    @NotNull
+    private EntityWorkerConfiguration getEntityWorkerConfiguration(ServiceExtensionContext context) {
+        var workers = context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS);
+        var partitioned = context.getSetting(TRANSFER_STATE_MACHINE_PARTITIONED, false);
+        var maxInFlight = context.getSetting(TRANSFER_STATE_MACHINE_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT);
+        return new EntityWorkerConfiguration(workers, partitioned, maxInFlight);
+    }
+
     private void registerTypes(TypeManager typeManager) {
         typeManager.registerTypes(ProvisionedContentResource.class);
         typeManager.registerTypes(DeprovisionedResource.class);
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.selector;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.LeastLoadedSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.connector.dataplane.selector.store.InMemoryDataPlaneInstanceStore;
@@ -55,6 +56,7 @@ public class DataPlaneSelectorDefaultServicesExtension implements ServiceExtensi
     public SelectionStrategyRegistry selectionStrategyRegistry() {
         var strategy = new DefaultSelectionStrategyRegistry();
         strategy.add(new RandomSelectionStrategy());
+        strategy.add(new LeastLoadedSelectionStrategy());
         return strategy;
     }
 }
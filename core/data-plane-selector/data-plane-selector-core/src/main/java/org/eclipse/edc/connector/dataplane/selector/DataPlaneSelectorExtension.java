@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.selector;
 
 import org.eclipse.edc.connector.dataplane.selector.manager.DataPlaneSelectorManagerImpl;
+import org.eclipse.edc.connector.dataplane.selector.service.DataPlaneInstanceSnapshot;
 import org.eclipse.edc.connector.dataplane.selector.service.EmbeddedDataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClientFactory;
@@ -30,6 +31,7 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import static org.eclipse.edc.connector.dataplane.selector.DataPlaneSelectorExtension.NAME;
@@ -42,6 +44,7 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Selector core";
 
     private static final int DEFAULT_CHECK_PERIOD = 60;
+    private static final int DEFAULT_SNAPSHOT_TTL = 10;
 
     @Setting(value = "the iteration wait time in milliseconds in the data plane selector state machine.", defaultValue = DEFAULT_ITERATION_WAIT + "", type = "long")
     private static final String DATA_PLANE_SELECTOR_STATE_MACHINE_ITERATION_WAIT_MILLIS = "edc.data.plane.selector.state-machine.iteration-wait-millis";
@@ -52,6 +55,11 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     @Setting(value = "the check period for data plane availability, in seconds", defaultValue = DEFAULT_CHECK_PERIOD + "", type = "int")
     private static final String DATA_PLANE_SELECTOR_CHECK_PERIOD = "edc.data.plane.selector.state-machine.check.period";
 
+    @Setting(value = "the time-to-live of the in-memory snapshot of the available data planes used for the selection, in seconds. " +
+            "It bounds how long the changes made by other runtimes sharing the store take to be visible. 0 deactivates the snapshot.",
+            defaultValue = DEFAULT_SNAPSHOT_TTL + "", type = "int", min = 0)
+    private static final String DATA_PLANE_SELECTOR_SNAPSHOT_TTL = "edc.data.plane.selector.snapshot.ttl";
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
     @Inject
@@ -60,8 +68,11 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     private SelectionStrategyRegistry selectionStrategyRegistry;
     @Inject
     private DataPlaneClientFactory clientFactory;
+    @Inject
+    private Clock clock;
 
     private DataPlaneSelectorManager manager;
+    private DataPlaneInstanceSnapshot snapshot;
 
     @Override
     public String name() {
@@ -80,8 +91,12 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
                 Duration.ofSeconds(checkPeriod)
         );
 
+        var snapshotTtl = config.getInteger(DATA_PLANE_SELECTOR_SNAPSHOT_TTL, DEFAULT_SNAPSHOT_TTL);
+        snapshot = new DataPlaneInstanceSnapshot(instanceStore, transactionContext, clock, Duration.ofSeconds(snapshotTtl));
+
         manager = DataPlaneSelectorManagerImpl.Builder.newInstance()
                 .clientFactory(clientFactory)
+                .updateListener(instance -> snapshot.invalidate())
                 .store(instanceStore)
                 .monitor(context.getMonitor())
                 .configuration(configuration)
@@ -102,7 +117,7 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
 
     @Provider
     public DataPlaneSelectorService dataPlaneSelectorService() {
-        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext);
+        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext, snapshot);
     }
 
 }
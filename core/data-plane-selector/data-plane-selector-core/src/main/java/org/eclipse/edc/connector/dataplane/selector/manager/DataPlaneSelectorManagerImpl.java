@@ -23,11 +23,11 @@ import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceS
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.statemachine.AbstractStateEntityManager;
 import org.eclipse.edc.statemachine.Processor;
-import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
@@ -39,6 +39,7 @@ public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<Dat
 
     private DataPlaneClientFactory clientFactory;
     private Duration checkPeriod = Duration.ofMinutes(1);
+    private Consumer<DataPlaneInstance> updateListener = instance -> { };
 
     private DataPlaneSelectorManagerImpl() {
     }
@@ -61,18 +62,22 @@ public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<Dat
 
     private boolean availability(DataPlaneInstance instance) {
         var client = clientFactory.createClient(instance);
-        if (client.checkAvailability().succeeded()) {
+        var result = client.checkLoad();
+        if (result.succeeded()) {
+            instance.updateLoad(result.getContent());
             instance.transitionToAvailable();
         } else {
+            instance.updateLoad(null);
             instance.transitionToUnavailable();
         }
         update(instance);
+        updateListener.accept(instance);
         return true;
     }
 
     private Processor processEntriesInState(DataPlaneInstanceStates state, Function<DataPlaneInstance, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return processorBuilder(filter)
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
@@ -104,6 +109,14 @@ public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<Dat
             return this;
         }
 
+        /**
+         * Listener notified after the availability and the load of an instance have been checked and stored.
+         */
+        public Builder updateListener(Consumer<DataPlaneInstance> updateListener) {
+            manager.updateListener = updateListener;
+            return this;
+        }
+
         public Builder configuration(DataPlaneSelectorManagerConfiguration configuration) {
             return waitStrategy(configuration.waitStrategy())
                     .batchSize(configuration.batchSize())
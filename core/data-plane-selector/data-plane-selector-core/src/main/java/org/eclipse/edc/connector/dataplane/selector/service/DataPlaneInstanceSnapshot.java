@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.service;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
+
+/**
+ * In-memory snapshot of the available {@link DataPlaneInstance}s, so that the selection of a data plane does not need
+ * to query the store. The snapshot gets invalidated whenever this runtime changes an instance, and it expires after the
+ * time-to-live to pick up the changes made by other runtimes sharing the same store. A time-to-live of zero deactivates
+ * the snapshot, every call then reads the store.
+ */
+public class DataPlaneInstanceSnapshot {
+
+    private final DataPlaneInstanceStore store;
+    private final TransactionContext transactionContext;
+    private final Clock clock;
+    private final Duration ttl;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot current;
+
+    public DataPlaneInstanceSnapshot(DataPlaneInstanceStore store, TransactionContext transactionContext, Clock clock, Duration ttl) {
+        this.store = store;
+        this.transactionContext = transactionContext;
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the instances in {@code AVAILABLE} state, reading them from the store only if the snapshot is not valid.
+     *
+     * @return the available instances.
+     */
+    public List<DataPlaneInstance> getAvailable() {
+        if (ttl.isZero()) {
+            return load();
+        }
+        var snapshot = current;
+        if (isValid(snapshot)) {
+            return snapshot.instances();
+        }
+        return refresh();
+    }
+
+    /**
+     * Invalidates the snapshot, the next call to {@link #getAvailable()} reads the store.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private synchronized List<DataPlaneInstance> refresh() {
+        var snapshot = current;
+        if (isValid(snapshot)) {
+            return snapshot.instances();
+        }
+        // the generation is captured before reading, so that an invalidation happening meanwhile is not lost
+        var loadedGeneration = generation.get();
+        var instances = load();
+        current = new Snapshot(instances, loadedGeneration, clock.instant().plus(ttl));
+        return instances;
+    }
+
+    private List<DataPlaneInstance> load() {
+        return transactionContext.execute(() -> {
+            try (var stream = store.getAll()) {
+                return stream.filter(it -> it.getState() == AVAILABLE.code()).toList();
+            }
+        });
+    }
+
+    private boolean isValid(Snapshot snapshot) {
+        return snapshot != null && snapshot.generation() == generation.get() && clock.instant().isBefore(snapshot.expiresAt());
+    }
+
+    private record Snapshot(List<DataPlaneInstance> instances, long generation, Instant expiresAt) {
+    }
+}
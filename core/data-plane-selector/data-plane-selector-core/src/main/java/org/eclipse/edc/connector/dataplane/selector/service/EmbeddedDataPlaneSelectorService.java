@@ -24,21 +24,28 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
-import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
-
 public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorService {
 
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final DataPlaneInstanceSnapshot snapshot;
 
     public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+        this(store, selectionStrategyRegistry, transactionContext, new DataPlaneInstanceSnapshot(store, transactionContext, Clock.systemUTC(), Duration.ZERO));
+    }
+
+    public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext,
+                                            DataPlaneInstanceSnapshot snapshot) {
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.snapshot = snapshot;
     }
 
     @Override
@@ -58,16 +65,12 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
             return ServiceResult.badRequest("Strategy " + sanitizedSelectionStrategy + " was not found");
         }
 
-        return transactionContext.execute(() -> {
-            try (var stream = store.getAll()) {
-                var dataPlanes = stream.filter(it -> it.getState() == AVAILABLE.code()).filter(dataPlane -> dataPlane.canHandle(source, transferType)).toList();
-                var dataPlane = strategy.apply(dataPlanes);
-                if (dataPlane == null) {
-                    return ServiceResult.notFound("DataPlane not found");
-                }
-                return ServiceResult.success(dataPlane);
-            }
-        });
+        var dataPlanes = snapshot.getAvailable().stream().filter(dataPlane -> dataPlane.canHandle(source, transferType)).toList();
+        var dataPlane = strategy.apply(dataPlanes);
+        if (dataPlane == null) {
+            return ServiceResult.notFound("DataPlane not found");
+        }
+        return ServiceResult.success(dataPlane);
     }
 
     @Override
@@ -75,13 +78,14 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
         return transactionContext.execute(() -> {
             instance.transitionToRegistered();
             store.save(instance);
+            snapshot.invalidate();
             return ServiceResult.success();
         });
     }
 
     @Override
     public ServiceResult<Void> delete(String instanceId) {
-        return transactionContext.execute(() -> ServiceResult.from(store.deleteById(instanceId))).mapEmpty();
+        return transactionContext.execute(() -> ServiceResult.from(store.deleteById(instanceId)).onSuccess(it -> snapshot.invalidate())).mapEmpty();
     }
 
     @Override
@@ -91,6 +95,7 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
                     .map(it -> {
                         it.transitionToUnregistered();
                         store.save(it);
+                        snapshot.invalidate();
                         return null;
                     });
 
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClientFa
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.junit.jupiter.api.Nested;
@@ -73,12 +74,12 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(new DataPlaneLoad(1, 100)));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(store).save(argThat(it -> it.getState() == AVAILABLE.code()));
+                verify(store).save(argThat(it -> it.getState() == AVAILABLE.code() && new DataPlaneLoad(1, 100).equals(it.getLoad())));
             });
         }
 
@@ -88,7 +89,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.failure(FATAL_ERROR));
 
             manager.start();
 
@@ -110,7 +111,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(new DataPlaneLoad(1, 100)));
 
             manager.start();
 
@@ -127,7 +128,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.failure(FATAL_ERROR));
 
             manager.start();
 
@@ -144,7 +145,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(new DataPlaneLoad(1, 100)));
 
             manager.start();
 
@@ -166,7 +167,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.failure(FATAL_ERROR));
 
             manager.start();
 
@@ -183,7 +184,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(new DataPlaneLoad(1, 100)));
 
             manager.start();
 
@@ -200,7 +201,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(new DataPlaneLoad(1, 100)));
 
             manager.start();
 
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.service;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.UNAVAILABLE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataPlaneInstanceSnapshotTest {
+
+    private final DataPlaneInstanceStore store = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final DataPlaneInstanceSnapshot snapshot = new DataPlaneInstanceSnapshot(store, new NoopTransactionContext(), clock, Duration.ofSeconds(10));
+    private final DataPlaneInstance available = instance("available", AVAILABLE.code());
+    private final DataPlaneInstance unavailable = instance("unavailable", UNAVAILABLE.code());
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        when(store.getAll()).thenAnswer(i -> Stream.of(available, unavailable));
+    }
+
+    @Test
+    void shouldReturnAvailableInstances_fromStoreOnce() {
+        assertThat(snapshot.getAvailable()).containsExactly(available);
+        assertThat(snapshot.getAvailable()).containsExactly(available);
+
+        verify(store, times(1)).getAll();
+    }
+
+    @Test
+    void shouldReload_whenInvalidated() {
+        snapshot.getAvailable();
+
+        snapshot.invalidate();
+        snapshot.getAvailable();
+
+        verify(store, times(2)).getAll();
+    }
+
+    @Test
+    void shouldReload_whenExpired() {
+        snapshot.getAvailable();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+        snapshot.getAvailable();
+
+        verify(store, times(2)).getAll();
+    }
+
+    @Test
+    void shouldAlwaysReadStore_whenDeactivated() {
+        var deactivated = new DataPlaneInstanceSnapshot(store, new NoopTransactionContext(), clock, Duration.ZERO);
+
+        deactivated.getAvailable();
+        deactivated.getAvailable();
+
+        verify(store, times(2)).getAll();
+    }
+
+    private DataPlaneInstance instance(String id, int state) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any").state(state).build();
+    }
+}
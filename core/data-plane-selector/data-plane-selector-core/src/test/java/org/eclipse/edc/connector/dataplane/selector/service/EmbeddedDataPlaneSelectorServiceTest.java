@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.selector.service;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.spi.result.ServiceFailure;
@@ -26,6 +27,8 @@ import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -43,6 +46,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -111,6 +115,39 @@ public class EmbeddedDataPlaneSelectorServiceTest {
         }
     }
 
+    @Nested
+    class WithSnapshot {
+
+        private final DataPlaneSelectorService service = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry,
+                new NoopTransactionContext(), new DataPlaneInstanceSnapshot(store, new NoopTransactionContext(), Clock.systemUTC(), Duration.ofMinutes(1)));
+
+        @Test
+        void select_shouldNotReadStore_whenSnapshotIsValid() {
+            var instance = createInstanceBuilder("available").state(AVAILABLE.code())
+                    .allowedSourceType("srcTestType").allowedTransferType("transferType").build();
+            when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+            service.select(createAddress("srcTestType"), "transferType", "random");
+            var result = service.select(createAddress("srcTestType"), "transferType", "random");
+
+            assertThat(result).isSucceeded().isSameAs(instance);
+            verify(store, times(1)).getAll();
+        }
+
+        @Test
+        void select_shouldReadStore_whenInstanceAdded() {
+            when(store.getAll()).thenAnswer(i -> Stream.empty());
+            when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+            service.select(createAddress("srcTestType"), "transferType", "random");
+            service.addInstance(DataPlaneInstance.Builder.newInstance().url("http://any").build());
+            service.select(createAddress("srcTestType"), "transferType", "random");
+
+            verify(store, times(2)).getAll();
+        }
+    }
+
     @Nested
     class Delete {
 
@@ -64,7 +64,7 @@ public class DataPlaneDefaultServicesExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public PipelineService pipelineService(ServiceExtensionContext context) {
-        return new PipelineServiceImpl(context.getMonitor());
+        return new PipelineServiceImpl(context.getMonitor(), clock);
     }
 
     // todo: should this be a default service?
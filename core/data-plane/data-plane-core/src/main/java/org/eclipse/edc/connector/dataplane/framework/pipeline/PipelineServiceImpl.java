@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.framework.pipeline;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -28,6 +29,11 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -35,22 +41,31 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toSet;
 
 /**
- * Default pipeline service implementation.
+ * Default pipeline service implementation. The load reported by {@link #getLoad()} consists of the transfers in flight
+ * and of the bytes read from their sources: parts of known size are accounted with their size once emitted, the
+ * content of parts of unknown size is counted while it is read.
  */
 public class PipelineServiceImpl implements PipelineService {
     private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
     private final Map<String, DataSource> sources = new ConcurrentHashMap<>();
     private final Monitor monitor;
+    private final ThroughputMeter throughputMeter;
 
     public PipelineServiceImpl(Monitor monitor) {
+        this(monitor, Clock.systemUTC());
+    }
+
+    public PipelineServiceImpl(Monitor monitor, Clock clock) {
         this.monitor = monitor;
+        this.throughputMeter = new ThroughputMeter(clock, Duration.ofSeconds(10));
     }
 
     @Override
@@ -108,7 +123,7 @@ public class PipelineServiceImpl implements PipelineService {
         var source = sourceFactory.createSource(request);
         sources.put(request.getProcessId(), source);
         monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
-        return sink.transfer(source)
+        return sink.transfer(new MeteredDataSource(source, throughputMeter))
                 .thenApply(result -> {
                     terminate(request.getProcessId());
                     return result;
@@ -140,6 +155,11 @@ public class PipelineServiceImpl implements PipelineService {
         return sinkFactories.stream().map(DataSinkFactory::supportedType).collect(toSet());
     }
 
+    @Override
+    public DataPlaneLoad getLoad() {
+        return new DataPlaneLoad(sources.size(), throughputMeter.bytesPerSecond());
+    }
+
     private StreamResult<Void> terminate(String dataFlowId) {
         var source = sources.remove(dataFlowId);
         if (source == null) {
@@ -180,5 +200,73 @@ public class PipelineServiceImpl implements PipelineService {
         return completedFuture(StreamResult.error("Unknown data sink type: " + request.getDestinationDataAddress().getType()));
     }
 
+    private record MeteredDataSource(DataSource source, ThroughputMeter meter) implements DataSource {
+
+        @Override
+        public StreamResult<Stream<Part>> openPartStream() {
+            return source.openPartStream().map(parts -> parts.map(this::meter));
+        }
+
+        @Override
+        public void close() throws Exception {
+            source.close();
+        }
+
+        private Part meter(Part part) {
+            // parts of known size are passed as they are, as sinks might handle specific part types
+            if (part.size() != Part.SIZE_UNKNOWN) {
+                meter.record(part.size());
+                return part;
+            }
+            return new MeteredPart(part, meter);
+        }
+    }
+
+    private record MeteredPart(DataSource.Part part, ThroughputMeter meter) implements DataSource.Part {
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new FilterInputStream(part.openStream()) {
+                @Override
+                public int read() throws IOException {
+                    var read = super.read();
+                    if (read >= 0) {
+                        meter.record(1);
+                    }
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    var read = super.read(b, off, len);
+                    if (read > 0) {
+                        meter.record(read);
+                    }
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public void acknowledge() {
+            part.acknowledge();
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
 
 }
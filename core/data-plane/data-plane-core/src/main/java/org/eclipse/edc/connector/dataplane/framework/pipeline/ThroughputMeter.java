@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the throughput of the pipeline. The rate is computed over the time elapsed since it was last computed, but
+ * at least over the configured window, so that frequent queries do not make it fluctuate.
+ */
+class ThroughputMeter {
+
+    private final LongAdder bytes = new LongAdder();
+    private final Clock clock;
+    private final Duration window;
+    private volatile Sample sample;
+
+    ThroughputMeter(Clock clock, Duration window) {
+        this.clock = clock;
+        this.window = window;
+        this.sample = new Sample(clock.instant(), 0, 0);
+    }
+
+    void record(long transferred) {
+        bytes.add(transferred);
+    }
+
+    long bytesPerSecond() {
+        var now = clock.instant();
+        var previous = sample;
+        var elapsed = Duration.between(previous.at(), now);
+        if (elapsed.compareTo(window) < 0) {
+            return previous.bytesPerSecond();
+        }
+
+        var total = bytes.sum();
+        var rate = (total - previous.total()) * 1000 / Math.max(1, elapsed.toMillis());
+        sample = new Sample(now, total, rate);
+        return rate;
+    }
+
+    private record Sample(Instant at, long total, long bytesPerSecond) {
+    }
+}
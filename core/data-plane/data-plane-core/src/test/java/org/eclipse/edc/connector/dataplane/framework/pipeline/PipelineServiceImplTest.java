@@ -31,9 +31,14 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -83,7 +88,11 @@ class PipelineServiceImplTest {
             assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> {
                 assertThat(result).isSucceeded();
             });
-            verify(sink).transfer(source);
+            var transferred = ArgumentCaptor.forClass(DataSource.class);
+            verify(sink).transfer(transferred.capture());
+            when(source.openPartStream()).thenReturn(StreamResult.success(Stream.empty()));
+            assertThat(transferred.getValue().openPartStream()).isSucceeded();
+            verify(source).openPartStream();
             verify(source).close();
         }
 
@@ -159,6 +168,72 @@ class PipelineServiceImplTest {
         }
     }
 
+    @Nested
+    class Load {
+
+        private final Clock clock = mock();
+        private final Instant now = Instant.now();
+
+        @BeforeEach
+        void setUp() {
+            when(clock.instant()).thenReturn(now);
+            when(sourceFactory.supportedType()).thenReturn("source");
+            when(sourceFactory.createSource(any())).thenReturn(source);
+        }
+
+        @Test
+        void shouldReportTransfersInFlight() {
+            var service = new PipelineServiceImpl(monitor, clock);
+            service.registerFactory(sourceFactory);
+
+            service.transfer(dataFlow("source", "destination").toRequest(), s -> new CompletableFuture<>());
+
+            assertThat(service.getLoad().inFlightFlows()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldReportThroughput() {
+            var service = new PipelineServiceImpl(monitor, clock);
+            service.registerFactory(sourceFactory);
+            when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part(100, 100), part(DataSource.Part.SIZE_UNKNOWN, 50))));
+            DataSink readingSink = s -> {
+                s.openPartStream().getContent().forEach(part -> {
+                    try (var stream = part.openStream()) {
+                        stream.readAllBytes();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                return completedFuture(StreamResult.success());
+            };
+
+            service.transfer(dataFlow("source", "destination").toRequest(), readingSink);
+            when(clock.instant()).thenReturn(now.plusSeconds(10));
+
+            assertThat(service.getLoad().inFlightFlows()).isZero();
+            assertThat(service.getLoad().bytesPerSecond()).isEqualTo(15);
+        }
+
+        private DataSource.Part part(long size, int contentLength) {
+            return new DataSource.Part() {
+                @Override
+                public String name() {
+                    return "part";
+                }
+
+                @Override
+                public long size() {
+                    return size;
+                }
+
+                @Override
+                public InputStream openStream() {
+                    return new ByteArrayInputStream(new byte[contentLength]);
+                }
+            };
+        }
+    }
+
     @ParameterizedTest
     @ArgumentsSource(CanHandleArguments.class)
     void canHandle_shouldReturnTrue_whenSourceAndDestinationCanBeHandled(String source, String destination, boolean expected) {
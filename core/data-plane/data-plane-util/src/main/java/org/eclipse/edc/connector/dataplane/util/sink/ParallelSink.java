@@ -29,13 +29,17 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
- * Writes data in parallel.
+ * Writes data in parallel. The parts of every successfully transferred partition are acknowledged to the source.
+ * <p>
+ * Once a partition fails, no further part is read and the source is closed, the same way a terminated transfer is
+ * stopped, so that sources that never end, or that wait for acknowledgements, do not keep the transfer running.
  */
 public abstract class ParallelSink implements DataSink {
     protected String requestId;
@@ -49,9 +53,10 @@ public abstract class ParallelSink implements DataSink {
     public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
         return supplyAsync(() -> source.openPartStream().orElseThrow(StreamException::new), executorService)
                 .thenCompose(parts -> {
+                    var failed = new AtomicBoolean();
                     try (parts) {
-                        return PartitionIterator.streamOf(parts, partitionSize)
-                                .map(this::processPartsAsync)
+                        return PartitionIterator.streamOf(parts.takeWhile(part -> !failed.get()), partitionSize)
+                                .map(partition -> processPartsAsync(partition, source, failed))
                                 .collect(asyncAllOf())
                                 .thenApply(results -> results.stream()
                                         .filter(StreamResult::failed)
@@ -70,8 +75,23 @@ public abstract class ParallelSink implements DataSink {
     }
 
     @NotNull
-    private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
-        return supplyAsync(transfer(parts), executorService);
+    private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts, DataSource source, AtomicBoolean failed) {
+        return supplyAsync(transfer(parts), executorService)
+                .whenComplete((result, throwable) -> {
+                    if (throwable == null && result.succeeded()) {
+                        parts.forEach(DataSource.Part::acknowledge);
+                    } else if (failed.compareAndSet(false, true)) {
+                        stop(source);
+                    }
+                });
+    }
+
+    private void stop(DataSource source) {
+        try {
+            source.close();
+        } catch (Exception e) {
+            monitor.warning("Cannot close source after failed transfer - Request ID: %s".formatted(requestId), e);
+        }
     }
 
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
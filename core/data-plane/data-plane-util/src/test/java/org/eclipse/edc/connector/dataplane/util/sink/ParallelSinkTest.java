@@ -26,11 +26,14 @@ import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -114,6 +117,46 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    @Test
+    void transfer_shouldAcknowledgeParts_whenTransferred() {
+        var part = mock(DataSource.Part.class);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        var future = fakeSink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(timeout);
+        verify(part).acknowledge();
+    }
+
+    @Test
+    void transfer_shouldNotAcknowledgeParts_whenTransferFails() {
+        var part = mock(DataSource.Part.class);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        var future = fakeSink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(timeout);
+        verify(part, never()).acknowledge();
+    }
+
+    @Test
+    void transfer_shouldStopReadingAndCloseSource_whenPartitionFails() throws Exception {
+        var part = mock(DataSource.Part.class);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.generate(() -> part)));
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        var future = fakeSink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(timeout)
+                .satisfies(transferResult -> assertThat(transferResult.getFailureMessages()).containsExactly(errorMessage));
+        verify(dataSource).close();
+        verify(part, never()).acknowledge();
+    }
+
     @Test
     void shouldNotBlock_whenDataSourceIsIndefinite() {
         var infiniteStream = IntStream.iterate(0, i -> i + 1).mapToObj(i -> mock(DataSource.Part.class));
@@ -21,12 +21,14 @@ import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolVers
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.DspCatalogApiController;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.DspCatalogApiController20241;
+import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.StreamedCatalogWriter;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.Base64continuationTokenSerDes;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.ContinuationTokenManagerImpl;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.validation.CatalogRequestMessageValidator;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -37,6 +39,7 @@ import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.ApiContext;
 
 import static org.eclipse.edc.protocol.dsp.spi.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_REQUEST_MESSAGE;
+import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.protocol.dsp.spi.version.DspVersions.V_2024_1;
 
 /**
@@ -47,6 +50,11 @@ public class DspCatalogApiExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Catalog Extension";
 
+    private static final boolean DEFAULT_STREAMING_ENABLED = false;
+
+    @Setting(value = "If true the catalog datasets are written to the response one by one as they are resolved, instead of building the whole catalog in memory first", type = "boolean", defaultValue = DEFAULT_STREAMING_ENABLED + "")
+    private static final String STREAMING_ENABLED = "edc.dsp.catalog.streaming.enabled";
+
     @Inject
     private WebService webService;
     @Inject
@@ -79,8 +87,11 @@ public class DspCatalogApiExtension implements ServiceExtension {
 
         var continuationTokenSerDes = new Base64continuationTokenSerDes(typeTransformerRegistry.forContext("dsp-api"), jsonLd);
         var catalogPaginationResponseDecoratorFactory = new ContinuationTokenManagerImpl(continuationTokenSerDes, context.getMonitor());
-        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController(service, dspRequestHandler, catalogPaginationResponseDecoratorFactory));
-        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20241(service, dspRequestHandler, catalogPaginationResponseDecoratorFactory));
+        var streamedCatalogWriter = context.getSetting(STREAMING_ENABLED, DEFAULT_STREAMING_ENABLED)
+                ? new StreamedCatalogWriter(typeTransformerRegistry.forContext("dsp-api"), jsonLd, DSP_SCOPE, context.getMonitor())
+                : null;
+        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController(service, dspRequestHandler, catalogPaginationResponseDecoratorFactory, streamedCatalogWriter));
+        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20241(service, dspRequestHandler, catalogPaginationResponseDecoratorFactory, streamedCatalogWriter));
 
         dataServiceRegistry.register(DataService.Builder.newInstance()
                 .endpointDescription("dspace:connector")
@@ -30,11 +30,13 @@ import jakarta.ws.rs.core.UriInfo;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.PostDspRequest;
+import org.jetbrains.annotations.Nullable;
 
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
@@ -55,11 +57,27 @@ public class DspCatalogApiController {
     private final CatalogProtocolService service;
     private final DspRequestHandler dspRequestHandler;
     private final ContinuationTokenManager continuationTokenManager;
+    private final StreamedCatalogWriter streamedCatalogWriter;
 
     public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager) {
+        this(service, dspRequestHandler, continuationTokenManager, null);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param service                  the catalog protocol service.
+     * @param dspRequestHandler        the DSP request handler.
+     * @param continuationTokenManager the continuation token manager.
+     * @param streamedCatalogWriter    writes the catalog datasets one by one to the response, null to build the whole
+     *                                 catalog before responding.
+     */
+    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager,
+                                   @Nullable StreamedCatalogWriter streamedCatalogWriter) {
         this.service = service;
         this.dspRequestHandler = dspRequestHandler;
         this.continuationTokenManager = continuationTokenManager;
+        this.streamedCatalogWriter = streamedCatalogWriter;
     }
 
     @POST
@@ -74,6 +92,20 @@ public class DspCatalogApiController {
                     .orElseThrow(f -> new BadRequestException(f.getFailureDetail()));
         }
 
+        var requestUrl = uriInfo.getAbsolutePath().toString();
+        if (streamedCatalogWriter != null) {
+            var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, StreamedCatalog.class)
+                    .token(token)
+                    .expectedMessageType(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE)
+                    .message(messageJson)
+                    .serviceCall(service::getStreamedCatalog)
+                    .errorType(DSPACE_TYPE_CATALOG_ERROR)
+                    .build();
+
+            var responseDecorator = continuationTokenManager.createStreamedResponseDecorator(requestUrl);
+            return dspRequestHandler.createResource(request, responseDecorator, streamedCatalogWriter::write);
+        }
+
         var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, Catalog.class)
                 .token(token)
                 .expectedMessageType(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE)
@@ -82,7 +114,7 @@ public class DspCatalogApiController {
                 .errorType(DSPACE_TYPE_CATALOG_ERROR)
                 .build();
 
-        var responseDecorator = continuationTokenManager.createResponseDecorator(uriInfo.getAbsolutePath().toString());
+        var responseDecorator = continuationTokenManager.createResponseDecorator(requestUrl);
         return dspRequestHandler.createResource(request, responseDecorator);
     }
 
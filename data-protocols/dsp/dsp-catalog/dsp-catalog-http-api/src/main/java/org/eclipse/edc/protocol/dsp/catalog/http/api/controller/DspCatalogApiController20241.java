@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtoc
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.version.DspVersions;
+import org.jetbrains.annotations.Nullable;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths.BASE_PATH;
@@ -37,4 +38,9 @@ public class DspCatalogApiController20241 extends DspCatalogApiController {
                                         ContinuationTokenManager responseDecorator) {
         super(service, dspRequestHandler, responseDecorator);
     }
+
+    public DspCatalogApiController20241(CatalogProtocolService service, DspRequestHandler dspRequestHandler,
+                                        ContinuationTokenManager responseDecorator, @Nullable StreamedCatalogWriter streamedCatalogWriter) {
+        super(service, dspRequestHandler, responseDecorator, streamedCatalogWriter);
+    }
 }
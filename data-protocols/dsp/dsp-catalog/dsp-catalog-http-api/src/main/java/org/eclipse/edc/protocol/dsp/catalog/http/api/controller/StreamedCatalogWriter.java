@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.util.ArrayList;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Writes a {@link StreamedCatalog} to the response body as compacted JSON-LD. The catalog is written first with the
+ * JSON-LD context, then every dataset is written on its own, so that neither the JSON-LD tree of the whole catalog nor
+ * its serialized form are ever held in memory.
+ * <p>
+ * The catalog and its datasets are transformed and compacted before the response is sent, so a failure is returned as
+ * an error response instead of interrupting a response whose status has already been sent.
+ */
+public class StreamedCatalogWriter {
+
+    private final TypeTransformerRegistry transformerRegistry;
+    private final JsonLd jsonLd;
+    private final String scope;
+    private final Monitor monitor;
+
+    public StreamedCatalogWriter(TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String scope, Monitor monitor) {
+        this.transformerRegistry = transformerRegistry;
+        this.jsonLd = jsonLd;
+        this.scope = scope;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Provides the output that writes the catalog.
+     *
+     * @param catalog the catalog.
+     * @return the streaming output, failure if the catalog or one of its datasets cannot be transformed.
+     */
+    public Result<StreamingOutput> write(StreamedCatalog catalog) {
+        var expandedCatalog = transform(catalog.getCatalog());
+        if (expandedCatalog.failed()) {
+            return expandedCatalog.mapFailure();
+        }
+        var compactedCatalog = compact(createObjectBuilder(expandedCatalog.getContent()).remove(DCAT_DATASET_ATTRIBUTE).build());
+        if (compactedCatalog.failed()) {
+            return compactedCatalog.mapFailure();
+        }
+        var datasetKey = datasetKey();
+        if (datasetKey.failed()) {
+            return datasetKey.mapFailure();
+        }
+
+        var datasets = new ArrayList<JsonObject>(catalog.getCatalog().getDatasets().size());
+        for (var dataset : catalog.getCatalog().getDatasets()) {
+            var compactedDataset = transform(dataset).compose(this::compact);
+            if (compactedDataset.failed()) {
+                return compactedDataset.mapFailure();
+            }
+            datasets.add(createObjectBuilder(compactedDataset.getContent()).remove(CONTEXT).build());
+        }
+
+        return Result.success(output -> {
+            var generator = Json.createGenerator(output);
+            generator.writeStartObject();
+            compactedCatalog.getContent().forEach(generator::write);
+            generator.writeStartArray(datasetKey.getContent());
+            datasets.forEach(generator::write);
+            generator.writeEnd();
+            generator.writeEnd();
+            generator.flush();
+        });
+    }
+
+    /**
+     * The compacted form of the dataset property, that depends on the namespaces registered for the scope.
+     */
+    private Result<String> datasetKey() {
+        var probe = createObjectBuilder()
+                .add(DCAT_DATASET_ATTRIBUTE, createArrayBuilder().add(createObjectBuilder().add(ID, "dataset")))
+                .build();
+        return compact(probe).map(compacted -> compacted.keySet().stream()
+                .filter(key -> !CONTEXT.equals(key))
+                .findFirst()
+                .orElse(DCAT_DATASET_ATTRIBUTE));
+    }
+
+    private Result<JsonObject> transform(Object object) {
+        var result = transformerRegistry.transform(object, JsonObject.class);
+        if (result.failed()) {
+            monitor.warning("Error transforming %s while streaming catalog: %s".formatted(object.getClass().getSimpleName(), result.getFailureDetail()));
+        }
+        return result;
+    }
+
+    private Result<JsonObject> compact(JsonObject jsonObject) {
+        return jsonLd.compact(jsonObject, scope);
+    }
+}
@@ -43,7 +43,19 @@ public class CatalogPaginationResponseDecorator implements ResponseDecorator<Cat
     @Override
     public Response.ResponseBuilder decorate(Response.ResponseBuilder responseBuilder, CatalogRequestMessage requestBody, Catalog responseBody) {
         var currentQuerySpec = requestBody.getQuerySpec();
-        if (responseBody.getDatasets().size() == currentQuerySpec.getLimit()) {
+        return decorate(responseBuilder, currentQuerySpec, responseBody.getDatasets().size() == currentQuerySpec.getLimit());
+    }
+
+    /**
+     * Add the pagination links to the response.
+     *
+     * @param responseBuilder  the response builder.
+     * @param currentQuerySpec the query of the current page.
+     * @param hasNextPage      whether more datasets follow the current page.
+     * @return the decorated response builder.
+     */
+    public Response.ResponseBuilder decorate(Response.ResponseBuilder responseBuilder, QuerySpec currentQuerySpec, boolean hasNextPage) {
+        if (hasNextPage) {
             addLink(NEXT, responseBuilder, currentQuerySpec, (offset, limit) -> offset + limit);
         }
 
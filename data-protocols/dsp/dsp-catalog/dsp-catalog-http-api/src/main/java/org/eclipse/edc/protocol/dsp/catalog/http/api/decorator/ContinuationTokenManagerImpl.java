@@ -19,6 +19,7 @@ import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseDecorator;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -41,6 +42,13 @@ public class ContinuationTokenManagerImpl implements ContinuationTokenManager {
         return new CatalogPaginationResponseDecorator(requestUrl, continuationTokenSerDes, monitor);
     }
 
+    @Override
+    public ResponseDecorator<CatalogRequestMessage, StreamedCatalog> createStreamedResponseDecorator(String requestUrl) {
+        var decorator = new CatalogPaginationResponseDecorator(requestUrl, continuationTokenSerDes, monitor);
+        return (responseBuilder, requestBody, responseBody) ->
+                decorator.decorate(responseBuilder, responseBody.getPage(), responseBody.hasNextPage());
+    }
+
     @Override
     public Result<JsonObject> applyQueryFromToken(JsonObject requestMessage, String continuationToken) {
         return continuationTokenSerDes.deserialize(continuationToken)
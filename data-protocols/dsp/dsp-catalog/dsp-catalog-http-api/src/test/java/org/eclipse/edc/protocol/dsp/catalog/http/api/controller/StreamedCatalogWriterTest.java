@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamedCatalogWriterTest {
+
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final JsonLd jsonLd = mock();
+    private final StreamedCatalogWriter writer = new StreamedCatalogWriter(transformerRegistry, jsonLd, "scope", mock());
+
+    @BeforeEach
+    void setUp() {
+        when(jsonLd.compact(any(), eq("scope"))).thenAnswer(i -> Result.success(createObjectBuilder(i.getArgument(0, JsonObject.class))
+                .add(CONTEXT, createObjectBuilder().add("dcat", "http://www.w3.org/ns/dcat#"))
+                .build()));
+        when(transformerRegistry.transform(isA(Catalog.class), eq(JsonObject.class))).thenReturn(Result.success(createObjectBuilder()
+                .add(ID, "catalogId")
+                .add(DCAT_DATASET_ATTRIBUTE, createArrayBuilder())
+                .build()));
+        when(transformerRegistry.transform(isA(Dataset.class), eq(JsonObject.class)))
+                .thenAnswer(i -> Result.success(createObjectBuilder().add(ID, i.getArgument(0, Dataset.class).getId()).build()));
+    }
+
+    @Test
+    void shouldWriteCatalogWithContextOnceAndEveryDataset() throws Exception {
+        var catalog = Catalog.Builder.newInstance().id("catalogId").datasets(List.of(dataset("1"), dataset("2"))).build();
+        var streamed = new StreamedCatalog(catalog, QuerySpec.max(), false);
+        var output = new ByteArrayOutputStream();
+
+        var result = writer.write(streamed);
+
+        assertThat(result).isSucceeded();
+        result.getContent().write(output);
+        var json = Json.createReader(new StringReader(output.toString(StandardCharsets.UTF_8))).readObject();
+        assertThat(json.getString(ID)).isEqualTo("catalogId");
+        assertThat(json.getJsonObject(CONTEXT)).isNotNull();
+        assertThat(json.getJsonArray(DCAT_DATASET_ATTRIBUTE)).hasSize(2)
+                .allSatisfy(dataset -> assertThat(dataset.asJsonObject()).doesNotContainKey(CONTEXT))
+                .extracting(dataset -> dataset.asJsonObject().getString(ID))
+                .containsExactly("1", "2");
+        assertThat(json).containsOnlyKeys(ID, CONTEXT, DCAT_DATASET_ATTRIBUTE);
+    }
+
+    @Test
+    void shouldFail_whenCatalogCannotBeTransformed() {
+        when(transformerRegistry.transform(isA(Catalog.class), eq(JsonObject.class))).thenReturn(Result.failure("error"));
+        var streamed = new StreamedCatalog(Catalog.Builder.newInstance().build(), QuerySpec.max(), false);
+
+        var result = writer.write(streamed);
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void shouldFailBeforeWriting_whenDatasetCannotBeTransformed() {
+        when(transformerRegistry.transform(isA(Dataset.class), eq(JsonObject.class))).thenReturn(Result.failure("error"));
+        var catalog = Catalog.Builder.newInstance().id("catalogId").datasets(List.of(dataset("1"), dataset("2"))).build();
+        var streamed = new StreamedCatalog(catalog, QuerySpec.max(), true);
+
+        var result = writer.write(streamed);
+
+        assertThat(result).isFailed();
+        verify(transformerRegistry, times(1)).transform(isA(Dataset.class), any());
+    }
+
+    private Dataset dataset(String id) {
+        return Dataset.Builder.newInstance().id(id).build();
+    }
+}
@@ -15,6 +15,11 @@
 package org.eclipse.edc.protocol.dsp.catalog.http.api.decorator;
 
 import jakarta.json.Json;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +28,7 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.protocol.dsp.spi.type.DspCatalogPropertyAndTypeNames.DSPACE_PROPERTY_FILTER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ContinuationTokenManagerImplTest {
@@ -50,4 +56,31 @@ class ContinuationTokenManagerImplTest {
 
         assertThat(result).isFailed();
     }
+
+    @Test
+    void streamedResponseDecorator_shouldAddNextLink_whenPageHasNext() {
+        when(serDes.serialize(any())).thenReturn(Result.success("token"));
+        var requested = QuerySpec.Builder.newInstance().offset(0).limit(50).build();
+        var page = QuerySpec.Builder.newInstance().offset(0).limit(10).build();
+        var message = CatalogRequestMessage.Builder.newInstance().querySpec(requested).build();
+        var streamed = new StreamedCatalog(Catalog.Builder.newInstance().build(), page, true);
+
+        var response = continuationTokenManager.createStreamedResponseDecorator("http://request.url/path")
+                .decorate(Response.ok(), message, streamed).build();
+
+        assertThat(response.getLink("next").getUri()).hasToString("http://request.url/path?continuationToken=token");
+        verify(serDes).serialize(page.toBuilder().offset(10).build());
+    }
+
+    @Test
+    void streamedResponseDecorator_shouldNotAddNextLink_whenPageHasNoNext() {
+        var page = QuerySpec.Builder.newInstance().offset(0).limit(10).build();
+        var message = CatalogRequestMessage.Builder.newInstance().querySpec(page).build();
+        var streamed = new StreamedCatalog(Catalog.Builder.newInstance().build(), page, false);
+
+        var response = continuationTokenManager.createStreamedResponseDecorator("http://request.url/path")
+                .decorate(Response.ok(), message, streamed).build();
+
+        assertThat(response.hasLink("next")).isFalse();
+    }
 }
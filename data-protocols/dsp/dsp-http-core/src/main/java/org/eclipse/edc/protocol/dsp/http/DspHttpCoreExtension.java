@@ -33,6 +33,7 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
 import org.eclipse.edc.protocol.dsp.http.dispatcher.DspHttpRemoteMessageDispatcherImpl;
+import org.eclipse.edc.protocol.dsp.http.dispatcher.DspTokenCache;
 import org.eclipse.edc.protocol.dsp.http.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.http.serialization.JsonLdRemoteMessageSerializerImpl;
 import org.eclipse.edc.protocol.dsp.http.spi.dispatcher.DspHttpRemoteMessageDispatcher;
@@ -41,10 +42,12 @@ import org.eclipse.edc.protocol.dsp.http.spi.serialization.JsonLdRemoteMessageSe
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -52,6 +55,11 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 
@@ -65,6 +73,17 @@ public class DspHttpCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Core Extension";
 
+    private static final boolean DEFAULT_TOKEN_CACHE_ENABLED = false;
+    @Setting(value = "Whether the tokens obtained for outgoing protocol messages should be cached and reused.", defaultValue = DEFAULT_TOKEN_CACHE_ENABLED + "", type = "boolean")
+    private static final String TOKEN_CACHE_ENABLED = "edc.dsp.token.cache.enabled";
+    private static final long DEFAULT_TOKEN_CACHE_VALIDITY_SECONDS = 60;
+    @Setting(value = "Validity in seconds assumed for cached tokens that do not state when they expire.", defaultValue = DEFAULT_TOKEN_CACHE_VALIDITY_SECONDS + "", type = "long")
+    private static final String TOKEN_CACHE_VALIDITY = "edc.dsp.token.cache.validity";
+    private static final long DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_SECONDS = 10;
+    @Setting(value = "How many seconds before the expiry a cached token stops being used. A new token is requested in the background twice as long before the expiry.",
+            defaultValue = DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_SECONDS + "", type = "long")
+    private static final String TOKEN_CACHE_EXPIRY_MARGIN = "edc.dsp.token.cache.expiry.margin";
+
     /**
      * Policy scope evaluated when a contract negotiation request is made.
      */
@@ -108,11 +127,26 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService tokenRefreshExecutor;
+
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void shutdown() {
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public DspHttpRemoteMessageDispatcher dspHttpRemoteMessageDispatcher(ServiceExtensionContext context) {
         TokenDecorator td; // either a decorator, or noop
@@ -123,7 +157,16 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        DspTokenCache tokenCache = null;
+        if (context.getSetting(TOKEN_CACHE_ENABLED, DEFAULT_TOKEN_CACHE_ENABLED)) {
+            tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "dsp-token-refresh");
+            tokenCache = new DspTokenCache(identityService::obtainClientCredentials, clock,
+                    Duration.ofSeconds(context.getSetting(TOKEN_CACHE_VALIDITY, DEFAULT_TOKEN_CACHE_VALIDITY_SECONDS)),
+                    Duration.ofSeconds(context.getSetting(TOKEN_CACHE_EXPIRY_MARGIN, DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_SECONDS)),
+                    tokenRefreshExecutor);
+        }
+
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver, tokenCache);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
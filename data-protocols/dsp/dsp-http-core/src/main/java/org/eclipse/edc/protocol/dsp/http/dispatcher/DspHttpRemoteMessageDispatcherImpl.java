@@ -31,10 +31,13 @@ import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.RequestContext;
 import org.eclipse.edc.spi.iam.RequestScope;
 import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.eclipse.edc.token.spi.TokenDecorator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -64,6 +67,7 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
     private final PolicyEngine policyEngine;
     private final TokenDecorator tokenDecorator;
     private final AudienceResolver audienceResolver;
+    private final DspTokenCache tokenCache;
 
 
     public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
@@ -71,11 +75,26 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                                               TokenDecorator decorator,
                                               PolicyEngine policyEngine,
                                               AudienceResolver audienceResolver) {
+        this(httpClient, identityService, decorator, policyEngine, audienceResolver, null);
+    }
+
+    /**
+     * Constructs a dispatcher that obtains the tokens through a {@link DspTokenCache}.
+     *
+     * @param tokenCache the token cache, null to obtain a new token for every message.
+     */
+    public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
+                                              IdentityService identityService,
+                                              TokenDecorator decorator,
+                                              PolicyEngine policyEngine,
+                                              AudienceResolver audienceResolver,
+                                              @Nullable DspTokenCache tokenCache) {
         this.httpClient = httpClient;
         this.identityService = identityService;
         this.policyEngine = policyEngine;
         this.tokenDecorator = decorator;
         this.audienceResolver = audienceResolver;
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -125,7 +144,7 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
 
         return audienceResolver.resolve(message)
                 .map(audience -> tokenDecorator.decorate(tokenParametersBuilder).claims(AUDIENCE_CLAIM, audience).build()) // enforce the audience, ignore anything a decorator might have set
-                .compose(identityService::obtainClientCredentials)
+                .compose(this::obtainClientCredentials)
                 .map(token -> {
                     var requestWithAuth = request.newBuilder()
                             .header("Authorization", token.getToken())
@@ -148,6 +167,10 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
         policyScopes.put(messageClass, new PolicyScope<>(messageClass, scope, policyProvider));
     }
 
+    private Result<TokenRepresentation> obtainClientCredentials(TokenParameters tokenParameters) {
+        return tokenCache != null ? tokenCache.obtainClientCredentials(tokenParameters) : identityService.obtainClientCredentials(tokenParameters);
+    }
+
     @NotNull
     private <T> StatusResult<T> handleResponse(Response response, Class<T> responseType, DspHttpResponseBodyExtractor<T> bodyExtractor) {
         try (var responseBody = response.body()) {
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the tokens obtained for outgoing protocol messages, keyed by the requested claims and headers. The scope
+ * claim is compared as a set, so the order in which scopes are collected does not matter.
+ * <p>
+ * A cached token is reused until shortly before it expires. When it approaches the expiry it is still returned, while a
+ * new token is requested in the background. Concurrent requests for the same key that cannot be served by the cache
+ * are coalesced into a single call to the token provider.
+ */
+public class DspTokenCache {
+
+    private static final String SCOPE_CLAIM = "scope";
+
+    private final Map<CacheKey, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<CacheKey, CompletableFuture<Result<TokenRepresentation>>> inFlight = new ConcurrentHashMap<>();
+    private final Function<TokenParameters, Result<TokenRepresentation>> tokenProvider;
+    private final Clock clock;
+    private final Duration defaultValidity;
+    private final Duration expiryMargin;
+    private final Executor refreshExecutor;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param tokenProvider   obtains new tokens.
+     * @param clock           the clock.
+     * @param defaultValidity the validity assumed for tokens that do not state when they expire.
+     * @param expiryMargin    how long before the expiry a token stops being used, and a background refresh starts twice as
+     *                        long before the expiry. Never more than a quarter of the validity of the token.
+     * @param refreshExecutor the executor on which the background refreshes are run.
+     */
+    public DspTokenCache(Function<TokenParameters, Result<TokenRepresentation>> tokenProvider, Clock clock,
+                         Duration defaultValidity, Duration expiryMargin, Executor refreshExecutor) {
+        this.tokenProvider = tokenProvider;
+        this.clock = clock;
+        this.defaultValidity = defaultValidity;
+        this.expiryMargin = expiryMargin;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Returns a token for the parameters, obtaining a new one only when no valid token is cached.
+     *
+     * @param parameters the token parameters.
+     * @return the token, or a failure if a new one could not be obtained.
+     */
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        var key = CacheKey.of(parameters);
+        var cached = tokens.get(key);
+        var now = clock.instant();
+
+        if (cached != null && now.isBefore(cached.usableUntil())) {
+            if (!now.isBefore(cached.refreshAt())) {
+                request(key, parameters, refreshExecutor);
+            }
+            return Result.success(cached.token());
+        }
+
+        return request(key, parameters, Runnable::run).join();
+    }
+
+    private CompletableFuture<Result<TokenRepresentation>> request(CacheKey key, TokenParameters parameters, Executor executor) {
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    var result = tokenProvider.apply(parameters);
+                    if (result.succeeded()) {
+                        store(key, result.getContent());
+                    }
+                    future.complete(result);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void store(CacheKey key, TokenRepresentation token) {
+        var now = clock.instant();
+        var validity = token.getExpiresIn() != null ? Duration.ofSeconds(token.getExpiresIn()) : defaultValidity;
+        var margin = expiryMargin.compareTo(validity.dividedBy(4)) > 0 ? validity.dividedBy(4) : expiryMargin;
+        var expiresAt = now.plus(validity);
+
+        tokens.values().removeIf(cachedToken -> !now.isBefore(cachedToken.usableUntil()));
+        tokens.put(key, new CachedToken(token, expiresAt.minus(margin), expiresAt.minus(margin.multipliedBy(2))));
+    }
+
+    private record CachedToken(TokenRepresentation token, Instant usableUntil, Instant refreshAt) {
+    }
+
+    private record CacheKey(Map<String, Object> claims, Map<String, Object> headers) {
+
+        static CacheKey of(TokenParameters parameters) {
+            var claims = new HashMap<>(parameters.getClaims());
+            if (claims.get(SCOPE_CLAIM) instanceof String scope) {
+                claims.put(SCOPE_CLAIM, scopes(scope));
+            }
+            return new CacheKey(claims, new HashMap<>(parameters.getHeaders()));
+        }
+
+        private static Set<String> scopes(String scope) {
+            return Arrays.stream(scope.split(" ")).filter(s -> !s.isBlank()).collect(Collectors.toSet());
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.edc.protocol.dsp.http.message;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.PostDspRequest;
@@ -30,6 +31,7 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.eclipse.edc.protocol.dsp.http.spi.error.DspErrorResponse.type;
 import static org.eclipse.edc.protocol.dsp.http.spi.types.HttpMessageProtocol.DATASPACE_PROTOCOL_HTTP;
@@ -76,6 +78,15 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
     @Override
     public <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator) {
+        return createResource(request, responseDecorator, resource -> transformerRegistry.transform(resource, JsonObject.class));
+    }
+
+    @Override
+    public <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator, Function<R, Result<StreamingOutput>> writer) {
+        return createResource(request, responseDecorator, writer::apply);
+    }
+
+    private <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator, Function<R, Result<?>> entityProvider) {
         monitor.debug(() -> "DSP: Incoming %s for %s process%s".formatted(
                 request.getInputClass().getSimpleName(),
                 request.getResultClass(),
@@ -116,7 +127,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
-        var outputTransformation = transformerRegistry.transform(resource, JsonObject.class);
+        var outputTransformation = entityProvider.apply(resource);
         if (outputTransformation.failed()) {
             var errorCode = UUID.randomUUID();
             monitor.warning("Error transforming %s, error id %s: %s".formatted(request.getResultClass().getSimpleName(), errorCode, outputTransformation.getFailureDetail()));
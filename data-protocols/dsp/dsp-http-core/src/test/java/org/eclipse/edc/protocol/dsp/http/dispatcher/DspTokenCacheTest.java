@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DspTokenCacheTest {
+
+    private final Function<TokenParameters, Result<TokenRepresentation>> tokenProvider = mock();
+    private final Clock clock = mock();
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private final Instant now = Instant.now();
+    private final DspTokenCache cache = new DspTokenCache(tokenProvider, clock, Duration.ofSeconds(60), Duration.ofSeconds(10), backgroundTasks::add);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        var counter = new AtomicInteger();
+        when(tokenProvider.apply(any())).thenAnswer(i -> Result.success(token("token-" + counter.incrementAndGet(), null)));
+    }
+
+    @Test
+    void shouldReuseToken_whenParametersAreEqual() {
+        var first = cache.obtainClientCredentials(parameters("audience", "scope:a:read scope:b:read"));
+        var second = cache.obtainClientCredentials(parameters("audience", "scope:b:read scope:a:read"));
+
+        assertThat(first).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token-1");
+        assertThat(second).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token-1");
+        verify(tokenProvider, times(1)).apply(any());
+    }
+
+    @Test
+    void shouldObtainNewToken_whenParametersDiffer() {
+        cache.obtainClientCredentials(parameters("audience", "scope:a:read"));
+
+        assertThat(cache.obtainClientCredentials(parameters("another-audience", "scope:a:read")))
+                .isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token-2");
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope:b:read")))
+                .isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token-3");
+    }
+
+    @Test
+    void shouldRefreshInBackground_whenTokenApproachesExpiry() {
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        when(clock.instant()).thenReturn(now.plusSeconds(45));
+
+        var result = cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(result).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token-1");
+        assertThat(backgroundTasks).hasSize(1);
+
+        backgroundTasks.get(0).run();
+
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope")))
+                .isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token-2");
+    }
+
+    @Test
+    void shouldObtainNewToken_whenTokenIsAboutToExpire() {
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        when(clock.instant()).thenReturn(now.plusSeconds(50));
+
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope")))
+                .isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token-2");
+        assertThat(backgroundTasks).isEmpty();
+    }
+
+    @Test
+    void shouldUseTokenExpiration_whenStated() {
+        when(tokenProvider.apply(any())).thenReturn(Result.success(token("token", 3600L)));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        when(clock.instant()).thenReturn(now.plusSeconds(3000));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(tokenProvider, times(1)).apply(any());
+        assertThat(backgroundTasks).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        when(tokenProvider.apply(any())).thenReturn(Result.failure("error"), Result.success(token("token", null)));
+
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isFailed();
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isSucceeded();
+        verify(tokenProvider, times(2)).apply(any());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentRequests() throws Exception {
+        var release = new CountDownLatch(1);
+        when(tokenProvider.apply(any())).thenAnswer(i -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Result.success(token("token", null));
+        });
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<Result<TokenRepresentation>>>();
+            for (var i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> cache.obtainClientCredentials(parameters("audience", "scope"))));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (var future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSucceeded();
+            }
+            verify(tokenProvider, times(1)).apply(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TokenParameters parameters(String audience, String scope) {
+        return TokenParameters.Builder.newInstance().claims("aud", audience).claims("scope", scope).build();
+    }
+
+    private TokenRepresentation token(String token, Long expiresIn) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+    }
+}
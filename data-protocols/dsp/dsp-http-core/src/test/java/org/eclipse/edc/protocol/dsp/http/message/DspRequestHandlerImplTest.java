@@ -16,6 +16,7 @@ package org.eclipse.edc.protocol.dsp.http.message;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.PostDspRequest;
@@ -43,6 +44,7 @@ import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -267,6 +269,47 @@ class DspRequestHandlerImplTest {
             assertThat(result.getHeaderString("test")).isEqualTo("test");
         }
 
+        @Test
+        void shouldUseWriterAsEntity_whenWriterSpecified() {
+            var message = mock(TestProcessRemoteMessage.class);
+            var content = new Object();
+            StreamingOutput output = outputStream -> { };
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = PostDspRequest.Builder.newInstance(TestProcessRemoteMessage.class, Object.class)
+                    .token("token")
+                    .expectedMessageType("expected-message-type")
+                    .message(Json.createObjectBuilder().build())
+                    .serviceCall((m, t) -> ServiceResult.success(content))
+                    .errorType("errorType")
+                    .build();
+
+            var result = handler.createResource(request, (r, i, o) -> r, resource -> resource == content ? Result.success(output) : null);
+
+            assertThat(result.getStatus()).isEqualTo(200);
+            assertThat(result.getEntity()).isSameAs(output);
+            verify(transformerRegistry, never()).transform(any(), eq(JsonObject.class));
+        }
+
+        @Test
+        void shouldReturnInternalServerError_whenWriterFails() {
+            var message = mock(TestProcessRemoteMessage.class);
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = PostDspRequest.Builder.newInstance(TestProcessRemoteMessage.class, Object.class)
+                    .token("token")
+                    .expectedMessageType("expected-message-type")
+                    .message(Json.createObjectBuilder().build())
+                    .serviceCall((m, t) -> ServiceResult.success(new Object()))
+                    .errorType("errorType")
+                    .build();
+
+            var result = handler.createResource(request, (r, i, o) -> r, resource -> Result.failure("error"));
+
+            assertThat(result.getStatus()).isEqualTo(500);
+            assertThat(result.getEntity()).isNotInstanceOf(StreamingOutput.class);
+        }
+
         private PostDspRequest.Builder<TestProcessRemoteMessage, Object> postDspRequestBuilder() {
             return PostDspRequest.Builder
                     .newInstance(TestProcessRemoteMessage.class, Object.class)
@@ -17,6 +17,7 @@ package org.eclipse.edc.protocol.dsp.http.spi.message;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.spi.result.Result;
 
 /**
@@ -40,4 +41,14 @@ public interface ContinuationTokenManager {
      * @return the {@link ResponseDecorator} for the url.
      */
     ResponseDecorator<CatalogRequestMessage, Catalog> createResponseDecorator(String requestUrl);
+
+    /**
+     * Create response decorator for specified request url, for catalogs whose datasets are streamed. The pagination
+     * links are computed from the page actually resolved by the {@link StreamedCatalog}, that can be smaller than the
+     * requested one.
+     *
+     * @param requestUrl the request url.
+     * @return the {@link ResponseDecorator} for the url.
+     */
+    ResponseDecorator<CatalogRequestMessage, StreamedCatalog> createStreamedResponseDecorator(String requestUrl);
 }
@@ -15,8 +15,12 @@
 package org.eclipse.edc.protocol.dsp.http.spi.message;
 
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 
+import java.util.function.Function;
+
 /**
  * Handles incoming DSP requests
  */
@@ -55,6 +59,20 @@ public interface DspRequestHandler {
      */
     <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator);
 
+    /**
+     * Verify identity, validate incoming message, transform, call the service to create the resource, create the
+     * response, decorate it and return it with an entity that writes the resource directly to the response body. The
+     * writer prepares the output before the response is sent, a failure is returned as an error response.
+     *
+     * @param request           the request.
+     * @param responseDecorator the response decorator.
+     * @param writer            provides the output that writes the resource to the response body.
+     * @return the response to be returned to the client.
+     * @param <I> the input type.
+     * @param <R> the result type.
+     */
+    <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator, Function<R, Result<StreamingOutput>> writer);
+
     /**
      * Verify identity, validate incoming message, transform and call the service.
      *
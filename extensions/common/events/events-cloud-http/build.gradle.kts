@@ -26,6 +26,7 @@ dependencies {
 
     testImplementation(testFixtures(project(":core:common:junit")))
     testImplementation(project(":core:common:connector-core"))
+    testImplementation(project(":core:common:lib:json-lib"))
 
     testImplementation(libs.mockserver.netty)
     testImplementation(libs.awaitility)
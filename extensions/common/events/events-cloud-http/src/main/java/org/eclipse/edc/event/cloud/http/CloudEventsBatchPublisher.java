@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.cloud.http;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.http.spi.FallbackFactories;
+import org.eclipse.edc.http.spi.FallbackFactory;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.Hostname;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+/**
+ * Publishes the events in batches, using the structured batch mode of the CloudEvents HTTP binding. Events are buffered
+ * until the batch is full or the maximum delay has elapsed since the last flush, then sent with a single request.
+ * Requests are sent asynchronously through the shared {@link EdcHttpClient}, which reuses its pooled connections, and
+ * are optionally retried according to its retry policy.
+ */
+class CloudEventsBatchPublisher implements EventSubscriber {
+    static final String CLOUDEVENTS_BATCH = "application/cloudevents-batch+json";
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String SPEC_VERSION = "1.0";
+
+    private final String endpoint;
+    private final Monitor monitor;
+    private final TypeManager typeManager;
+    private final EdcHttpClient httpClient;
+    private final Clock clock;
+    private final Hostname hostname;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final boolean retry;
+    private final Object lock = new Object();
+
+    private List<Map<String, Object>> buffer = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    CloudEventsBatchPublisher(String endpoint, Monitor monitor, TypeManager typeManager, EdcHttpClient httpClient, Clock clock,
+                              Hostname hostname, int batchSize, Duration maxDelay, boolean retry) {
+        this.endpoint = endpoint;
+        this.monitor = monitor;
+        this.typeManager = typeManager;
+        this.httpClient = httpClient;
+        this.clock = clock;
+        this.hostname = hostname;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.retry = retry;
+    }
+
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("cloudevents-batch-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var delay = maxDelay.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        List<Map<String, Object>> batch = null;
+        synchronized (lock) {
+            buffer.add(toCloudEvent(event));
+            if (buffer.size() >= batchSize) {
+                batch = buffer;
+                buffer = new ArrayList<>();
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Sends the buffered events, if any.
+     */
+    void flush() {
+        List<Map<String, Object>> batch;
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = buffer;
+            buffer = new ArrayList<>();
+        }
+        send(batch);
+    }
+
+    private void send(List<Map<String, Object>> batch) {
+        var request = new Request.Builder()
+                .url(endpoint)
+                .post(RequestBody.create(typeManager.writeValueAsBytes(batch), MediaType.get(CLOUDEVENTS_BATCH)))
+                .build();
+        var fallbacks = retry ? List.of(FallbackFactories.retryWhenStatusNot2xxOr4xx()) : List.<FallbackFactory>of();
+
+        httpClient.executeAsync(request, fallbacks).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                monitor.severe(format("Error sending batch of %d cloud events to endpoint %s", batch.size(), endpoint), throwable);
+                return;
+            }
+            try (response) {
+                if (!response.isSuccessful()) {
+                    monitor.severe(format("Error sending batch of %d cloud events to endpoint %s, response status: %d", batch.size(), endpoint, response.code()));
+                }
+            }
+        });
+    }
+
+    private Map<String, Object> toCloudEvent(EventEnvelope<?> event) {
+        var instant = Instant.ofEpochMilli(event.getAt());
+        var localDateTime = LocalDateTime.ofInstant(instant, clock.getZone());
+
+        var cloudEvent = new LinkedHashMap<String, Object>();
+        cloudEvent.put("specversion", SPEC_VERSION);
+        cloudEvent.put("id", event.getId());
+        cloudEvent.put("source", hostname.get());
+        cloudEvent.put("type", event.getPayload().getClass().getName());
+        cloudEvent.put("time", localDateTime.atOffset(UTC).format(ISO_OFFSET_DATE_TIME));
+        cloudEvent.put("datacontenttype", APPLICATION_JSON);
+        cloudEvent.put("data", event.getPayload());
+        return cloudEvent;
+    }
+}
@@ -26,12 +26,25 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
 import java.time.Clock;
+import java.time.Duration;
 
 @Extension(value = "Cloud events HTTP")
 public class CloudEventsHttpExtension implements ServiceExtension {
 
     @Setting(required = true)
     static final String EDC_EVENTS_CLOUDEVENTS_ENDPOINT = "edc.events.cloudevents.endpoint";
+    private static final boolean DEFAULT_BATCH_ENABLED = false;
+    @Setting(value = "If true the events are sent in batches, using the CloudEvents structured batch mode", type = "boolean", defaultValue = DEFAULT_BATCH_ENABLED + "")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED = "edc.events.cloudevents.batch.enabled";
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    @Setting(value = "The maximum number of events sent in a single batch", type = "int", defaultValue = DEFAULT_BATCH_SIZE + "")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE = "edc.events.cloudevents.batch.size";
+    private static final long DEFAULT_BATCH_DELAY = 1000;
+    @Setting(value = "The maximum time an event is buffered before its batch is sent, in milliseconds", type = "long", defaultValue = DEFAULT_BATCH_DELAY + "")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_DELAY = "edc.events.cloudevents.batch.delay";
+    private static final boolean DEFAULT_BATCH_RETRY = false;
+    @Setting(value = "If true a batch that could not be delivered is retried according to the http client retry policy", type = "boolean", defaultValue = DEFAULT_BATCH_RETRY + "")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_RETRY = "edc.events.cloudevents.batch.retry";
 
     @Inject
     private EdcHttpClient httpClient;
@@ -48,11 +61,35 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Inject
     private Hostname hostname;
 
+    private CloudEventsBatchPublisher batchPublisher;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var endpoint = context.getConfig().getString(EDC_EVENTS_CLOUDEVENTS_ENDPOINT);
 
-        eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname));
+        if (context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED, DEFAULT_BATCH_ENABLED)) {
+            batchPublisher = new CloudEventsBatchPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname,
+                    context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                    Duration.ofMillis(context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_DELAY, DEFAULT_BATCH_DELAY)),
+                    context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_RETRY, DEFAULT_BATCH_RETRY));
+            eventRouter.register(Event.class, batchPublisher);
+        } else {
+            eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (batchPublisher != null) {
+            batchPublisher.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (batchPublisher != null) {
+            batchPublisher.stop();
+        }
     }
 
 }
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.cloud.http;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Buffer;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.system.Hostname;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.as;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CloudEventsBatchPublisherTest {
+
+    private final EdcHttpClient httpClient = mock();
+    private final JacksonTypeManager typeManager = new JacksonTypeManager();
+    private final Hostname hostname = () -> "localhost";
+    private CloudEventsBatchPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        when(httpClient.executeAsync(any(), any())).thenAnswer(i -> CompletableFuture.completedFuture(response(i.getArgument(0))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+    }
+
+    @Test
+    void shouldSendBatch_whenFull() throws IOException {
+        publisher = publisher(2, Duration.ofHours(1));
+
+        publisher.on(envelope("event-1", "first"));
+        verify(httpClient, never()).executeAsync(any(), any());
+        publisher.on(envelope("event-2", "second"));
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient).executeAsync(captor.capture(), any());
+        var request = captor.getValue();
+        assertThat(request.body().contentType()).hasToString(CloudEventsBatchPublisher.CLOUDEVENTS_BATCH);
+
+        var batch = body(request);
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0))
+                .containsEntry("specversion", "1.0")
+                .containsEntry("id", "event-1")
+                .containsEntry("source", "localhost")
+                .containsEntry("type", TestEvent.class.getName())
+                .containsEntry("time", "2022-06-22T13:17:33.723Z")
+                .containsEntry("datacontenttype", "application/json")
+                .extractingByKey("data", as(MAP)).containsEntry("data", "first");
+        assertThat(batch.get(1)).containsEntry("id", "event-2");
+    }
+
+    @Test
+    void shouldSendBatch_whenDelayElapsed() {
+        publisher = publisher(100, Duration.ofMillis(50));
+        publisher.start();
+
+        publisher.on(envelope("event-1", "first"));
+
+        await().untilAsserted(() -> verify(httpClient).executeAsync(any(), any()));
+    }
+
+    @Test
+    void shouldFlushPendingEvents_whenStopped() {
+        publisher = publisher(100, Duration.ofHours(1));
+        publisher.on(envelope("event-1", "first"));
+
+        publisher.stop();
+        publisher.stop();
+
+        verify(httpClient, times(1)).executeAsync(any(), any());
+    }
+
+    private CloudEventsBatchPublisher publisher(int batchSize, Duration maxDelay) {
+        return new CloudEventsBatchPublisher("http://localhost/events", mock(), typeManager, httpClient,
+                Clock.system(ZoneOffset.UTC), hostname, batchSize, maxDelay, false);
+    }
+
+    private EventEnvelope<TestEvent> envelope(String id, String data) {
+        return EventEnvelope.Builder.newInstance()
+                .id(id)
+                .at(1655903853723L)
+                .payload(TestEvent.Builder.newInstance().data(data).build())
+                .build();
+    }
+
+    private List<Map<String, Object>> body(Request request) throws IOException {
+        var buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return typeManager.getMapper().readValue(buffer.readUtf8(), new TypeReference<>() {
+        });
+    }
+
+    private Response response(Request request) {
+        return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("OK").build();
+    }
+}
@@ -5,6 +5,7 @@ plugins {
 
 dependencies {
     api(project(":spi:common:identity-did-spi"))
+    api(libs.micrometer)
     implementation(project(":spi:common:keys-spi"))
     implementation(project(":core:common:lib:util-lib"))
     implementation(project(":core:common:lib:keys-lib"))
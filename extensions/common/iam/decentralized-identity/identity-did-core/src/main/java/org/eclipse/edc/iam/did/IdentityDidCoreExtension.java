@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.iam.did;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.iam.did.resolution.DidDocumentCache;
 import org.eclipse.edc.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
@@ -22,18 +24,59 @@ import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl.DEFAULT_MAX_TTL;
+import static org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl.DEFAULT_MIN_TTL;
+import static org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl.DEFAULT_STALE_TTL;
+import static org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl.DEFAULT_TTL;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+
+    private static final int DEFAULT_CACHE_SIZE = 50;
+
+    @Setting(value = "Maximum number of cached DID documents. 0 deactivates the cache.", defaultValue = DEFAULT_CACHE_SIZE + "", type = "int", min = 0)
+    public static final String DID_CACHE_SIZE = "edc.iam.did.cache.size";
+    @Setting(value = "Time-to-live in seconds of cached DID documents that were resolved without caching information, e.g. without HTTP cache headers.", defaultValue = "300", type = "long")
+    public static final String DID_CACHE_TTL = "edc.iam.did.cache.ttl";
+    @Setting(value = "Minimum time-to-live in seconds of cached DID documents, applied also when the counterparty states a shorter max age.", defaultValue = "30", type = "long")
+    public static final String DID_CACHE_TTL_MIN = "edc.iam.did.cache.ttl.min";
+    @Setting(value = "Maximum time-to-live in seconds of cached DID documents, applied also when the counterparty states a longer max age.", defaultValue = "3600", type = "long")
+    public static final String DID_CACHE_TTL_MAX = "edc.iam.did.cache.ttl.max";
+    @Setting(value = "Seconds during which an expired DID document is still used while it is refreshed in the background.", defaultValue = "60", type = "long")
+    public static final String DID_CACHE_STALE = "edc.iam.did.cache.stale";
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting(value = "Export the DID document cache metrics to the meter registry, if available", type = "boolean", defaultValue = "true")
+    public static final String ENABLE_DID_CACHE_METRICS = "edc.metrics.iam.did.cache.enabled";
+
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -41,11 +84,28 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        refreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "did-document-refresh");
+        var didCache = new DidDocumentCache(context.getSetting(DID_CACHE_SIZE, DEFAULT_CACHE_SIZE),
+                Duration.ofSeconds(context.getSetting(DID_CACHE_TTL, DEFAULT_TTL.toSeconds())),
+                Duration.ofSeconds(context.getSetting(DID_CACHE_TTL_MIN, DEFAULT_MIN_TTL.toSeconds())),
+                Duration.ofSeconds(context.getSetting(DID_CACHE_TTL_MAX, DEFAULT_MAX_TTL.toSeconds())),
+                Duration.ofSeconds(context.getSetting(DID_CACHE_STALE, DEFAULT_STALE_TTL.toSeconds())),
+                clock, refreshExecutor);
+        if (meterRegistry != null && context.getSetting(ENABLE_METRICS, true) && context.getSetting(ENABLE_DID_CACHE_METRICS, true)) {
+            didCache.bindTo(meterRegistry);
+        }
+        var didResolverRegistry = new DidResolverRegistryImpl(didCache);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
 }
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.resolution;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.ResolvedDidDocument;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches resolved DID documents. Every entry expires after the max age stated by the resolver, bounded by a minimum and
+ * a maximum time-to-live, so that key rotations propagate without hammering the endpoints of the counterparties.
+ * <p>
+ * Reads of a fresh entry do not take any lock. Once an entry expired, it is still returned during the stale period
+ * while it is refreshed in the background. Concurrent loads of the same DID are coalesced into a single resolution,
+ * failures are not cached. When the cache exceeds its maximum size, the least recently used entries are evicted.
+ */
+public class DidDocumentCache implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "edc.iam.did.cache";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Result<DidDocument>>> inFlight = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Duration defaultTtl;
+    private final Duration minTtl;
+    private final Duration maxTtl;
+    private final Duration staleTtl;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maxSize         the maximum number of cached documents. Pass 0 to deactivate the cache.
+     * @param defaultTtl      the time-to-live of documents resolved without max age.
+     * @param minTtl          the minimum time-to-live, also applied when the max age is shorter.
+     * @param maxTtl          the maximum time-to-live, also applied when the max age is longer.
+     * @param staleTtl        how long an expired document is still returned while it is being refreshed.
+     * @param clock           the clock.
+     * @param refreshExecutor the executor on which the expired documents are refreshed.
+     */
+    public DidDocumentCache(int maxSize, Duration defaultTtl, Duration minTtl, Duration maxTtl, Duration staleTtl, Clock clock, Executor refreshExecutor) {
+        this.maxSize = maxSize;
+        this.defaultTtl = defaultTtl;
+        this.minTtl = minTtl;
+        this.maxTtl = maxTtl;
+        this.staleTtl = staleTtl;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Returns the cached document for the DID, resolving it when not cached or expired.
+     *
+     * @param didKey   the DID.
+     * @param resolver resolves the document, used on cache miss and for refreshes.
+     * @return the document, or the failure of the resolution.
+     */
+    public Result<DidDocument> get(String didKey, Function<String, Result<ResolvedDidDocument>> resolver) {
+        if (maxSize <= 0) {
+            misses.incrementAndGet();
+            return load(didKey, resolver, Runnable::run).join();
+        }
+
+        var now = clock.instant();
+        var entry = entries.get(didKey);
+        if (entry != null && now.isBefore(entry.expiresAt)) {
+            entry.lastAccess = now;
+            hits.incrementAndGet();
+            return Result.success(entry.didDocument);
+        }
+        if (entry != null && now.isBefore(entry.expiresAt.plus(staleTtl))) {
+            entry.lastAccess = now;
+            staleHits.incrementAndGet();
+            load(didKey, resolver, refreshExecutor);
+            return Result.success(entry.didDocument);
+        }
+
+        misses.incrementAndGet();
+        return load(didKey, resolver, Runnable::run).join();
+    }
+
+    /**
+     * Removes the document of a DID from the cache.
+     *
+     * @param didKey the DID.
+     */
+    public void evict(String didKey) {
+        entries.remove(didKey);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".size", entries, Map::size)
+                .description("DID documents currently cached").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", hits, AtomicLong::get)
+                .description("Lookups served by a fresh cached document").tag("result", "hit").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", staleHits, AtomicLong::get)
+                .description("Lookups served by an expired document while it is refreshed").tag("result", "stale").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", misses, AtomicLong::get)
+                .description("Lookups that had to resolve the document").tag("result", "miss").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".load.failures", loadFailures, AtomicLong::get)
+                .description("Failed resolutions, that are not cached").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, AtomicLong::get)
+                .description("Documents evicted because the cache was full").register(registry);
+    }
+
+    public DidDocumentCacheMetrics getMetrics() {
+        return new DidDocumentCacheMetrics(entries.size(), hits.get(), staleHits.get(), misses.get(), loadFailures.get(), evictions.get());
+    }
+
+    private CompletableFuture<Result<DidDocument>> load(String didKey, Function<String, Result<ResolvedDidDocument>> resolver, Executor executor) {
+        var future = new CompletableFuture<Result<DidDocument>>();
+        var existing = inFlight.putIfAbsent(didKey, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    var result = resolver.apply(didKey);
+                    if (result.succeeded()) {
+                        store(didKey, result.getContent());
+                        future.complete(Result.success(result.getContent().didDocument()));
+                    } else {
+                        loadFailures.incrementAndGet();
+                        future.complete(Result.failure(result.getFailureMessages()));
+                    }
+                } catch (Throwable e) {
+                    loadFailures.incrementAndGet();
+                    future.complete(Result.failure("Error resolving DID %s: %s".formatted(didKey, e.getMessage())));
+                } finally {
+                    inFlight.remove(didKey, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(didKey, future);
+            future.complete(Result.failure("Error resolving DID %s: %s".formatted(didKey, e.getMessage())));
+        }
+        return future;
+    }
+
+    private void store(String didKey, ResolvedDidDocument resolved) {
+        if (maxSize <= 0) {
+            return;
+        }
+        var now = clock.instant();
+        entries.put(didKey, new Entry(resolved.didDocument(), now.plus(ttl(resolved.maxAge())), now));
+
+        var excess = entries.size() - maxSize;
+        if (excess > 0) {
+            // the access times are captured first, as they keep changing while sorting
+            entries.entrySet().stream()
+                    .map(e -> new EvictionCandidate(e.getKey(), e.getValue(), e.getValue().lastAccess))
+                    .sorted(Comparator.comparing(EvictionCandidate::lastAccess))
+                    .limit(excess)
+                    .forEach(candidate -> {
+                        if (entries.remove(candidate.didKey(), candidate.entry())) {
+                            evictions.incrementAndGet();
+                        }
+                    });
+        }
+    }
+
+    private Duration ttl(Duration maxAge) {
+        if (maxAge == null) {
+            return defaultTtl;
+        }
+        if (maxAge.compareTo(minTtl) < 0) {
+            return minTtl;
+        }
+        return maxAge.compareTo(maxTtl) > 0 ? maxTtl : maxAge;
+    }
+
+    private record EvictionCandidate(String didKey, Entry entry, Instant lastAccess) {
+    }
+
+    private static class Entry {
+        private final DidDocument didDocument;
+        private final Instant expiresAt;
+        private volatile Instant lastAccess;
+
+        Entry(DidDocument didDocument, Instant expiresAt, Instant lastAccess) {
+            this.didDocument = didDocument;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
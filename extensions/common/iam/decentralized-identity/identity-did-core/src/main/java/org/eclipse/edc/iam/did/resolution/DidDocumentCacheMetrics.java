@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.resolution;
+
+/**
+ * Snapshot of the counters of a {@link DidDocumentCache}.
+ *
+ * @param size         the number of cached documents.
+ * @param hits         the lookups answered with a fresh document.
+ * @param staleHits    the lookups answered with an expired document while it was refreshed.
+ * @param misses       the lookups that had to wait for a resolution.
+ * @param loadFailures the resolutions that failed.
+ * @param evictions    the documents evicted because the cache was full.
+ */
+public record DidDocumentCacheMetrics(int size, long hits, long staleHits, long misses, long loadFailures, long evictions) {
+}
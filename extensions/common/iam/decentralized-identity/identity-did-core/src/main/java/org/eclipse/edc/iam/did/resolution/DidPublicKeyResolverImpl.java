@@ -25,9 +25,12 @@ import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.Nullable;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
@@ -35,6 +38,10 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.eclipse.edc.iam.did.spi.document.DidConstants.ALLOWED_VERIFICATION_TYPES;
 
+/**
+ * Resolves public keys from the verification methods of DID documents. The parsed keys are cached per key ID for as long
+ * as the {@link DidResolverRegistry} returns the same verification method, i.e. until the DID document gets refreshed.
+ */
 public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implements DidPublicKeyResolver {
 
     /**
@@ -45,15 +52,58 @@ public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implemen
     private static final Pattern PATTERN_DID_WITH_OPTIONAL_FRAGMENT = Pattern.compile("(?<did>did:.*:[^#]*)((#)(?<fragment>.*))?");
     private static final String GROUP_DID = "did";
     private static final String GROUP_FRAGMENT = "fragment";
+    private static final int DEFAULT_KEY_CACHE_SIZE = 100;
     private final DidResolverRegistry resolverRegistry;
+    private final Map<String, CachedKey> keyCache = new ConcurrentHashMap<>();
+    private final int keyCacheSize;
 
     public DidPublicKeyResolverImpl(KeyParserRegistry registry, DidResolverRegistry resolverRegistry) {
+        this(registry, resolverRegistry, DEFAULT_KEY_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a DidPublicKeyResolverImpl object.
+     *
+     * @param registry         parses the keys of the verification methods.
+     * @param resolverRegistry resolves the DID documents.
+     * @param keyCacheSize     the maximum number of parsed keys that are cached, the cache is cleared when it is full.
+     *                         Pass 0 to deactivate the cache.
+     */
+    public DidPublicKeyResolverImpl(KeyParserRegistry registry, DidResolverRegistry resolverRegistry, int keyCacheSize) {
         super(registry);
         this.resolverRegistry = resolverRegistry;
+        this.keyCacheSize = keyCacheSize;
+    }
+
+    @Override
+    public Result<PublicKey> resolveKey(String id) {
+        var verificationMethod = resolveVerificationMethod(id);
+        if (verificationMethod.failed()) {
+            return parseKey(id, verificationMethod.mapTo());
+        }
+
+        // documents are cached by the resolver registry, so a different instance means that the document was refreshed
+        var cached = keyCache.get(id);
+        if (cached != null && cached.verificationMethod() == verificationMethod.getContent()) {
+            return Result.success(cached.publicKey());
+        }
+
+        var publicKey = parseKey(id, verificationMethod.compose(this::encodeKey));
+        if (publicKey.succeeded() && keyCacheSize > 0) {
+            if (keyCache.size() >= keyCacheSize && !keyCache.containsKey(id)) {
+                keyCache.clear();
+            }
+            keyCache.put(id, new CachedKey(verificationMethod.getContent(), publicKey.getContent()));
+        }
+        return publicKey;
     }
 
     @Override
     protected Result<String> resolveInternal(String id) {
+        return resolveVerificationMethod(id).compose(this::encodeKey);
+    }
+
+    private Result<VerificationMethod> resolveVerificationMethod(String id) {
         if (id == null) {
             return Result.failure("The provided DID is null");
         }
@@ -68,10 +118,10 @@ public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implemen
         if (matcher.groupCount() > 1) {
             key = matcher.group(GROUP_FRAGMENT);
         }
-        return resolveDidPublicKey(did, id, key);
+        return resolveDidVerificationMethod(did, id, key);
     }
 
-    private Result<String> resolveDidPublicKey(String didUrl, String verificationMethodUrl, @Nullable String keyId) {
+    private Result<VerificationMethod> resolveDidVerificationMethod(String didUrl, String verificationMethodUrl, @Nullable String keyId) {
         var didResult = resolverRegistry.resolve(didUrl);
         if (didResult.failed()) {
             return didResult.mapTo();
@@ -88,17 +138,17 @@ public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implemen
             return Result.failure("Every verification method must have a unique ID");
         }
 
-        var verificationMethod = selectVerificationMethod(verificationMethods, verificationMethodUrl, keyId);
-        return verificationMethod.compose(vm -> {
-            var key = new HashMap<>(vm.getPublicKeyJwk());
-            key.put(JWKParameterNames.KEY_ID, vm.getId());
-            try {
-                return Result.success(JWK.parse(key).toJSONString());
-            } catch (ParseException e) {
-                return Result.failure("Error parsing DID Verification Method: " + e);
-            }
+        return selectVerificationMethod(verificationMethods, verificationMethodUrl, keyId);
+    }
 
-        });
+    private Result<String> encodeKey(VerificationMethod verificationMethod) {
+        var key = new HashMap<>(verificationMethod.getPublicKeyJwk());
+        key.put(JWKParameterNames.KEY_ID, verificationMethod.getId());
+        try {
+            return Result.success(JWK.parse(key).toJSONString());
+        } catch (ParseException e) {
+            return Result.failure("Error parsing DID Verification Method: " + e);
+        }
     }
 
     private Result<VerificationMethod> selectVerificationMethod(List<VerificationMethod> verificationMethods, String verificationMethodUrl, @Nullable String keyId) {
@@ -132,4 +182,7 @@ public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implemen
             }
         };
     }
+
+    private record CachedKey(VerificationMethod verificationMethod, PublicKey publicKey) {
+    }
 }
@@ -18,27 +18,31 @@ import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.ConcurrentLruCache;
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link DidDocumentCache}
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, DidDocument> didCache;
-    private final Map<String, DidResolver> resolvers = new HashMap<>();
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_MIN_TTL = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_MAX_TTL = Duration.ofHours(1);
+    public static final Duration DEFAULT_STALE_TTL = Duration.ofMinutes(1);
+    private final DidDocumentCache didCache;
+    private final Map<String, DidResolver> resolvers = new ConcurrentHashMap<>();
 
     public DidResolverRegistryImpl() {
-        didCache = new ConcurrentLruCache<>(50);
+        this(50);
     }
 
     /**
@@ -47,7 +51,16 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
      * @param cacheSize the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
      */
     public DidResolverRegistryImpl(int cacheSize) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
+        this(new DidDocumentCache(cacheSize, DEFAULT_TTL, DEFAULT_MIN_TTL, DEFAULT_MAX_TTL, DEFAULT_STALE_TTL, Clock.systemUTC(), Runnable::run));
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object that caches the documents in the given cache.
+     *
+     * @param didCache the cache.
+     */
+    public DidResolverRegistryImpl(DidDocumentCache didCache) {
+        this.didCache = didCache;
     }
 
     @Override
@@ -64,7 +77,7 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         }
 
         var resolver = getResolverFor(didKey);
-        return resolveCachedDocument(didKey, resolver);
+        return didCache.get(didKey, resolver::resolveWithMaxAge);
     }
 
     @Override
@@ -85,20 +98,4 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         var methodName = tokens[DID_METHOD_NAME];
         return resolvers.get(methodName);
     }
-
-    @NotNull
-    private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var didDocument = didCache.get(didKey);
-        if (didDocument == null) {
-
-            var resolveResult = resolver.resolve(didKey);
-            if (resolveResult.failed()) {
-                return resolveResult;
-            }
-            didDocument = resolveResult.getContent();
-            didCache.put(didKey, didDocument);
-        }
-
-        return Result.success(didDocument);
-    }
 }
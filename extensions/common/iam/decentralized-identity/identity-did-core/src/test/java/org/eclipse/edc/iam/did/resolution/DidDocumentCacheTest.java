@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.resolution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.ResolvedDidDocument;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DidDocumentCacheTest {
+
+    private final Function<String, Result<ResolvedDidDocument>> resolver = mock();
+    private final Clock clock = mock();
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private final Instant now = Instant.now();
+    private final DidDocumentCache cache = new DidDocumentCache(2, Duration.ofSeconds(300), Duration.ofSeconds(30),
+            Duration.ofSeconds(3600), Duration.ofSeconds(60), clock, backgroundTasks::add);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        var counter = new AtomicInteger();
+        when(resolver.apply(anyString())).thenAnswer(i -> Result.success(resolved("doc-" + counter.incrementAndGet(), null)));
+    }
+
+    @Test
+    void shouldReturnCachedDocument_whenNotExpired() {
+        cache.get("did:web:one", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(299));
+
+        assertThat(cache.get("did:web:one", resolver)).isSucceeded().extracting(DidDocument::getId).isEqualTo("doc-1");
+        verify(resolver, times(1)).apply(any());
+        assertThat(cache.getMetrics()).satisfies(metrics -> {
+            assertThat(metrics.hits()).isEqualTo(1);
+            assertThat(metrics.misses()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldReturnStaleDocumentAndRefreshInBackground_whenExpiredWithinStalePeriod() {
+        cache.get("did:web:one", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(330));
+
+        assertThat(cache.get("did:web:one", resolver)).isSucceeded().extracting(DidDocument::getId).isEqualTo("doc-1");
+        assertThat(backgroundTasks).hasSize(1);
+
+        backgroundTasks.get(0).run();
+
+        assertThat(cache.get("did:web:one", resolver)).isSucceeded().extracting(DidDocument::getId).isEqualTo("doc-2");
+        assertThat(cache.getMetrics().staleHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResolveAgain_whenStalePeriodIsOver() {
+        cache.get("did:web:one", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(360));
+
+        assertThat(cache.get("did:web:one", resolver)).isSucceeded().extracting(DidDocument::getId).isEqualTo("doc-2");
+        assertThat(backgroundTasks).isEmpty();
+    }
+
+    @Test
+    void shouldUseMaxAge_boundedByMinimumAndMaximum() {
+        when(resolver.apply("did:web:short")).thenReturn(Result.success(resolved("short", Duration.ofSeconds(1))));
+        when(resolver.apply("did:web:long")).thenReturn(Result.success(resolved("long", Duration.ofDays(1))));
+        cache.get("did:web:short", resolver);
+        cache.get("did:web:long", resolver);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(29));
+        cache.get("did:web:short", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(3599));
+        cache.get("did:web:long", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(3600));
+        cache.get("did:web:long", resolver);
+
+        verify(resolver, times(1)).apply("did:web:short");
+        verify(resolver, times(1)).apply("did:web:long");
+        assertThat(backgroundTasks).hasSize(1);
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        when(resolver.apply(anyString())).thenReturn(Result.failure("error"), Result.success(resolved("doc", null)));
+
+        assertThat(cache.get("did:web:one", resolver)).isFailed();
+        assertThat(cache.get("did:web:one", resolver)).isSucceeded();
+        verify(resolver, times(2)).apply(any());
+        assertThat(cache.getMetrics().loadFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed_whenFull() {
+        cache.get("did:web:one", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(1));
+        cache.get("did:web:two", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(2));
+        cache.get("did:web:one", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(3));
+
+        cache.get("did:web:three", resolver);
+
+        assertThat(cache.getMetrics()).satisfies(metrics -> {
+            assertThat(metrics.size()).isEqualTo(2);
+            assertThat(metrics.evictions()).isEqualTo(1);
+        });
+        cache.get("did:web:one", resolver);
+        verify(resolver, times(1)).apply("did:web:one");
+        cache.get("did:web:two", resolver);
+        verify(resolver, times(2)).apply("did:web:two");
+    }
+
+    @Test
+    void shouldNotCache_whenDeactivated() {
+        var disabled = new DidDocumentCache(0, Duration.ofSeconds(300), Duration.ofSeconds(30), Duration.ofSeconds(3600),
+                Duration.ofSeconds(60), clock, backgroundTasks::add);
+
+        disabled.get("did:web:one", resolver);
+        disabled.get("did:web:one", resolver);
+
+        verify(resolver, times(2)).apply(any());
+        assertThat(disabled.getMetrics().size()).isZero();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentResolutions() throws Exception {
+        var release = new CountDownLatch(1);
+        when(resolver.apply(anyString())).thenAnswer(i -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Result.success(resolved("doc", null));
+        });
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<Result<DidDocument>>>();
+            for (var i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> cache.get("did:web:one", resolver)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (var future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSucceeded();
+            }
+            verify(resolver, times(1)).apply(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void bindTo_shouldExportMetrics() {
+        var registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.get("did:web:one", resolver);
+        cache.get("did:web:one", resolver);
+        cache.get("did:web:two", resolver);
+        cache.get("did:web:three", resolver);
+
+        assertThat(registry.get("edc.iam.did.cache.size").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("edc.iam.did.cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("edc.iam.did.cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("edc.iam.did.cache.gets").tag("result", "stale").functionCounter().count()).isZero();
+        assertThat(registry.get("edc.iam.did.cache.load.failures").functionCounter().count()).isZero();
+        assertThat(registry.get("edc.iam.did.cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    private ResolvedDidDocument resolved(String id, Duration maxAge) {
+        return new ResolvedDidDocument(DidDocument.Builder.newInstance().id(id).build(), maxAge);
+    }
+}
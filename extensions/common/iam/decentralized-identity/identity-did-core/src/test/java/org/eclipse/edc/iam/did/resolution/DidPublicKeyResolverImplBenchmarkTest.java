@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.resolution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import org.eclipse.edc.iam.did.spi.document.DidConstants;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.document.VerificationMethod;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.keys.KeyParserRegistryImpl;
+import org.eclipse.edc.keys.keyparsers.JwkParser;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares resolving the same key repeatedly with and without the parsed key cache. The number of times the key is
+ * parsed is asserted, the timings are only published to the test report as they depend on the machine.
+ */
+class DidPublicKeyResolverImplBenchmarkTest {
+
+    private static final String DID_URL = "did:web:example.com";
+    private static final String KEY_ID = DID_URL + "#key-1";
+    private static final int RESOLUTIONS = 1000;
+
+    private final DidResolverRegistry resolverRegistry = mock();
+    private final KeyParserRegistryImpl keyParserRegistry = spy(new KeyParserRegistryImpl());
+
+    @BeforeEach
+    void setup() throws JOSEException {
+        keyParserRegistry.register(new JwkParser(new ObjectMapper(), mock()));
+
+        var verificationMethod = VerificationMethod.Builder.newInstance()
+                .id(KEY_ID)
+                .type(DidConstants.JSON_WEB_KEY_2020)
+                .publicKeyJwk(new ECKeyGenerator(Curve.P_256).generate().toPublicJWK().toJSONObject())
+                .build();
+        var didDocument = DidDocument.Builder.newInstance()
+                .id(DID_URL)
+                .verificationMethod(List.of(verificationMethod))
+                .build();
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(didDocument));
+    }
+
+    @Test
+    void cachedResolution_shouldParseKeyOnce(TestReporter reporter) {
+        var uncachedResolver = new DidPublicKeyResolverImpl(keyParserRegistry, resolverRegistry, 0);
+        var cachedResolver = new DidPublicKeyResolverImpl(keyParserRegistry, resolverRegistry, 10);
+
+        var uncached = measure(uncachedResolver);
+        verify(keyParserRegistry, times(RESOLUTIONS)).parse(anyString());
+
+        clearInvocations(keyParserRegistry);
+        var cached = measure(cachedResolver);
+        verify(keyParserRegistry, times(1)).parse(anyString());
+
+        reporter.publishEntry("uncachedMillis", String.valueOf(uncached / 1_000_000));
+        reporter.publishEntry("cachedMillis", String.valueOf(cached / 1_000_000));
+    }
+
+    private long measure(DidPublicKeyResolverImpl resolver) {
+        var start = System.nanoTime();
+        for (var i = 0; i < RESOLUTIONS; i++) {
+            assertThat(resolver.resolveKey(KEY_ID).succeeded()).isTrue();
+        }
+        return System.nanoTime() - start;
+    }
+}
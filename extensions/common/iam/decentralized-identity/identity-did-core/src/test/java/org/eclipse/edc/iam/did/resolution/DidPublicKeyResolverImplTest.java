@@ -39,6 +39,7 @@ import static java.lang.String.format;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -229,4 +230,40 @@ class DidPublicKeyResolverImplTest {
         assertThat(result).isSucceeded().isNotNull();
         verify(resolverRegistry).resolve(DID_URL);
     }
+
+    @Test
+    void resolve_shouldReuseParsedKey_whenDocumentUnchanged() {
+        var didDocument = createDidDocument();
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(didDocument));
+
+        var first = resolver.resolveKey(DID_URL + "#" + KEYID);
+        var second = resolver.resolveKey(DID_URL + "#" + KEYID);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded().isSameAs(first.getContent());
+        verify(keyParserRegistry, times(1)).parse(anyString());
+    }
+
+    @Test
+    void resolve_shouldParseKeyAgain_whenDocumentRefreshed() {
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(createDidDocument()), Result.success(createDidDocument()));
+
+        resolver.resolveKey(DID_URL + "#" + KEYID);
+        var result = resolver.resolveKey(DID_URL + "#" + KEYID);
+
+        assertThat(result).isSucceeded();
+        verify(keyParserRegistry, times(2)).parse(anyString());
+    }
+
+    @Test
+    void resolve_shouldParseKeyEveryTime_whenCacheDeactivated() {
+        var uncachedResolver = new DidPublicKeyResolverImpl(keyParserRegistry, resolverRegistry, 0);
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(createDidDocument()));
+
+        uncachedResolver.resolveKey(DID_URL + "#" + KEYID);
+        var result = uncachedResolver.resolveKey(DID_URL + "#" + KEYID);
+
+        assertThat(result).isSucceeded();
+        verify(keyParserRegistry, times(2)).parse(anyString());
+    }
 }
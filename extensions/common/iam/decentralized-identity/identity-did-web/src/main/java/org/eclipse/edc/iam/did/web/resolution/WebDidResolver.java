@@ -16,22 +16,30 @@ package org.eclipse.edc.iam.did.web.resolution;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
+import org.eclipse.edc.iam.did.spi.resolution.ResolvedDidDocument;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.regex.Pattern;
 
 import static java.lang.String.format;
 
 /**
- * Resolves a Web DID according to the Web DID specification (https://w3c-ccg.github.io/did-method-web).
+ * Resolves a Web DID according to the Web DID specification (https://w3c-ccg.github.io/did-method-web). The
+ * {@code Cache-Control} and {@code Age} headers of the response are used to tell how long the document may be cached.
  */
 public class WebDidResolver implements DidResolver {
     private static final String DID_METHOD = "web";
+    private static final Pattern MAX_AGE = Pattern.compile("(?:^|,)\\s*(?:s-)?max-age\\s*=\\s*\"?(\\d{1,18})\"?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NO_CACHE = Pattern.compile("(?:^|,)\\s*(?:no-cache|no-store)\\s*(?:,|$)", Pattern.CASE_INSENSITIVE);
 
     private final EdcHttpClient httpClient;
     private final ObjectMapper mapper;
@@ -56,6 +64,12 @@ public class WebDidResolver implements DidResolver {
     @Override
     @NotNull
     public Result<DidDocument> resolve(String didKey) {
+        return resolveWithMaxAge(didKey).map(ResolvedDidDocument::didDocument);
+    }
+
+    @Override
+    @NotNull
+    public Result<ResolvedDidDocument> resolveWithMaxAge(String didKey) {
         String url;
         try {
             url = urlResolver.apply(didKey);
@@ -74,11 +88,32 @@ public class WebDidResolver implements DidResolver {
                     return Result.failure("DID response contained an empty body: " + didKey);
                 }
                 var didDocument = mapper.readValue(body.string(), DidDocument.class);
-                return Result.success(didDocument);
+                return Result.success(new ResolvedDidDocument(didDocument, maxAge(response)));
             }
         } catch (IOException e) {
             monitor.severe("Error resolving DID: " + didKey, e);
             return Result.failure("Error resolving DID: " + e.getMessage());
         }
     }
+
+    @Nullable
+    private Duration maxAge(Response response) {
+        var cacheControl = response.header("Cache-Control");
+        if (cacheControl == null) {
+            return null;
+        }
+        if (NO_CACHE.matcher(cacheControl).find()) {
+            return Duration.ZERO;
+        }
+        var maxAge = MAX_AGE.matcher(cacheControl);
+        if (!maxAge.find()) {
+            return null;
+        }
+        var seconds = Long.parseLong(maxAge.group(1));
+        var age = response.header("Age");
+        if (age != null && age.trim().matches("\\d{1,18}")) {
+            seconds -= Long.parseLong(age.trim());
+        }
+        return Duration.ofSeconds(Math.max(0, seconds));
+    }
 }
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,6 +71,51 @@ class WebDidResolverTest {
         assertThat(result.failed()).isTrue();
     }
 
+    @Test
+    void verifyResolveWithMaxAge_usesCacheControlAndAge() {
+        var resolver = createResolver(didDocumentInterceptor("public, max-age=600", "100"));
+
+        var result = resolver.resolveWithMaxAge("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().maxAge()).isEqualTo(Duration.ofSeconds(500));
+    }
+
+    @Test
+    void verifyResolveWithMaxAge_isZero_whenNoCache() {
+        var resolver = createResolver(didDocumentInterceptor("no-cache", null));
+
+        var result = resolver.resolveWithMaxAge("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA");
+
+        assertThat(result.getContent().maxAge()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void verifyResolveWithMaxAge_isNull_whenNoCacheControl() {
+        var resolver = createResolver(didDocumentInterceptor(null, null));
+
+        var result = resolver.resolveWithMaxAge("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA");
+
+        assertThat(result.getContent().maxAge()).isNull();
+    }
+
+    private Interceptor didDocumentInterceptor(String cacheControl, String age) {
+        return chain -> {
+            var didStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("did.json");
+            assert didStream != null;
+            var didDocument = new String(didStream.readAllBytes(), StandardCharsets.UTF_8);
+            var body = ResponseBody.create(didDocument, MediaType.get("application/json"));
+            var response = new Response.Builder().body(body).protocol(HTTP_1_1).request(chain.request()).code(200).message("ok");
+            if (cacheControl != null) {
+                response.header("Cache-Control", cacheControl);
+            }
+            if (age != null) {
+                response.header("Age", age);
+            }
+            return response.build();
+        };
+    }
+
     private WebDidResolver createResolver(Interceptor... interceptors) {
         return new WebDidResolver(testHttpClient(interceptors), true, new ObjectMapper(), mock(Monitor.class));
     }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.iam.identitytrust.core;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.json.Json;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
@@ -21,6 +22,7 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultCredentialServiceClient;
 import org.eclipse.edc.iam.identitytrust.service.DidCredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.service.IdentityAndTrustService;
+import org.eclipse.edc.iam.identitytrust.service.VerifiedPresentationCache;
 import org.eclipse.edc.iam.identitytrust.service.verification.MultiFormatPresentationVerifier;
 import org.eclipse.edc.iam.identitytrust.spi.ClaimTokenCreatorFunction;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceClient;
@@ -44,6 +46,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.security.signature.jws2020.Jws2020SignatureSuite;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -64,7 +67,10 @@ import org.jetbrains.annotations.NotNull;
 
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.iam.verifiablecredentials.spi.VcConstants.STATUSLIST_2021_URL;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
@@ -76,6 +82,22 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     public static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
     @Setting(value = "Validity period of cached StatusList2021 credential entries in milliseconds.", defaultValue = DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS + "", type = "long")
     public static final String REVOCATION_CACHE_VALIDITY = "edc.iam.credential.revocation.cache.validity";
+    public static final boolean DEFAULT_PRESENTATION_CACHE_ENABLED = false;
+    @Setting(value = "Whether the credentials of the verified presentations should be cached per counterparty and scopes.", defaultValue = DEFAULT_PRESENTATION_CACHE_ENABLED + "", type = "boolean")
+    public static final String PRESENTATION_CACHE_ENABLED = "edc.iam.presentation.cache.enabled";
+    public static final long DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS = 5 * 60 * 1000L;
+    @Setting(value = "Maximum validity period of cached presentations in milliseconds. Entries expire earlier if any of the credentials does.", defaultValue = DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS + "", type = "long")
+    public static final String PRESENTATION_CACHE_VALIDITY = "edc.iam.presentation.cache.validity";
+    public static final long DEFAULT_PRESENTATION_CACHE_REVOCATION_CHECK_MILLIS = 60 * 1000L;
+    @Setting(value = "Interval in milliseconds after which the revocation status of the cached credentials is checked again.", defaultValue = DEFAULT_PRESENTATION_CACHE_REVOCATION_CHECK_MILLIS + "", type = "long")
+    public static final String PRESENTATION_CACHE_REVOCATION_CHECK = "edc.iam.presentation.cache.revocation.check";
+    public static final int DEFAULT_PRESENTATION_CACHE_SIZE = 1000;
+    @Setting(value = "Maximum number of cached presentations.", defaultValue = DEFAULT_PRESENTATION_CACHE_SIZE + "", type = "int")
+    public static final String PRESENTATION_CACHE_SIZE = "edc.iam.presentation.cache.size";
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting(value = "Export the verified presentation cache metrics to the meter registry, if available", type = "boolean", defaultValue = "true")
+    public static final String ENABLE_PRESENTATION_CACHE_METRICS = "edc.metrics.iam.presentation.cache.enabled";
     @Setting(value = "DID of this connector", required = true)
     public static final String CONNECTOR_DID_PROPERTY = "edc.iam.issuer.id";
     public static final String DCP_SELF_ISSUED_TOKEN_CONTEXT = "dcp-si";
@@ -129,8 +151,16 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Inject
     private RevocationServiceRegistry revocationServiceRegistry;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     private PresentationVerifier presentationVerifier;
     private CredentialServiceClient credentialServiceClient;
+    private VerifiedPresentationCache presentationCache;
+    private ExecutorService revocationRefreshExecutor;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -160,8 +190,11 @@ public class IdentityAndTrustExtension implements ServiceExtension {
 
         // register revocation services
         var validity = context.getConfig().getLong(REVOCATION_CACHE_VALIDITY, DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS);
-        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), validity));
-        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), validity));
+        revocationRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "revocation-list-refresh");
+        revocationServiceRegistry.addService(StatusList2021Status.TYPE,
+                new StatusList2021RevocationService(typeManager.getMapper(), validity, httpClient, clock, revocationRefreshExecutor));
+        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE,
+                new BitstringStatusListRevocationService(typeManager.getMapper(), validity, httpClient, clock, revocationRefreshExecutor));
     }
 
     @Provider
@@ -172,9 +205,26 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         var credentialValidationService = new VerifiableCredentialValidationServiceImpl(createPresentationVerifier(context),
                 trustedIssuerRegistry, revocationServiceRegistry, clock);
 
+        if (context.getSetting(PRESENTATION_CACHE_ENABLED, DEFAULT_PRESENTATION_CACHE_ENABLED)) {
+            presentationCache = new VerifiedPresentationCache(revocationServiceRegistry, clock,
+                    Duration.ofMillis(context.getSetting(PRESENTATION_CACHE_VALIDITY, DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS)),
+                    Duration.ofMillis(context.getSetting(PRESENTATION_CACHE_REVOCATION_CHECK, DEFAULT_PRESENTATION_CACHE_REVOCATION_CHECK_MILLIS)),
+                    context.getSetting(PRESENTATION_CACHE_SIZE, DEFAULT_PRESENTATION_CACHE_SIZE));
+            if (meterRegistry != null && context.getSetting(ENABLE_METRICS, true) && context.getSetting(ENABLE_PRESENTATION_CACHE_METRICS, true)) {
+                presentationCache.bindTo(meterRegistry);
+            }
+        }
+
         return new IdentityAndTrustService(secureTokenService, getOwnDid(context),
                 getCredentialServiceClient(context), validationAction, credentialServiceUrlResolver, claimTokenFunction,
-                credentialValidationService);
+                credentialValidationService, presentationCache);
+    }
+
+    @Override
+    public void shutdown() {
+        if (revocationRefreshExecutor != null) {
+            revocationRefreshExecutor.shutdownNow();
+        }
     }
 
     @Provider
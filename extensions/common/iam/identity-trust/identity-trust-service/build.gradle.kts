@@ -8,6 +8,7 @@ dependencies {
     api(project(":spi:common:identity-did-spi"))
     api(project(":spi:common:jwt-spi"))
     api(project(":spi:common:token-spi"))
+    api(libs.micrometer)
 
     implementation(project(":core:common:lib:util-lib"))
     implementation(libs.nimbus.jwt)
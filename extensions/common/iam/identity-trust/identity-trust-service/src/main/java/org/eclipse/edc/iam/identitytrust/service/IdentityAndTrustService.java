@@ -30,6 +30,7 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.string.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -71,6 +72,7 @@ public class IdentityAndTrustService implements IdentityService {
     private final CredentialServiceUrlResolver credentialServiceUrlResolver;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
     private final VerifiableCredentialValidationService verifiableCredentialValidationService;
+    private final VerifiedPresentationCache presentationCache;
 
     /**
      * Constructs a new instance of the {@link IdentityAndTrustService}.
@@ -84,6 +86,24 @@ public class IdentityAndTrustService implements IdentityService {
                                    CredentialServiceUrlResolver csUrlResolver,
                                    ClaimTokenCreatorFunction claimTokenCreatorFunction,
                                    VerifiableCredentialValidationService verifiableCredentialValidationService) {
+        this(secureTokenService, myOwnDid, credentialServiceClient, tokenValidationAction, csUrlResolver, claimTokenCreatorFunction,
+                verifiableCredentialValidationService, null);
+    }
+
+    /**
+     * Constructs a new instance of the {@link IdentityAndTrustService} that caches the verified presentations.
+     *
+     * @param secureTokenService Instance of an STS, which can create SI tokens
+     * @param myOwnDid           The DID which belongs to "this connector"
+     * @param presentationCache  The cache of the verified presentations, null to disable caching
+     */
+    public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
+                                   CredentialServiceClient credentialServiceClient,
+                                   TokenValidationAction tokenValidationAction,
+                                   CredentialServiceUrlResolver csUrlResolver,
+                                   ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                                   VerifiableCredentialValidationService verifiableCredentialValidationService,
+                                   @Nullable VerifiedPresentationCache presentationCache) {
         this.secureTokenService = secureTokenService;
         this.myOwnDid = myOwnDid;
         this.credentialServiceClient = credentialServiceClient;
@@ -91,6 +111,7 @@ public class IdentityAndTrustService implements IdentityService {
         this.credentialServiceUrlResolver = csUrlResolver;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
         this.verifiableCredentialValidationService = verifiableCredentialValidationService;
+        this.presentationCache = presentationCache;
     }
 
     @Override
@@ -133,6 +154,14 @@ public class IdentityAndTrustService implements IdentityService {
         var claimToken = claimTokenResult.getContent();
         var accessToken = claimToken.getStringClaim(PRESENTATION_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
+        var scopes = context.getScopes().stream().toList();
+
+        if (presentationCache != null) {
+            var cachedCredentials = presentationCache.get(issuer, scopes);
+            if (cachedCredentials != null) {
+                return claimTokenCreatorFunction.apply(cachedCredentials);
+            }
+        }
 
         var siTokenClaims = Map.of(PRESENTATION_TOKEN_CLAIM, accessToken,
                 ISSUED_AT, Instant.now().toString(),
@@ -148,7 +177,7 @@ public class IdentityAndTrustService implements IdentityService {
 
         // get CS Url, execute VP request
         var vpResponse = credentialServiceUrlResolver.resolve(issuer)
-                .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, context.getScopes().stream().toList()));
+                .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, scopes));
 
         if (vpResponse.failed()) {
             return vpResponse.mapTo();
@@ -160,9 +189,15 @@ public class IdentityAndTrustService implements IdentityService {
 
         return result
                 .compose(u -> verifyPresentationIssuer(issuer, presentations))
-                .compose(u -> claimTokenCreatorFunction.apply(presentations.stream().map(p -> p.presentation().getCredentials().stream())
-                        .reduce(Stream.empty(), Stream::concat)
-                        .toList()));
+                .compose(u -> {
+                    var credentials = presentations.stream().map(p -> p.presentation().getCredentials().stream())
+                            .reduce(Stream.empty(), Stream::concat)
+                            .toList();
+                    if (presentationCache != null) {
+                        presentationCache.put(issuer, scopes, credentials);
+                    }
+                    return claimTokenCreatorFunction.apply(credentials);
+                });
     }
 
     /**
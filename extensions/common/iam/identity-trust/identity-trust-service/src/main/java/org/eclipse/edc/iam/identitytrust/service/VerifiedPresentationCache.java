@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the credentials contained in the verified presentations of a counterparty, keyed by its DID and by the
+ * requested scopes, so that subsequent requests of the same counterparty do not need to request and verify the
+ * presentation again.
+ * <p>
+ * An entry is valid until the configured time-to-live elapses or until the first of its credentials expires, whichever
+ * comes first. The revocation status of the cached credentials is re-checked every {@code revocationCheckInterval}: if
+ * any of them has been revoked or suspended, the entry is evicted. When the cache is full, expired entries are purged
+ * first, then the least recently used one is evicted.
+ */
+public class VerifiedPresentationCache implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "edc.iam.presentation.cache";
+
+    private final Map<CacheKey, CacheEntry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final RevocationServiceRegistry revocationServiceRegistry;
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final Duration revocationCheckInterval;
+    private final int maxEntries;
+
+    public VerifiedPresentationCache(RevocationServiceRegistry revocationServiceRegistry, Clock clock, Duration timeToLive,
+                                     Duration revocationCheckInterval, int maxEntries) {
+        this.revocationServiceRegistry = revocationServiceRegistry;
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.revocationCheckInterval = revocationCheckInterval;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                if (size() > VerifiedPresentationCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached credentials of the issuer for the scopes.
+     *
+     * @param issuer the counterparty DID.
+     * @param scopes the requested scopes.
+     * @return the cached credentials, null if there's no valid entry.
+     */
+    @Nullable
+    public List<VerifiableCredential> get(String issuer, Collection<String> scopes) {
+        var key = new CacheKey(issuer, Set.copyOf(scopes));
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        var now = clock.instant();
+        if (!now.isBefore(entry.expiresAt())) {
+            remove(key, entry);
+            misses.incrementAndGet();
+            return null;
+        }
+
+        if (!now.isBefore(entry.revocationCheckedAt().plus(revocationCheckInterval))) {
+            var notRevoked = entry.credentials().stream().allMatch(credential -> revocationServiceRegistry.checkValidity(credential).succeeded());
+            if (!notRevoked) {
+                remove(key, entry);
+                misses.incrementAndGet();
+                return null;
+            }
+            synchronized (entries) {
+                entries.replace(key, entry, new CacheEntry(entry.credentials(), entry.expiresAt(), now));
+            }
+        }
+
+        hits.incrementAndGet();
+        return entry.credentials();
+    }
+
+    /**
+     * Caches the credentials of verified presentations. Nothing is cached if any of the credentials is already expired.
+     *
+     * @param issuer      the counterparty DID.
+     * @param scopes      the requested scopes.
+     * @param credentials the credentials of the verified presentations.
+     */
+    public void put(String issuer, Collection<String> scopes, List<VerifiableCredential> credentials) {
+        var now = clock.instant();
+        var expiresAt = credentials.stream()
+                .map(VerifiableCredential::getExpirationDate)
+                .filter(Objects::nonNull)
+                .reduce(now.plus(timeToLive), (first, second) -> first.isBefore(second) ? first : second);
+
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+
+        synchronized (entries) {
+            if (entries.size() >= maxEntries) {
+                entries.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+            }
+            entries.put(new CacheKey(issuer, Set.copyOf(scopes)), new CacheEntry(List.copyOf(credentials), expiresAt, now));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".size", this, VerifiedPresentationCache::size)
+                .description("Presentations currently cached").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", hits, AtomicLong::get)
+                .description("Lookups that returned cached credentials").tag("result", "hit").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", misses, AtomicLong::get)
+                .description("Lookups that did not find valid cached credentials").tag("result", "miss").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, AtomicLong::get)
+                .description("Entries evicted because the cache was full").register(registry);
+    }
+
+    /**
+     * The number of lookups that returned cached credentials.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of lookups that did not find valid cached credentials, each of them resulting in a presentation request.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * The number of entries evicted because the cache was full.
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * The number of cached entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(CacheKey key, CacheEntry entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private record CacheKey(String issuer, Set<String> scopes) {
+    }
+
+    private record CacheEntry(List<VerifiableCredential> credentials, Instant expiresAt, Instant revocationCheckedAt) {
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredential;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredentialBuilder;
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class VerifiedPresentationCacheTest {
+
+    private static final String ISSUER = "did:web:consumer";
+    private static final List<String> SCOPES = List.of("org.eclipse.edc.vc.type:SomeCredential:read");
+
+    private final RevocationServiceRegistry revocationServiceRegistry = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final VerifiedPresentationCache cache = new VerifiedPresentationCache(revocationServiceRegistry, clock,
+            Duration.ofMinutes(5), Duration.ofMinutes(1), 2);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        when(revocationServiceRegistry.checkValidity(any())).thenReturn(success());
+    }
+
+    @Test
+    void get_shouldReturnCachedCredentials() {
+        var credentials = List.of(createCredential());
+        cache.put(ISSUER, SCOPES, credentials);
+
+        assertThat(cache.get(ISSUER, SCOPES)).isEqualTo(credentials);
+        assertThat(cache.get(ISSUER, List.of("org.eclipse.edc.vc.type:AnotherCredential:read"))).isNull();
+        assertThat(cache.get("did:web:another", SCOPES)).isNull();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldMatchScopesRegardlessOfOrder() {
+        cache.put(ISSUER, List.of("scope:A:read", "scope:B:read"), List.of(createCredential()));
+
+        assertThat(cache.get(ISSUER, List.of("scope:B:read", "scope:A:read"))).isNotNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenTimeToLiveElapsed() {
+        cache.put(ISSUER, SCOPES, List.of(createCredential()));
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)));
+
+        assertThat(cache.get(ISSUER, SCOPES)).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenCredentialExpired() {
+        cache.put(ISSUER, SCOPES, List.of(createCredential(), createCredentialBuilder().expirationDate(now.plusSeconds(10)).build()));
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+
+        assertThat(cache.get(ISSUER, SCOPES)).isNull();
+    }
+
+    @Test
+    void get_shouldNotCheckRevocation_whenIntervalNotElapsed() {
+        cache.put(ISSUER, SCOPES, List.of(createCredential()));
+        when(clock.instant()).thenReturn(now.plusSeconds(59));
+
+        assertThat(cache.get(ISSUER, SCOPES)).isNotNull();
+        verifyNoInteractions(revocationServiceRegistry);
+    }
+
+    @Test
+    void get_shouldEvict_whenCredentialRevoked() {
+        var credential = createCredential();
+        cache.put(ISSUER, SCOPES, List.of(credential));
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(1)));
+        when(revocationServiceRegistry.checkValidity(any())).thenReturn(failure("revoked"));
+
+        assertThat(cache.get(ISSUER, SCOPES)).isNull();
+        verify(revocationServiceRegistry).checkValidity(credential);
+
+        when(revocationServiceRegistry.checkValidity(any())).thenReturn(success());
+        assertThat(cache.get(ISSUER, SCOPES)).isNull();
+    }
+
+    @Test
+    void put_shouldNotCache_whenCredentialAlreadyExpired() {
+        cache.put(ISSUER, SCOPES, List.of(createCredentialBuilder().expirationDate(now).build()));
+
+        assertThat(cache.get(ISSUER, SCOPES)).isNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntry_whenFull() {
+        cache.put("did:web:first", SCOPES, List.of(createCredential()));
+        cache.put("did:web:second", SCOPES, List.of(createCredential()));
+        cache.get("did:web:first", SCOPES);
+
+        cache.put("did:web:third", SCOPES, List.of(createCredential()));
+
+        assertThat(cache.get("did:web:first", SCOPES)).isNotNull();
+        assertThat(cache.get("did:web:second", SCOPES)).isNull();
+        assertThat(cache.get("did:web:third", SCOPES)).isNotNull();
+        assertThat(cache.getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldPurgeExpiredEntriesBeforeEvicting() {
+        cache.put("did:web:first", SCOPES, List.of(createCredentialBuilder().expirationDate(now.plusSeconds(10)).build()));
+        cache.put("did:web:second", SCOPES, List.of(createCredential()));
+        cache.get("did:web:second", SCOPES);
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+
+        cache.put("did:web:third", SCOPES, List.of(createCredential()));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isZero();
+    }
+
+    @Test
+    void bindTo_shouldExportMetrics() {
+        var registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.put(ISSUER, SCOPES, List.of(createCredential()));
+        cache.get(ISSUER, SCOPES);
+        cache.get("did:web:another", SCOPES);
+
+        assertThat(registry.get("edc.iam.presentation.cache.size").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("edc.iam.presentation.cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("edc.iam.presentation.cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("edc.iam.presentation.cache.evictions").functionCounter().count()).isZero();
+    }
+}
@@ -16,18 +16,29 @@ package org.eclipse.edc.iam.verifiablecredentials.revocation;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Request;
+import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.Cache;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.eclipse.edc.spi.result.Result.success;
@@ -38,21 +49,46 @@ import static org.eclipse.edc.spi.result.Result.success;
  * <p>
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
- * To limit traffic on the actual StatusList credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * To limit traffic on the actual StatusList credential, it is cached together with its decoded bitstring, and only re-downloaded if the cache is expired.
+ * When an {@link EdcHttpClient} is provided, the status list is refreshed in the background shortly before it expires, with a conditional request
+ * ({@code If-None-Match}/{@code If-Modified-Since}) that keeps the cached bitstring if the status list did not change.
  * <p>
  * Currently, StatusList2021 and BitStringStatusList are supported.
  */
 public abstract class BaseRevocationListService<C extends VerifiableCredential, S> implements RevocationListService {
-    private final Cache<String, C> statusListCredentialCache;
+    private final Map<String, StatusList<C>> statusLists = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<StatusList<C>>> inFlight = new ConcurrentHashMap<>();
     private final Class<C> credentialClass;
     private final ObjectMapper objectMapper;
+    private final Duration cacheValidity;
+    private final EdcHttpClient httpClient;
+    private final Clock clock;
+    private final Executor refreshExecutor;
 
     protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Class<C> credentialClass) {
+        this(mapper, cacheValidity, credentialClass, null, Clock.systemUTC(), Runnable::run);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param mapper          the object mapper used to deserialize the status list credentials.
+     * @param cacheValidity   validity period of a cached status list in milliseconds.
+     * @param credentialClass the status list credential type.
+     * @param httpClient      the client used to download the status lists, or null to download them without conditional requests.
+     * @param clock           the clock.
+     * @param refreshExecutor the executor on which status lists that approach their expiry are refreshed.
+     */
+    protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Class<C> credentialClass,
+                                        @Nullable EdcHttpClient httpClient, Clock clock, Executor refreshExecutor) {
         this.objectMapper = mapper.copy()
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        statusListCredentialCache = new Cache<>(this::downloadStatusListCredential, cacheValidity);
+        this.cacheValidity = Duration.ofMillis(cacheValidity);
         this.credentialClass = credentialClass;
+        this.httpClient = httpClient;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
     }
 
     @Override
@@ -60,8 +96,11 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
         var credentialStatus = getCredentialStatus(credential);
         var credentialIndex = getStatusIndex(credentialStatus);
         return preliminaryChecks(credentialStatus)
-                .compose(v -> validateStatusPurpose(credentialStatus))
-                .compose(v -> getStatusEntryValue(credentialStatus))
+                .compose(v -> {
+                    var statusList = getStatusList(getStatusListCredentialUrl(credentialStatus));
+                    return validateStatusPurpose(credentialStatus, statusList.credential())
+                            .compose(v2 -> getStatusEntryValue(credentialStatus, statusList));
+                })
                 .compose(status -> status != null ?
                         Result.failure("Credential status is '%s', status at index %d is '1'".formatted(status, credentialIndex)) :
                         Result.success());
@@ -73,9 +112,15 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
             return success(null);
         }
 
+        // the entries referencing the same status list are resolved against a single lookup of that list
         var res = credential.getCredentialStatus().stream()
                 .map(this::getCredentialStatus)
-                .map(this::getStatusEntryValue)
+                .collect(Collectors.groupingBy(this::getStatusListCredentialUrl, LinkedHashMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .flatMap(entry -> {
+                    var statusList = getStatusList(entry.getKey());
+                    return entry.getValue().stream().map(credentialStatus -> getStatusEntryValue(credentialStatus, statusList));
+                })
                 .collect(Collectors.groupingBy(AbstractResult::succeeded));
 
         if (res.containsKey(false)) { //if any failed
@@ -108,12 +153,35 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      * @throws EdcException if it could not be downloaded
      */
     protected C getCredential(String credentialUrl) {
-        var credential = statusListCredentialCache.get(credentialUrl);
-        // credential is cached, but expired -> download again
-        if (credential != null && credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now())) {
-            statusListCredentialCache.evict(credentialUrl);
+        return getStatusList(credentialUrl).credential();
+    }
+
+    /**
+     * Gets a status list and its decoded bitstring from the cache, or if it's not there or expired, downloads it. A
+     * status list that approaches its expiry is returned while being refreshed in the background.
+     *
+     * @param credentialUrl the URL from where to download the cred
+     * @return the status list
+     * @throws EdcException if it could not be downloaded
+     */
+    protected StatusList<C> getStatusList(String credentialUrl) {
+        var now = clock.instant();
+        var cached = statusLists.get(credentialUrl);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            if (!now.isBefore(cached.refreshAt())) {
+                fetch(credentialUrl, cached, refreshExecutor);
+            }
+            return cached;
+        }
+
+        try {
+            return fetch(credentialUrl, cached, Runnable::run).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof EdcException edcException) {
+                throw edcException;
+            }
+            throw new EdcException(e.getCause());
         }
-        return statusListCredentialCache.get(credentialUrl);
     }
 
     /**
@@ -121,15 +189,25 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      * So, a successful result with a non-null content indicates, that the respective credentialStatus is set.
      *
      * @param credentialStatus the credentialStatus object of the VC (not the StatusList credential!)
+     * @param statusList       the status list referenced by the credentialStatus
      */
-    protected abstract Result<String> getStatusEntryValue(S credentialStatus);
+    protected abstract Result<String> getStatusEntryValue(S credentialStatus, StatusList<C> statusList);
 
     /**
      * Validates, that the statusPurpose of the credentialStatus is equal to the one found in the StatusList Credential
      *
-     * @param credentialStatus the credentialStatus object of the VC (not the StatusList credential!)
+     * @param credentialStatus     the credentialStatus object of the VC (not the StatusList credential!)
+     * @param statusListCredential the StatusList credential referenced by the credentialStatus
      */
-    protected abstract Result<Void> validateStatusPurpose(S credentialStatus);
+    protected abstract Result<Void> validateStatusPurpose(S credentialStatus, C statusListCredential);
+
+    /**
+     * Decodes the bitstring of a StatusList credential. Called once per download of the StatusList credential.
+     *
+     * @param statusListCredential the StatusList credential
+     * @return the decoded bitstring
+     */
+    protected abstract Result<BitString> decodeBitString(C statusListCredential);
 
     /**
      * Gets the {@code statusIndex} entry of the VC's credentialStatus object.
@@ -139,6 +217,13 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      */
     protected abstract int getStatusIndex(S credentialStatus);
 
+    /**
+     * Gets the URL of the StatusList credential referenced by the VC's credentialStatus object.
+     *
+     * @param credentialStatus the credentialStatus object of the VC (not the StatusList credential!)
+     * @return the StatusList credential URL
+     */
+    protected abstract String getStatusListCredentialUrl(S credentialStatus);
 
     /**
      * Converts the generic {@link CredentialStatus} into a specific credentialStatus that is used by the concrete status list
@@ -149,11 +234,94 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      */
     protected abstract S getCredentialStatus(CredentialStatus credentialStatus);
 
-    private C downloadStatusListCredential(String credentialUrl) {
+    private CompletableFuture<StatusList<C>> fetch(String credentialUrl, @Nullable StatusList<C> previous, Executor executor) {
+        var future = new CompletableFuture<StatusList<C>>();
+        var existing = inFlight.putIfAbsent(credentialUrl, future);
+        if (existing != null) {
+            return existing;
+        }
+
         try {
-            return objectMapper.readValue(URI.create(credentialUrl).toURL(), credentialClass);
+            executor.execute(() -> {
+                try {
+                    var statusList = downloadStatusList(credentialUrl, previous);
+                    statusLists.put(credentialUrl, statusList);
+                    future.complete(statusList);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(credentialUrl, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(credentialUrl, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private StatusList<C> downloadStatusList(String credentialUrl, @Nullable StatusList<C> previous) {
+        if (httpClient == null) {
+            try {
+                return statusList(objectMapper.readValue(URI.create(credentialUrl).toURL(), credentialClass), null, null);
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        var request = new Request.Builder().url(credentialUrl).get();
+        var revalidate = previous != null && !isExpired(previous.credential());
+        if (revalidate && previous.etag() != null) {
+            request.header("If-None-Match", previous.etag());
+        }
+        if (revalidate && previous.lastModified() != null) {
+            request.header("If-Modified-Since", previous.lastModified());
+        }
+
+        try (var response = httpClient.execute(request.build())) {
+            if (response.code() == 304 && revalidate) {
+                return statusList(previous.credential(), previous.bitString(), previous.etag(), previous.lastModified());
+            }
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new EdcException("Failed to download status list credential from %s: HTTP %d".formatted(credentialUrl, response.code()));
+            }
+            var credential = objectMapper.readValue(response.body().byteStream(), credentialClass);
+            return statusList(credential, response.header("ETag"), response.header("Last-Modified"));
         } catch (IOException e) {
             throw new EdcException(e);
         }
     }
+
+    private StatusList<C> statusList(C credential, @Nullable String etag, @Nullable String lastModified) {
+        return statusList(credential, decodeBitString(credential), etag, lastModified);
+    }
+
+    private StatusList<C> statusList(C credential, Result<BitString> bitString, @Nullable String etag, @Nullable String lastModified) {
+        var now = clock.instant();
+        var expiresAt = now.plus(cacheValidity);
+        // credential is expired before the cache validity -> download again once it does
+        if (credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(expiresAt)) {
+            expiresAt = credential.getExpirationDate();
+        }
+        var refreshAt = expiresAt.isAfter(now) ? expiresAt.minus(Duration.between(now, expiresAt).dividedBy(5)) : expiresAt;
+        return new StatusList<>(credential, bitString, etag, lastModified, refreshAt, expiresAt);
+    }
+
+    private boolean isExpired(C credential) {
+        return credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(clock.instant());
+    }
+
+    /**
+     * A cached StatusList credential.
+     *
+     * @param credential   the StatusList credential
+     * @param bitString    the decoded bitstring of the credential, or the failure to decode it
+     * @param etag         the entity tag of the downloaded credential, if any
+     * @param lastModified the last modification date of the downloaded credential, if any
+     * @param refreshAt    from when the credential is refreshed in the background
+     * @param expiresAt    from when the credential is not used anymore
+     */
+    protected record StatusList<C>(C credential, Result<BitString> bitString, @Nullable String etag, @Nullable String lastModified,
+                                   Instant refreshAt, Instant expiresAt) {
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.iam.verifiablecredentials.revocation.bitstring;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.verifiablecredentials.revocation.BaseRevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
@@ -23,7 +24,9 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstrings
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.StatusMessage;
 import org.eclipse.edc.spi.result.Result;
 
+import java.time.Clock;
 import java.util.Base64;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -37,6 +40,10 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         super(mapper, cacheValidity, BitstringStatusListCredential.class);
     }
 
+    public BitstringStatusListRevocationService(ObjectMapper mapper, long cacheValidity, EdcHttpClient httpClient, Clock clock, Executor refreshExecutor) {
+        super(mapper, cacheValidity, BitstringStatusListCredential.class, httpClient, clock, refreshExecutor);
+    }
+
     @Override
     protected Result<Void> preliminaryChecks(BitstringStatusListStatus credentialStatus) {
         var statusSize = credentialStatus.getStatusSize();
@@ -47,19 +54,8 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
     }
 
     @Override
-    protected Result<String> getStatusEntryValue(BitstringStatusListStatus credentialStatus) {
-        var bitStringCredential = getCredential(credentialStatus.getStatusListCredential());
-
-        var bitString = bitStringCredential.encodedList();
-        var decoder = Base64.getDecoder();
-        if (bitString.charAt(0) == 'u') { // base64 url
-            decoder = Base64.getUrlDecoder();
-            bitString = bitString.substring(1); //chop off header
-        } else if (bitString.charAt(0) == 'z') { //base58btc
-            return Result.failure("The encoded list is using the Base58-BTC alphabet ('z' multibase header), which is not supported.");
-        }
-
-        var compressedBitstring = BitString.Parser.newInstance().decoder(decoder).parse(bitString);
+    protected Result<String> getStatusEntryValue(BitstringStatusListStatus credentialStatus, StatusList<BitstringStatusListCredential> statusList) {
+        var compressedBitstring = statusList.bitString();
         if (compressedBitstring.failed()) {
             return compressedBitstring.mapEmpty();
         }
@@ -87,11 +83,8 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
     }
 
     @Override
-    protected Result<Void> validateStatusPurpose(BitstringStatusListStatus credentialStatus) {
+    protected Result<Void> validateStatusPurpose(BitstringStatusListStatus credentialStatus, BitstringStatusListCredential statusListCredential) {
         var statusPurpose = credentialStatus.getStatusListPurpose();
-
-        var credentialUrl = credentialStatus.getStatusListCredential();
-        var statusListCredential = getCredential(credentialUrl);
         var credentialStatusPurpose = statusListCredential.statusPurpose();
 
         if (!statusPurpose.equalsIgnoreCase(credentialStatusPurpose)) {
@@ -101,6 +94,25 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         return success();
     }
 
+    @Override
+    protected Result<BitString> decodeBitString(BitstringStatusListCredential statusListCredential) {
+        var bitString = statusListCredential.encodedList();
+        var decoder = Base64.getDecoder();
+        if (bitString.charAt(0) == 'u') { // base64 url
+            decoder = Base64.getUrlDecoder();
+            bitString = bitString.substring(1); //chop off header
+        } else if (bitString.charAt(0) == 'z') { //base58btc
+            return Result.failure("The encoded list is using the Base58-BTC alphabet ('z' multibase header), which is not supported.");
+        }
+
+        return BitString.Parser.newInstance().decoder(decoder).parse(bitString);
+    }
+
+    @Override
+    protected String getStatusListCredentialUrl(BitstringStatusListStatus credentialStatus) {
+        return credentialStatus.getStatusListCredential();
+    }
+
     @Override
     protected int getStatusIndex(BitstringStatusListStatus credentialStatus) {
         return credentialStatus.getStatusListIndex();
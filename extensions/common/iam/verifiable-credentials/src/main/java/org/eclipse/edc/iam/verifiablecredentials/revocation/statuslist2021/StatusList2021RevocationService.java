@@ -15,6 +15,7 @@
 package org.eclipse.edc.iam.verifiablecredentials.revocation.statuslist2021;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.verifiablecredentials.revocation.BaseRevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
@@ -22,6 +23,9 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Status;
 import org.eclipse.edc.spi.result.Result;
 
+import java.time.Clock;
+import java.util.concurrent.Executor;
+
 import static org.eclipse.edc.spi.result.Result.success;
 
 
@@ -35,19 +39,19 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         super(objectMapper, cacheValidity, StatusList2021Credential.class);
     }
 
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, EdcHttpClient httpClient, Clock clock, Executor refreshExecutor) {
+        super(objectMapper, cacheValidity, StatusList2021Credential.class, httpClient, clock, refreshExecutor);
+    }
+
     @Override
     protected StatusList2021Status getCredentialStatus(CredentialStatus credentialStatus) {
         return StatusList2021Status.from(credentialStatus);
     }
 
     @Override
-    protected Result<String> getStatusEntryValue(StatusList2021Status credentialStatus) {
+    protected Result<String> getStatusEntryValue(StatusList2021Status credentialStatus, StatusList<StatusList2021Credential> statusList) {
         var index = credentialStatus.getStatusListIndex();
-        var slCredUrl = credentialStatus.getStatusListCredential();
-        var credential = getCredential(slCredUrl);
-
-
-        var bitStringResult = BitString.Parser.newInstance().parse(credential.encodedList());
+        var bitStringResult = statusList.bitString();
 
         if (bitStringResult.failed()) {
             return bitStringResult.mapEmpty();
@@ -62,9 +66,7 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
     }
 
     @Override
-    protected Result<Void> validateStatusPurpose(StatusList2021Status credentialStatus) {
-        var slCred = getCredential(credentialStatus.getStatusListCredential());
-
+    protected Result<Void> validateStatusPurpose(StatusList2021Status credentialStatus, StatusList2021Credential slCred) {
         // check that the "statusPurpose" values match
         var purpose = credentialStatus.getStatusListPurpose();
         var slCredPurpose = slCred.statusPurpose();
@@ -75,6 +77,16 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         return success();
     }
 
+    @Override
+    protected Result<BitString> decodeBitString(StatusList2021Credential statusListCredential) {
+        return BitString.Parser.newInstance().parse(statusListCredential.encodedList());
+    }
+
+    @Override
+    protected String getStatusListCredentialUrl(StatusList2021Status credentialStatus) {
+        return credentialStatus.getStatusListCredential();
+    }
+
     @Override
     protected int getStatusIndex(StatusList2021Status credentialStatus) {
         return credentialStatus.getStatusListIndex();
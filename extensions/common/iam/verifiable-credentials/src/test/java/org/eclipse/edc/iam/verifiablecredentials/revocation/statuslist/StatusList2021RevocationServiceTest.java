@@ -16,6 +16,12 @@ package org.eclipse.edc.iam.verifiablecredentials.revocation.statuslist;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.verifiablecredentials.TestData;
 import org.eclipse.edc.iam.verifiablecredentials.revocation.statuslist2021.StatusList2021RevocationService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions;
@@ -23,16 +29,24 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.ArgumentCaptor;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.verify.VerificationTimes;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -41,6 +55,11 @@ import static org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.sta
 import static org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Status.STATUS_LIST_PURPOSE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockserver.model.HttpRequest.request;
 
 class StatusList2021RevocationServiceTest {
@@ -172,6 +191,88 @@ class StatusList2021RevocationServiceTest {
                 .isSucceeded();
     }
 
+    @Nested
+    class WithHttpClient {
+
+        private static final String STATUS_LIST_URL = "https://example.com/credentials/status/3";
+        private final EdcHttpClient httpClient = mock();
+        private final Clock clock = mock();
+        private final Instant now = Instant.now();
+        private final List<Runnable> backgroundTasks = new ArrayList<>();
+        private final StatusList2021RevocationService service = new StatusList2021RevocationService(new ObjectMapper().registerModule(new JavaTimeModule()),
+                5 * 60 * 1000, httpClient, clock, backgroundTasks::add);
+
+        @BeforeEach
+        void setUp() throws IOException {
+            when(clock.instant()).thenReturn(now);
+            when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 200, TestData.StatusList2021.STATUS_LIST_CREDENTIAL_SINGLE_SUBJECT_INTERMEDIATE));
+        }
+
+        @Test
+        void checkValidity_shouldDownloadStatusListOnce_whenCached() throws IOException {
+            assertThat(service.checkValidity(status(NOT_REVOKED_INDEX))).isSucceeded();
+            assertThat(service.checkValidity(status(REVOKED_INDEX))).isFailed();
+
+            verify(httpClient, times(1)).execute(any());
+        }
+
+        @Test
+        void checkValidity_shouldRevalidate_whenExpired() throws IOException {
+            service.checkValidity(status(NOT_REVOKED_INDEX));
+            when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(6)));
+            when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 304, ""));
+
+            assertThat(service.checkValidity(status(REVOKED_INDEX))).isFailed()
+                    .detail().isEqualTo("Credential status is 'revocation', status at index %d is '1'".formatted(REVOKED_INDEX));
+
+            var captor = ArgumentCaptor.forClass(Request.class);
+            verify(httpClient, times(2)).execute(captor.capture());
+            assertThat(captor.getAllValues().get(0).header("If-None-Match")).isNull();
+            assertThat(captor.getAllValues().get(1).header("If-None-Match")).isEqualTo("\"v1\"");
+        }
+
+        @Test
+        void checkValidity_shouldRefreshInBackground_whenApproachingExpiry() throws IOException {
+            service.checkValidity(status(NOT_REVOKED_INDEX));
+            when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(4)).plusSeconds(30));
+
+            assertThat(service.checkValidity(status(NOT_REVOKED_INDEX))).isSucceeded();
+            verify(httpClient, times(1)).execute(any());
+            assertThat(backgroundTasks).hasSize(1);
+
+            backgroundTasks.get(0).run();
+
+            verify(httpClient, times(2)).execute(any());
+        }
+
+        @Test
+        void getStatusPurpose_shouldResolveStatusListOnce_whenEntriesShareIt() throws IOException {
+            var credential = TestFunctions.createCredentialBuilder()
+                    .credentialStatus(status(NOT_REVOKED_INDEX))
+                    .credentialStatus(status(REVOKED_INDEX))
+                    .build();
+
+            assertThat(service.getStatusPurpose(credential)).isSucceeded().isEqualTo("revocation");
+            verify(httpClient, times(1)).execute(any());
+        }
+
+        private CredentialStatus status(int index) {
+            return new CredentialStatus("test-id", "StatusList2021",
+                    Map.of(STATUS_LIST_PURPOSE, "revocation", STATUS_LIST_INDEX, index, STATUS_LIST_CREDENTIAL, STATUS_LIST_URL));
+        }
+
+        private Response response(Request request, int code, String body) {
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code)
+                    .message("message")
+                    .header("ETag", "\"v1\"")
+                    .body(ResponseBody.create(body, MediaType.get("application/json")))
+                    .build();
+        }
+    }
+
 
     private static class SingleSubjectProvider implements ArgumentsProvider {
         @Override
@@ -33,6 +33,9 @@ import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -71,6 +74,18 @@ public class JsonLdExtension implements ServiceExtension {
     @Setting(value = "If true a validation on expended object will be made against configured prefixes", type = "boolean", defaultValue = DEFAULT_CHECK_PREFIXES + "")
     private static final String CHECK_PREFIXES = "edc.jsonld.prefixes.check";
 
+    private static final boolean DEFAULT_CACHE_ENABLED = false;
+    @Setting(value = "If true the remote json-ld documents fetched over http(s) are cached", type = "boolean", defaultValue = DEFAULT_CACHE_ENABLED + "")
+    private static final String CACHE_ENABLED = "edc.jsonld.cache.enabled";
+    private static final long DEFAULT_CACHE_TTL = 60 * 60 * 1000;
+    @Setting(value = "How long a remote json-ld document is cached, in milliseconds", type = "long", defaultValue = DEFAULT_CACHE_TTL + "")
+    private static final String CACHE_TTL = "edc.jsonld.cache.ttl";
+    private static final int DEFAULT_CACHE_SIZE = 100;
+    @Setting(value = "The maximum number of remote json-ld documents kept in memory", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE = "edc.jsonld.cache.size";
+    @Setting(value = "Directory in which cached remote json-ld documents are persisted to be reused after a restart. If not set they are kept only in memory")
+    private static final String CACHE_DIRECTORY = "edc.jsonld.cache.directory";
+
     @Inject
     private TypeManager typeManager;
 
@@ -91,6 +106,10 @@ public class JsonLdExtension implements ServiceExtension {
                 .httpEnabled(config.getBoolean(HTTP_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .httpsEnabled(config.getBoolean(HTTPS_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .checkPrefixes(config.getBoolean(CHECK_PREFIXES, DEFAULT_CHECK_PREFIXES))
+                .remoteCacheEnabled(config.getBoolean(CACHE_ENABLED, DEFAULT_CACHE_ENABLED))
+                .remoteCacheTtl(Duration.ofMillis(config.getLong(CACHE_TTL, DEFAULT_CACHE_TTL)))
+                .remoteCacheSize(config.getInteger(CACHE_SIZE, DEFAULT_CACHE_SIZE))
+                .remoteCacheDirectory(Optional.ofNullable(config.getString(CACHE_DIRECTORY, null)).map(Path::of).orElse(null))
                 .build();
         var monitor = context.getMonitor();
         var service = new TitaniumJsonLd(monitor, configuration);
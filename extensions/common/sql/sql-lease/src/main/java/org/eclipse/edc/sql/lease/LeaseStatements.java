@@ -30,12 +30,70 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Statement that leases a batch of entities at once, see {@link #getAcquireLeasesTemplate(String, String)}.
+     */
+    String getAcquireLeasesTemplate();
+
+    /**
+     * Statement that releases the leases of a batch of entities at once, see {@link #getBreakLeasesTemplate(String, String)}.
+     */
+    String getBreakLeasesTemplate();
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
                 getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
     }
 
+    /**
+     * Builds a statement that leases a batch of entities with a single round trip. Entity rows are locked with
+     * {@code FOR UPDATE SKIP LOCKED}, so rows that are being leased concurrently by another runtime are skipped instead
+     * of blocking. Expired leases of the claimed entities get replaced. The statement returns the ids of the entities
+     * that have actually been leased.
+     * <p>
+     * Parameters: entity ids ({@code String[]}), lease ids ({@code String[]}, same order), now, lease holder, now,
+     * lease duration.
+     *
+     * @param entityTableName the table name of the leased entity.
+     * @param entityIdColumn  the id column of the leased entity.
+     * @return the statement.
+     */
+    default String getAcquireLeasesTemplate(String entityTableName, String entityIdColumn) {
+        return format("""
+                        WITH locked AS (
+                            SELECT e.%2$s AS entity_id, e.%3$s AS previous_lease_id, ids.new_lease_id
+                            FROM %1$s e JOIN unnest(?::varchar[], ?::varchar[]) AS ids(entity_id, new_lease_id) ON e.%2$s = ids.entity_id
+                            WHERE e.%3$s IS NULL OR e.%3$s IN (SELECT l.%3$s FROM %4$s l WHERE ? > (l.%5$s + l.%6$s))
+                            FOR UPDATE OF e SKIP LOCKED),
+                        claimed AS (
+                            UPDATE %1$s SET %3$s = locked.new_lease_id FROM locked WHERE %1$s.%2$s = locked.entity_id
+                            RETURNING locked.entity_id, locked.new_lease_id, locked.previous_lease_id),
+                        inserted AS (
+                            INSERT INTO %4$s (%3$s, %7$s, %5$s, %6$s) SELECT new_lease_id, ?, ?, ? FROM claimed),
+                        purged AS (
+                            DELETE FROM %4$s WHERE %3$s IN (SELECT previous_lease_id FROM claimed))
+                        SELECT entity_id FROM claimed;
+                        """,
+                entityTableName, entityIdColumn, getLeaseIdColumn(), getLeaseTableName(),
+                getLeasedAtColumn(), getLeaseDurationColumn(), getLeasedByColumn());
+    }
+
+    /**
+     * Builds a statement that deletes the leases held by a lease holder on a batch of entities. The lease reference on
+     * the entity is cleared by the {@code ON DELETE SET NULL} foreign key.
+     * <p>
+     * Parameters: entity ids ({@code String[]}), lease holder.
+     *
+     * @param entityTableName the table name of the leased entity.
+     * @param entityIdColumn  the id column of the leased entity.
+     * @return the statement.
+     */
+    default String getBreakLeasesTemplate(String entityTableName, String entityIdColumn) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s = ANY (?::varchar[])) AND %s = ?",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), entityTableName, entityIdColumn, getLeasedByColumn());
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
@@ -26,8 +26,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * SQL-based implementation of the LeaseContext.
@@ -57,16 +61,13 @@ public class SqlLeaseContext implements LeaseContext {
     @Override
     public void breakLease(String entityId) {
         trxContext.execute(() -> {
+            if (releaseLeases(List.of(entityId)) > 0) {
+                return;
+            }
 
             var l = getLease(entityId);
-
-            if (l != null) {
-                if (!Objects.equals(leaseHolder, l.getLeasedBy())) {
-                    throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot break lease!");
-                }
-
-                var stmt = statements.getDeleteLeaseTemplate();
-                queryExecutor.execute(connection, stmt, l.getLeaseId());
+            if (l != null && !Objects.equals(leaseHolder, l.getLeasedBy())) {
+                throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot break lease!");
             }
         });
     }
@@ -101,6 +102,32 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires leases for a batch of entities with a single statement. Differently from {@link #acquireLease(String)},
+     * entities that are currently leased, or that are being leased concurrently by another runtime, do not cause a
+     * failure but are skipped.
+     *
+     * @param entityIds the ids of the entities to be leased.
+     * @return the ids of the entities that have actually been leased.
+     */
+    public Set<String> acquireLeases(Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var ids = entityIds.toArray(String[]::new);
+            var leaseIds = entityIds.stream().map(id -> UUID.randomUUID().toString()).toArray(String[]::new);
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var stmt = statements.getAcquireLeasesTemplate();
+
+            try (var stream = queryExecutor.query(connection, false, rs -> rs.getString(1), stmt, ids, leaseIds, now, leaseHolder, now, duration)) {
+                return stream.collect(Collectors.toSet());
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -112,6 +139,11 @@ public class SqlLeaseContext implements LeaseContext {
         return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
     }
 
+    private int releaseLeases(Collection<String> entityIds) {
+        var stmt = statements.getBreakLeasesTemplate();
+        return queryExecutor.execute(connection, stmt, entityIds.toArray(String[]::new), leaseHolder);
+    }
+
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
         var lease = new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
                 resultSet.getLong(statements.getLeasedAtColumn()),
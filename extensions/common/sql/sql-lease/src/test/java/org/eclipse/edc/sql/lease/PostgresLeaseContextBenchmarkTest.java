@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlLocalInstance;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the per-entity lease acquisition with the batched one on a local Postgres instance. The number of
+ * statements sent to the database is asserted, the timings are only published to the test report as they depend on
+ * the machine.
+ */
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresLeaseContextBenchmarkTest {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int ITERATIONS = 5;
+
+    private final TransactionContext transactionContext = new NoopTransactionContext();
+    private final PostgresLeaseContextTest.TestEntityLeaseStatements dialect = new PostgresLeaseContextTest.TestEntityLeaseStatements();
+    private final SqlQueryExecutor queryExecutor = new SqlQueryExecutor();
+    private final CountingQueryExecutor countingQueryExecutor = new CountingQueryExecutor(queryExecutor);
+    private SqlLeaseContext leaseContext;
+
+    @BeforeAll
+    static void prepare(PostgresqlLocalInstance postgres) {
+        postgres.createDatabase();
+    }
+
+    @BeforeEach
+    void setup(PostgresqlStoreSetupExtension setupExtension, Connection connection) throws IOException {
+        var schema = Files.readString(Paths.get("./src/test/resources/schema.sql"));
+        setupExtension.runQuery(schema);
+
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, "benchmark", dialect, Clock.systemUTC(), countingQueryExecutor)
+                .withConnection(connection);
+    }
+
+    @AfterEach
+    void teardown(PostgresqlStoreSetupExtension setupExtension) {
+        setupExtension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
+        setupExtension.runQuery("DROP TABLE " + dialect.getEntityTableName() + " CASCADE");
+    }
+
+    @Test
+    void batchedAcquisition_shouldLeaseEveryEntityOnceWithSingleStatement(Connection connection, TestReporter reporter) {
+        var ids = IntStream.range(0, BATCH_SIZE).mapToObj(i -> "entity-" + i).toList();
+        ids.forEach(id -> queryExecutor.execute(connection, "INSERT INTO " + dialect.getEntityTableName() + " (id) VALUES (?)", id));
+
+        var perEntity = 0L;
+        var batched = 0L;
+        for (var i = 0; i < ITERATIONS; i++) {
+            countingQueryExecutor.statements.set(0);
+            perEntity += measure(() -> ids.forEach(leaseContext::acquireLease));
+            assertThat(countingQueryExecutor.statements.get()).isGreaterThanOrEqualTo(BATCH_SIZE);
+            assertLeasedOnce(connection, ids);
+            releaseAll(ids);
+
+            countingQueryExecutor.statements.set(0);
+            var leased = new AtomicReference<Set<String>>();
+            batched += measure(() -> leased.set(leaseContext.acquireLeases(ids)));
+            assertThat(countingQueryExecutor.statements.get()).isEqualTo(1);
+            assertThat(leased.get()).containsExactlyInAnyOrderElementsOf(ids);
+            assertLeasedOnce(connection, ids);
+            releaseAll(ids);
+        }
+
+        reporter.publishEntry("perEntityMillis", String.valueOf(perEntity / 1_000_000));
+        reporter.publishEntry("batchedMillis", String.valueOf(batched / 1_000_000));
+    }
+
+    /**
+     * Every entity references its own lease, and the lease holder owns exactly one lease per entity.
+     */
+    private void assertLeasedOnce(Connection connection, List<String> ids) {
+        var leaseIds = queryExecutor.query(connection, false, rs -> rs.getString(1),
+                "SELECT " + dialect.getLeaseIdColumn() + " FROM " + dialect.getEntityTableName() + " WHERE " + dialect.getLeaseIdColumn() + " IS NOT NULL");
+        try (leaseIds) {
+            assertThat(leaseIds.toList()).hasSize(ids.size()).doesNotHaveDuplicates();
+        }
+        var leases = queryExecutor.single(connection, false, rs -> rs.getLong(1),
+                "SELECT COUNT(*) FROM " + dialect.getLeaseTableName() + " WHERE " + dialect.getLeasedByColumn() + " = ?", "benchmark");
+        assertThat(leases).isEqualTo(ids.size());
+    }
+
+    private void releaseAll(List<String> ids) {
+        ids.forEach(leaseContext::breakLease);
+        assertThat(ids).noneMatch(id -> leaseContext.getLease(id) != null);
+    }
+
+    private long measure(Runnable runnable) {
+        var start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Counts the statements sent to the database.
+     */
+    private static class CountingQueryExecutor implements QueryExecutor {
+
+        private final AtomicInteger statements = new AtomicInteger();
+        private final QueryExecutor delegate;
+
+        CountingQueryExecutor(QueryExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int execute(Connection connection, String sql, Object... arguments) {
+            statements.incrementAndGet();
+            return delegate.execute(connection, sql, arguments);
+        }
+
+        @Override
+        public <T> Stream<T> query(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+            statements.incrementAndGet();
+            return delegate.query(connection, closeConnection, resultSetMapper, sql, arguments);
+        }
+
+        @Override
+        public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+            statements.incrementAndGet();
+            return delegate.single(connection, closeConnection, resultSetMapper, sql, arguments);
+        }
+    }
+}
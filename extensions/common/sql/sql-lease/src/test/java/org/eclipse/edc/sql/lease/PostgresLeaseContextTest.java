@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -175,6 +176,60 @@ class PostgresLeaseContextTest {
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(leaseContext.getLease("id1")).isNotNull().satisfies(lease -> {
+            assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+            assertThat(lease.getLeaseDuration()).isEqualTo(60_000L);
+        });
+        assertThat(leaseContext.getLease("id1").getLeaseId()).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_shouldSkipEntitiesLeasedByOthers(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+        assertThat(leaseContext.getLease("id2")).extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldReplaceIt(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var expiredLeaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        assertThat(twoMinutesAheadContext.getLease("id1")).isNotNull().satisfies(lease -> {
+            assertThat(lease.getLeaseId()).isNotEqualTo(expiredLeaseId);
+            assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+        });
+        assertThat(countLeases(connection)).isEqualTo(1);
+    }
+
+    @Test
+    void acquireLeases_whenEmpty_shouldReturnEmptySet() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -199,11 +254,15 @@ class PostgresLeaseContextTest {
         });
     }
 
+    private long countLeases(Connection connection) {
+        return transactionContext.execute(() -> queryExecutor.single(connection, false, rs -> rs.getLong(1), "SELECT COUNT(*) FROM " + dialect.getLeaseTableName()));
+    }
+
     private ResultSetMapper<TestEntity> map() {
         return (rs) -> new TestEntity(rs.getString("id"), rs.getString("lease_id"));
     }
 
-    private static class TestEntityLeaseStatements implements LeaseStatements {
+    static class TestEntityLeaseStatements implements LeaseStatements {
 
         @Override
         public String getDeleteLeaseTemplate() {
@@ -232,6 +291,16 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getAcquireLeasesTemplate() {
+            return getAcquireLeasesTemplate(getEntityTableName(), "id");
+        }
+
+        @Override
+        public String getBreakLeasesTemplate() {
+            return getBreakLeasesTemplate(getEntityTableName(), "id");
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
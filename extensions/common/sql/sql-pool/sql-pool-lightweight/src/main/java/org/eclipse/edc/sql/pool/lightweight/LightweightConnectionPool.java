@@ -0,0 +1,301 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.pool.lightweight;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.pool.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Connection pool that avoids a round trip to the database on every borrow: a connection is validated with
+ * {@link Connection#isValid(int)} only when it has been idle for longer than the configured validation idle time.
+ * <p>
+ * Borrowing takes a permit and an idle connection without locking when one is available, and waits for a permit only
+ * when all the connections are in use. Connections borrowed for longer than the leak detection threshold are reported
+ * to the monitor. When bound to a {@link MeterRegistry} the pool exports gauges for the active, idle and pending
+ * connections, and a timer for the time spent waiting for a connection.
+ */
+public final class LightweightConnectionPool implements ConnectionPool, MeterBinder {
+
+    private static final String METRIC_PREFIX = "edc.datasource.pool.connections";
+
+    private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final Map<Connection, PooledConnection> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Semaphore permits;
+    private final String name;
+    private final DataSource dataSource;
+    private final LightweightConnectionPoolConfig poolConfig;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final ScheduledExecutorService leakDetector;
+    private volatile Timer waitTimer;
+    private volatile boolean closed;
+
+    public LightweightConnectionPool(String name, DataSource dataSource, LightweightConnectionPoolConfig poolConfig, Monitor monitor, Clock clock) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
+        this.poolConfig = Objects.requireNonNull(poolConfig, "poolConfig");
+        this.monitor = monitor;
+        this.clock = clock;
+        this.permits = new Semaphore(poolConfig.getMaxTotalConnections(), true);
+
+        var leakDetectionThreshold = poolConfig.getLeakDetectionThreshold().toMillis();
+        if (leakDetectionThreshold > 0) {
+            var period = Math.max(leakDetectionThreshold / 2, 1);
+            leakDetector = Executors.newSingleThreadScheduledExecutor(r -> {
+                var thread = new Thread(r, "ConnectionPool-" + name + "-leak-detector");
+                thread.setDaemon(true);
+                return thread;
+            });
+            leakDetector.scheduleAtFixedRate(this::detectLeaks, period, period, MILLISECONDS);
+        } else {
+            leakDetector = null;
+        }
+    }
+
+    @Override
+    public Connection getConnection() {
+        var start = System.nanoTime();
+        acquirePermit();
+        try {
+            var connection = borrow();
+            var timer = waitTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, NANOSECONDS);
+            }
+            return connection;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void returnConnection(Connection connection) {
+        Objects.requireNonNull(connection, "connection");
+
+        var pooled = connections.get(connection);
+        if (pooled == null || !pooled.inUse.compareAndSet(true, false)) {
+            throw new IllegalStateException("Returned connection is not currently borrowed from the pool " + name);
+        }
+
+        try {
+            if (closed || isClosed(connection)) {
+                destroy(pooled);
+                return;
+            }
+            if (idleCount.incrementAndGet() > poolConfig.getMaxIdleConnections()) {
+                idleCount.decrementAndGet();
+                destroy(pooled);
+                return;
+            }
+            pooled.lastUsed = clock.millis();
+            idle.offerFirst(pooled);
+        } finally {
+            permits.release();
+        }
+
+        if (closed) {
+            destroyIdle();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (leakDetector != null) {
+            leakDetector.shutdownNow();
+        }
+        destroyIdle();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var tags = Tags.of("pool", name);
+        Gauge.builder(METRIC_PREFIX + ".active", this, LightweightConnectionPool::getActiveConnections)
+                .description("Connections currently borrowed from the pool").tags(tags).register(registry);
+        Gauge.builder(METRIC_PREFIX + ".idle", this, LightweightConnectionPool::getIdleConnections)
+                .description("Idle connections kept by the pool").tags(tags).register(registry);
+        Gauge.builder(METRIC_PREFIX + ".pending", this, LightweightConnectionPool::getPendingRequests)
+                .description("Callers waiting for a connection").tags(tags).register(registry);
+        Gauge.builder(METRIC_PREFIX + ".max", poolConfig, LightweightConnectionPoolConfig::getMaxTotalConnections)
+                .description("Maximum amount of connections of the pool").tags(tags).register(registry);
+        waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("Time spent obtaining a connection from the pool").tags(tags).register(registry);
+    }
+
+    public LightweightConnectionPoolConfig getPoolConfig() {
+        return poolConfig;
+    }
+
+    public int getActiveConnections() {
+        return poolConfig.getMaxTotalConnections() - permits.availablePermits();
+    }
+
+    public int getIdleConnections() {
+        return Math.max(0, idleCount.get());
+    }
+
+    public int getPendingRequests() {
+        return pending.get();
+    }
+
+    /**
+     * Reports the connections that have been borrowed for longer than the leak detection threshold. Every borrow is
+     * reported only once.
+     */
+    void detectLeaks() {
+        var now = clock.millis();
+        var threshold = poolConfig.getLeakDetectionThreshold().toMillis();
+        connections.values().stream()
+                .filter(pooled -> pooled.inUse.get() && !pooled.leakReported && now - pooled.borrowedAt >= threshold)
+                .forEach(pooled -> {
+                    pooled.leakReported = true;
+                    monitor.warning(format("ConnectionPool [%s]: connection borrowed by thread %s has not been returned for %d ms, possible connection leak",
+                            name, pooled.borrower, now - pooled.borrowedAt));
+                });
+    }
+
+    private void acquirePermit() {
+        if (closed) {
+            throw new EdcPersistenceException(format("ConnectionPool [%s] is closed", name));
+        }
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        pending.incrementAndGet();
+        try {
+            var timeout = poolConfig.getAcquireTimeout().toMillis();
+            if (!permits.tryAcquire(timeout, MILLISECONDS)) {
+                throw new EdcPersistenceException(format("ConnectionPool [%s]: no connection available after %d ms", name, timeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcPersistenceException(format("ConnectionPool [%s]: interrupted while waiting for a connection", name), e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private Connection borrow() {
+        var now = clock.millis();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (isValid(pooled, now)) {
+                return pooled.borrow(now);
+            }
+            destroy(pooled);
+        }
+        return create().borrow(now);
+    }
+
+    private boolean isValid(PooledConnection pooled, long now) {
+        if (now - pooled.lastUsed < poolConfig.getValidationIdleTime().toMillis()) {
+            return true;
+        }
+        try {
+            var timeout = (int) Math.max(1, poolConfig.getValidationTimeout().toSeconds());
+            return pooled.connection.isValid(timeout);
+        } catch (Exception e) { // any exception thrown indicates invalidity of the connection
+            return false;
+        }
+    }
+
+    private PooledConnection create() {
+        try {
+            var connection = dataSource.getConnection();
+            var pooled = new PooledConnection(connection);
+            connections.put(connection, pooled);
+            return pooled;
+        } catch (Exception e) {
+            throw new EdcPersistenceException(e.getMessage(), e);
+        }
+    }
+
+    private void destroyIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            destroy(pooled);
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        connections.remove(pooled.connection);
+        try {
+            pooled.connection.close();
+        } catch (SQLException e) {
+            monitor.debug(format("ConnectionPool [%s]: failed to close connection", name), e);
+        }
+    }
+
+    private boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static final class PooledConnection {
+        private final Connection connection;
+        private final AtomicBoolean inUse = new AtomicBoolean();
+        private volatile long lastUsed;
+        private volatile long borrowedAt;
+        private volatile String borrower;
+        private volatile boolean leakReported;
+
+        PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        Connection borrow(long now) {
+            borrowedAt = now;
+            borrower = Thread.currentThread().getName();
+            leakReported = false;
+            inUse.set(true);
+            return connection;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.pool.lightweight;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration of the {@link LightweightConnectionPool}.
+ */
+public class LightweightConnectionPoolConfig {
+
+    private int maxTotalConnections = 8;
+    private int maxIdleConnections = 4;
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+    private Duration validationIdleTime = Duration.ofSeconds(30);
+    private Duration validationTimeout = Duration.ofSeconds(5);
+    private Duration leakDetectionThreshold = Duration.ofSeconds(60);
+
+    private LightweightConnectionPoolConfig() {
+    }
+
+    /**
+     * The maximum amount of connections maintained by the pool, both borrowed and idle.
+     */
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    /**
+     * The maximum amount of idle connections kept by the pool, the others are closed when returned.
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * How long a caller waits for a connection when all of them are borrowed.
+     */
+    public Duration getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    /**
+     * How long a connection can stay idle before it gets validated on borrow. Connections used more recently are
+     * handed out without validation.
+     */
+    public Duration getValidationIdleTime() {
+        return validationIdleTime;
+    }
+
+    /**
+     * How long the driver waits for the database while validating a connection.
+     */
+    public Duration getValidationTimeout() {
+        return validationTimeout;
+    }
+
+    /**
+     * How long a connection can be borrowed before it is reported as a possible leak, zero disables leak detection.
+     */
+    public Duration getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    public static final class Builder {
+
+        private final LightweightConnectionPoolConfig config = new LightweightConnectionPoolConfig();
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder maxTotalConnections(int maxTotalConnections) {
+            config.maxTotalConnections = maxTotalConnections;
+            return this;
+        }
+
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            config.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        public Builder acquireTimeout(Duration acquireTimeout) {
+            config.acquireTimeout = acquireTimeout;
+            return this;
+        }
+
+        public Builder validationIdleTime(Duration validationIdleTime) {
+            config.validationIdleTime = validationIdleTime;
+            return this;
+        }
+
+        public Builder validationTimeout(Duration validationTimeout) {
+            config.validationTimeout = validationTimeout;
+            return this;
+        }
+
+        public Builder leakDetectionThreshold(Duration leakDetectionThreshold) {
+            config.leakDetectionThreshold = leakDetectionThreshold;
+            return this;
+        }
+
+        public LightweightConnectionPoolConfig build() {
+            if (config.maxTotalConnections < 1) {
+                throw new IllegalArgumentException("maxTotalConnections must be greater than zero");
+            }
+            Objects.requireNonNull(config.acquireTimeout, "acquireTimeout");
+            Objects.requireNonNull(config.validationIdleTime, "validationIdleTime");
+            Objects.requireNonNull(config.validationTimeout, "validationTimeout");
+            Objects.requireNonNull(config.leakDetectionThreshold, "leakDetectionThreshold");
+            return config;
+        }
+    }
+}
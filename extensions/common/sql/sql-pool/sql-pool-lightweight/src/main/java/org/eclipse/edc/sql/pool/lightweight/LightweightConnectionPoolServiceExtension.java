@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.pool.lightweight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.sql.ConnectionFactory;
+import org.eclipse.edc.sql.datasource.ConnectionFactoryDataSource;
+import org.eclipse.edc.sql.datasource.ConnectionPoolDataSource;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import javax.sql.DataSource;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Registers the configured data sources backed by a {@link LightweightConnectionPool}. Alternative to the commons
+ * connection pool extension, only one of them should be used in a runtime.
+ */
+@Extension(value = LightweightConnectionPoolServiceExtension.NAME)
+public class LightweightConnectionPoolServiceExtension implements ServiceExtension {
+
+    public static final String NAME = "Lightweight Connection Pool";
+
+    public static final String EDC_DATASOURCE_PREFIX = "edc.datasource";
+    private static final String EDC_DATASOURCE_CONFIG_CONTEXT = EDC_DATASOURCE_PREFIX + ".<name>";
+
+    public static final int DEFAULT_POOL_CONNECTIONS_MAX_TOTAL = 8;
+    public static final int DEFAULT_POOL_CONNECTIONS_MAX_IDLE = 4;
+    public static final long DEFAULT_POOL_CONNECTION_ACQUIRE_TIMEOUT = 30_000;
+    public static final long DEFAULT_POOL_CONNECTION_VALIDATION_IDLE_TIME = 30_000;
+    public static final long DEFAULT_POOL_CONNECTION_VALIDATION_TIMEOUT = 5_000;
+    public static final long DEFAULT_POOL_CONNECTION_LEAK_DETECTION_THRESHOLD = 60_000;
+
+    @Setting(value = "JDBC url", required = true, context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String URL = "url";
+    @Setting(value = "Username to be used for the JDBC connection. Can be omitted if not required, or if the user is encoded in the JDBC url.", context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String USER = "user";
+    @Setting(value = "Username to be used for the JDBC connection. Can be omitted if not required, or if the password is encoded in the JDBC url.", context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String PASSWORD = "password";
+
+    @Setting(value = "Pool max total connections", type = "int", defaultValue = DEFAULT_POOL_CONNECTIONS_MAX_TOTAL + "", context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String POOL_CONNECTIONS_MAX_TOTAL = "pool.connections.max-total";
+    @Setting(value = "Pool max idle connections", type = "int", defaultValue = DEFAULT_POOL_CONNECTIONS_MAX_IDLE + "", context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String POOL_CONNECTIONS_MAX_IDLE = "pool.connections.max-idle";
+    @Setting(value = "Time in ms a caller waits for a connection when all of them are in use", type = "long", defaultValue = DEFAULT_POOL_CONNECTION_ACQUIRE_TIMEOUT + "", context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String POOL_CONNECTION_ACQUIRE_TIMEOUT = "pool.connection.acquire-timeout";
+    @Setting(value = "Time in ms a connection can stay idle before being validated on borrow", type = "long", defaultValue = DEFAULT_POOL_CONNECTION_VALIDATION_IDLE_TIME + "", context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String POOL_CONNECTION_VALIDATION_IDLE_TIME = "pool.connection.validation.idle-time";
+    @Setting(value = "Time in ms the validation of a connection can take", type = "long", defaultValue = DEFAULT_POOL_CONNECTION_VALIDATION_TIMEOUT + "", context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String POOL_CONNECTION_VALIDATION_TIMEOUT = "pool.connection.validation.timeout";
+    @Setting(value = "Time in ms a connection can be borrowed before being reported as a possible leak, 0 disables leak detection", type = "long", defaultValue = DEFAULT_POOL_CONNECTION_LEAK_DETECTION_THRESHOLD + "", context = EDC_DATASOURCE_CONFIG_CONTEXT)
+    public static final String POOL_CONNECTION_LEAK_DETECTION_THRESHOLD = "pool.connection.leak-detection.threshold";
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting(value = "Export the connection pool metrics to the meter registry, if available", type = "boolean", defaultValue = "true")
+    public static final String ENABLE_DATASOURCE_METRICS = "edc.metrics.datasource.enabled";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private Monitor monitor;
+
+    @Inject
+    private ConnectionFactory connectionFactory;
+
+    @Inject
+    private Vault vault;
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final List<LightweightConnectionPool> connectionPools = new LinkedList<>();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = meterRegistry != null && context.getSetting(ENABLE_METRICS, true) && context.getSetting(ENABLE_DATASOURCE_METRICS, true);
+
+        context.getConfig(EDC_DATASOURCE_PREFIX).partition().forEach(config -> {
+            var dataSourceName = config.currentNode();
+            var dataSource = createDataSource(config);
+            var connectionPool = new LightweightConnectionPool(dataSourceName, dataSource, createPoolConfig(config), monitor, clock);
+            if (enableMetrics) {
+                connectionPool.bindTo(meterRegistry);
+            }
+            connectionPools.add(connectionPool);
+            dataSourceRegistry.register(dataSourceName, new ConnectionPoolDataSource(connectionPool));
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        connectionPools.forEach(LightweightConnectionPool::close);
+    }
+
+    private DataSource createDataSource(Config config) {
+        var rootPath = EDC_DATASOURCE_PREFIX + "." + config.currentNode();
+
+        var jdbcUrl = getSecretOrSetting(rootPath, URL, config)
+                .orElseThrow(() -> new EdcException("Mandatory url for datasource '%s' not found. Please provide a value for it, either as a secret in the vault or an application property.".formatted(config.currentNode())));
+        var jdbcUser = getSecretOrSetting(rootPath, USER, config);
+        var jdbcPassword = getSecretOrSetting(rootPath, PASSWORD, config);
+
+        var properties = new Properties();
+        properties.putAll(config.getRelativeEntries());
+
+        jdbcUser.ifPresent(u -> properties.put(USER, u));
+        jdbcPassword.ifPresent(p -> properties.put(PASSWORD, p));
+
+        return new ConnectionFactoryDataSource(connectionFactory, jdbcUrl, properties);
+    }
+
+    private Optional<String> getSecretOrSetting(String rootPath, String key, Config config) {
+        var fullKey = rootPath + "." + key;
+        return ofNullable(vault.resolveSecret(fullKey))
+                .or(() -> {
+                    monitor.warning("Datasource configuration value '%s' not found in vault, will fall back to Config. Please consider putting datasource configuration into the vault.".formatted(fullKey));
+                    return Optional.ofNullable(config.getString(key, null));
+                });
+    }
+
+    private LightweightConnectionPoolConfig createPoolConfig(Config config) {
+        return LightweightConnectionPoolConfig.Builder.newInstance()
+                .maxTotalConnections(config.getInteger(POOL_CONNECTIONS_MAX_TOTAL, DEFAULT_POOL_CONNECTIONS_MAX_TOTAL))
+                .maxIdleConnections(config.getInteger(POOL_CONNECTIONS_MAX_IDLE, DEFAULT_POOL_CONNECTIONS_MAX_IDLE))
+                .acquireTimeout(Duration.ofMillis(config.getLong(POOL_CONNECTION_ACQUIRE_TIMEOUT, DEFAULT_POOL_CONNECTION_ACQUIRE_TIMEOUT)))
+                .validationIdleTime(Duration.ofMillis(config.getLong(POOL_CONNECTION_VALIDATION_IDLE_TIME, DEFAULT_POOL_CONNECTION_VALIDATION_IDLE_TIME)))
+                .validationTimeout(Duration.ofMillis(config.getLong(POOL_CONNECTION_VALIDATION_TIMEOUT, DEFAULT_POOL_CONNECTION_VALIDATION_TIMEOUT)))
+                .leakDetectionThreshold(Duration.ofMillis(config.getLong(POOL_CONNECTION_LEAK_DETECTION_THRESHOLD, DEFAULT_POOL_CONNECTION_LEAK_DETECTION_THRESHOLD)))
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.pool.lightweight;
+
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.pool.ConnectionPool;
+import org.eclipse.edc.sql.pool.commons.CommonsConnectionPool;
+import org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfig;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the connection borrowing of the lightweight pool with the one of the Apache Commons pool configured to test
+ * connections on borrow, on a local Postgres instance. The number of validations sent to the database is asserted, the
+ * timings are only published to the test report as they depend on the machine.
+ */
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class LightweightConnectionPoolBenchmarkTest {
+
+    private static final int BORROWS = 1000;
+    private static final String TEST_QUERY = "SELECT 1;";
+    private static final String QUERY = "SELECT CURRENT_TIMESTAMP;";
+
+    private final AtomicInteger validations = new AtomicInteger();
+    private final Monitor monitor = mock();
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setup(PostgresqlStoreSetupExtension setupExtension) {
+        dataSource = counting(setupExtension.getDataSourceRegistry().resolve(setupExtension.getDatasourceName()));
+    }
+
+    @Test
+    void lightweightPool_shouldNotValidateRecentlyUsedConnections(TestReporter reporter) {
+        var commonsConfig = CommonsConnectionPoolConfig.Builder.newInstance()
+                .testConnectionOnBorrow(true)
+                .testQuery(TEST_QUERY)
+                .build();
+        long commons;
+        try (var pool = new CommonsConnectionPool(dataSource, commonsConfig, monitor)) {
+            commons = measure(pool);
+        }
+        assertThat(validations.get()).isGreaterThanOrEqualTo(BORROWS);
+
+        validations.set(0);
+        var lightweightConfig = LightweightConnectionPoolConfig.Builder.newInstance().build();
+        long lightweight;
+        try (var pool = new LightweightConnectionPool("benchmark", dataSource, lightweightConfig, monitor, Clock.systemUTC())) {
+            lightweight = measure(pool);
+        }
+        assertThat(validations.get()).isZero();
+
+        reporter.publishEntry("commonsMillis", String.valueOf(commons / 1_000_000));
+        reporter.publishEntry("lightweightMillis", String.valueOf(lightweight / 1_000_000));
+    }
+
+    private long measure(ConnectionPool pool) {
+        var start = System.nanoTime();
+        for (var i = 0; i < BORROWS; i++) {
+            var connection = pool.getConnection();
+            try (var statement = connection.prepareStatement(QUERY)) {
+                assertThat(statement.execute()).isTrue();
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            } finally {
+                pool.returnConnection(connection);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private DataSource counting(DataSource dataSource) {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ DataSource.class }, (proxy, method, args) -> {
+            var result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? counting(connection) : result;
+        });
+    }
+
+    /**
+     * Counts the validations of the connection, either through {@link Connection#isValid(int)} or through the test
+     * query. Equality is kept by identity as the pools track the borrowed connections.
+     */
+    private Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ Connection.class }, (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("isValid") || method.getName().equals("prepareStatement") && TEST_QUERY.equals(args[0])) {
+                validations.incrementAndGet();
+            }
+            return invoke(connection, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.pool.lightweight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.boot.vault.InMemoryVault;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.sql.ConnectionFactory;
+import org.eclipse.edc.sql.datasource.ConnectionPoolDataSource;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.type;
+import static org.eclipse.edc.sql.pool.lightweight.LightweightConnectionPoolServiceExtension.EDC_DATASOURCE_PREFIX;
+import static org.eclipse.edc.sql.pool.lightweight.LightweightConnectionPoolServiceExtension.POOL_CONNECTIONS_MAX_IDLE;
+import static org.eclipse.edc.sql.pool.lightweight.LightweightConnectionPoolServiceExtension.POOL_CONNECTIONS_MAX_TOTAL;
+import static org.eclipse.edc.sql.pool.lightweight.LightweightConnectionPoolServiceExtension.POOL_CONNECTION_ACQUIRE_TIMEOUT;
+import static org.eclipse.edc.sql.pool.lightweight.LightweightConnectionPoolServiceExtension.POOL_CONNECTION_LEAK_DETECTION_THRESHOLD;
+import static org.eclipse.edc.sql.pool.lightweight.LightweightConnectionPoolServiceExtension.POOL_CONNECTION_VALIDATION_IDLE_TIME;
+import static org.eclipse.edc.sql.pool.lightweight.LightweightConnectionPoolServiceExtension.POOL_CONNECTION_VALIDATION_TIMEOUT;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class LightweightConnectionPoolServiceExtensionTest {
+
+    private static final String DS_1_NAME = "ds1";
+    private final DataSourceRegistry dataSourceRegistry = mock();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        context.registerService(DataSourceRegistry.class, dataSourceRegistry);
+        context.registerService(Vault.class, new InMemoryVault(mock()));
+        context.registerService(ConnectionFactory.class, mock());
+        context.registerService(Clock.class, Clock.systemUTC());
+        context.registerService(MeterRegistry.class, meterRegistry);
+    }
+
+    @Test
+    void initialize_shouldRegisterPooledDataSource(LightweightConnectionPoolServiceExtension extension, ServiceExtensionContext context) {
+        when(context.getConfig(EDC_DATASOURCE_PREFIX)).thenReturn(ConfigFactory.fromMap(Map.of(
+                DS_1_NAME + ".url", "jdbc://whatever",
+                DS_1_NAME + "." + POOL_CONNECTIONS_MAX_TOTAL, "10",
+                DS_1_NAME + "." + POOL_CONNECTIONS_MAX_IDLE, "5",
+                DS_1_NAME + "." + POOL_CONNECTION_ACQUIRE_TIMEOUT, "1000",
+                DS_1_NAME + "." + POOL_CONNECTION_VALIDATION_IDLE_TIME, "2000",
+                DS_1_NAME + "." + POOL_CONNECTION_VALIDATION_TIMEOUT, "3000",
+                DS_1_NAME + "." + POOL_CONNECTION_LEAK_DETECTION_THRESHOLD, "0")));
+
+        extension.initialize(context);
+
+        var captor = ArgumentCaptor.forClass(ConnectionPoolDataSource.class);
+        verify(dataSourceRegistry).register(eq(DS_1_NAME), captor.capture());
+        assertThat(captor.getValue()).extracting("connectionPool").asInstanceOf(type(LightweightConnectionPool.class))
+                .extracting(LightweightConnectionPool::getPoolConfig).satisfies(config -> {
+                    assertThat(config.getMaxTotalConnections()).isEqualTo(10);
+                    assertThat(config.getMaxIdleConnections()).isEqualTo(5);
+                    assertThat(config.getAcquireTimeout()).isEqualTo(Duration.ofSeconds(1));
+                    assertThat(config.getValidationIdleTime()).isEqualTo(Duration.ofSeconds(2));
+                    assertThat(config.getValidationTimeout()).isEqualTo(Duration.ofSeconds(3));
+                    assertThat(config.getLeakDetectionThreshold()).isZero();
+                });
+        assertThat(meterRegistry.find("edc.datasource.pool.connections.active").tag("pool", DS_1_NAME).gauge()).isNotNull();
+
+        extension.shutdown();
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.pool.lightweight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LightweightConnectionPoolTest {
+
+    private final DataSource dataSource = mock();
+    private final Monitor monitor = mock();
+    private final Clock clock = mock();
+    private LightweightConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(clock.millis()).thenReturn(0L);
+        when(dataSource.getConnection()).thenAnswer(i -> mock(Connection.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void getConnection_shouldReuseReturnedConnection_withoutValidation() throws SQLException {
+        pool = createPool(config().build());
+
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+        when(clock.millis()).thenReturn(29_999L);
+
+        assertThat(pool.getConnection()).isSameAs(connection);
+        verify(dataSource, times(1)).getConnection();
+        verify(connection, never()).isValid(anyInt());
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void getConnection_shouldValidate_whenIdleLongerThanValidationIdleTime() throws SQLException {
+        pool = createPool(config().build());
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(clock.millis()).thenReturn(30_000L);
+
+        assertThat(pool.getConnection()).isSameAs(connection);
+        verify(connection).isValid(5);
+    }
+
+    @Test
+    void getConnection_shouldReplaceInvalidConnection() throws SQLException {
+        pool = createPool(config().build());
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+        when(connection.isValid(anyInt())).thenReturn(false);
+        when(clock.millis()).thenReturn(30_000L);
+
+        var result = pool.getConnection();
+
+        assertThat(result).isNotSameAs(connection);
+        verify(connection).close();
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_shouldFail_whenNoConnectionIsReturnedInTime() {
+        pool = createPool(config().maxTotalConnections(1).acquireTimeout(Duration.ofMillis(10)).build());
+        pool.getConnection();
+
+        assertThatThrownBy(pool::getConnection).isInstanceOf(EdcPersistenceException.class);
+        assertThat(pool.getPendingRequests()).isZero();
+    }
+
+    @Test
+    void getConnection_shouldWrapDataSourceFailure_andReleaseCapacity() throws SQLException {
+        pool = createPool(config().maxTotalConnections(1).acquireTimeout(Duration.ofMillis(10)).build());
+        var cause = new SQLException("intended to be thrown");
+        when(dataSource.getConnection()).thenThrow(cause);
+
+        assertThatThrownBy(pool::getConnection).isInstanceOf(EdcPersistenceException.class).hasCause(cause);
+        assertThat(pool.getActiveConnections()).isZero();
+    }
+
+    @Test
+    void returnConnection_shouldCloseConnection_whenMaxIdleReached() throws SQLException {
+        pool = createPool(config().maxIdleConnections(1).build());
+        var first = pool.getConnection();
+        var second = pool.getConnection();
+
+        pool.returnConnection(first);
+        pool.returnConnection(second);
+
+        assertThat(pool.getIdleConnections()).isEqualTo(1);
+        verify(first, never()).close();
+        verify(second).close();
+    }
+
+    @Test
+    void returnConnection_shouldFail_whenConnectionIsNotBorrowed() {
+        pool = createPool(config().build());
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+
+        assertThatThrownBy(() -> pool.returnConnection(connection)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> pool.returnConnection(mock(Connection.class))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void detectLeaks_shouldReportConnectionBorrowedLongerThanThreshold_once() {
+        pool = createPool(config().leakDetectionThreshold(Duration.ofHours(1)).build());
+        var connection = pool.getConnection();
+
+        when(clock.millis()).thenReturn(Duration.ofHours(1).toMillis() - 1);
+        pool.detectLeaks();
+        verify(monitor, never()).warning(anyString());
+
+        when(clock.millis()).thenReturn(Duration.ofHours(1).toMillis());
+        pool.detectLeaks();
+        pool.detectLeaks();
+        verify(monitor, times(1)).warning(anyString());
+
+        pool.returnConnection(connection);
+    }
+
+    @Test
+    void bindTo_shouldExportMetrics() {
+        var registry = new SimpleMeterRegistry();
+        pool = createPool(config().build());
+        pool.bindTo(registry);
+
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+        pool.getConnection();
+        pool.getConnection();
+
+        assertThat(registry.get("edc.datasource.pool.connections.active").tag("pool", "test").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("edc.datasource.pool.connections.idle").tag("pool", "test").gauge().value()).isZero();
+        assertThat(registry.get("edc.datasource.pool.connections.pending").tag("pool", "test").gauge().value()).isZero();
+        assertThat(registry.get("edc.datasource.pool.connections.max").tag("pool", "test").gauge().value()).isEqualTo(8);
+        assertThat(registry.get("edc.datasource.pool.connections.wait").tag("pool", "test").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void close_shouldCloseIdleConnections_andRejectBorrow() throws SQLException {
+        pool = createPool(config().build());
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+
+        pool.close();
+
+        verify(connection).close();
+        assertThatThrownBy(pool::getConnection).isInstanceOf(EdcPersistenceException.class);
+    }
+
+    private LightweightConnectionPoolConfig.Builder config() {
+        return LightweightConnectionPoolConfig.Builder.newInstance().leakDetectionThreshold(Duration.ZERO);
+    }
+
+    private LightweightConnectionPool createPool(LightweightConnectionPoolConfig config) {
+        return new LightweightConnectionPool("test", dataSource, config, monitor, clock);
+    }
+}
@@ -101,6 +101,14 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                     });
                 }
                 transactions.remove();
+                var committed = !transaction.isRollbackOnly();
+                transaction.getSynchronizations().forEach(sync -> {
+                    try {
+                        sync.afterCompletion(committed);
+                    } catch (Exception e) {
+                        monitor.severe("Error notifying transaction completion", e);
+                    }
+                });
             }
         }
     }
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -152,6 +153,33 @@ class LocalTransactionContextTest {
         });
 
         verify(sync, times(1)).beforeCompletion();
+        verify(sync, times(1)).afterCompletion(true);
+    }
+
+    @Test
+    void verifySynchronization_afterRollback() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.registerSynchronization(sync);
+            throw new RuntimeException();
+        }));
+
+        verify(sync, times(1)).afterCompletion(false);
+    }
+
+    @Test
+    void verifyAfterCommitSynchronization_runsOnlyOnceCommitted() {
+        var action = mock(Runnable.class);
+
+        transactionContext.execute(() -> {
+            transactionContext.registerSynchronization(TransactionContext.TransactionSynchronization.afterCommit(action));
+            verify(dsResource, never()).commit();
+            verify(action, never()).run();
+        });
+
+        verify(dsResource, times(1)).commit();
+        verify(action, times(1)).run();
     }
 
     @BeforeEach
@@ -5,6 +5,10 @@ plugins {
 dependencies {
     api(project(":spi:common:core-spi"))
     api(project(":spi:control-plane:control-plane-spi"))
+    api(project(":spi:common:transaction-spi"))
+    api(libs.micrometer)
 
     testImplementation(project(":core:common:junit"))
+    testImplementation(project(":core:control-plane:control-plane-core"))
+    testImplementation(libs.awaitility)
 }
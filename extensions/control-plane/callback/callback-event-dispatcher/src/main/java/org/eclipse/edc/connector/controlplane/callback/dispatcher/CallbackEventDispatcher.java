@@ -24,6 +24,7 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.List;
@@ -35,7 +36,8 @@ import static java.lang.String.format;
 /**
  * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
  * the {@link Event#name()}, the callback is the invoked using a {@link RemoteMessageDispatcherRegistry} with protocol
- * extracted by {@link CallbackAddress#getUri()}
+ * extracted by {@link CallbackAddress#getUri()}. When a {@link CallbackOutboxProcessor} is configured, the callbacks are
+ * not invoked directly, but stored in the outbox and delivered asynchronously with retries.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
     private final RemoteMessageDispatcherRegistry dispatcher;
@@ -43,13 +45,20 @@ public class CallbackEventDispatcher implements EventSubscriber {
     private final Monitor monitor;
     private final CallbackRegistry callbackRegistry;
     private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final CallbackOutboxProcessor outbox;
 
     public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor) {
+        this(dispatcher, callbackRegistry, resolveRegistry, transactional, monitor, null);
+    }
+
+    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry,
+                                   boolean transactional, Monitor monitor, @Nullable CallbackOutboxProcessor outbox) {
         this.dispatcher = dispatcher;
         this.callbackRegistry = callbackRegistry;
         this.transactional = transactional;
         this.resolverRegistry = resolveRegistry;
         this.monitor = monitor;
+        this.outbox = outbox;
     }
 
     @Override
@@ -59,6 +68,10 @@ public class CallbackEventDispatcher implements EventSubscriber {
 
         for (var callback : callbacks) {
             if (matches(eventName, callback)) {
+                if (outbox != null) {
+                    outbox.enqueue(callback, eventEnvelope);
+                    continue;
+                }
                 try {
                     var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
                     if (protocol != null) {
@@ -14,18 +14,26 @@
 
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.edc.connector.controlplane.callback.CallbackProtocolResolverRegistryImpl;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
 
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
@@ -33,6 +41,38 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    private static final boolean DEFAULT_OUTBOX_ENABLED = false;
+    @Setting(value = "If true the non-transactional callbacks are stored in an outbox and delivered asynchronously with retries", type = "boolean", defaultValue = DEFAULT_OUTBOX_ENABLED + "")
+    private static final String OUTBOX_ENABLED = "edc.callback.outbox.enabled";
+    private static final long DEFAULT_OUTBOX_POLL_INTERVAL = 1000;
+    @Setting(value = "How often the callback outbox is polled for due entries, in milliseconds", type = "long", defaultValue = DEFAULT_OUTBOX_POLL_INTERVAL + "")
+    private static final String OUTBOX_POLL_INTERVAL = "edc.callback.outbox.poll.interval";
+    private static final int DEFAULT_OUTBOX_BATCH_SIZE = 100;
+    @Setting(value = "The maximum number of callback outbox entries fetched and in flight at the same time", type = "int", defaultValue = DEFAULT_OUTBOX_BATCH_SIZE + "")
+    private static final String OUTBOX_BATCH_SIZE = "edc.callback.outbox.batch.size";
+    private static final int DEFAULT_OUTBOX_ENDPOINT_CONCURRENCY = 4;
+    @Setting(value = "The maximum number of concurrent deliveries to the same callback endpoint", type = "int", defaultValue = DEFAULT_OUTBOX_ENDPOINT_CONCURRENCY + "")
+    private static final String OUTBOX_ENDPOINT_CONCURRENCY = "edc.callback.outbox.endpoint.concurrency";
+    private static final int DEFAULT_OUTBOX_WORKERS = 8;
+    @Setting(value = "The number of threads delivering the callback outbox entries", type = "int", defaultValue = DEFAULT_OUTBOX_WORKERS + "")
+    private static final String OUTBOX_WORKERS = "edc.callback.outbox.workers";
+    private static final int DEFAULT_OUTBOX_MAX_ATTEMPTS = 10;
+    @Setting(value = "The number of delivery attempts after which a callback outbox entry is dead-lettered", type = "int", defaultValue = DEFAULT_OUTBOX_MAX_ATTEMPTS + "")
+    private static final String OUTBOX_MAX_ATTEMPTS = "edc.callback.outbox.retry.attempts";
+    private static final long DEFAULT_OUTBOX_RETRY_BASE_DELAY = 1000;
+    @Setting(value = "The delay before the first retry of a callback delivery, doubled at every attempt, in milliseconds", type = "long", defaultValue = DEFAULT_OUTBOX_RETRY_BASE_DELAY + "")
+    private static final String OUTBOX_RETRY_BASE_DELAY = "edc.callback.outbox.retry.delay.base";
+    private static final long DEFAULT_OUTBOX_RETRY_MAX_DELAY = 5 * 60 * 1000;
+    @Setting(value = "The maximum delay between two attempts of a callback delivery, in milliseconds", type = "long", defaultValue = DEFAULT_OUTBOX_RETRY_MAX_DELAY + "")
+    private static final String OUTBOX_RETRY_MAX_DELAY = "edc.callback.outbox.retry.delay.max";
+    private static final long DEFAULT_OUTBOX_CLAIM_TIMEOUT = 60 * 1000;
+    @Setting(value = "How long the callback outbox entries fetched by a runtime are reserved for it, in milliseconds", type = "long", defaultValue = DEFAULT_OUTBOX_CLAIM_TIMEOUT + "")
+    private static final String OUTBOX_CLAIM_TIMEOUT = "edc.callback.outbox.claim.timeout";
+    @Setting
+    private static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting(value = "Export the callback outbox metrics to the meter registry, if available", type = "boolean", defaultValue = "true")
+    private static final String ENABLE_OUTBOX_METRICS = "edc.metrics.callback.outbox.enabled";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +85,23 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    CallbackOutboxStore outboxStore;
+
+    @Inject
+    Clock clock;
+
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    TransactionContext transactionContext;
+
+    @Inject(required = false)
+    MeterRegistry meterRegistry;
+
+    private CallbackOutboxProcessor outboxProcessor;
+
     @Override
     public String name() {
         return NAME;
@@ -58,7 +115,43 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        if (context.getSetting(OUTBOX_ENABLED, DEFAULT_OUTBOX_ENABLED)) {
+            outboxProcessor = new CallbackOutboxProcessor(outboxStore, transactionContext, dispatcherRegistry, resolverRegistry,
+                    outboxConfiguration(context), clock, monitor, executorInstrumentation);
+            if (meterRegistry != null && context.getSetting(ENABLE_METRICS, true) && context.getSetting(ENABLE_OUTBOX_METRICS, true)) {
+                outboxProcessor.bindTo(meterRegistry);
+            }
+            // the outbox entries are written in the transaction of the state change that raised the event
+            router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor, outboxProcessor));
+        } else {
+            router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        }
+
+    }
+
+    @Override
+    public void start() {
+        if (outboxProcessor != null) {
+            outboxProcessor.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (outboxProcessor != null) {
+            outboxProcessor.stop();
+        }
+    }
 
+    private CallbackOutboxConfiguration outboxConfiguration(ServiceExtensionContext context) {
+        return new CallbackOutboxConfiguration(
+                Duration.ofMillis(context.getSetting(OUTBOX_POLL_INTERVAL, DEFAULT_OUTBOX_POLL_INTERVAL)),
+                context.getSetting(OUTBOX_BATCH_SIZE, DEFAULT_OUTBOX_BATCH_SIZE),
+                context.getSetting(OUTBOX_ENDPOINT_CONCURRENCY, DEFAULT_OUTBOX_ENDPOINT_CONCURRENCY),
+                context.getSetting(OUTBOX_WORKERS, DEFAULT_OUTBOX_WORKERS),
+                context.getSetting(OUTBOX_MAX_ATTEMPTS, DEFAULT_OUTBOX_MAX_ATTEMPTS),
+                Duration.ofMillis(context.getSetting(OUTBOX_RETRY_BASE_DELAY, DEFAULT_OUTBOX_RETRY_BASE_DELAY)),
+                Duration.ofMillis(context.getSetting(OUTBOX_RETRY_MAX_DELAY, DEFAULT_OUTBOX_RETRY_MAX_DELAY)),
+                Duration.ofMillis(context.getSetting(OUTBOX_CLAIM_TIMEOUT, DEFAULT_OUTBOX_CLAIM_TIMEOUT)));
     }
 }
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link CallbackOutboxProcessor}.
+ *
+ * @param pollInterval        how often the outbox is polled for due entries.
+ * @param batchSize           the maximum number of entries fetched from the store, including the ones still in flight.
+ * @param endpointConcurrency the maximum number of concurrent deliveries to the same callback endpoint.
+ * @param workers             the number of threads delivering the entries.
+ * @param maxAttempts         the number of delivery attempts after which an entry is dead-lettered.
+ * @param retryBaseDelay      the delay before the first retry, doubled at every following attempt.
+ * @param retryMaxDelay       the maximum delay between two attempts.
+ * @param claimTimeout        how long fetched entries are reserved for this runtime before they can be fetched again.
+ */
+public record CallbackOutboxConfiguration(Duration pollInterval, int batchSize, int endpointConcurrency, int workers,
+                                          int maxAttempts, Duration retryBaseDelay, Duration retryMaxDelay,
+                                          Duration claimTimeout) {
+}
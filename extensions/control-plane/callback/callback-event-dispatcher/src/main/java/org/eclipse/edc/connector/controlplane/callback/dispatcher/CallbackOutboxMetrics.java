@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+/**
+ * Snapshot of the state of the callback outbox.
+ *
+ * @param pending              entries waiting to be delivered, including the ones in flight.
+ * @param deadLettered         entries whose delivery has been given up.
+ * @param inFlight             entries fetched by this runtime and not yet processed.
+ * @param delivered            entries delivered by this runtime since it started.
+ * @param failedAttempts       failed delivery attempts of this runtime since it started.
+ * @param averageLatencyMillis the average time between the creation and the delivery of an entry.
+ * @param maxLatencyMillis     the maximum time between the creation and the delivery of an entry.
+ */
+public record CallbackOutboxMetrics(long pending, long deadLettered, int inFlight, long delivered, long failedAttempts,
+                                    long averageLatencyMillis, long maxLatencyMillis) {
+}
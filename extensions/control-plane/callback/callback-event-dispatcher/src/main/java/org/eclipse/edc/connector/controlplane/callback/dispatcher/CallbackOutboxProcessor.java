@@ -0,0 +1,367 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization.afterCommit;
+
+/**
+ * Delivers the events stored in the {@link CallbackOutboxStore} to the non-transactional callbacks.
+ * <p>
+ * The due entries are fetched in batches and queued per callback endpoint. Different endpoints are served in
+ * parallel by the worker threads, while the number of concurrent deliveries to the same endpoint is limited, so that a
+ * slow endpoint cannot take all the workers. A delivered entry is removed from the store, a failed one is retried with
+ * an exponential backoff and dead-lettered once the configured attempts are exhausted.
+ * <p>
+ * The delivery order is not guaranteed, not even for the events of the same process: the entries of an endpoint are
+ * delivered concurrently, and a failed entry is retried after the following ones have been delivered. Callback
+ * endpoints that need the order should rely on the event timestamp, or use transactional callbacks.
+ */
+public class CallbackOutboxProcessor implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "edc.callback.outbox";
+
+    private final CallbackOutboxStore store;
+    private final TransactionContext transactionContext;
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final CallbackOutboxConfiguration configuration;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final ExecutorInstrumentation instrumentation;
+
+    private final Map<String, EndpointQueue> endpoints = new ConcurrentHashMap<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private volatile Timer latencyTimer;
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService workers;
+
+    public CallbackOutboxProcessor(CallbackOutboxStore store, TransactionContext transactionContext, RemoteMessageDispatcherRegistry dispatcher,
+                                   CallbackProtocolResolverRegistry resolverRegistry, CallbackOutboxConfiguration configuration,
+                                   Clock clock, Monitor monitor, ExecutorInstrumentation instrumentation) {
+        this.store = store;
+        this.transactionContext = transactionContext;
+        this.dispatcher = dispatcher;
+        this.resolverRegistry = resolverRegistry;
+        this.configuration = configuration;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.instrumentation = instrumentation;
+    }
+
+    public void start() {
+        workers = instrumentation.instrument(Executors.newFixedThreadPool(configuration.workers()), "callback-outbox-workers");
+        scheduler = instrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "callback-outbox");
+        var interval = configuration.pollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::poll, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(configuration.pollInterval().toMillis(), TimeUnit.MILLISECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Stores the event to be delivered to the callback, in the transaction of the caller if there is one, and triggers
+     * a poll once the transaction has been committed, so the delivery is not delayed until the next scheduled one.
+     *
+     * @param callbackAddress the callback.
+     * @param eventEnvelope   the event.
+     */
+    public void enqueue(CallbackAddress callbackAddress, EventEnvelope<?> eventEnvelope) {
+        var now = clock.millis();
+        transactionContext.execute(() -> {
+            store.save(CallbackOutboxEntry.Builder.newInstance()
+                    .callbackAddress(callbackAddress)
+                    .eventEnvelope(eventEnvelope)
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build());
+            transactionContext.registerSynchronization(afterCommit(this::trigger));
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".pending", store, CallbackOutboxStore::countPending)
+                .description("Callback outbox entries still to be delivered").register(registry);
+        Gauge.builder(METRIC_PREFIX + ".dead.lettered", store, CallbackOutboxStore::countDeadLettered)
+                .description("Callback outbox entries whose delivery has been given up").register(registry);
+        Gauge.builder(METRIC_PREFIX + ".in.flight", inFlight, Set::size)
+                .description("Callback outbox entries being delivered").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".failed.attempts", failedAttempts, LongAdder::sum)
+                .description("Failed callback delivery attempts").register(registry);
+        latencyTimer = Timer.builder(METRIC_PREFIX + ".delivery")
+                .description("Time from the storage of a callback outbox entry to its delivery").register(registry);
+    }
+
+    public CallbackOutboxMetrics getMetrics() {
+        var count = delivered.sum();
+        return new CallbackOutboxMetrics(store.countPending(), store.countDeadLettered(), inFlight.size(), count,
+                failedAttempts.sum(), count == 0 ? 0 : totalLatency.sum() / count, maxLatency.get());
+    }
+
+    /**
+     * The number of the callback endpoints that currently have a delivery queue.
+     */
+    int endpointQueues() {
+        return endpoints.size();
+    }
+
+    /**
+     * Fetches the due entries and queues them for delivery.
+     */
+    void poll() {
+        try {
+            var capacity = configuration.batchSize() - inFlight.size();
+            if (capacity <= 0) {
+                return;
+            }
+
+            var now = clock.millis();
+            var entries = store.claimPending(capacity, now, now + configuration.claimTimeout().toMillis());
+            for (var entry : entries) {
+                if (inFlight.add(entry.getId())) {
+                    route(entry);
+                }
+            }
+        } catch (Throwable e) {
+            monitor.severe("Error polling the callback outbox", e);
+        }
+    }
+
+    private void trigger() {
+        if (scheduler != null) {
+            try {
+                scheduler.execute(this::poll);
+            } catch (RejectedExecutionException ignored) {
+                // the processor is shutting down, the entry will be delivered after the restart
+            }
+        }
+    }
+
+    private void route(CallbackOutboxEntry entry) {
+        endpoints.computeIfAbsent(entry.getCallbackAddress().getUri(), EndpointQueue::new).add(entry);
+    }
+
+    private void process(CallbackOutboxEntry entry) {
+        try {
+            var uri = entry.getCallbackAddress().getUri();
+            var protocol = resolverRegistry.resolve(URI.create(uri).getScheme());
+            if (protocol == null) {
+                deadLetter(entry, format("Failed to resolve protocol for URI %s", uri));
+                return;
+            }
+
+            var error = deliver(entry, protocol);
+            if (error == null) {
+                store.delete(entry.getId());
+                recordLatency(clock.millis() - entry.getCreatedAt());
+            } else {
+                retry(entry, error);
+            }
+        } catch (Throwable e) {
+            monitor.severe(format("Error processing callback outbox entry %s", entry.getId()), e);
+        } finally {
+            inFlight.remove(entry.getId());
+        }
+    }
+
+    private String deliver(CallbackOutboxEntry entry, String protocol) {
+        try {
+            var result = dispatcher.dispatch(Object.class, message(entry.getCallbackAddress(), entry.getEventEnvelope(), protocol))
+                    .get(configuration.claimTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return result.succeeded() ? null : result.getFailureDetail();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted";
+        } catch (ExecutionException e) {
+            return e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+
+    private void retry(CallbackOutboxEntry entry, String error) {
+        failedAttempts.increment();
+        var attempts = entry.getAttempts() + 1;
+        if (attempts >= configuration.maxAttempts()) {
+            deadLetter(entry.toBuilder().attempts(attempts).build(), error);
+            return;
+        }
+
+        monitor.debug(() -> format("Failed to invoke callback at URI %s, attempt %d: %s", entry.getCallbackAddress().getUri(), attempts, error));
+        store.save(entry.toBuilder()
+                .attempts(attempts)
+                .nextAttemptAt(clock.millis() + backoff(attempts))
+                .lastError(error)
+                .build());
+    }
+
+    private void deadLetter(CallbackOutboxEntry entry, String error) {
+        monitor.severe(format("Giving up invoking callback at URI %s after %d attempts: %s", entry.getCallbackAddress().getUri(), entry.getAttempts(), error));
+        store.save(entry.toBuilder().deadLettered(true).lastError(error).build());
+    }
+
+    private long backoff(int attempts) {
+        var base = configuration.retryBaseDelay().toMillis();
+        var max = configuration.retryMaxDelay().toMillis();
+        var exponent = Math.min(attempts - 1, 30);
+        return Math.min(max, base << exponent);
+    }
+
+    private void recordLatency(long latency) {
+        delivered.increment();
+        totalLatency.add(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+        var timer = latencyTimer;
+        if (timer != null) {
+            timer.record(latency, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private <E extends Event> CallbackEventRemoteMessage<E> message(CallbackAddress callbackAddress, EventEnvelope<E> envelope, String protocol) {
+        return new CallbackEventRemoteMessage<>(callbackAddress, envelope, protocol);
+    }
+
+    /**
+     * The entries queued for a single callback endpoint, drained by at most
+     * {@link CallbackOutboxConfiguration#endpointConcurrency()} workers at a time. Once drained and without active
+     * drainers the queue is retired and removed from the endpoints, an entry added to a retired queue is handed over to
+     * a new one.
+     */
+    private class EndpointQueue {
+
+        private static final int RETIRED = -1;
+
+        private final String uri;
+        private final Queue<CallbackOutboxEntry> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger drainers = new AtomicInteger();
+
+        EndpointQueue(String uri) {
+            this.uri = uri;
+        }
+
+        void add(CallbackOutboxEntry entry) {
+            queue.add(entry);
+            startDrainers();
+        }
+
+        private void startDrainers() {
+            while (!queue.isEmpty()) {
+                var current = drainers.get();
+                if (current == RETIRED) {
+                    handOver();
+                    return;
+                }
+                if (current >= configuration.endpointConcurrency()) {
+                    return;
+                }
+                if (drainers.compareAndSet(current, current + 1)) {
+                    try {
+                        workers.execute(this::drain);
+                    } catch (RejectedExecutionException e) {
+                        drainers.decrementAndGet();
+                        releaseQueued();
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                CallbackOutboxEntry entry;
+                while ((entry = queue.poll()) != null) {
+                    process(entry);
+                }
+            } finally {
+                drainers.decrementAndGet();
+            }
+            if (queue.isEmpty() && drainers.compareAndSet(0, RETIRED)) {
+                endpoints.remove(uri, this);
+            }
+            // an entry could have been added after the queue was found empty, but before this drainer was released
+            startDrainers();
+        }
+
+        private void handOver() {
+            endpoints.remove(uri, this);
+            CallbackOutboxEntry entry;
+            while ((entry = queue.poll()) != null) {
+                route(entry);
+            }
+        }
+
+        private void releaseQueued() {
+            CallbackOutboxEntry entry;
+            while ((entry = queue.poll()) != null) {
+                inFlight.remove(entry.getId());
+            }
+        }
+    }
+}
@@ -25,10 +25,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 public class CallbackEventDispatcherExtensionTest {
@@ -55,6 +59,17 @@ public class CallbackEventDispatcherExtensionTest {
 
     }
 
+    @Test
+    void initialize_shouldRegisterOutboxListenerSync_whenOutboxEnabled(ServiceExtensionContext context) {
+        when(context.getSetting(eq("edc.callback.outbox.enabled"), anyBoolean())).thenReturn(true);
+
+        extension.initialize(context);
+
+        verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(true)));
+        verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(false)));
+        verify(router, never()).register(any(), any());
+    }
+
     private ArgumentMatcher<CallbackEventDispatcher> callbackEventDispatcherMatcher(boolean transactional) {
         return dispatcher -> dispatcher.isTransactional() == transactional;
     }
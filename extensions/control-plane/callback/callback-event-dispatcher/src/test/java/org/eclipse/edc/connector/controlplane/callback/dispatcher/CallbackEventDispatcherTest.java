@@ -176,6 +176,29 @@ public class CallbackEventDispatcherTest {
 
     }
 
+    @Test
+    void verifyShouldEnqueue_whenOutboxConfigured() {
+        var outbox = mock(CallbackOutboxProcessor.class);
+        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, false, monitor, outbox);
+
+        var callback = CallbackAddress.Builder.newInstance()
+                .uri("local://test")
+                .events(Set.of("transfer.process.completed"))
+                .transactional(false)
+                .build();
+
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback))
+                .build();
+        var envelope = envelope(event);
+
+        dispatcher.on(envelope);
+
+        verify(outbox).enqueue(callback, envelope);
+        verifyNoInteractions(registry);
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Event> EventEnvelope<T> envelope(T event) {
         return EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
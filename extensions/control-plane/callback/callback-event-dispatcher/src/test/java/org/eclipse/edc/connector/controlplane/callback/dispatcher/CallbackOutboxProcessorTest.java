@@ -0,0 +1,274 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.controlplane.defaults.storage.callback.InMemoryCallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackOutboxProcessorTest {
+
+    private final InMemoryCallbackOutboxStore store = new InMemoryCallbackOutboxStore();
+    private final RemoteMessageDispatcherRegistry dispatcher = mock();
+    private final CallbackProtocolResolverRegistry resolverRegistry = mock();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+    private CallbackOutboxProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.stop();
+    }
+
+    @Test
+    void shouldDeliverAndRemoveEntry() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        processor = processor(configuration(2, 5));
+        processor.start();
+
+        processor.enqueue(callback("local://endpoint"), envelope());
+
+        await().untilAsserted(() -> {
+            verify(dispatcher).dispatch(any(), any(CallbackEventRemoteMessage.class));
+            assertThat(processor.getMetrics()).satisfies(metrics -> {
+                assertThat(metrics.pending()).isZero();
+                assertThat(metrics.delivered()).isEqualTo(1);
+                assertThat(metrics.inFlight()).isZero();
+            });
+        });
+    }
+
+    @Test
+    void shouldScheduleRetry_whenDeliveryFails() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "unavailable")));
+        processor = processor(configuration(2, 5));
+        processor.start();
+
+        processor.enqueue(callback("local://endpoint"), envelope());
+
+        await().untilAsserted(() -> assertThat(processor.getMetrics().failedAttempts()).isEqualTo(1));
+        var entries = store.claimPending(10, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        assertThat(entries).hasSize(1).first().satisfies(entry -> {
+            assertThat(entry.getAttempts()).isEqualTo(1);
+            assertThat(entry.getNextAttemptAt()).isEqualTo(clock.millis() + 100);
+            assertThat(entry.getLastError()).isEqualTo("unavailable");
+            assertThat(entry.isDeadLettered()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldDeadLetter_whenAttemptsAreExhausted() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        processor = processor(configuration(2, 1));
+        processor.start();
+
+        processor.enqueue(callback("local://endpoint"), envelope());
+
+        await().untilAsserted(() -> assertThat(processor.getMetrics()).satisfies(metrics -> {
+            assertThat(metrics.pending()).isZero();
+            assertThat(metrics.deadLettered()).isEqualTo(1);
+        }));
+        verify(dispatcher, times(1)).dispatch(any(), any());
+    }
+
+    @Test
+    void shouldLimitConcurrentDeliveriesPerEndpoint() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var running = new ConcurrentHashMap<String, AtomicInteger>();
+        var maxRunning = new ConcurrentHashMap<String, Integer>();
+        when(dispatcher.dispatch(any(), any())).thenAnswer(i -> CompletableFuture.supplyAsync(() -> {
+            var endpoint = ((CallbackEventRemoteMessage<?>) i.getArgument(1)).getCounterPartyAddress();
+            var current = running.computeIfAbsent(endpoint, e -> new AtomicInteger()).incrementAndGet();
+            maxRunning.merge(endpoint, current, Math::max);
+            try {
+                release.await(5, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.get(endpoint).decrementAndGet();
+            return StatusResult.success("any");
+        }));
+        processor = processor(configuration(2, 5));
+
+        for (var i = 0; i < 5; i++) {
+            processor.enqueue(callback("local://slow"), envelope());
+            processor.enqueue(callback("local://other"), envelope());
+        }
+        processor.start();
+
+        await().untilAsserted(() -> assertThat(maxRunning).containsEntry("local://slow", 2).containsEntry("local://other", 2));
+        release.countDown();
+
+        await().untilAsserted(() -> assertThat(processor.getMetrics().delivered()).isEqualTo(10));
+        assertThat(maxRunning).containsEntry("local://slow", 2).containsEntry("local://other", 2);
+    }
+
+    @Test
+    void shouldRemoveEndpointQueue_whenDrained() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        processor = processor(configuration(2, 5));
+        processor.start();
+
+        for (var i = 0; i < 20; i++) {
+            processor.enqueue(callback("local://endpoint-" + i), envelope());
+            processor.enqueue(callback("local://endpoint-" + i), envelope());
+        }
+
+        await().untilAsserted(() -> {
+            assertThat(processor.getMetrics().delivered()).isEqualTo(40);
+            assertThat(processor.endpointQueues()).isZero();
+        });
+
+        processor.enqueue(callback("local://endpoint-0"), envelope());
+
+        await().untilAsserted(() -> assertThat(processor.getMetrics().delivered()).isEqualTo(41));
+    }
+
+    @Test
+    void shouldNotPreserveOrder_whenDeliveryIsRetried() {
+        var delivered = new CopyOnWriteArrayList<String>();
+        when(dispatcher.dispatch(any(), any())).thenAnswer(i -> {
+            var message = (CallbackEventRemoteMessage<?>) i.getArgument(1);
+            if (message.getEventEnvelope().getPayload() instanceof TransferProcessStarted) {
+                return CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "unavailable"));
+            }
+            delivered.add(message.getEventEnvelope().getPayload().name());
+            return CompletableFuture.completedFuture(StatusResult.success("any"));
+        });
+        processor = processor(configuration(1, 5));
+
+        processor.enqueue(callback("local://endpoint"), envelope(TransferProcessStarted.Builder.newInstance().transferProcessId("id").build()));
+        processor.enqueue(callback("local://endpoint"), envelope(TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build()));
+        processor.start();
+
+        // the completion of the process is delivered while its start is waiting to be retried
+        await().untilAsserted(() -> assertThat(delivered).containsExactly("transfer.process.completed"));
+        assertThat(store.claimPending(10, Long.MAX_VALUE - 1, Long.MAX_VALUE)).hasSize(1).first()
+                .satisfies(entry -> assertThat(entry.getEventEnvelope().getPayload()).isInstanceOf(TransferProcessStarted.class));
+    }
+
+    @Test
+    void shouldTriggerDelivery_onlyOnceTransactionIsCommitted() {
+        var transactionContext = mock(TransactionContext.class);
+        var store = spy(this.store);
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        processor = new CallbackOutboxProcessor(store, transactionContext, dispatcher, resolverRegistry,
+                new CallbackOutboxConfiguration(Duration.ofHours(1), 100, 2, 8, 5, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(10)),
+                clock, mock(), ExecutorInstrumentation.noop());
+        doAnswer(i -> {
+            ((TransactionContext.TransactionBlock) i.getArgument(0)).execute();
+            return null;
+        }).when(transactionContext).execute(any(TransactionContext.TransactionBlock.class));
+        var synchronization = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        processor.start();
+        // the first scheduled poll, the next one is due only after an hour
+        await().untilAsserted(() -> verify(store).claimPending(anyInt(), anyLong(), anyLong()));
+
+        processor.enqueue(callback("local://endpoint"), envelope());
+
+        verify(transactionContext).registerSynchronization(synchronization.capture());
+        verify(dispatcher, after(200).never()).dispatch(any(), any());
+
+        synchronization.getValue().afterCompletion(true);
+
+        await().untilAsserted(() -> verify(dispatcher).dispatch(any(), any()));
+    }
+
+    @Test
+    void shouldBindMetrics() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var registry = new SimpleMeterRegistry();
+        processor = processor(configuration(2, 5));
+        processor.bindTo(registry);
+        processor.start();
+
+        processor.enqueue(callback("local://endpoint"), envelope());
+
+        await().untilAsserted(() -> assertThat(registry.get("edc.callback.outbox.delivery").timer().count()).isEqualTo(1));
+        assertThat(registry.get("edc.callback.outbox.pending").gauge().value()).isZero();
+        assertThat(registry.get("edc.callback.outbox.in.flight").gauge().value()).isZero();
+        assertThat(registry.get("edc.callback.outbox.failed.attempts").functionCounter().count()).isZero();
+    }
+
+    private CallbackOutboxProcessor processor(CallbackOutboxConfiguration configuration) {
+        return new CallbackOutboxProcessor(store, new NoopTransactionContext(), dispatcher, resolverRegistry, configuration, clock, mock(), ExecutorInstrumentation.noop());
+    }
+
+    private CallbackOutboxConfiguration configuration(int endpointConcurrency, int maxAttempts) {
+        return new CallbackOutboxConfiguration(Duration.ofMillis(50), 100, endpointConcurrency, 8, maxAttempts,
+                Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(10));
+    }
+
+    private CallbackAddress callback(String uri) {
+        return CallbackAddress.Builder.newInstance().uri(uri).events(Set.of("transfer.process")).build();
+    }
+
+    private EventEnvelope<TransferProcessCompleted> envelope() {
+        return envelope(TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build());
+    }
+
+    private <E extends Event> EventEnvelope<E> envelope(E event) {
+        return EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(event)
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callback.schema.CallbackOutboxStatements;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ * SQL implementation of the {@link CallbackOutboxStore}. The event payload is stored as JSON along with its type, so
+ * it can be deserialized again without the event type registry. Only {@link Event} types from the allowed packages
+ * are loaded; the entries that cannot be deserialized, e.g. because their event type has been removed, are
+ * dead-lettered when claimed so that they do not block the others.
+ */
+public class SqlCallbackOutboxStore extends AbstractSqlStore implements CallbackOutboxStore {
+
+    public static final List<String> DEFAULT_ALLOWED_EVENT_PACKAGES = List.of("org.eclipse.edc.");
+
+    private final CallbackOutboxStatements statements;
+    private final List<String> allowedEventPackages;
+    private final Map<String, Class<? extends Event>> eventTypes = new ConcurrentHashMap<>();
+
+    public SqlCallbackOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                  ObjectMapper objectMapper, CallbackOutboxStatements statements, QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, queryExecutor, DEFAULT_ALLOWED_EVENT_PACKAGES);
+    }
+
+    public SqlCallbackOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                  ObjectMapper objectMapper, CallbackOutboxStatements statements, QueryExecutor queryExecutor,
+                                  List<String> allowedEventPackages) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.allowedEventPackages = List.copyOf(allowedEventPackages);
+    }
+
+    @Override
+    public void save(CallbackOutboxEntry entry) {
+        Objects.requireNonNull(entry);
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                if (existsById(connection, entry.getId())) {
+                    queryExecutor.execute(connection, statements.getUpdateTemplate(),
+                            entry.getAttempts(),
+                            entry.getNextAttemptAt(),
+                            entry.isDeadLettered(),
+                            entry.getLastError(),
+                            entry.getId());
+                } else {
+                    var envelope = entry.getEventEnvelope();
+                    queryExecutor.execute(connection, statements.getInsertTemplate(),
+                            entry.getId(),
+                            toJson(entry.getCallbackAddress()),
+                            envelope.getId(),
+                            envelope.getAt(),
+                            envelope.getPayload().getClass().getName(),
+                            toJson(envelope.getPayload()),
+                            entry.getAttempts(),
+                            entry.getNextAttemptAt(),
+                            entry.getCreatedAt(),
+                            entry.isDeadLettered(),
+                            entry.getLastError());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<CallbackOutboxEntry> claimPending(int max, long now, long claimedUntil) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                List<ClaimedRow> rows;
+                try (var stream = queryExecutor.query(connection, false, this::mapClaimedRow, statements.getClaimPendingTemplate(), claimedUntil, now, max)) {
+                    rows = stream.toList();
+                }
+                rows.stream()
+                        .filter(row -> row.entry() == null)
+                        .forEach(row -> queryExecutor.execute(connection, statements.getUpdateTemplate(), row.attempts(), row.nextAttemptAt(), true, row.error(), row.id()));
+                return rows.stream().map(ClaimedRow::entry).filter(Objects::nonNull).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        Objects.requireNonNull(id);
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteByIdTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public long countPending() {
+        return countByDeadLettered(false);
+    }
+
+    @Override
+    public long countDeadLettered() {
+        return countByDeadLettered(true);
+    }
+
+    private long countByDeadLettered(boolean deadLettered) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, false, this::mapCount, statements.getCountByDeadLetteredTemplate(), deadLettered);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private boolean existsById(Connection connection, String id) {
+        return queryExecutor.single(connection, false, this::mapCount, statements.getCountByIdTemplate(), id) > 0;
+    }
+
+    private long mapCount(ResultSet resultSet) throws SQLException {
+        return resultSet.getLong(1);
+    }
+
+    private ClaimedRow mapClaimedRow(ResultSet resultSet) throws SQLException {
+        var id = resultSet.getString(statements.getIdColumn());
+        var attempts = resultSet.getInt(statements.getAttemptsColumn());
+        var nextAttemptAt = resultSet.getLong(statements.getNextAttemptAtColumn());
+        try {
+            return new ClaimedRow(id, attempts, nextAttemptAt, mapResultSet(resultSet), null);
+        } catch (Exception e) {
+            return new ClaimedRow(id, attempts, nextAttemptAt, null, "Cannot deserialize callback outbox entry: " + e.getMessage());
+        }
+    }
+
+    private CallbackOutboxEntry mapResultSet(ResultSet resultSet) throws Exception {
+        var envelope = EventEnvelope.Builder.newInstance()
+                .id(resultSet.getString(statements.getEventIdColumn()))
+                .at(resultSet.getLong(statements.getEventAtColumn()))
+                .payload(fromJson(resultSet.getString(statements.getEventColumn()), eventType(resultSet.getString(statements.getEventTypeColumn()))))
+                .build();
+
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .callbackAddress(fromJson(resultSet.getString(statements.getCallbackAddressColumn()), CallbackAddress.class))
+                .eventEnvelope(envelope)
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
+                .deadLettered(resultSet.getBoolean(statements.getDeadLetteredColumn()))
+                .lastError(resultSet.getString(statements.getLastErrorColumn()))
+                .build();
+    }
+
+    private Class<? extends Event> eventType(String typeName) {
+        return eventTypes.computeIfAbsent(typeName, this::loadEventType);
+    }
+
+    private Class<? extends Event> loadEventType(String typeName) {
+        if (allowedEventPackages.stream().noneMatch(typeName::startsWith)) {
+            throw new EdcPersistenceException(format("Callback outbox event type %s is not in the allowed packages", typeName));
+        }
+        try {
+            // the class is not initialized before checking that it is an event
+            var type = Class.forName(typeName, false, getClass().getClassLoader());
+            if (!Event.class.isAssignableFrom(type)) {
+                throw new EdcPersistenceException(format("Callback outbox event type %s is not an event", typeName));
+            }
+            return type.asSubclass(Event.class);
+        } catch (ClassNotFoundException e) {
+            throw new EdcPersistenceException(format("Callback outbox event type %s not found", typeName), e);
+        }
+    }
+
+    private record ClaimedRow(String id, int attempts, long nextAttemptAt, CallbackOutboxEntry entry, String error) {
+    }
+}
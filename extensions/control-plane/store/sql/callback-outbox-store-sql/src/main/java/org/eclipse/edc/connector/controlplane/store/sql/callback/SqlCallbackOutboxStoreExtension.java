@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callback.schema.CallbackOutboxStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.callback.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+@Provides(CallbackOutboxStore.class)
+@Extension("SQL callback outbox store")
+public class SqlCallbackOutboxStoreExtension implements ServiceExtension {
+
+    @Setting(value = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_NAME = "edc.sql.store.callbackoutbox.datasource";
+
+    @Setting(value = "Comma-separated list of the packages, in addition to org.eclipse.edc, whose event types can be loaded from the outbox", required = false)
+    public static final String EVENT_PACKAGES = "edc.sql.store.callbackoutbox.event.packages";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject(required = false)
+    private CallbackOutboxStatements statements;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private SqlSchemaBootstrapper sqlSchemaBootstrapper;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
+
+        var eventPackages = new ArrayList<>(SqlCallbackOutboxStore.DEFAULT_ALLOWED_EVENT_PACKAGES);
+        Stream.of(context.getConfig().getString(EVENT_PACKAGES, "").split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> name.endsWith(".") ? name : name + ".")
+                .forEach(eventPackages::add);
+
+        var store = new SqlCallbackOutboxStore(dataSourceRegistry, dataSourceName, transactionContext,
+                typeManager.getMapper(), getStatementImpl(), queryExecutor, eventPackages);
+
+        context.registerService(CallbackOutboxStore.class, store);
+
+        sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "callback-outbox-schema.sql");
+    }
+
+    private CallbackOutboxStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresDialectStatements();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callback.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlDialectStatements implements CallbackOutboxStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .jsonColumn(getCallbackAddressColumn())
+                .column(getEventIdColumn())
+                .column(getEventAtColumn())
+                .column(getEventTypeColumn())
+                .jsonColumn(getEventColumn())
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getCreatedAtColumn())
+                .column(getDeadLetteredColumn())
+                .column(getLastErrorColumn())
+                .insertInto(getCallbackOutboxTable());
+    }
+
+    @Override
+    public String getUpdateTemplate() {
+        return executeStatement()
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getDeadLetteredColumn())
+                .column(getLastErrorColumn())
+                .update(getCallbackOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getCountByIdTemplate() {
+        return format("SELECT COUNT(*) FROM %s WHERE %s = ?", getCallbackOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteByIdTemplate() {
+        return executeStatement().delete(getCallbackOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getClaimPendingTemplate() {
+        return format("UPDATE %1$s SET %2$s = ? WHERE %3$s IN (SELECT %3$s FROM %1$s WHERE %4$s = FALSE AND %2$s <= ? ORDER BY %2$s LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING *",
+                getCallbackOutboxTable(), getNextAttemptAtColumn(), getIdColumn(), getDeadLetteredColumn());
+    }
+
+    @Override
+    public String getCountByDeadLetteredTemplate() {
+        return format("SELECT COUNT(*) FROM %s WHERE %s = ?", getCallbackOutboxTable(), getDeadLetteredColumn());
+    }
+}
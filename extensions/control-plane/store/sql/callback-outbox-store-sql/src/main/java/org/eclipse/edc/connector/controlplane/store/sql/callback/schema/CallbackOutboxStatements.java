@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callback.schema;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Defines all statements that are needed for the callback outbox store.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStatements extends SqlStatements {
+
+    default String getCallbackOutboxTable() {
+        return "edc_callback_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getCallbackAddressColumn() {
+        return "callback_address";
+    }
+
+    default String getEventIdColumn() {
+        return "event_id";
+    }
+
+    default String getEventAtColumn() {
+        return "event_at";
+    }
+
+    default String getEventTypeColumn() {
+        return "event_type";
+    }
+
+    default String getEventColumn() {
+        return "event";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getDeadLetteredColumn() {
+        return "dead_lettered";
+    }
+
+    default String getLastErrorColumn() {
+        return "last_error";
+    }
+
+    String getInsertTemplate();
+
+    String getUpdateTemplate();
+
+    String getCountByIdTemplate();
+
+    String getDeleteByIdTemplate();
+
+    /**
+     * Moves the next attempt of the due entries forward and returns them. Parameters: claimed until, now, max.
+     *
+     * @return the statement.
+     */
+    String getClaimPendingTemplate();
+
+    /**
+     * Counts the entries by their dead-lettered flag. Parameters: dead-lettered.
+     *
+     * @return the statement.
+     */
+    String getCountByDeadLetteredTemplate();
+}
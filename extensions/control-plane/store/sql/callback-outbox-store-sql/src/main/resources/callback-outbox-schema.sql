@@ -0,0 +1,29 @@
+--
+--  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+CREATE TABLE IF NOT EXISTS edc_callback_outbox
+(
+    id               VARCHAR NOT NULL PRIMARY KEY,
+    callback_address JSON    NOT NULL,
+    event_id         VARCHAR NOT NULL,
+    event_at         BIGINT  NOT NULL,
+    event_type       VARCHAR NOT NULL,
+    event            JSON    NOT NULL,
+    attempts         INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at  BIGINT  NOT NULL,
+    created_at       BIGINT  NOT NULL,
+    dead_lettered    BOOLEAN NOT NULL DEFAULT FALSE,
+    last_error       VARCHAR
+);
+
+CREATE INDEX IF NOT EXISTS callback_outbox_pending_index ON edc_callback_outbox (next_attempt_at) WHERE dead_lettered = FALSE;
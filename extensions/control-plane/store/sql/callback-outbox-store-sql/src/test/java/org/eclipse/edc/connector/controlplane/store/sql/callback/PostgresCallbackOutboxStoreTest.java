@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.store.sql.callback.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.callback.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresCallbackOutboxStoreTest {
+
+    private final BaseSqlDialectStatements statements = new PostgresDialectStatements();
+    private SqlCallbackOutboxStore store;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        store = new SqlCallbackOutboxStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), new JacksonTypeManager().getMapper(), statements, queryExecutor);
+        extension.runQuery(TestUtils.getResourceFileContentAsString("callback-outbox-schema.sql"));
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getCallbackOutboxTable() + " CASCADE");
+    }
+
+    @Test
+    void claimPending_shouldReturnDueEntriesAndMoveTheirNextAttempt() {
+        store.save(entry("due", 100));
+        store.save(entry("later", 300));
+
+        var claimed = store.claimPending(10, 200, 1000);
+
+        assertThat(claimed).hasSize(1).first().satisfies(entry -> {
+            assertThat(entry.getId()).isEqualTo("due");
+            assertThat(entry.getNextAttemptAt()).isEqualTo(1000);
+            assertThat(entry.getCallbackAddress().getUri()).isEqualTo("http://callback");
+            assertThat(entry.getEventEnvelope().getPayload()).isInstanceOf(TestEvent.class)
+                    .extracting(event -> ((TestEvent) event).getName()).isEqualTo("due");
+        });
+        assertThat(store.claimPending(10, 200, 1000)).isEmpty();
+    }
+
+    @Test
+    void claimPending_shouldLimitAndSkipDeadLettered() {
+        store.save(entry("first", 100));
+        store.save(entry("second", 110));
+        store.save(entry("third", 120).toBuilder().deadLettered(true).build());
+
+        assertThat(store.claimPending(1, 200, 1000)).extracting(CallbackOutboxEntry::getId).containsExactly("first");
+        assertThat(store.claimPending(10, 200, 1000)).extracting(CallbackOutboxEntry::getId).containsExactly("second");
+    }
+
+    @Test
+    void claimPending_shouldDeadLetterEntries_whenEventCannotBeDeserialized(PostgresqlStoreSetupExtension extension) {
+        store.save(entry("missing", 100));
+        store.save(entry("notAllowed", 110));
+        store.save(entry("valid", 120));
+        setEventType(extension, "missing", "org.eclipse.edc.not.existing.Event");
+        setEventType(extension, "notAllowed", "java.lang.Runtime");
+
+        var claimed = store.claimPending(10, 200, 1000);
+
+        assertThat(claimed).extracting(CallbackOutboxEntry::getId).containsExactly("valid");
+        assertThat(store.countDeadLettered()).isEqualTo(2);
+        assertThat(store.claimPending(10, 2000, 3000)).extracting(CallbackOutboxEntry::getId).containsExactly("valid");
+    }
+
+    @Test
+    void save_shouldUpdateExistingEntry() {
+        var entry = entry("id", 100);
+        store.save(entry);
+
+        store.save(entry.toBuilder().attempts(3).deadLettered(true).lastError("error").build());
+
+        assertThat(store.countPending()).isZero();
+        assertThat(store.countDeadLettered()).isEqualTo(1);
+    }
+
+    @Test
+    void delete_shouldRemoveEntry() {
+        store.save(entry("id", 100));
+
+        store.delete("id");
+
+        assertThat(store.countPending()).isZero();
+        assertThat(store.claimPending(10, 200, 1000)).isEmpty();
+    }
+
+    private void setEventType(PostgresqlStoreSetupExtension extension, String id, String eventType) {
+        extension.runQuery("UPDATE %s SET %s = '%s' WHERE %s = '%s'".formatted(statements.getCallbackOutboxTable(),
+                statements.getEventTypeColumn(), eventType, statements.getIdColumn(), id));
+    }
+
+    private CallbackOutboxEntry entry(String id, long nextAttemptAt) {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(id)
+                .callbackAddress(CallbackAddress.Builder.newInstance().uri("http://callback").events(Set.of("test")).build())
+                .eventEnvelope(EventEnvelope.Builder.newInstance().at(10).payload(new TestEvent(id)).build())
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(nextAttemptAt)
+                .build();
+    }
+
+    public static class TestEvent extends Event {
+
+        private String name;
+
+        public TestEvent() {
+        }
+
+        TestEvent(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+    }
+}
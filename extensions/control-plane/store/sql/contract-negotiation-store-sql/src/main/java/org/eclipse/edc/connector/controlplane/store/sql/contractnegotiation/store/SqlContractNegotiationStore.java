@@ -91,8 +91,9 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                var ids = negotiations.stream().map(ContractNegotiation::getId).toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return negotiations.stream().filter(it -> leased.contains(it.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
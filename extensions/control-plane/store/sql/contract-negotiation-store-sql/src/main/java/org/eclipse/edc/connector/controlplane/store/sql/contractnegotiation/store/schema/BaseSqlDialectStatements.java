@@ -171,4 +171,14 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getAcquireLeasesTemplate() {
+        return getAcquireLeasesTemplate(getContractNegotiationTable(), getIdColumn());
+    }
+
+    @Override
+    public String getBreakLeasesTemplate() {
+        return getBreakLeasesTemplate(getContractNegotiationTable(), getIdColumn());
+    }
+
 }
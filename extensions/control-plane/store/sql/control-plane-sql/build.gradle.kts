@@ -21,6 +21,7 @@ dependencies {
     runtimeOnly(project(":extensions:common:sql:sql-core"))
     runtimeOnly(project(":extensions:common:sql:sql-lease"))
     runtimeOnly(project(":extensions:control-plane:store:sql:asset-index-sql"))
+    runtimeOnly(project(":extensions:control-plane:store:sql:callback-outbox-store-sql"))
     runtimeOnly(project(":extensions:control-plane:store:sql:contract-definition-store-sql"))
     runtimeOnly(project(":extensions:control-plane:store:sql:contract-negotiation-store-sql"))
     runtimeOnly(project(":extensions:control-plane:store:sql:policy-definition-store-sql"))
@@ -94,8 +94,9 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var ids = transferProcesses.stream().map(TransferProcess::getId).toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return transferProcesses.stream().filter(it -> leased.contains(it.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
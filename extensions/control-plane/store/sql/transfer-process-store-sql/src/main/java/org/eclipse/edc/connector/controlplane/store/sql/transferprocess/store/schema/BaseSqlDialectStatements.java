@@ -61,6 +61,16 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getAcquireLeasesTemplate() {
+        return getAcquireLeasesTemplate(getTransferProcessTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getBreakLeasesTemplate() {
+        return getBreakLeasesTemplate(getTransferProcessTableName(), getIdColumn());
+    }
+
     @Override
     public String getInsertStatement() {
         return executeStatement()
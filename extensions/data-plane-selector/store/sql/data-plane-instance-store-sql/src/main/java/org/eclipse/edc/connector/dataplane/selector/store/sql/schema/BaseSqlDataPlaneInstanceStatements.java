@@ -92,6 +92,16 @@ public class BaseSqlDataPlaneInstanceStatements implements DataPlaneInstanceStat
                 getLeaseTableName(), getLeaseIdColumn(), getDataPlaneInstanceTable(), getIdColumn());
     }
 
+    @Override
+    public String getAcquireLeasesTemplate() {
+        return getAcquireLeasesTemplate(getDataPlaneInstanceTable(), getIdColumn());
+    }
+
+    @Override
+    public String getBreakLeasesTemplate() {
+        return getBreakLeasesTemplate(getDataPlaneInstanceTable(), getIdColumn());
+    }
+
     @Override
     public String getDeleteLeaseTemplate() {
         return executeStatement().delete(getLeaseTableName(), getLeaseIdColumn());
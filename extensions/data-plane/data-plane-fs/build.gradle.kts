@@ -0,0 +1,14 @@
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":spi:data-plane:data-plane-spi"))
+
+    implementation(project(":core:common:lib:util-lib"))
+    implementation(project(":core:common:lib:validator-lib"))
+    implementation(project(":core:data-plane:data-plane-util"))
+
+    testImplementation(project(":core:common:junit"))
+    testImplementation(libs.awaitility)
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs;
+
+import org.eclipse.edc.connector.dataplane.fs.pipeline.FileDataAddressValidator;
+import org.eclipse.edc.connector.dataplane.fs.pipeline.FileDataSinkFactory;
+import org.eclipse.edc.connector.dataplane.fs.pipeline.FileDataSourceFactory;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+@Extension(value = DataPlaneFileSystemExtension.NAME)
+public class DataPlaneFileSystemExtension implements ServiceExtension {
+
+    public static final String NAME = "Data Plane File System";
+
+    private static final int DEFAULT_PARTITION_SIZE = 5;
+    private static final long DEFAULT_PART_SIZE = 128 * 1024 * 1024;
+
+    @Setting(value = "Comma separated list of the directories that file data addresses can point to. If not set no file transfer is allowed")
+    private static final String EDC_DATAPLANE_FS_DIRECTORIES = "edc.dataplane.fs.directories";
+
+    @Setting(value = "The size in bytes above which a file is split into multiple parts by the file data source. Zero or negative to never split files", type = "long", defaultValue = DEFAULT_PART_SIZE + "")
+    private static final String EDC_DATAPLANE_FS_SOURCE_PART_SIZE = "edc.dataplane.fs.source.part.size";
+
+    @Setting(value = "The partitionSize used by the file data sink", type = "int", defaultValue = DEFAULT_PARTITION_SIZE + "", min = 1)
+    private static final String EDC_DATAPLANE_FS_SINK_PARTITION_SIZE = "edc.dataplane.fs.sink.partition.size";
+
+    @Inject
+    private DataTransferExecutorServiceContainer executorContainer;
+
+    @Inject
+    private PipelineService pipelineService;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var monitor = context.getMonitor().withPrefix(NAME);
+
+        var directories = Arrays.stream(context.getSetting(EDC_DATAPLANE_FS_DIRECTORIES, "").split(","))
+                .map(String::trim)
+                .filter(directory -> !directory.isEmpty())
+                .map(Path::of)
+                .toList();
+        if (directories.isEmpty()) {
+            monitor.warning("No directory configured with '%s', every file transfer will be rejected".formatted(EDC_DATAPLANE_FS_DIRECTORIES));
+        }
+        var validator = new FileDataAddressValidator(directories);
+
+        var sourcePartSize = context.getSetting(EDC_DATAPLANE_FS_SOURCE_PART_SIZE, DEFAULT_PART_SIZE);
+        var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_FS_SINK_PARTITION_SIZE, DEFAULT_PARTITION_SIZE);
+
+        pipelineService.registerFactory(new FileDataSourceFactory(validator, sourcePartSize));
+        pipelineService.registerFactory(new FileDataSinkFactory(executorContainer.getExecutorService(), monitor, validator, sinkPartitionSize));
+    }
+}
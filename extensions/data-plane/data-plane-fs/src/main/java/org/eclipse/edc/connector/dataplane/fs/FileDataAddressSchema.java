@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Defines the schema of a DataAddress representing a file or a directory on a filesystem local to the data plane.
+ */
+public interface FileDataAddressSchema {
+
+    /**
+     * The transfer type.
+     */
+    String FILE_TYPE = "File";
+
+    /**
+     * The absolute path of the file or directory. As a destination, the path is considered a directory if it exists as
+     * such or if it ends with a slash, otherwise it is the file in which the data is written.
+     */
+    String PATH = EDC_NAMESPACE + "path";
+}
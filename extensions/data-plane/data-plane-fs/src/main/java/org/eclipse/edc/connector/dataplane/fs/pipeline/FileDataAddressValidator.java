@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.validator.spi.Validator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.eclipse.edc.connector.dataplane.fs.FileDataAddressSchema.PATH;
+import static org.eclipse.edc.validator.spi.Violation.violation;
+
+/**
+ * Validates a file DataAddress: the path must be absolute and contained in one of the directories the data plane is
+ * allowed to access. Existing paths are resolved, so a symbolic link cannot point outside the allowed directories.
+ */
+public class FileDataAddressValidator implements Validator<DataAddress> {
+
+    private final List<Path> allowedDirectories;
+
+    public FileDataAddressValidator(List<Path> allowedDirectories) {
+        this.allowedDirectories = allowedDirectories.stream().map(this::realPath).toList();
+    }
+
+    @Override
+    public ValidationResult validate(DataAddress input) {
+        var value = input.getStringProperty(PATH);
+        if (value == null || value.isBlank()) {
+            return ValidationResult.failure(violation("'%s' is a mandatory attribute".formatted(PATH), PATH, value));
+        }
+
+        Path path;
+        try {
+            path = Path.of(value);
+        } catch (InvalidPathException e) {
+            return ValidationResult.failure(violation("'%s' is not a valid path: %s".formatted(PATH, e.getMessage()), PATH, value));
+        }
+
+        if (!path.isAbsolute()) {
+            return ValidationResult.failure(violation("'%s' must be an absolute path".formatted(PATH), PATH, value));
+        }
+
+        var resolved = realPath(path);
+        if (allowedDirectories.stream().noneMatch(resolved::startsWith)) {
+            return ValidationResult.failure(violation("'%s' is not contained in any of the allowed directories".formatted(PATH), PATH, value));
+        }
+
+        return ValidationResult.success();
+    }
+
+    /**
+     * Resolves the nearest existing ancestor of the path, so that symbolic links are taken into account also for paths
+     * that do not exist yet.
+     */
+    private Path realPath(Path path) {
+        var normalized = path.toAbsolutePath().normalize();
+        var existing = normalized;
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        if (existing == null) {
+            return normalized;
+        }
+        try {
+            return existing.toRealPath().resolve(existing.relativize(normalized));
+        } catch (IOException e) {
+            return normalized;
+        }
+    }
+}
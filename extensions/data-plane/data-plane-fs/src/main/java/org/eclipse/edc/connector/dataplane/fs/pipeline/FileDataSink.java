@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes parts to the local filesystem. When the destination is a directory every part is written to the file named
+ * after it, otherwise all the parts are written to the destination file.
+ * <p>
+ * {@link DataSource.RangePart}s are written at their offset, so the ranges of a split content can be written in
+ * parallel. The data of {@link FilePart}s is transferred directly between the file channels. Any other part is copied
+ * from its stream.
+ * <p>
+ * The transfer is rejected when the parts written to the same file disagree: parts with different names for a
+ * destination that is not a directory, ranges with different total sizes, or whole contents mixed with ranges.
+ */
+public class FileDataSink extends ParallelSink {
+
+    private static final long WHOLE_CONTENT = -1;
+
+    private final AtomicReference<String> partName = new AtomicReference<>();
+    private final Map<Path, Long> totalSizes = new ConcurrentHashMap<>();
+    private Path path;
+    private boolean directory;
+
+    private FileDataSink() {
+    }
+
+    @Override
+    protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
+        for (var part : parts) {
+            var target = target(part.name());
+            if (target == null) {
+                return StreamResult.error("Part name %s points outside of the destination directory %s".formatted(part.name(), path));
+            }
+            var conflict = conflict(part, target);
+            if (conflict != null) {
+                monitor.severe("Rejecting transfer for request %s: %s".formatted(requestId, conflict));
+                return StreamResult.error(conflict);
+            }
+
+            try {
+                Files.createDirectories(target.getParent());
+                if (part instanceof FilePart filePart) {
+                    write(filePart, target);
+                } else if (part instanceof DataSource.RangePart rangePart) {
+                    write(rangePart, target);
+                } else {
+                    try (var stream = part.openStream()) {
+                        Files.copy(stream, target, REPLACE_EXISTING);
+                    }
+                }
+            } catch (Exception e) {
+                monitor.severe("Error writing part %s to %s for request %s".formatted(part.name(), target, requestId), e);
+                return StreamResult.error("Error writing part %s: %s".formatted(part.name(), e.getMessage()));
+            }
+        }
+        return StreamResult.success();
+    }
+
+    private void write(FilePart part, Path target) throws IOException {
+        try (var channel = FileChannel.open(target, CREATE, WRITE)) {
+            channel.position(part.offset());
+            part.transferTo(channel);
+            // every range truncates to the same size, this drops the leftovers of a previously larger file
+            channel.truncate(part.totalSize());
+        }
+    }
+
+    private void write(DataSource.RangePart part, Path target) throws IOException {
+        try (var channel = FileChannel.open(target, CREATE, WRITE); var stream = Channels.newChannel(part.openStream())) {
+            var written = 0L;
+            while (written < part.size()) {
+                var count = channel.transferFrom(stream, part.offset() + written, part.size() - written);
+                if (count <= 0) {
+                    throw new IOException("Part %s ended before the end of its range".formatted(part.name()));
+                }
+                written += count;
+            }
+            channel.truncate(part.totalSize());
+        }
+    }
+
+    /**
+     * Checks the part against the other ones written to the same file, as they would overwrite each other.
+     *
+     * @return the conflict, null if there is none.
+     */
+    private String conflict(DataSource.Part part, Path target) {
+        if (!directory) {
+            var name = partName.updateAndGet(current -> current == null ? part.name() : current);
+            if (!Objects.equals(name, part.name())) {
+                return "Parts %s and %s cannot be both written to the file %s".formatted(name, part.name(), path);
+            }
+        }
+        var totalSize = part instanceof DataSource.RangePart rangePart ? rangePart.totalSize() : WHOLE_CONTENT;
+        var expected = totalSizes.putIfAbsent(target, totalSize);
+        if (expected != null && (expected != totalSize || totalSize == WHOLE_CONTENT)) {
+            return "Part %s does not match the content already written to %s".formatted(part.name(), target);
+        }
+        return null;
+    }
+
+    private Path target(String name) {
+        if (!directory) {
+            return path;
+        }
+        var target = path.resolve(name).normalize();
+        return target.startsWith(path) && !target.equals(path) ? target : null;
+    }
+
+    public static class Builder extends ParallelSink.Builder<Builder, FileDataSink> {
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        private Builder() {
+            super(new FileDataSink());
+        }
+
+        public Builder path(Path path) {
+            sink.path = path.normalize();
+            return this;
+        }
+
+        /**
+         * Whether the path is a directory in which the parts are written as files named after them.
+         */
+        public Builder directory(boolean directory) {
+            sink.directory = directory;
+            return this;
+        }
+
+        @Override
+        protected void validate() {
+            Objects.requireNonNull(sink.monitor, "monitor");
+            Objects.requireNonNull(sink.path, "path");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.validator.spi.Validator;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+
+import static org.eclipse.edc.connector.dataplane.fs.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.connector.dataplane.fs.FileDataAddressSchema.PATH;
+
+public class FileDataSinkFactory implements DataSinkFactory {
+
+    private final ExecutorService executorService;
+    private final Monitor monitor;
+    private final Validator<DataAddress> validation;
+    private final int partitionSize;
+
+    public FileDataSinkFactory(ExecutorService executorService, Monitor monitor, Validator<DataAddress> validation, int partitionSize) {
+        this.executorService = executorService;
+        this.monitor = monitor;
+        this.validation = validation;
+        this.partitionSize = partitionSize;
+    }
+
+    @Override
+    public String supportedType() {
+        return FILE_TYPE;
+    }
+
+    @Override
+    public boolean canHandle(DataFlowStartMessage dataRequest) {
+        return FILE_TYPE.equalsIgnoreCase(dataRequest.getDestinationDataAddress().getType());
+    }
+
+    @Override
+    public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        var destination = request.getDestinationDataAddress();
+        return validation.validate(destination).flatMap(ValidationResult::toResult);
+    }
+
+    @Override
+    public DataSink createSink(DataFlowStartMessage request) {
+        var validationResult = validateRequest(request);
+        if (validationResult.failed()) {
+            throw new EdcException(validationResult.getFailureDetail());
+        }
+
+        var value = request.getDestinationDataAddress().getStringProperty(PATH);
+        var path = Path.of(value);
+
+        return FileDataSink.Builder.newInstance()
+                .monitor(monitor)
+                .requestId(request.getId())
+                .path(path)
+                .directory(Files.isDirectory(path) || value.endsWith("/"))
+                .partitionSize(partitionSize)
+                .executorService(executorService)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+
+/**
+ * Reads a file, or all the files contained in a directory, from the local filesystem. Files larger than the part size
+ * are split into multiple {@link FilePart}s, so that their ranges can be transferred in parallel.
+ * <p>
+ * Symbolic links found while walking a directory are not followed.
+ */
+public class FileDataSource implements DataSource {
+
+    private Path path;
+    private long partSize;
+
+    private FileDataSource() {
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        if (Files.isRegularFile(path)) {
+            return StreamResult.success(parts(path, path.getFileName().toString()));
+        }
+        if (!Files.isDirectory(path)) {
+            return StreamResult.notFound();
+        }
+
+        try {
+            var parts = Files.walk(path)
+                    .filter(file -> Files.isRegularFile(file, NOFOLLOW_LINKS))
+                    .flatMap(file -> parts(file, name(file)));
+            return StreamResult.success(parts);
+        } catch (IOException e) {
+            return StreamResult.error("Cannot read directory %s: %s".formatted(path, e.getMessage()));
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private Stream<Part> parts(Path file, String name) {
+        long fileSize;
+        try {
+            fileSize = Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (partSize <= 0 || fileSize <= partSize) {
+            return Stream.of(new FilePart(name, file, 0, fileSize, fileSize));
+        }
+
+        var count = (fileSize + partSize - 1) / partSize;
+        return LongStream.range(0, count)
+                .mapToObj(i -> new FilePart(name, file, i * partSize, Math.min(partSize, fileSize - i * partSize), fileSize));
+    }
+
+    private String name(Path file) {
+        return path.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    public static class Builder {
+
+        private final FileDataSource source;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        private Builder() {
+            source = new FileDataSource();
+        }
+
+        public Builder path(Path path) {
+            source.path = path;
+            return this;
+        }
+
+        /**
+         * The maximum size of a part, files that are larger get split. Zero or negative to never split files.
+         */
+        public Builder partSize(long partSize) {
+            source.partSize = partSize;
+            return this;
+        }
+
+        public FileDataSource build() {
+            Objects.requireNonNull(source.path, "path");
+            return source;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.validator.spi.Validator;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+
+import static org.eclipse.edc.connector.dataplane.fs.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.connector.dataplane.fs.FileDataAddressSchema.PATH;
+
+public class FileDataSourceFactory implements DataSourceFactory {
+
+    private final Validator<DataAddress> validation;
+    private final long partSize;
+
+    public FileDataSourceFactory(Validator<DataAddress> validation, long partSize) {
+        this.validation = validation;
+        this.partSize = partSize;
+    }
+
+    @Override
+    public String supportedType() {
+        return FILE_TYPE;
+    }
+
+    @Override
+    public boolean canHandle(DataFlowStartMessage dataRequest) {
+        return FILE_TYPE.equalsIgnoreCase(dataRequest.getSourceDataAddress().getType());
+    }
+
+    @Override
+    public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        var source = request.getSourceDataAddress();
+        return validation.validate(source).flatMap(ValidationResult::toResult);
+    }
+
+    @Override
+    public DataSource createSource(DataFlowStartMessage request) {
+        var validationResult = validateRequest(request);
+        if (validationResult.failed()) {
+            throw new EdcException(validationResult.getFailureDetail());
+        }
+
+        return FileDataSource.Builder.newInstance()
+                .path(Path.of(request.getSourceDataAddress().getStringProperty(PATH)))
+                .partSize(partSize)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A range of a local file. A large file is split into multiple parts with the same name, each of them covering a
+ * different range, so that they can be transferred in parallel.
+ * <p>
+ * The content is read through a memory mapping of the range, and it can be transferred without copying it through the
+ * heap to a channel with {@link #transferTo(WritableByteChannel)}.
+ */
+public class FilePart implements DataSource.RangePart {
+
+    private final String name;
+    private final Path path;
+    private final long offset;
+    private final long size;
+    private final long totalSize;
+
+    public FilePart(String name, Path path, long offset, long size, long totalSize) {
+        this.name = name;
+        this.path = path;
+        this.offset = offset;
+        this.size = size;
+        this.totalSize = totalSize;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return new MappedFileInputStream(FileChannel.open(path, READ), offset, size);
+        } catch (IOException e) {
+            throw new EdcException("Cannot open file " + path, e);
+        }
+    }
+
+    @Override
+    public long offset() {
+        return offset;
+    }
+
+    @Override
+    public long totalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Transfers the range to the target channel, letting the operating system copy the data directly when possible.
+     *
+     * @param target the target channel, positioned where the range has to be written.
+     * @throws IOException if the file cannot be read or the target cannot be written.
+     */
+    public void transferTo(WritableByteChannel target) throws IOException {
+        try (var channel = FileChannel.open(path, READ)) {
+            var transferred = 0L;
+            while (transferred < size) {
+                var count = channel.transferTo(offset + transferred, size - transferred, target);
+                if (count <= 0 && offset + transferred >= channel.size()) {
+                    throw new IOException("File %s is shorter than expected".formatted(path));
+                }
+                transferred += count;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.fs.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.connector.dataplane.fs.FileDataAddressSchema.PATH;
+
+class FileDataAddressValidatorTest {
+
+    @TempDir
+    private Path allowed;
+
+    @TempDir
+    private Path forbidden;
+
+    @Test
+    void shouldSucceed_whenPathIsInAllowedDirectory() {
+        var validator = new FileDataAddressValidator(List.of(allowed));
+
+        assertThat(validator.validate(address(allowed.resolve("not-existing").resolve("file.txt").toString())).succeeded()).isTrue();
+    }
+
+    @Test
+    void shouldFail_whenPathIsMissingOrRelative() {
+        var validator = new FileDataAddressValidator(List.of(allowed));
+
+        assertThat(validator.validate(address(null)).failed()).isTrue();
+        assertThat(validator.validate(address("relative/file.txt")).failed()).isTrue();
+    }
+
+    @Test
+    void shouldFail_whenPathIsOutsideAllowedDirectories() {
+        var validator = new FileDataAddressValidator(List.of(allowed));
+
+        assertThat(validator.validate(address(forbidden.resolve("file.txt").toString())).failed()).isTrue();
+        assertThat(validator.validate(address(allowed.resolve("..").resolve(forbidden.getFileName()).toString())).failed()).isTrue();
+    }
+
+    @Test
+    void shouldFail_whenSymbolicLinkPointsOutsideAllowedDirectories() throws IOException {
+        var link = Files.createSymbolicLink(allowed.resolve("link"), forbidden);
+        var validator = new FileDataAddressValidator(List.of(allowed));
+
+        assertThat(validator.validate(address(link.resolve("file.txt").toString())).failed()).isTrue();
+    }
+
+    private DataAddress address(String path) {
+        var builder = DataAddress.Builder.newInstance().type(FILE_TYPE);
+        if (path != null) {
+            builder.property(PATH, path);
+        }
+        return builder.build();
+    }
+}
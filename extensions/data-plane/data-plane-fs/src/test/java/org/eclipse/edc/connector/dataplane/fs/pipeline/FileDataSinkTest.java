@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileDataSinkTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @TempDir
+    private Path sourceDirectory;
+
+    @TempDir
+    private Path destinationDirectory;
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldWriteSplitFile() throws Exception {
+        var content = new byte[10_000];
+        new Random().nextBytes(content);
+        var file = Files.write(sourceDirectory.resolve("file.bin"), content);
+        var destination = destinationDirectory.resolve("copy.bin");
+        Files.write(destination, new byte[20_000]);
+        var source = FileDataSource.Builder.newInstance().path(file).partSize(1024).build();
+
+        var result = sink(destination, false).transfer(source).get(10, SECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+    }
+
+    @Test
+    void transfer_shouldWriteEveryFile_whenDestinationIsDirectory() throws Exception {
+        Files.writeString(sourceDirectory.resolve("first.txt"), "first");
+        Files.createDirectories(sourceDirectory.resolve("nested"));
+        Files.writeString(sourceDirectory.resolve("nested").resolve("second.txt"), "second");
+        var source = FileDataSource.Builder.newInstance().path(sourceDirectory).build();
+
+        var result = sink(destinationDirectory, true).transfer(source).get(10, SECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(destinationDirectory.resolve("first.txt")).hasContent("first");
+        assertThat(destinationDirectory.resolve("nested").resolve("second.txt")).hasContent("second");
+    }
+
+    @Test
+    void transfer_shouldCopyStream_whenPartIsNotFile() throws Exception {
+        var source = new InputStreamDataSource("data.txt", new ByteArrayInputStream("content".getBytes()));
+
+        var result = sink(destinationDirectory, true).transfer(source).get(10, SECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(destinationDirectory.resolve("data.txt")).hasContent("content");
+    }
+
+    @Test
+    void transfer_shouldFail_whenPartNamePointsOutsideDestination() throws Exception {
+        var source = new InputStreamDataSource("../outside.txt", new ByteArrayInputStream("content".getBytes()));
+
+        var result = sink(destinationDirectory, true).transfer(source).get(10, SECONDS);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(destinationDirectory.resolveSibling("outside.txt")).doesNotExist();
+    }
+
+    @Test
+    void transfer_shouldFail_whenPartsWithDifferentNamesAreWrittenToFile() throws Exception {
+        Files.writeString(sourceDirectory.resolve("first.txt"), "first");
+        Files.writeString(sourceDirectory.resolve("second.txt"), "second");
+        var source = FileDataSource.Builder.newInstance().path(sourceDirectory).build();
+
+        var result = sink(destinationDirectory.resolve("file.txt"), false).transfer(source).get(10, SECONDS);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains("first.txt", "second.txt");
+    }
+
+    @Test
+    void transfer_shouldFail_whenRangesHaveDifferentTotalSizes() throws Exception {
+        var file = Files.write(sourceDirectory.resolve("file.bin"), new byte[20]);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(
+                new FilePart("file.bin", file, 0, 10, 20),
+                new FilePart("file.bin", file, 10, 10, 30))));
+
+        var result = sink(destinationDirectory, true).transfer(source).get(10, SECONDS);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains("file.bin");
+    }
+
+    private FileDataSink sink(Path path, boolean directory) {
+        return FileDataSink.Builder.newInstance()
+                .requestId("request-id")
+                .path(path)
+                .directory(directory)
+                .partitionSize(2)
+                .executorService(executorService)
+                .monitor(mock())
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_FOUND;
+
+class FileDataSourceTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void openPartStream_shouldReturnSinglePart_whenPathIsFile() throws IOException {
+        var file = Files.writeString(directory.resolve("file.txt"), "content");
+        var source = FileDataSource.Builder.newInstance().path(file).build();
+
+        var result = source.openPartStream();
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().toList()).singleElement().satisfies(part -> {
+            assertThat(part.name()).isEqualTo("file.txt");
+            assertThat(part.size()).isEqualTo(7);
+            assertThat(read(part)).isEqualTo("content");
+        });
+    }
+
+    @Test
+    void openPartStream_shouldReturnPartForEveryFile_whenPathIsDirectory() throws IOException {
+        Files.writeString(directory.resolve("first.txt"), "first");
+        Files.createDirectories(directory.resolve("nested"));
+        Files.writeString(directory.resolve("nested").resolve("second.txt"), "second");
+        var source = FileDataSource.Builder.newInstance().path(directory).build();
+
+        var result = source.openPartStream();
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().map(DataSource.Part::name)).containsExactlyInAnyOrder("first.txt", "nested/second.txt");
+    }
+
+    @Test
+    void openPartStream_shouldSplitFile_whenLargerThanPartSize() throws IOException {
+        var file = Files.writeString(directory.resolve("file.txt"), "0123456789");
+        var source = FileDataSource.Builder.newInstance().path(file).partSize(4).build();
+
+        var parts = source.openPartStream().getContent().map(FilePart.class::cast).toList();
+
+        assertThat(parts).extracting(FilePart::name).containsOnly("file.txt");
+        assertThat(parts).extracting(FilePart::offset).containsExactly(0L, 4L, 8L);
+        assertThat(parts).extracting(FilePart::size).containsExactly(4L, 4L, 2L);
+        assertThat(parts).extracting(this::read).containsExactly("0123", "4567", "89");
+    }
+
+    @Test
+    void openPartStream_shouldReturnNotFound_whenPathDoesNotExist() {
+        var source = FileDataSource.Builder.newInstance().path(directory.resolve("unknown")).build();
+
+        var result = source.openPartStream();
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(NOT_FOUND);
+    }
+
+    private String read(DataSource.Part part) {
+        try (InputStream stream = part.openStream()) {
+            return new String(stream.readAllBytes());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
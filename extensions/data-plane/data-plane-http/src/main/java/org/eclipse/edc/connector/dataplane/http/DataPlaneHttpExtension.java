@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestParamsProviderImpl;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory;
+import org.eclipse.edc.connector.dataplane.http.pipeline.TransferBodySpool;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
@@ -32,6 +33,8 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.nio.file.Path;
+
 /**
  * Provides support for reading data from an HTTP endpoint and sending data to an HTTP endpoint.
  */
@@ -44,6 +47,17 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Setting(value = "Number of partitions for parallel message push in the HttpDataSink", type = "int", defaultValue = DEFAULT_PARTITION_SIZE + "")
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    private static final long DEFAULT_SOURCE_RANGE_SIZE = 0;
+    @Setting(value = "Size in bytes of the ranges in which the HttpDataSource splits a content larger than it, if the source accepts byte ranges. Zero to always read the content with a single request", type = "long", defaultValue = DEFAULT_SOURCE_RANGE_SIZE + "")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_SIZE = "edc.dataplane.http.source.range.size";
+
+    @Setting(value = "Size in bytes above which the body of a non-chunked request of the HttpDataSink is spooled to a temporary file instead of memory", type = "long", defaultValue = TransferBodySpool.DEFAULT_MEMORY_THRESHOLD + "")
+    private static final String EDC_DATAPLANE_HTTP_SINK_SPOOL_MEMORY_THRESHOLD = "edc.dataplane.http.sink.spool.memory.threshold";
+    @Setting(value = "Maximum memory in bytes used by all the bodies of non-chunked requests of the HttpDataSink kept in memory", type = "long", defaultValue = TransferBodySpool.DEFAULT_MAX_MEMORY + "")
+    private static final String EDC_DATAPLANE_HTTP_SINK_SPOOL_MEMORY_MAX = "edc.dataplane.http.sink.spool.memory.max";
+    @Setting(value = "Directory of the temporary files in which the bodies of non-chunked requests are spooled. The default temporary directory if not set")
+    private static final String EDC_DATAPLANE_HTTP_SINK_SPOOL_DIRECTORY = "edc.dataplane.http.sink.spool.directory";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -68,13 +82,19 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
         var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE, DEFAULT_PARTITION_SIZE);
+        var sourceRangeSize = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_SIZE, DEFAULT_SOURCE_RANGE_SIZE);
 
         var paramsProvider = new HttpRequestParamsProviderImpl(vault, typeManager);
         context.registerService(HttpRequestParamsProvider.class, paramsProvider);
 
-        var httpRequestFactory = new HttpRequestFactory();
+        var spoolDirectory = context.getSetting(EDC_DATAPLANE_HTTP_SINK_SPOOL_DIRECTORY, null);
+        var spool = new TransferBodySpool(
+                context.getSetting(EDC_DATAPLANE_HTTP_SINK_SPOOL_MEMORY_MAX, TransferBodySpool.DEFAULT_MAX_MEMORY),
+                context.getSetting(EDC_DATAPLANE_HTTP_SINK_SPOOL_MEMORY_THRESHOLD, TransferBodySpool.DEFAULT_MEMORY_THRESHOLD),
+                spoolDirectory != null ? Path.of(spoolDirectory) : null);
+        var httpRequestFactory = new HttpRequestFactory(spool);
 
-        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
+        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory, sourceRangeSize);
         pipelineService.registerFactory(sourceFactory);
 
         var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory);
@@ -19,7 +19,9 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import org.eclipse.edc.connector.dataplane.http.pipeline.ChunkedTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
+import org.eclipse.edc.connector.dataplane.http.pipeline.SpoolingTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.pipeline.StringRequestBodySupplier;
+import org.eclipse.edc.connector.dataplane.http.pipeline.TransferBodySpool;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.jetbrains.annotations.NotNull;
@@ -40,6 +42,21 @@ public class HttpRequestFactory {
     private static final String SLASH = "/";
     private static final String BACKSLASH = "\\";
 
+    private final TransferBodySpool spool;
+
+    public HttpRequestFactory() {
+        this(TransferBodySpool.defaultSpool());
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param spool the spool of the non-chunked request bodies created from data source parts.
+     */
+    public HttpRequestFactory(TransferBodySpool spool) {
+        this.spool = spool;
+    }
+
     /**
      * Creates HTTP request from the provided set of parameters.
      *
@@ -63,7 +80,10 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, DataSource.Part part) {
-        return toRequest(params, createRequestBody(params, part::openStream, part.mediaType()));
+        var requestBody = params.isNonChunkedTransfer() && part.mediaType() != null
+                ? new SpoolingTransferRequestBody(part::openStream, part.size(), part.mediaType(), spool)
+                : createRequestBody(params, part::openStream, part.mediaType());
+        return toRequest(params, requestBody);
     }
 
     @NotNull
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okhttp3.Request;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -22,13 +23,17 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 
 /**
- * Writes data in a streaming fashion to an HTTP endpoint.
+ * Writes data in a streaming fashion to an HTTP endpoint. The ranges of a content split by the source are sent as a
+ * single body, while the following ranges are downloaded concurrently, up to the partition size.
  */
 public class HttpDataSink extends ParallelSink {
     private static final StreamResult<Object> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
@@ -37,6 +42,11 @@ public class HttpDataSink extends ParallelSink {
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
 
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return super.transfer(new RangeJoiningDataSource(source, executorService, Math.max(partitionSize - 1, 0)));
+    }
+
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
@@ -50,11 +60,23 @@ public class HttpDataSink extends ParallelSink {
             } catch (Exception e) {
                 monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
                 return ERROR_WRITING_DATA;
+            } finally {
+                release(request);
             }
         }
         return StreamResult.success();
     }
 
+    private void release(Request request) {
+        if (request.body() instanceof Closeable body) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                monitor.warning(format("Error releasing the body of the request: %s", request), e);
+            }
+        }
+    }
+
     private HttpDataSink() {
     }
 
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
 import okhttp3.MediaType;
+import okhttp3.Request;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
@@ -24,12 +25,16 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -37,10 +42,19 @@ import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.OCTET
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Reads the content of an HTTP endpoint as a single part.
+ * <p>
+ * When a range size is set and the endpoint states that it accepts byte ranges, a GET request is split instead into
+ * {@link HttpRangePart}s of at most that size, every one of them downloaded with its own range request. A HEAD request
+ * is issued first to find out the size of the content, and the source falls back to a single part if it fails or if
+ * the content is not larger than the range size.
+ */
 public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int PARTIAL_CONTENT = 206;
 
     private String name;
     private HttpRequestParams params;
@@ -48,7 +62,9 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private long rangeSize;
     private final AtomicReference<ResponseBodyStream> responseBodyStream = new AtomicReference<>();
+    private final Queue<ResponseBodyStream> rangeBodyStreams = new ConcurrentLinkedQueue<>();
 
     private HttpDataSource() {
     }
@@ -56,6 +72,13 @@ public class HttpDataSource implements DataSource {
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
+        if (rangeSize > 0 && "GET".equalsIgnoreCase(request.method())) {
+            var rangeParts = openRangePartStream(request);
+            if (rangeParts != null) {
+                return rangeParts;
+            }
+        }
+
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
@@ -96,12 +119,83 @@ public class HttpDataSource implements DataSource {
     public void close() {
         var bodyStream = responseBodyStream.get();
         if (bodyStream != null) {
-            bodyStream.responseBody().close();
-            try {
-                bodyStream.stream().close();
-            } catch (IOException e) {
-                // do nothing
+            close(bodyStream);
+        }
+        ResponseBodyStream rangeBodyStream;
+        while ((rangeBodyStream = rangeBodyStreams.poll()) != null) {
+            close(rangeBodyStream);
+        }
+    }
+
+    private void close(ResponseBodyStream bodyStream) {
+        bodyStream.responseBody().close();
+        try {
+            bodyStream.stream().close();
+        } catch (IOException e) {
+            // do nothing
+        }
+    }
+
+    /**
+     * Splits the content in range parts, returns null if it cannot or should not be split.
+     */
+    private @Nullable StreamResult<Stream<Part>> openRangePartStream(Request request) {
+        // ranges must refer to the content as it is stored, not to a compressed representation of it
+        var headRequest = request.newBuilder().head().header("Accept-Encoding", "identity").build();
+        monitor.debug(() -> "Executing HTTP request: HEAD " + headRequest.url());
+        try (var response = httpClient.execute(headRequest)) {
+            if (!response.isSuccessful() || !"bytes".equalsIgnoreCase(response.header("Accept-Ranges"))) {
+                return null;
+            }
+            var contentLength = parseContentLength(response.header("Content-Length"));
+            if (contentLength <= rangeSize) {
+                return null;
             }
+
+            var mediaType = Optional.ofNullable(response.header("Content-Type")).orElse(OCTET_STREAM);
+            var entityTag = response.header("ETag");
+            var count = (contentLength + rangeSize - 1) / rangeSize;
+            var parts = LongStream.range(0, count).<Part>mapToObj(i -> {
+                var offset = i * rangeSize;
+                var size = Math.min(rangeSize, contentLength - offset);
+                return new HttpRangePart(name, offset, size, contentLength, mediaType, () -> openRange(request, entityTag, offset, size));
+            });
+            return success(parts);
+        } catch (IOException e) {
+            monitor.warning(format("Error executing HEAD request for request %s, falling back to a single part: %s", requestId, e.getMessage()));
+            return null;
+        }
+    }
+
+    private InputStream openRange(Request request, @Nullable String entityTag, long offset, long size) {
+        var builder = request.newBuilder()
+                .header("Accept-Encoding", "identity")
+                .header("Range", "bytes=%d-%d".formatted(offset, offset + size - 1));
+        if (entityTag != null) {
+            // if the resource changed the server returns it whole, so the ranges are never mixed between versions
+            builder.header("If-Range", entityTag);
+        }
+        try {
+            var response = httpClient.execute(builder.build());
+            var body = response.body();
+            if (response.code() != PARTIAL_CONTENT || body == null) {
+                response.close();
+                throw new EdcException(format("Received code transferring range %d-%d of HTTP data for request %s: %s",
+                        offset, offset + size - 1, requestId, response.code()));
+            }
+            var stream = body.byteStream();
+            rangeBodyStreams.add(new ResponseBodyStream(body, stream));
+            return stream;
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private long parseContentLength(@Nullable String contentLength) {
+        try {
+            return contentLength == null ? -1 : Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            return -1;
         }
     }
 
@@ -150,6 +244,14 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * The maximum size of a range part, zero to always read the content as a single part.
+         */
+        public Builder rangeSize(long rangeSize) {
+            dataSource.rangeSize = rangeSize;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
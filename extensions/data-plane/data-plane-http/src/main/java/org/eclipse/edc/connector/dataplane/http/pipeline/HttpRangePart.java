@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * A byte range of an HTTP resource. The range request is executed only when the stream is opened, so that the ranges
+ * are downloaded in parallel when the sink processes them in parallel.
+ */
+public record HttpRangePart(String name, long offset, long size, long totalSize, String mediaType,
+                            Supplier<InputStream> content) implements DataSource.RangePart {
+
+    @Override
+    public InputStream openStream() {
+        return content.get();
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+
+/**
+ * Joins the consecutive {@link DataSource.RangePart}s of the same content into a single part, whose stream returns the
+ * ranges in offset order. An HTTP endpoint receives every content as one body, regardless of whether the source split
+ * it in ranges. The other parts are passed through unchanged.
+ * <p>
+ * While a range is forwarded, the following ones are downloaded concurrently into temporary files, up to the
+ * configured read-ahead, so the ranges are still fetched in parallel from the source. The disk space used by a joined
+ * part is therefore bounded by the read-ahead times the range size. A range whose download hasn't started yet when it
+ * is needed is read directly, so the stream never waits for a task queued on a busy executor.
+ */
+class RangeJoiningDataSource implements DataSource {
+
+    private final DataSource source;
+    private final Executor executor;
+    private final int readAhead;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param source    the source whose ranges are joined.
+     * @param executor  the executor that downloads the following ranges.
+     * @param readAhead how many ranges are downloaded ahead of the one being read, 0 to read them one after the other.
+     */
+    RangeJoiningDataSource(DataSource source, Executor executor, int readAhead) {
+        this.source = source;
+        this.executor = executor;
+        this.readAhead = readAhead;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        return source.openPartStream().map(this::joinRanges);
+    }
+
+    @Override
+    public void close() throws Exception {
+        source.close();
+    }
+
+    private Stream<Part> joinRanges(Stream<Part> parts) {
+        var iterator = new JoiningIterator(parts.iterator(), executor, readAhead);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(parts::close);
+    }
+
+    private static boolean isPartial(Part part) {
+        return part instanceof RangePart range && (range.offset() > 0 || range.size() != range.totalSize());
+    }
+
+    private static final class JoiningIterator implements Iterator<Part> {
+
+        private final Iterator<Part> parts;
+        private final Executor executor;
+        private final int readAhead;
+        private Part lookahead;
+
+        JoiningIterator(Iterator<Part> parts, Executor executor, int readAhead) {
+            this.parts = parts;
+            this.executor = executor;
+            this.readAhead = readAhead;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lookahead != null || parts.hasNext();
+        }
+
+        @Override
+        public Part next() {
+            var part = lookahead != null ? lookahead : parts.next();
+            lookahead = null;
+            if (!isPartial(part)) {
+                return part;
+            }
+
+            var first = (RangePart) part;
+            var ranges = new ArrayList<RangePart>(List.of(first));
+            var covered = first.size();
+            while (covered < first.totalSize() && parts.hasNext()) {
+                var next = parts.next();
+                if (isPartial(next) && next instanceof RangePart range && range.name().equals(first.name()) && range.totalSize() == first.totalSize()) {
+                    ranges.add(range);
+                    covered += range.size();
+                } else {
+                    lookahead = next;
+                    break;
+                }
+            }
+            ranges.sort(Comparator.comparingLong(RangePart::offset));
+            return new JoinedPart(ranges, executor, readAhead);
+        }
+    }
+
+    private record JoinedPart(List<RangePart> ranges, Executor executor, int readAhead) implements Part {
+
+        @Override
+        public String name() {
+            return ranges.get(0).name();
+        }
+
+        @Override
+        public long size() {
+            return ranges.get(0).totalSize();
+        }
+
+        @Override
+        public String mediaType() {
+            return ranges.get(0).mediaType();
+        }
+
+        @Override
+        public InputStream openStream() {
+            var expectedOffset = 0L;
+            for (var range : ranges) {
+                if (range.offset() != expectedOffset) {
+                    throw new EdcException(format("Missing range at offset %d of part %s", expectedOffset, name()));
+                }
+                expectedOffset += range.size();
+            }
+            if (expectedOffset != size()) {
+                throw new EdcException(format("Missing range at offset %d of part %s", expectedOffset, name()));
+            }
+            return new RangesInputStream(ranges.iterator(), executor, readAhead);
+        }
+
+        @Override
+        public void acknowledge() {
+            ranges.forEach(Part::acknowledge);
+        }
+
+        @Override
+        public void close() throws Exception {
+            for (var range : ranges) {
+                range.close();
+            }
+        }
+    }
+
+    /**
+     * Returns the ranges in sequence, while the following ones are downloaded in the background.
+     */
+    private static final class RangesInputStream extends InputStream {
+
+        private final Iterator<RangePart> ranges;
+        private final Executor executor;
+        private final int readAhead;
+        private final Deque<Prefetch> prefetches = new ArrayDeque<>();
+        private InputStream current;
+        private boolean started;
+
+        RangesInputStream(Iterator<RangePart> ranges, Executor executor, int readAhead) {
+            this.ranges = ranges;
+            this.executor = executor;
+            this.readAhead = readAhead;
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (nextStream()) {
+                var b = current.read();
+                if (b != -1) {
+                    return b;
+                }
+                closeCurrent();
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (nextStream()) {
+                var read = current.read(buffer, offset, length);
+                if (read != -1) {
+                    return read;
+                }
+                closeCurrent();
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeCurrent();
+            while (!prefetches.isEmpty()) {
+                prefetches.poll().discard();
+            }
+        }
+
+        private boolean nextStream() throws IOException {
+            if (current != null) {
+                return true;
+            }
+            if (!started) {
+                started = true;
+                if (!ranges.hasNext()) {
+                    return false;
+                }
+                var first = ranges.next();
+                prefetch();
+                current = first.openStream();
+                return true;
+            }
+            var next = prefetches.poll();
+            if (next == null) {
+                return false;
+            }
+            prefetch();
+            current = next.open();
+            return true;
+        }
+
+        private void prefetch() {
+            while (prefetches.size() < Math.max(readAhead, 1) && ranges.hasNext()) {
+                var prefetch = new Prefetch(ranges.next());
+                prefetches.add(prefetch);
+                if (readAhead > 0) {
+                    executor.execute(prefetch);
+                }
+            }
+        }
+
+        private void closeCurrent() throws IOException {
+            if (current != null) {
+                var stream = current;
+                current = null;
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * Downloads a range into a temporary file. Whoever claims the range first, the download task or the reader, reads
+     * it from the source.
+     */
+    private static final class Prefetch implements Runnable {
+
+        private final RangePart range;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<Path> file = new CompletableFuture<>();
+
+        Prefetch(RangePart range) {
+            this.range = range;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            Path path = null;
+            try (var stream = range.openStream()) {
+                path = Files.createTempFile("edc-range-", ".spool");
+                Files.copy(stream, path, REPLACE_EXISTING);
+                file.complete(path);
+            } catch (Exception e) {
+                delete(path);
+                file.completeExceptionally(e);
+            }
+        }
+
+        InputStream open() throws IOException {
+            if (claimed.compareAndSet(false, true)) {
+                return range.openStream();
+            }
+            try {
+                return Files.newInputStream(file.join(), DELETE_ON_CLOSE);
+            } catch (CompletionException e) {
+                // surface the same failure as if the range was read directly
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IOException(format("Error downloading range at offset %d of part %s", range.offset(), range.name()), e.getCause());
+            }
+        }
+
+        void discard() {
+            if (!claimed.compareAndSet(false, true)) {
+                file.thenAccept(Prefetch::delete);
+            }
+        }
+
+        private static void delete(Path path) {
+            if (path != null) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException ignored) {
+                    // the file is in the temporary directory
+                }
+            }
+        }
+    }
+}
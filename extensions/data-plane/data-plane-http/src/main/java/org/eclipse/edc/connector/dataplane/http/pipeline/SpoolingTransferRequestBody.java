@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okio.BufferedSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Writes content into an OK HTTP buffered sink, providing the Content-Length upfront so that no Transfer-Encoding is
+ * needed.
+ * <p>
+ * When the size of the content is known it is streamed as it is. Otherwise, the content is spooled the first time its
+ * length is requested: in memory as long as the {@link TransferBodySpool} allows it, to a temporary file otherwise.
+ * The body must be closed after the request has been executed, to release the memory and delete the file.
+ *
+ * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
+ */
+public class SpoolingTransferRequestBody extends AbstractTransferRequestBody implements Closeable {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Supplier<InputStream> contentSupplier;
+    private final long size;
+    private final TransferBodySpool spool;
+
+    private boolean spooled;
+    private byte[] buffer = new byte[0];
+    private int length;
+    private long acquired;
+    private Path file;
+    private long fileLength;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param contentSupplier supplies the content.
+     * @param size            the size of the content, or {@link DataSource.Part#SIZE_UNKNOWN} to spool it.
+     * @param contentType     the content type.
+     * @param spool           the spool.
+     */
+    public SpoolingTransferRequestBody(Supplier<InputStream> contentSupplier, long size, String contentType, TransferBodySpool spool) {
+        super(contentType);
+        this.contentSupplier = contentSupplier;
+        this.size = size;
+        this.spool = spool;
+    }
+
+    @Override
+    public synchronized long contentLength() throws IOException {
+        if (size != DataSource.Part.SIZE_UNKNOWN) {
+            return size;
+        }
+        spool();
+        return file != null ? fileLength : length;
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        if (size != DataSource.Part.SIZE_UNKNOWN) {
+            try (var is = contentSupplier.get(); var os = sink.outputStream()) {
+                is.transferTo(os);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            spool();
+            try (var os = sink.outputStream()) {
+                if (file != null) {
+                    Files.copy(file, os);
+                } else {
+                    os.write(buffer, 0, length);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        spooled = false;
+        buffer = new byte[0];
+        length = 0;
+        spool.release(acquired);
+        acquired = 0;
+        if (file != null) {
+            Files.deleteIfExists(file);
+            file = null;
+        }
+    }
+
+    private void spool() throws IOException {
+        if (spooled) {
+            return;
+        }
+
+        OutputStream output = null;
+        try (var is = contentSupplier.get()) {
+            var chunk = new byte[CHUNK_SIZE];
+            int read;
+            while ((read = is.readNBytes(chunk, 0, chunk.length)) > 0) {
+                if (output == null && bufferInMemory(chunk, read)) {
+                    continue;
+                }
+                if (output == null) {
+                    output = spill();
+                }
+                output.write(chunk, 0, read);
+            }
+            if (output != null) {
+                output.close();
+                fileLength = Files.size(file);
+            }
+            spooled = true;
+        } catch (IOException | RuntimeException e) {
+            if (output != null) {
+                output.close();
+            }
+            close();
+            throw e;
+        }
+    }
+
+    private boolean bufferInMemory(byte[] chunk, int read) {
+        var required = (long) length + read;
+        if (required > spool.getMemoryThreshold()) {
+            return false;
+        }
+        if (required > buffer.length) {
+            var capacity = Math.min(Math.max(required, (long) buffer.length * 2), spool.getMemoryThreshold());
+            if (!spool.acquire(capacity - buffer.length)) {
+                return false;
+            }
+            acquired += capacity - buffer.length;
+            buffer = Arrays.copyOf(buffer, (int) capacity);
+        }
+        System.arraycopy(chunk, 0, buffer, length, read);
+        length += read;
+        return true;
+    }
+
+    private OutputStream spill() throws IOException {
+        file = spool.createFile();
+        var output = new BufferedOutputStream(Files.newOutputStream(file));
+        output.write(buffer, 0, length);
+        buffer = new byte[0];
+        length = 0;
+        spool.release(acquired);
+        acquired = 0;
+        return output;
+    }
+}
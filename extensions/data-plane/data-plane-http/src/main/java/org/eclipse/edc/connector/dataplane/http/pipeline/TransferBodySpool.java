@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the memory used to spool the bodies of non-chunked requests, whose content length must be known before
+ * sending them. A body is kept in memory only while it does not exceed the threshold and the memory shared by all the
+ * concurrent transfers is available, otherwise it is spilled to a temporary file.
+ */
+public class TransferBodySpool {
+
+    public static final long DEFAULT_MAX_MEMORY = 64 * 1024 * 1024;
+    public static final long DEFAULT_MEMORY_THRESHOLD = 4 * 1024 * 1024;
+
+    private final AtomicLong availableMemory;
+    private final long memoryThreshold;
+    private final Path directory;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maxMemory       the maximum memory used by all the bodies kept in memory, in bytes.
+     * @param memoryThreshold the size above which a body is spilled to a file, in bytes.
+     * @param directory       the directory of the temporary files, the default temporary directory if null.
+     */
+    public TransferBodySpool(long maxMemory, long memoryThreshold, @Nullable Path directory) {
+        this.availableMemory = new AtomicLong(maxMemory);
+        // a body kept in memory must fit in an array
+        this.memoryThreshold = Math.min(memoryThreshold, Integer.MAX_VALUE - 8);
+        this.directory = directory;
+    }
+
+    public static TransferBodySpool defaultSpool() {
+        return new TransferBodySpool(DEFAULT_MAX_MEMORY, DEFAULT_MEMORY_THRESHOLD, null);
+    }
+
+    long getMemoryThreshold() {
+        return memoryThreshold;
+    }
+
+    long getAvailableMemory() {
+        return availableMemory.get();
+    }
+
+    /**
+     * Reserves memory for a body.
+     *
+     * @param bytes the amount of memory.
+     * @return true if the memory has been reserved, false if it is not available.
+     */
+    boolean acquire(long bytes) {
+        var available = availableMemory.get();
+        while (available >= bytes) {
+            if (availableMemory.compareAndSet(available, available - bytes)) {
+                return true;
+            }
+            available = availableMemory.get();
+        }
+        return false;
+    }
+
+    void release(long bytes) {
+        availableMemory.addAndGet(bytes);
+    }
+
+    Path createFile() throws IOException {
+        return directory == null
+                ? Files.createTempFile("edc-transfer-", ".spool")
+                : Files.createTempFile(directory, "edc-transfer-", ".spool");
+    }
+}
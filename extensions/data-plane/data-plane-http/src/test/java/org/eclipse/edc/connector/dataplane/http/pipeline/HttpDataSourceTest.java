@@ -21,35 +21,49 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockserver.integration.ClientAndServer;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.GENERAL_ERROR;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_AUTHORIZED;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.util.io.Ports.getFreePort;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.ConnectionOptions.connectionOptions;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
 
 class HttpDataSourceTest {
 
@@ -107,6 +121,111 @@ class HttpDataSourceTest {
         verify(stream).close();
     }
 
+    @Nested
+    class RangeParts {
+
+        private static final String CONTENT = "0123456789";
+
+        private final int port = getFreePort();
+        private ClientAndServer server;
+
+        @BeforeEach
+        void setUp() {
+            server = startClientAndServer(port);
+        }
+
+        @AfterEach
+        void tearDown() {
+            stopQuietly(server);
+        }
+
+        @Test
+        void shouldSplitContentInRanges_whenSourceAcceptsRanges() {
+            head(true);
+            range("bytes=0-3", "0123");
+            range("bytes=4-7", "4567");
+            range("bytes=8-9", "89");
+            var source = rangeSourceBuilder().rangeSize(4).build();
+
+            var parts = source.openPartStream().getContent().map(DataSource.RangePart.class::cast).toList();
+
+            assertThat(parts).extracting(DataSource.Part::name).containsOnly("test-name");
+            assertThat(parts).extracting(DataSource.RangePart::offset).containsExactly(0L, 4L, 8L);
+            assertThat(parts).extracting(DataSource.Part::size).containsExactly(4L, 4L, 2L);
+            assertThat(parts).allSatisfy(part -> assertThat(part.totalSize()).isEqualTo(CONTENT.length()));
+            var contents = parts.stream().map(part -> CompletableFuture.supplyAsync(() -> read(part))).toList();
+            assertThat(contents).extracting(CompletableFuture::join).containsExactly("0123", "4567", "89");
+            source.close();
+        }
+
+        @Test
+        void shouldReturnSinglePart_whenSourceDoesNotAcceptRanges() {
+            head(false);
+            server.when(request().withMethod("GET")).respond(response().withStatusCode(200).withBody(CONTENT));
+            var source = rangeSourceBuilder().rangeSize(4).build();
+
+            var parts = source.openPartStream().getContent().toList();
+
+            assertThat(parts).singleElement().isInstanceOf(HttpPart.class)
+                    .satisfies(part -> assertThat(read(part)).isEqualTo(CONTENT));
+        }
+
+        @Test
+        void shouldReturnSinglePart_whenContentIsNotLargerThanRangeSize() {
+            head(true);
+            server.when(request().withMethod("GET")).respond(response().withStatusCode(200).withBody(CONTENT));
+            var source = rangeSourceBuilder().rangeSize(10).build();
+
+            var parts = source.openPartStream().getContent().toList();
+
+            assertThat(parts).singleElement().isInstanceOf(HttpPart.class);
+        }
+
+        @Test
+        void shouldFailReadingRange_whenSourceReturnsWholeContent() {
+            head(true);
+            server.when(request().withMethod("GET")).respond(response().withStatusCode(200).withBody(CONTENT));
+            var source = rangeSourceBuilder().rangeSize(4).build();
+
+            var parts = source.openPartStream().getContent().toList();
+
+            assertThat(parts).hasSize(3).first().satisfies(part -> assertThatThrownBy(part::openStream).isInstanceOf(EdcException.class));
+        }
+
+        private void head(boolean acceptRanges) {
+            var response = response().withStatusCode(200)
+                    .withConnectionOptions(connectionOptions().withContentLengthHeaderOverride(CONTENT.length()));
+            if (acceptRanges) {
+                response.withHeader("Accept-Ranges", "bytes");
+            }
+            server.when(request().withMethod("HEAD")).respond(response);
+        }
+
+        private void range(String range, String body) {
+            server.when(request().withMethod("GET").withHeader("Range", range))
+                    .respond(response().withStatusCode(206).withBody(body));
+        }
+
+        private HttpDataSource.Builder rangeSourceBuilder() {
+            var params = HttpRequestParams.Builder.newInstance().method("GET").baseUrl("http://localhost:" + port).build();
+            return HttpDataSource.Builder.newInstance()
+                    .httpClient(testHttpClient())
+                    .name("test-name")
+                    .monitor(mock(Monitor.class))
+                    .requestId(UUID.randomUUID().toString())
+                    .params(params)
+                    .requestFactory(new HttpRequestFactory());
+        }
+
+        private String read(DataSource.Part part) {
+            try (var stream = part.openStream()) {
+                return new String(stream.readAllBytes());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     @NotNull
     private Request dummyRequest() {
         return new Request.Builder().url("http://some.test.url/").get().build();
@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RangeJoiningDataSourceTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @Test
+    void shouldJoinRanges_inOffsetOrder() throws IOException {
+        var parts = parts(Stream.of(range("file", 4, "4567"), range("file", 0, "0123"), range("file", 8, "89")));
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> {
+            assertThat(part.name()).isEqualTo("file");
+            assertThat(part.size()).isEqualTo(10);
+            assertThat(read(part)).isEqualTo("0123456789");
+        });
+    }
+
+    @Test
+    void shouldDownloadFollowingRanges_whileReadingTheFirst() throws Exception {
+        var secondOpened = new CountDownLatch(1);
+        var first = mock(DataSource.RangePart.class);
+        when(first.name()).thenReturn("file");
+        when(first.size()).thenReturn(2L);
+        when(first.totalSize()).thenReturn(4L);
+        when(first.openStream()).thenAnswer(i -> {
+            // the first range completes only once the second one has been requested
+            assertThat(secondOpened.await(10, SECONDS)).isTrue();
+            return new ByteArrayInputStream("01".getBytes(UTF_8));
+        });
+        var second = range("file", 2, "23", 4);
+        var spy = mock(DataSource.RangePart.class);
+        when(spy.name()).thenReturn("file");
+        when(spy.offset()).thenReturn(2L);
+        when(spy.size()).thenReturn(2L);
+        when(spy.totalSize()).thenReturn(4L);
+        when(spy.openStream()).thenAnswer(i -> {
+            secondOpened.countDown();
+            return second.openStream();
+        });
+
+        var part = parts(Stream.of(first, spy), 1).get(0);
+
+        assertThat(read(part)).isEqualTo("0123");
+    }
+
+    @Test
+    void shouldNotOpenRanges_beyondReadAhead() throws IOException {
+        var third = mock(DataSource.RangePart.class);
+        when(third.name()).thenReturn("file");
+        when(third.offset()).thenReturn(4L);
+        when(third.size()).thenReturn(2L);
+        when(third.totalSize()).thenReturn(6L);
+
+        var part = parts(Stream.of(range("file", 0, "01", 6), range("file", 2, "23", 6), third), 1).get(0);
+        try (var stream = part.openStream()) {
+            assertThat(stream.read()).isEqualTo('0');
+        }
+
+        verify(third, never()).openStream();
+    }
+
+    @Test
+    void shouldReadRangesDirectly_whenDownloadHasNotStarted() throws IOException {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(range("file", 0, "01", 4), range("file", 2, "23", 4))));
+        Executor idle = command -> {
+        };
+
+        var part = new RangeJoiningDataSource(source, idle, 2).openPartStream().getContent().toList().get(0);
+
+        assertThat(read(part)).isEqualTo("0123");
+    }
+
+    @Test
+    void shouldFail_whenDownloadOfFollowingRangeFails() {
+        var failing = mock(DataSource.RangePart.class);
+        when(failing.name()).thenReturn("file");
+        when(failing.offset()).thenReturn(2L);
+        when(failing.size()).thenReturn(2L);
+        when(failing.totalSize()).thenReturn(4L);
+        when(failing.openStream()).thenThrow(new EdcException("unavailable"));
+
+        var part = parts(Stream.of(range("file", 0, "01", 4), failing), 1).get(0);
+
+        assertThatThrownBy(() -> read(part)).isInstanceOf(EdcException.class).hasMessage("unavailable");
+    }
+
+    @Test
+    void shouldPassOtherPartsThrough() {
+        var whole = range("whole", 0, "0123", 4);
+        var other = mock(DataSource.Part.class);
+
+        assertThat(parts(Stream.of(whole, other))).containsExactly(whole, other);
+    }
+
+    @Test
+    void shouldJoinRangesOfEveryContentSeparately() throws IOException {
+        var parts = parts(Stream.of(range("a", 0, "01", 4), range("a", 2, "23", 4), range("b", 0, "ab", 4), range("b", 2, "cd", 4)));
+
+        assertThat(parts).hasSize(2);
+        assertThat(read(parts.get(0))).isEqualTo("0123");
+        assertThat(read(parts.get(1))).isEqualTo("abcd");
+    }
+
+    @Test
+    void shouldFail_whenRangeIsMissing() {
+        var part = parts(Stream.of(range("file", 0, "01", 6), range("file", 4, "45", 6))).get(0);
+
+        assertThatThrownBy(part::openStream).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void shouldAcknowledgeEveryRange() {
+        var first = mock(DataSource.RangePart.class);
+        var second = mock(DataSource.RangePart.class);
+        when(first.name()).thenReturn("file");
+        when(first.size()).thenReturn(2L);
+        when(first.totalSize()).thenReturn(4L);
+        when(second.name()).thenReturn("file");
+        when(second.offset()).thenReturn(2L);
+        when(second.size()).thenReturn(2L);
+        when(second.totalSize()).thenReturn(4L);
+
+        parts(Stream.of(first, second)).get(0).acknowledge();
+
+        verify(first).acknowledge();
+        verify(second).acknowledge();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private List<DataSource.Part> parts(Stream<DataSource.Part> parts) {
+        return parts(parts, 2);
+    }
+
+    private List<DataSource.Part> parts(Stream<DataSource.Part> parts, int readAhead) {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(parts));
+        return new RangeJoiningDataSource(source, executor, readAhead).openPartStream().getContent().toList();
+    }
+
+    private String read(DataSource.Part part) throws IOException {
+        try (var stream = part.openStream()) {
+            return new String(stream.readAllBytes(), UTF_8);
+        }
+    }
+
+    private DataSource.RangePart range(String name, long offset, String content) {
+        return range(name, offset, content, 10);
+    }
+
+    private DataSource.RangePart range(String name, long offset, String content, long totalSize) {
+        return new TestRangePart(name, offset, content.length(), totalSize, content.getBytes(UTF_8));
+    }
+
+    private record TestRangePart(String name, long offset, long size, long totalSize, byte[] content) implements DataSource.RangePart {
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okio.BufferedSink;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpoolingTransferRequestBodyTest {
+
+    private static final String CONTENT = "Test Content";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldStreamContent_whenSizeIsKnown() throws IOException {
+        var spool = spy(new TransferBodySpool(100, 100, directory));
+        var body = new SpoolingTransferRequestBody(content(), CONTENT.length(), HttpDataAddress.OCTET_STREAM, spool);
+
+        assertThat(body.contentLength()).isEqualTo(CONTENT.length());
+        assertThat(write(body)).isEqualTo(CONTENT);
+        verify(spool, never()).acquire(anyLong());
+    }
+
+    @Test
+    void shouldKeepContentInMemory_whenBelowThreshold() throws IOException {
+        var spool = new TransferBodySpool(100, 100, directory);
+        var body = new SpoolingTransferRequestBody(content(), SIZE_UNKNOWN, HttpDataAddress.OCTET_STREAM, spool);
+
+        assertThat(body.contentLength()).isEqualTo(CONTENT.length());
+        assertThat(write(body)).isEqualTo(CONTENT);
+        assertThat(directory).isEmptyDirectory();
+        assertThat(spool.getAvailableMemory()).isLessThan(100);
+
+        body.close();
+
+        assertThat(spool.getAvailableMemory()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldSpillContentToFile_whenAboveThreshold() throws IOException {
+        var spool = new TransferBodySpool(100, 5, directory);
+        var body = new SpoolingTransferRequestBody(content(), SIZE_UNKNOWN, HttpDataAddress.OCTET_STREAM, spool);
+
+        assertThat(body.contentLength()).isEqualTo(CONTENT.length());
+        assertThat(write(body)).isEqualTo(CONTENT);
+        assertThat(write(body)).describedAs("body can be written again").isEqualTo(CONTENT);
+        try (var files = Files.list(directory)) {
+            assertThat(files).hasSize(1);
+        }
+        assertThat(spool.getAvailableMemory()).isEqualTo(100);
+
+        body.close();
+
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldSpillContentToFile_whenMemoryIsNotAvailable() throws IOException {
+        var spool = new TransferBodySpool(100, 100, directory);
+        var first = new SpoolingTransferRequestBody(() -> new ByteArrayInputStream(new byte[95]), SIZE_UNKNOWN, HttpDataAddress.OCTET_STREAM, spool);
+        var second = new SpoolingTransferRequestBody(content(), SIZE_UNKNOWN, HttpDataAddress.OCTET_STREAM, spool);
+
+        first.contentLength();
+        second.contentLength();
+
+        assertThat(write(second)).isEqualTo(CONTENT);
+        try (var files = Files.list(directory)) {
+            assertThat(files).hasSize(1);
+        }
+
+        first.close();
+        second.close();
+
+        assertThat(spool.getAvailableMemory()).isEqualTo(100);
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    private Supplier<InputStream> content() {
+        return () -> new ByteArrayInputStream(CONTENT.getBytes());
+    }
+
+    private String write(SpoolingTransferRequestBody body) throws IOException {
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        body.writeTo(sink);
+
+        return outputStream.toString();
+    }
+}
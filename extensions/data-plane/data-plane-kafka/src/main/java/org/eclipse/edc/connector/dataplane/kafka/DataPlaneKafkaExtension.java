@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.kafka;
 import org.eclipse.edc.connector.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSourceFactory;
+import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaProducerPool;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -26,6 +27,10 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Extension(value = DataPlaneKafkaExtension.NAME)
 public class DataPlaneKafkaExtension implements ServiceExtension {
@@ -37,6 +42,28 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Setting(value = "The partitionSize used by the kafka data sink", type = "int", defaultValue = DEFAULT_PARTITION_SIZE + "", min = 1)
     private static final String EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE = "edc.dataplane.kafka.sink.partition.size";
 
+    private static final boolean DEFAULT_SOURCE_COMMIT_ON_ACKNOWLEDGE = false;
+    private static final int DEFAULT_SOURCE_MAX_IN_FLIGHT = 1000;
+
+    @Setting(value = "If true, the kafka data source commits the offsets only once the sink acknowledged the records, instead of automatically", type = "boolean", defaultValue = DEFAULT_SOURCE_COMMIT_ON_ACKNOWLEDGE + "")
+    private static final String EDC_DATAPLANE_KAFKA_SOURCE_COMMIT_ON_ACKNOWLEDGE = "edc.dataplane.kafka.source.commit.on.acknowledge";
+
+    @Setting(value = "The maximum number of records waiting for the acknowledgement of the sink before the kafka data source pauses polling", type = "int", defaultValue = DEFAULT_SOURCE_MAX_IN_FLIGHT + "", min = 1)
+    private static final String EDC_DATAPLANE_KAFKA_SOURCE_MAX_IN_FLIGHT = "edc.dataplane.kafka.source.max.inflight";
+
+    private static final boolean DEFAULT_PRODUCER_POOL_ENABLED = false;
+    private static final long DEFAULT_PRODUCER_IDLE_TIMEOUT_SECONDS = 300;
+    private static final long DEFAULT_PRODUCER_LINGER_MS = 5;
+
+    @Setting(value = "If true, the kafka data sinks share their producers through a pool instead of creating one per transfer", type = "boolean", defaultValue = DEFAULT_PRODUCER_POOL_ENABLED + "")
+    private static final String EDC_DATAPLANE_KAFKA_SINK_PRODUCER_POOL_ENABLED = "edc.dataplane.kafka.sink.producer.pool.enabled";
+
+    @Setting(value = "Seconds after which a pooled kafka producer that is not used by any transfer gets closed", type = "long", defaultValue = DEFAULT_PRODUCER_IDLE_TIMEOUT_SECONDS + "", min = 1)
+    private static final String EDC_DATAPLANE_KAFKA_SINK_PRODUCER_IDLE_TIMEOUT = "edc.dataplane.kafka.sink.producer.pool.idle.timeout";
+
+    @Setting(value = "The linger.ms used to batch the records of pooled kafka producers, if not set on the data address", type = "long", defaultValue = DEFAULT_PRODUCER_LINGER_MS + "", min = 0)
+    private static final String EDC_DATAPLANE_KAFKA_SINK_PRODUCER_LINGER_MS = "edc.dataplane.kafka.sink.producer.pool.linger.ms";
+
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
@@ -46,6 +73,10 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    private KafkaProducerPool producerPool;
+    private ScheduledExecutorService evictionScheduler;
+    private Duration producerIdleTimeout;
+
     @Override
     public String name() {
         return NAME;
@@ -58,7 +89,40 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
 
         var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE, DEFAULT_PARTITION_SIZE);
 
-        pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, sinkPartitionSize));
+        var commitOnAcknowledge = context.getSetting(EDC_DATAPLANE_KAFKA_SOURCE_COMMIT_ON_ACKNOWLEDGE, DEFAULT_SOURCE_COMMIT_ON_ACKNOWLEDGE);
+        var maxInFlight = context.getSetting(EDC_DATAPLANE_KAFKA_SOURCE_MAX_IN_FLIGHT, DEFAULT_SOURCE_MAX_IN_FLIGHT);
+        pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock, commitOnAcknowledge, maxInFlight));
+
+        if (context.getSetting(EDC_DATAPLANE_KAFKA_SINK_PRODUCER_POOL_ENABLED, DEFAULT_PRODUCER_POOL_ENABLED)) {
+            producerIdleTimeout = Duration.ofSeconds(context.getSetting(EDC_DATAPLANE_KAFKA_SINK_PRODUCER_IDLE_TIMEOUT, DEFAULT_PRODUCER_IDLE_TIMEOUT_SECONDS));
+            var lingerMs = context.getSetting(EDC_DATAPLANE_KAFKA_SINK_PRODUCER_LINGER_MS, DEFAULT_PRODUCER_LINGER_MS);
+            producerPool = new KafkaProducerPool(clock, producerIdleTimeout, lingerMs);
+        }
+
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, sinkPartitionSize, producerPool));
+    }
+
+    @Override
+    public void start() {
+        if (producerPool != null) {
+            evictionScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName("KafkaProducerPool-eviction");
+                thread.setDaemon(true);
+                return thread;
+            });
+            var period = Math.max(1, producerIdleTimeout.toMillis() / 2);
+            evictionScheduler.scheduleWithFixedDelay(producerPool::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (evictionScheduler != null) {
+            evictionScheduler.shutdownNow();
+        }
+        if (producerPool != null) {
+            producerPool.close();
+        }
     }
 }
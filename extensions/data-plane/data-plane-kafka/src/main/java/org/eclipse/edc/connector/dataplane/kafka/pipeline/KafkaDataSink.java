@@ -17,58 +17,82 @@ package org.eclipse.edc.connector.dataplane.kafka.pipeline;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes the parts as records on a topic. The records of a partition are sent asynchronously, so that the producer
+ * can batch them, and the partition is only reported as transferred once all of them are acknowledged.
+ * <p>
+ * The producer is either shared through a {@link KafkaProducerPool} or owned by the sink, and it is released when the
+ * transfer ends.
+ */
 class KafkaDataSink extends ParallelSink implements Closeable {
 
+    private final AtomicBoolean released = new AtomicBoolean();
     private String topic;
     private Producer<String, byte[]> producer;
+    private Runnable releaseProducer;
 
     private KafkaDataSink() {
     }
 
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return super.transfer(source).whenComplete((result, throwable) -> close());
+    }
+
     @Override
     public void close() {
-        if (producer != null) {
-            producer.close();
+        if (releaseProducer != null && released.compareAndSet(false, true)) {
+            releaseProducer.run();
         }
     }
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
-    }
+        var sent = new ArrayList<Future<RecordMetadata>>();
+        for (var part : parts) {
+            try (var is = part.openStream()) {
+                sent.add(producer.send(new ProducerRecord<>(topic, null, is.readAllBytes())));
+            } catch (IOException e) {
+                return StreamResult.error("Failed to open part with name: " + part.name());
+            } catch (Exception e) {
+                return StreamResult.error("Failed to publish part with name %s: %s".formatted(part.name(), e.getMessage()));
+            }
+        }
 
-    private StreamResult<Object> publishPart(DataSource.Part part) {
-        try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
-                }
-            });
-            return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+        for (var future : sent) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                monitor.warning("Failed to publish message on topic " + topic, e.getCause());
+                return StreamResult.error("Failed to publish message on topic %s: %s".formatted(topic, e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return StreamResult.error("Interrupted while waiting for the acknowledgement of topic " + topic);
+            }
         }
+        return StreamResult.success();
     }
 
     public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
 
         private Properties producerProperties;
+        private KafkaProducerPool producerPool;
 
         public static Builder newInstance() {
             return new Builder();
@@ -88,13 +112,26 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        public Builder producerPool(KafkaProducerPool producerPool) {
+            this.producerPool = producerPool;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
             Objects.requireNonNull(producerProperties, "producerProperties");
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            if (producerPool != null) {
+                var lease = producerPool.acquire(producerProperties);
+                sink.producer = lease.producer();
+                sink.releaseProducer = lease::release;
+            } else {
+                var producer = new KafkaProducer<String, byte[]>(producerProperties);
+                sink.producer = producer;
+                sink.releaseProducer = producer::close;
+            }
         }
     }
 }
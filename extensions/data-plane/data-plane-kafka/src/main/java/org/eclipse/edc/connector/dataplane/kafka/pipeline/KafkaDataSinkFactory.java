@@ -26,6 +26,7 @@ import org.eclipse.edc.validator.dataaddress.kafka.KafkaDataAddressValidator;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.ExecutorService;
 
@@ -39,13 +40,29 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     private final KafkaPropertiesFactory propertiesFactory;
     private final Validator<DataAddress> validation;
     private final int partitionSize;
+    private final KafkaProducerPool producerPool;
 
     public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize) {
+        this(executorService, monitor, propertiesFactory, partitionSize, null);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param executorService   the executor on which the parts are published.
+     * @param monitor           the monitor.
+     * @param propertiesFactory maps the destination address to the producer properties.
+     * @param partitionSize     the number of parts published together.
+     * @param producerPool      the pool the producers are shared through, or null to create one producer per sink.
+     */
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize,
+                                @Nullable KafkaProducerPool producerPool) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaDataAddressValidator();
         this.partitionSize = partitionSize;
+        this.producerPool = producerPool;
     }
 
     @Override
@@ -80,6 +97,7 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .requestId(request.getId())
                 .topic(destination.getStringProperty(TOPIC))
                 .producerProperties(producerProps)
+                .producerPool(producerPool)
                 .partitionSize(partitionSize)
                 .executorService(executorService)
                 .build();
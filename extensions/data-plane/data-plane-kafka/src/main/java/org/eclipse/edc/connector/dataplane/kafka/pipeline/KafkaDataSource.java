@@ -15,9 +15,11 @@
 package org.eclipse.edc.connector.dataplane.kafka.pipeline;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -33,12 +35,18 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Streams the records of a topic as parts. By default, the consumer commits its offsets automatically. When the commit
+ * on acknowledgement is enabled, the offsets are only committed once the sink has acknowledged the records, giving an
+ * at-least-once delivery, and the polling is paused while too many records wait for their acknowledgement.
+ */
 class KafkaDataSource implements DataSource {
 
     private String name;
@@ -47,6 +55,8 @@ class KafkaDataSource implements DataSource {
     private Duration maxDuration;
     private Consumer<String, byte[]> consumer;
     private Clock clock;
+    private KafkaOffsetTracker offsetTracker;
+    private int maxInFlight = Integer.MAX_VALUE;
     private final AtomicBoolean active = new AtomicBoolean(true);
 
     private KafkaDataSource() {
@@ -64,11 +74,26 @@ class KafkaDataSource implements DataSource {
                         .flatMap(p -> consumerRecords.records(p).stream())
                         .map(KafkaPart::new)
                         .map(Part.class::cast))
-                .onClose(() -> consumer.close());
+                .onClose(this::closeConsumer);
 
         return success(stream);
     }
 
+    private void closeConsumer() {
+        try {
+            if (offsetTracker != null) {
+                var offsets = offsetTracker.committable();
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+            }
+        } catch (Exception e) {
+            monitor.warning("KafkaDataSource %s failed to commit offsets on close".formatted(name), e);
+        } finally {
+            consumer.close();
+        }
+    }
+
     @NotNull
     private Stream<ConsumerRecords<String, byte[]>> openRecordsStream() {
         return stream(spliteratorUnknownSize(new ConsumerRecordsIterator(), 0), /* not parallel */ false);
@@ -78,6 +103,8 @@ class KafkaDataSource implements DataSource {
 
         private Properties consumerProperties;
         private String topic;
+        private boolean commitOnAcknowledge;
+        private Function<Properties, Consumer<String, byte[]>> consumerFactory = KafkaConsumer::new;
         private final KafkaDataSource dataSource;
 
         public static Builder newInstance() {
@@ -119,6 +146,28 @@ class KafkaDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Commit the offsets of the records only once the sink acknowledged them, instead of automatically.
+         */
+        public Builder commitOnAcknowledge(boolean commitOnAcknowledge) {
+            this.commitOnAcknowledge = commitOnAcknowledge;
+            return this;
+        }
+
+        /**
+         * The maximum number of records waiting for their acknowledgement before the polling is paused. Only used when
+         * the offsets are committed on acknowledgement.
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            dataSource.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder consumerFactory(Function<Properties, Consumer<String, byte[]>> consumerFactory) {
+            this.consumerFactory = consumerFactory;
+            return this;
+        }
+
         public KafkaDataSource build() {
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
@@ -126,7 +175,12 @@ class KafkaDataSource implements DataSource {
             Objects.requireNonNull(consumerProperties, "consumerProperties");
             Objects.requireNonNull(dataSource.clock, "clock");
 
-            dataSource.consumer = new KafkaConsumer<>(consumerProperties);
+            if (commitOnAcknowledge) {
+                consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+                dataSource.offsetTracker = new KafkaOffsetTracker();
+            }
+
+            dataSource.consumer = consumerFactory.apply(consumerProperties);
             dataSource.consumer.subscribe(List.of(topic));
 
             return dataSource;
@@ -154,11 +208,19 @@ class KafkaDataSource implements DataSource {
         public InputStream openStream() {
             return new ByteArrayInputStream(consumerRecord.value());
         }
+
+        @Override
+        public void acknowledge() {
+            if (offsetTracker != null) {
+                offsetTracker.acknowledged(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()), consumerRecord.offset());
+            }
+        }
     }
 
     private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
 
         private final Instant streamEnd;
+        private boolean paused;
 
         ConsumerRecordsIterator() {
             this.streamEnd = maxDuration == null ? Instant.MAX : clock.instant().plus(maxDuration);
@@ -178,12 +240,43 @@ class KafkaDataSource implements DataSource {
         public ConsumerRecords<String, byte[]> next() {
             ConsumerRecords<String, byte[]> records;
             do {
+                if (offsetTracker != null) {
+                    commitAcknowledged();
+                    applyBackPressure();
+                }
                 records = consumer.poll(pollDuration);
             } while (active.get() && records.isEmpty());
 
+            if (offsetTracker != null) {
+                records.forEach(r -> offsetTracker.emitted(new TopicPartition(r.topic(), r.partition()), r.offset()));
+            }
             return records;
         }
 
+        private void commitAcknowledged() {
+            var offsets = offsetTracker.committable();
+            if (!offsets.isEmpty()) {
+                consumer.commitAsync(offsets, (committed, exception) -> {
+                    if (exception != null) {
+                        monitor.warning("KafkaDataSource %s failed to commit offsets %s".formatted(name, committed), exception);
+                    }
+                });
+            }
+        }
+
+        private void applyBackPressure() {
+            var saturated = offsetTracker.inFlight() >= maxInFlight;
+            if (saturated && !paused) {
+                debug("pauses consuming, %d records are waiting for acknowledgement".formatted(offsetTracker.inFlight()));
+                consumer.pause(consumer.assignment());
+                paused = true;
+            } else if (!saturated && paused) {
+                debug("resumes consuming");
+                consumer.resume(consumer.paused());
+                paused = false;
+            }
+        }
+
         private void debug(String message) {
             monitor.debug(String.format("KafkaDataSource %s %s", name, message));
         }
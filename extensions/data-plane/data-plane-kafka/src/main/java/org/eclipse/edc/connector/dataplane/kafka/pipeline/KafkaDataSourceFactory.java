@@ -46,12 +46,29 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
     private final Validator<DataAddress> validation;
     private final KafkaPropertiesFactory propertiesFactory;
     private final Clock clock;
+    private final boolean commitOnAcknowledge;
+    private final int maxInFlight;
 
     public KafkaDataSourceFactory(Monitor monitor, KafkaPropertiesFactory propertiesFactory, Clock clock) {
+        this(monitor, propertiesFactory, clock, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param monitor             the monitor.
+     * @param propertiesFactory   maps the source address to the consumer properties.
+     * @param clock               the clock.
+     * @param commitOnAcknowledge if true, the offsets are committed once the sink acknowledged the records.
+     * @param maxInFlight         the maximum number of unacknowledged records before the polling is paused.
+     */
+    public KafkaDataSourceFactory(Monitor monitor, KafkaPropertiesFactory propertiesFactory, Clock clock, boolean commitOnAcknowledge, int maxInFlight) {
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaDataAddressValidator();
         this.clock = clock;
+        this.commitOnAcknowledge = commitOnAcknowledge;
+        this.maxInFlight = maxInFlight;
     }
 
     @Override
@@ -103,6 +120,8 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .pollDuration(pollDuration)
                 .maxDuration(maxDuration)
                 .consumerProperties(consumerProps)
+                .commitOnAcknowledge(commitOnAcknowledge)
+                .maxInFlight(maxInFlight)
                 .build();
     }
 }
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of the records emitted by a {@link KafkaDataSource} that have not been acknowledged by the sink yet.
+ * The committable offset of a partition is the one of its first unacknowledged record, so that a record is never
+ * committed before the ones preceding it, even if the sink acknowledges them out of order.
+ * <p>
+ * Records are emitted and offsets are committed on the polling thread, while acknowledgements can come from any thread.
+ */
+class KafkaOffsetTracker {
+
+    private final Map<TopicPartition, PartitionOffsets> partitions = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    void emitted(TopicPartition partition, long offset) {
+        var offsets = partitions.computeIfAbsent(partition, p -> new PartitionOffsets());
+        if (offsets.pending.add(offset)) {
+            inFlight.incrementAndGet();
+        }
+        offsets.next = Math.max(offsets.next, offset + 1);
+    }
+
+    void acknowledged(TopicPartition partition, long offset) {
+        var offsets = partitions.get(partition);
+        if (offsets != null && offsets.pending.remove(offset)) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * The number of emitted records that are not acknowledged yet.
+     */
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * The offsets that advanced since the last call, to be committed.
+     */
+    Map<TopicPartition, OffsetAndMetadata> committable() {
+        var committable = new HashMap<TopicPartition, OffsetAndMetadata>();
+        partitions.forEach((partition, offsets) -> {
+            var firstPending = offsets.pending.ceiling(Long.MIN_VALUE);
+            var offset = firstPending != null ? firstPending : offsets.next;
+            if (offset > offsets.committed) {
+                offsets.committed = offset;
+                committable.put(partition, new OffsetAndMetadata(offset));
+            }
+        });
+        return committable;
+    }
+
+    private static class PartitionOffsets {
+        private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+        private volatile long next = -1;
+        private long committed = -1;
+    }
+}
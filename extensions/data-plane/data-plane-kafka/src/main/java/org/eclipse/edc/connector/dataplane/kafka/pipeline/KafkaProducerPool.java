@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Shares the Kafka producers between the {@link KafkaDataSink}s that publish with the same effective producer
+ * properties, e.g. the same bootstrap servers and security configuration, so that a transfer does not pay for the
+ * metadata fetch, the connections and the buffers of a new producer.
+ * <p>
+ * A producer is reference counted by the {@link Lease}s handed out for it. Once the last lease is released it stays
+ * in the pool, and gets closed by {@link #evictIdle()} if it is not acquired again within the idle timeout.
+ */
+public class KafkaProducerPool {
+
+    private final Map<Map<String, String>, PooledProducer> producers = new HashMap<>();
+    private final Function<Properties, Producer<String, byte[]>> producerFactory;
+    private final Clock clock;
+    private final Duration idleTimeout;
+    private final long lingerMs;
+
+    public KafkaProducerPool(Clock clock, Duration idleTimeout, long lingerMs) {
+        this(KafkaProducer::new, clock, idleTimeout, lingerMs);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param producerFactory creates a producer for the given properties.
+     * @param clock           the clock.
+     * @param idleTimeout     how long a producer without leases is kept before being closed.
+     * @param lingerMs        the {@code linger.ms} used to batch the records of the producers that do not configure it.
+     */
+    public KafkaProducerPool(Function<Properties, Producer<String, byte[]>> producerFactory, Clock clock, Duration idleTimeout, long lingerMs) {
+        this.producerFactory = producerFactory;
+        this.clock = clock;
+        this.idleTimeout = idleTimeout;
+        this.lingerMs = lingerMs;
+    }
+
+    /**
+     * Acquires the producer for the properties, creating it if there is none in the pool yet.
+     *
+     * @param properties the producer properties.
+     * @return the lease, which must be released once the producer is not used anymore.
+     */
+    public Lease acquire(Properties properties) {
+        var effectiveProperties = new Properties();
+        effectiveProperties.putAll(properties);
+        effectiveProperties.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, String.valueOf(lingerMs));
+
+        var key = new TreeMap<String, String>();
+        effectiveProperties.forEach((k, v) -> key.put(String.valueOf(k), String.valueOf(v)));
+
+        synchronized (producers) {
+            var pooled = producers.get(key);
+            if (pooled == null) {
+                pooled = new PooledProducer(producerFactory.apply(effectiveProperties));
+                producers.put(key, pooled);
+            }
+            pooled.references++;
+            return new Lease(pooled);
+        }
+    }
+
+    /**
+     * Closes the producers that have not been leased within the idle timeout.
+     *
+     * @return the number of closed producers.
+     */
+    public int evictIdle() {
+        var now = clock.instant();
+        var evicted = new ArrayList<PooledProducer>();
+        synchronized (producers) {
+            var iterator = producers.values().iterator();
+            while (iterator.hasNext()) {
+                var pooled = iterator.next();
+                if (pooled.references == 0 && !now.isBefore(pooled.idleSince.plus(idleTimeout))) {
+                    iterator.remove();
+                    evicted.add(pooled);
+                }
+            }
+        }
+        evicted.forEach(pooled -> pooled.producer.close());
+        return evicted.size();
+    }
+
+    /**
+     * Closes every producer, waiting for the records still buffered to be sent.
+     */
+    public void close() {
+        List<PooledProducer> closed;
+        synchronized (producers) {
+            closed = new ArrayList<>(producers.values());
+            producers.clear();
+        }
+        closed.forEach(pooled -> pooled.producer.close());
+    }
+
+    /**
+     * The number of producers in the pool, leased or idle.
+     *
+     * @return the pool size.
+     */
+    public int size() {
+        synchronized (producers) {
+            return producers.size();
+        }
+    }
+
+    private void release(PooledProducer pooled) {
+        synchronized (producers) {
+            pooled.references--;
+            if (pooled.references == 0) {
+                pooled.idleSince = clock.instant();
+            }
+        }
+    }
+
+    private static class PooledProducer {
+        private final Producer<String, byte[]> producer;
+        private int references;
+        private Instant idleSince = Instant.MIN;
+
+        PooledProducer(Producer<String, byte[]> producer) {
+            this.producer = producer;
+        }
+    }
+
+    /**
+     * A reference to a pooled producer. Releasing it more than once has no effect.
+     */
+    public class Lease {
+        private final PooledProducer pooled;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(PooledProducer pooled) {
+            this.pooled = pooled;
+        }
+
+        public Producer<String, byte[]> producer() {
+            return pooled.producer;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                KafkaProducerPool.this.release(pooled);
+            }
+        }
+    }
+}
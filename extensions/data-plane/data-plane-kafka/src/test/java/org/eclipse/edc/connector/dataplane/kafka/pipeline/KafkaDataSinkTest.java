@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    private static final String TOPIC = "topic";
+
+    private final MockProducer<String, byte[]> producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+    private final KafkaProducerPool pool = new KafkaProducerPool(p -> producer, Clock.systemUTC(), Duration.ZERO, 5);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldCompleteOnlyAfterRecordsAreAcknowledged() {
+        var sink = createSink();
+
+        var future = sink.transfer(source(3));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(3));
+        assertThat(future).isNotDone();
+
+        while (producer.completeNext()) {
+            // acknowledge every pending record
+        }
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result.succeeded()).isTrue());
+        assertThat(producer.history()).extracting(r -> new String(r.value())).containsExactlyInAnyOrder("part-0", "part-1", "part-2");
+    }
+
+    @Test
+    void transfer_shouldFail_whenRecordIsNotAcknowledged() {
+        var sink = createSink();
+
+        var future = sink.transfer(source(1));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+        producer.errorNext(new RuntimeException("broker unavailable"));
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> {
+            assertThat(result.failed()).isTrue();
+            assertThat(result.getFailureDetail()).contains("broker unavailable");
+        });
+    }
+
+    @Test
+    void transfer_shouldReleasePooledProducer_whenCompleted() {
+        var sink = createSink();
+
+        var future = sink.transfer(source(1));
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+        producer.completeNext();
+
+        assertThat(future).succeedsWithin(5, SECONDS);
+        await().untilAsserted(() -> assertThat(pool.evictIdle()).isEqualTo(1));
+        assertThat(producer.closed()).isTrue();
+    }
+
+    @Test
+    void transfer_shouldReleasePooledProducer_whenSourceFails() {
+        var sink = createSink();
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.error("error"));
+
+        assertThat(sink.transfer(source)).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result.failed()).isTrue());
+        await().untilAsserted(() -> assertThat(pool.evictIdle()).isEqualTo(1));
+    }
+
+    private KafkaDataSink createSink() {
+        var properties = new Properties();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "broker:9092");
+        return KafkaDataSink.Builder.newInstance()
+                .monitor(mock(Monitor.class))
+                .requestId("request-id")
+                .topic(TOPIC)
+                .producerProperties(properties)
+                .producerPool(pool)
+                .partitionSize(5)
+                .executorService(executorService)
+                .build();
+    }
+
+    private DataSource source(int parts) {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenAnswer(i -> StreamResult.success(IntStream.range(0, parts)
+                .mapToObj(n -> (DataSource.Part) new InputStreamDataSource("part-" + n, new ByteArrayInputStream(("part-" + n).getBytes())))));
+        return source;
+    }
+}
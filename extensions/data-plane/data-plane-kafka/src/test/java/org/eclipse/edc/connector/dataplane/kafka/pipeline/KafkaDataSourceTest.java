@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class KafkaDataSourceTest {
+
+    private static final String TOPIC = "topic";
+
+    private final TopicPartition partition = new TopicPartition(TOPIC, 0);
+    private final MockConsumer<String, byte[]> consumer = spy(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
+    private final List<Properties> consumerProperties = new ArrayList<>();
+
+    @Test
+    void shouldCommitOffsets_onlyOnceRecordsAreAcknowledged() {
+        var source = createSource(true, 100);
+        addRecords(0, 3);
+        var parts = source.openPartStream().getContent().iterator();
+
+        var received = List.of(parts.next(), parts.next(), parts.next());
+        received.get(0).acknowledge();
+        received.get(2).acknowledge();
+        addRecords(3, 1);
+        parts.next();
+
+        assertThat(committed()).isEqualTo(1);
+        assertThat(consumerProperties.get(0)).containsEntry(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+
+        received.get(1).acknowledge();
+        addRecords(4, 1);
+        parts.next();
+
+        assertThat(committed()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCommitAcknowledgedOffsets_whenStreamIsClosed() {
+        var source = createSource(true, 100);
+        addRecords(0, 2);
+        var stream = source.openPartStream().getContent();
+        var parts = stream.iterator();
+
+        parts.next().acknowledge();
+        parts.next().acknowledge();
+        stream.close();
+
+        verify(consumer).commitSync(Map.of(partition, new OffsetAndMetadata(2)));
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    @Test
+    void shouldPausePolling_whenTooManyRecordsAreInFlight() {
+        var source = createSource(true, 2);
+        addRecords(0, 2);
+        var parts = source.openPartStream().getContent().iterator();
+        var first = parts.next();
+        parts.next();
+        consumer.schedulePollTask(() -> {
+            assertThat(consumer.paused()).containsExactly(partition);
+            first.acknowledge();
+            addRecords(2, 1);
+        });
+
+        parts.next();
+
+        assertThat(consumer.paused()).isEmpty();
+    }
+
+    @Test
+    void shouldEndStreamWithoutCommittingUnacknowledgedRecords_whenClosedWhilePaused() {
+        var source = createSource(true, 2);
+        addRecords(0, 2);
+        var stream = source.openPartStream().getContent();
+        var parts = stream.iterator();
+        parts.next();
+        parts.next();
+        consumer.schedulePollTask(source::close);
+
+        assertThat(parts.hasNext()).isFalse();
+        stream.close();
+
+        assertThat(committed()).isZero();
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    @Test
+    void shouldNotTrackOffsets_whenCommitOnAcknowledgeIsDisabled() throws IOException {
+        var source = createSource(false, 100);
+        addRecords(0, 1);
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+        part.acknowledge();
+
+        assertThat(part.openStream().readAllBytes()).isEqualTo("record-0".getBytes());
+        assertThat(consumerProperties.get(0)).doesNotContainKey(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG);
+        assertThat(consumer.committed(Set.of(partition))).isEmpty();
+    }
+
+    private KafkaDataSource createSource(boolean commitOnAcknowledge, int maxInFlight) {
+        var source = KafkaDataSource.Builder.newInstance()
+                .monitor(mock(Monitor.class))
+                .clock(Clock.systemUTC())
+                .topic(TOPIC)
+                .name("name")
+                .pollDuration(Duration.ofMillis(10))
+                .consumerProperties(new Properties())
+                .consumerFactory(properties -> {
+                    consumerProperties.add(properties);
+                    return consumer;
+                })
+                .commitOnAcknowledge(commitOnAcknowledge)
+                .maxInFlight(maxInFlight)
+                .build();
+        consumer.rebalance(List.of(partition));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        return source;
+    }
+
+    private void addRecords(long fromOffset, int count) {
+        for (var offset = fromOffset; offset < fromOffset + count; offset++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, null, ("record-" + offset).getBytes()));
+        }
+    }
+
+    private long committed() {
+        return consumer.committed(Set.of(partition)).get(partition).offset();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaOffsetTrackerTest {
+
+    private final TopicPartition partition = new TopicPartition("topic", 0);
+    private final TopicPartition anotherPartition = new TopicPartition("topic", 1);
+    private final KafkaOffsetTracker tracker = new KafkaOffsetTracker();
+
+    @Test
+    void committable_shouldBeEmpty_whenNothingEmitted() {
+        assertThat(tracker.committable()).isEmpty();
+    }
+
+    @Test
+    void committable_shouldStopAtFirstUnacknowledgedRecord() {
+        tracker.emitted(partition, 10);
+        tracker.emitted(partition, 11);
+        tracker.emitted(partition, 12);
+
+        tracker.acknowledged(partition, 10);
+        tracker.acknowledged(partition, 12);
+
+        assertThat(tracker.committable()).containsExactlyEntriesOf(Map.of(partition, new OffsetAndMetadata(11)));
+        assertThat(tracker.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void committable_shouldCommitAfterLastRecord_whenAllAcknowledged() {
+        tracker.emitted(partition, 10);
+        tracker.emitted(partition, 11);
+
+        tracker.acknowledged(partition, 11);
+        tracker.acknowledged(partition, 10);
+
+        assertThat(tracker.committable()).containsEntry(partition, new OffsetAndMetadata(12));
+        assertThat(tracker.inFlight()).isZero();
+    }
+
+    @Test
+    void committable_shouldOnlyContainAdvancedPartitions() {
+        tracker.emitted(partition, 0);
+        tracker.emitted(anotherPartition, 0);
+        tracker.acknowledged(partition, 0);
+        tracker.acknowledged(anotherPartition, 0);
+        tracker.committable();
+
+        tracker.emitted(partition, 1);
+        tracker.acknowledged(partition, 1);
+
+        assertThat(tracker.committable()).containsOnlyKeys(partition);
+        assertThat(tracker.committable()).isEmpty();
+    }
+
+    @Test
+    void acknowledged_shouldBeIdempotent() {
+        tracker.emitted(partition, 0);
+        tracker.emitted(partition, 1);
+
+        tracker.acknowledged(partition, 0);
+        tracker.acknowledged(partition, 0);
+
+        assertThat(tracker.inFlight()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaProducerPoolTest {
+
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final List<Properties> createdWith = new ArrayList<>();
+    private final List<MockProducer<String, byte[]>> created = new ArrayList<>();
+    private final KafkaProducerPool pool = new KafkaProducerPool(this::createProducer, clock, Duration.ofSeconds(60), 5);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    void acquire_shouldShareProducer_whenPropertiesAreEqual() {
+        var first = pool.acquire(properties("broker:9092"));
+        var second = pool.acquire(properties("broker:9092"));
+
+        assertThat(first.producer()).isSameAs(second.producer());
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_shouldCreateProducer_whenPropertiesDiffer() {
+        var first = pool.acquire(properties("broker:9092"));
+        var second = pool.acquire(properties("another-broker:9092"));
+
+        assertThat(first.producer()).isNotSameAs(second.producer());
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void acquire_shouldApplyDefaultLinger_whenNotConfigured() {
+        pool.acquire(properties("broker:9092"));
+        var configured = properties("broker:9092");
+        configured.put(ProducerConfig.LINGER_MS_CONFIG, "50");
+        pool.acquire(configured);
+
+        assertThat(createdWith).extracting(p -> p.get(ProducerConfig.LINGER_MS_CONFIG)).containsExactly("5", "50");
+    }
+
+    @Test
+    void evictIdle_shouldNotCloseProducer_whenStillLeased() {
+        pool.acquire(properties("broker:9092"));
+        when(clock.instant()).thenReturn(now.plusSeconds(120));
+
+        assertThat(pool.evictIdle()).isZero();
+        assertThat(created.get(0).closed()).isFalse();
+    }
+
+    @Test
+    void evictIdle_shouldCloseProducer_whenIdleLongerThanTimeout() {
+        var first = pool.acquire(properties("broker:9092"));
+        var second = pool.acquire(properties("broker:9092"));
+        first.release();
+        second.release();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(30));
+        assertThat(pool.evictIdle()).isZero();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(60));
+        assertThat(pool.evictIdle()).isEqualTo(1);
+        assertThat(created.get(0).closed()).isTrue();
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void release_shouldBeIdempotent() {
+        var first = pool.acquire(properties("broker:9092"));
+        pool.acquire(properties("broker:9092"));
+
+        first.release();
+        first.release();
+        when(clock.instant()).thenReturn(now.plusSeconds(120));
+
+        assertThat(pool.evictIdle()).isZero();
+    }
+
+    @Test
+    void close_shouldCloseAllProducers() {
+        pool.acquire(properties("broker:9092"));
+        pool.acquire(properties("another-broker:9092"));
+
+        pool.close();
+
+        assertThat(created).allMatch(MockProducer::closed);
+        assertThat(pool.size()).isZero();
+    }
+
+    private Producer<String, byte[]> createProducer(Properties properties) {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        createdWith.add(properties);
+        created.add(producer);
+        return producer;
+    }
+
+    private Properties properties(String bootstrapServers) {
+        var properties = new Properties();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        return properties;
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlow
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowTerminateMessageTransformer;
 import org.eclipse.edc.connector.dataplane.api.controller.v1.DataPlaneSignalingApiController;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -49,6 +50,8 @@ public class DataPlaneSignalingApiExtension implements ServiceExtension {
     @Inject
     private DataPlaneManager dataPlaneManager;
     @Inject
+    private PipelineService pipelineService;
+    @Inject
     private TypeManager typeManager;
 
     @Override
@@ -70,7 +73,7 @@ public class DataPlaneSignalingApiExtension implements ServiceExtension {
         signalingApiTypeTransformerRegistry.register(new JsonObjectFromDataAddressDspaceTransformer(factory, jsonLdMapper));
 
         var controller = new DataPlaneSignalingApiController(signalingApiTypeTransformerRegistry,
-                dataPlaneManager, context.getMonitor().withPrefix("SignalingAPI"));
+                dataPlaneManager, pipelineService, context.getMonitor().withPrefix("SignalingAPI"));
 
         webService.registerResource(ApiContext.CONTROL, controller);
     }
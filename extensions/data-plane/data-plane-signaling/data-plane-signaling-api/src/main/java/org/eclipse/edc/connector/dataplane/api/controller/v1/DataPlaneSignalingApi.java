@@ -81,12 +81,13 @@ public interface DataPlaneSignalingApi {
     )
     void suspend(String transferProcessId, JsonObject suspendMessage);
 
-    @Operation(description = "Check if data plane is available.",
+    @Operation(description = "Check if data plane is available, and report its current load.",
             responses = {
-                    @ApiResponse(responseCode = "204", description = "Data plane is available"),
+                    @ApiResponse(responseCode = "200", description = "Data plane is available",
+                            content = @Content(schema = @Schema(implementation = DataPlaneLoadSchema.class))),
             }
     )
-    void checkAvailability();
+    JsonObject checkAvailability();
 
     @Schema(name = "DataFlowStartMessage", example = DataFlowStartMessageSchema.DATA_FLOW_START_EXAMPLE)
     record DataFlowStartMessageSchema(
@@ -228,4 +229,20 @@ public interface DataPlaneSignalingApi {
                 }
                 """;
     }
+
+    @Schema(name = "DataPlaneLoad", example = DataPlaneLoadSchema.DATA_PLANE_LOAD_EXAMPLE)
+    record DataPlaneLoadSchema(
+            @Schema(name = TYPE, example = "DataPlaneLoad")
+            String ldType,
+            int inFlightFlows,
+            long bytesPerSecond
+    ) {
+        public static final String DATA_PLANE_LOAD_EXAMPLE = """
+                {
+                    "@type": "DataPlaneLoad",
+                    "https://w3id.org/edc/v0.0.1/ns/inFlightFlows": 3,
+                    "https://w3id.org/edc/v0.0.1/ns/bytesPerSecond": 1048576
+                }
+                """;
+    }
 }
@@ -24,6 +24,7 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
@@ -42,11 +43,14 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
 
     private final TypeTransformerRegistry typeTransformerRegistry;
     private final DataPlaneManager dataPlaneManager;
+    private final PipelineService pipelineService;
     private final Monitor monitor;
 
-    public DataPlaneSignalingApiController(TypeTransformerRegistry typeTransformerRegistry, DataPlaneManager dataPlaneManager, Monitor monitor) {
+    public DataPlaneSignalingApiController(TypeTransformerRegistry typeTransformerRegistry, DataPlaneManager dataPlaneManager,
+                                           PipelineService pipelineService, Monitor monitor) {
         this.typeTransformerRegistry = typeTransformerRegistry;
         this.dataPlaneManager = dataPlaneManager;
+        this.pipelineService = pipelineService;
         this.monitor = monitor;
     }
 
@@ -109,7 +113,13 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
     @Override
     @Path("/check")
     @GET
-    public void checkAvailability() {
+    public JsonObject checkAvailability() {
+        var load = pipelineService.getLoad();
 
+        return Json.createObjectBuilder()
+                .add(TYPE, "DataPlaneLoad")
+                .add(EDC_NAMESPACE + "inFlightFlows", load.inFlightFlows())
+                .add(EDC_NAMESPACE + "bytesPerSecond", load.bytesPerSecond())
+                .build();
     }
 }
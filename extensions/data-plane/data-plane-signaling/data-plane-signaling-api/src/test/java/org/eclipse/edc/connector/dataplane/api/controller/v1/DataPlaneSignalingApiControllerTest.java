@@ -20,7 +20,9 @@ import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
@@ -58,6 +60,7 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
 
     private final TypeTransformerRegistry transformerRegistry = mock();
     private final DataPlaneManager dataplaneManager = mock();
+    private final PipelineService pipelineService = mock();
 
     @DisplayName("Expect HTTP 200 and the correct EDR when a data flow is started")
     @Test
@@ -265,17 +268,23 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
     @Nested
     class CheckAvailability {
         @Test
-        void shouldReturn204_whenDataPlaneIsAvailable() {
-            baseRequest()
+        void shouldReturnLoad_whenDataPlaneIsAvailable() {
+            when(pipelineService.getLoad()).thenReturn(new DataPlaneLoad(3, 1024));
+
+            var load = baseRequest()
                     .get("/v1/dataflows/check")
                     .then()
-                    .statusCode(204);
+                    .statusCode(200)
+                    .extract().as(JsonObject.class);
+
+            assertThat(load.getInt(EDC_NAMESPACE + "inFlightFlows")).isEqualTo(3);
+            assertThat(load.getJsonNumber(EDC_NAMESPACE + "bytesPerSecond").longValue()).isEqualTo(1024);
         }
     }
 
     @Override
     protected Object controller() {
-        return new DataPlaneSignalingApiController(transformerRegistry, dataplaneManager, mock());
+        return new DataPlaneSignalingApiController(transformerRegistry, dataplaneManager, pipelineService, mock());
     }
 
     private DataFlowStartMessage createFlowStartMessage() {
@@ -23,6 +23,7 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.http.spi.ControlApiHttpClient;
 import org.eclipse.edc.jsonld.spi.JsonLd;
@@ -40,6 +41,7 @@ import java.io.IOException;
 import java.util.Optional;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
@@ -102,9 +104,14 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
 
     @Override
     public StatusResult<Void> checkAvailability() {
+        return checkLoad().mapEmpty();
+    }
+
+    @Override
+    public StatusResult<DataPlaneLoad> checkLoad() {
         var requestBuilder = new Request.Builder().get().url(dataPlane.getUrl() + "/check");
         return httpClient.request(requestBuilder)
-                .flatMap(result -> result.map(it -> StatusResult.success())
+                .flatMap(result -> result.map(this::handleCheckResponse)
                         .orElse(failure -> failedResult(null, failure)));
     }
 
@@ -129,6 +136,24 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
                 .orElseGet(() -> StatusResult.failure(FATAL_ERROR, "Body missing"));
     }
 
+    private StatusResult<DataPlaneLoad> handleCheckResponse(String responseBody) {
+        // data planes that do not report their load answer without body
+        if (responseBody == null || responseBody.isBlank()) {
+            return StatusResult.success(null);
+        }
+        try {
+            var jsonObject = mapper.readValue(responseBody, JsonObject.class);
+            var inFlightFlows = jsonObject.getJsonNumber(EDC_NAMESPACE + "inFlightFlows");
+            var bytesPerSecond = jsonObject.getJsonNumber(EDC_NAMESPACE + "bytesPerSecond");
+            if (inFlightFlows == null || bytesPerSecond == null) {
+                return StatusResult.success(null);
+            }
+            return StatusResult.success(new DataPlaneLoad(inFlightFlows.intValue(), bytesPerSecond.longValue()));
+        } catch (IOException | ClassCastException e) {
+            return StatusResult.success(null);
+        }
+    }
+
     private StatusResult<DataFlowResponseMessage> deserializeStartMessage(String responseBody) {
         try {
             var jsonObject = mapper.readValue(responseBody, JsonObject.class);
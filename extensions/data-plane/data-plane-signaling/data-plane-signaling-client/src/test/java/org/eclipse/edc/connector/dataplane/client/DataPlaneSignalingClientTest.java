@@ -25,6 +25,7 @@ import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromData
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowResponseMessageTransformer;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.edc.http.client.ControlApiHttpClientImpl;
 import org.eclipse.edc.http.spi.ControlApiHttpClient;
@@ -393,5 +394,24 @@ class DataPlaneSignalingClientTest {
 
             assertThat(result).isFailed();
         }
+
+        @Test
+        void shouldReturnLoad_whenReportedByDataPlane() {
+            var body = "{\"@type\": \"DataPlaneLoad\", \"%sinFlightFlows\": 3, \"%sbytesPerSecond\": 1024}".formatted(EDC_NAMESPACE, EDC_NAMESPACE);
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET")).respond(response().withStatusCode(200).withBody(body));
+
+            var result = dataPlaneClient.checkLoad();
+
+            assertThat(result).isSucceeded().isEqualTo(new DataPlaneLoad(3, 1024));
+        }
+
+        @Test
+        void shouldReturnNoLoad_whenNotReportedByDataPlane() {
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET")).respond(response().withStatusCode(204));
+
+            var result = dataPlaneClient.checkLoad();
+
+            assertThat(result).isSucceeded().isNull();
+        }
     }
 }
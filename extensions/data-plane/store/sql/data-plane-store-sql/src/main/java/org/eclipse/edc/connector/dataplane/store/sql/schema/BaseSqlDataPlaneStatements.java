@@ -104,4 +104,14 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
         return format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getDataPlaneTable(), getIdColumn());
     }
+
+    @Override
+    public String getAcquireLeasesTemplate() {
+        return getAcquireLeasesTemplate(getDataPlaneTable(), getIdColumn());
+    }
+
+    @Override
+    public String getBreakLeasesTemplate() {
+        return getBreakLeasesTemplate(getDataPlaneTable(), getIdColumn());
+    }
 }
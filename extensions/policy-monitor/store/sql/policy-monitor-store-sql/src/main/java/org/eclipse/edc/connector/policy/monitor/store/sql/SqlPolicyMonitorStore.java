@@ -83,8 +83,9 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var ids = entries.stream().map(PolicyMonitorEntry::getId).toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return entries.stream().filter(it -> leased.contains(it.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
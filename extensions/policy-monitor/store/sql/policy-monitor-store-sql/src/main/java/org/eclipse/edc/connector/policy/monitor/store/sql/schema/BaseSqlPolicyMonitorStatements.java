@@ -93,4 +93,14 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
         return format("SELECT * FROM %s WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getPolicyMonitorTable(), getIdColumn());
     }
+
+    @Override
+    public String getAcquireLeasesTemplate() {
+        return getAcquireLeasesTemplate(getPolicyMonitorTable(), getIdColumn());
+    }
+
+    @Override
+    public String getBreakLeasesTemplate() {
+        return getBreakLeasesTemplate(getPolicyMonitorTable(), getIdColumn());
+    }
 }
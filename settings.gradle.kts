@@ -148,6 +148,7 @@ include(":extensions:common:sql:sql-core")
 include(":extensions:common:sql:sql-lease")
 include(":extensions:common:sql:sql-bootstrapper")
 include(":extensions:common:sql:sql-pool:sql-pool-apache-commons")
+include(":extensions:common:sql:sql-pool:sql-pool-lightweight")
 include(":extensions:common:transaction")
 include(":extensions:common:transaction:transaction-atomikos")
 include(":extensions:common:transaction:transaction-local")
@@ -180,6 +181,7 @@ include(":extensions:control-plane:transfer:transfer-pull-http-dynamic-receiver"
 include(":extensions:control-plane:provision:provision-http")
 
 include(":extensions:control-plane:store:sql:asset-index-sql")
+include(":extensions:control-plane:store:sql:callback-outbox-store-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
 include(":extensions:control-plane:store:sql:contract-negotiation-store-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
@@ -197,6 +199,7 @@ include(":extensions:data-plane:data-plane-signaling:data-plane-signaling-client
 include(":extensions:data-plane:data-plane-signaling:data-plane-signaling-transform")
 include(":extensions:data-plane:data-plane-public-api-v2")
 
+include(":extensions:data-plane:data-plane-fs")
 include(":extensions:data-plane:data-plane-http")
 include(":extensions:data-plane:data-plane-http-oauth2")
 include(":extensions:data-plane:data-plane-http-oauth2-core")
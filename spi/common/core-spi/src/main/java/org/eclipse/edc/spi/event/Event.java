@@ -29,6 +29,16 @@ public abstract class Event {
         return new ArrayList<>();
     }
 
+    /**
+     * The id of the entity the event refers to. Asynchronous subscribers receive the events of the same entity in the
+     * order in which they have been published.
+     *
+     * @return the entity id, null if the event does not refer to a single entity.
+     */
+    public String entityId() {
+        return null;
+    }
+
 
     /**
      * The name of the event in dot notation.
@@ -35,4 +35,13 @@ public interface DidResolver {
     @NotNull
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves the DID document along with how long it may be cached. Resolvers that obtain caching information, e.g.
+     * from HTTP cache headers, should override it.
+     */
+    @NotNull
+    default Result<ResolvedDidDocument> resolveWithMaxAge(String didKey) {
+        return resolve(didKey).map(didDocument -> new ResolvedDidDocument(didDocument, null));
+    }
+
 }
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.spi.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A resolved DID document, together with how long it may be cached.
+ *
+ * @param didDocument the DID document.
+ * @param maxAge      how long the document may be cached, e.g. as stated by the HTTP cache headers of a did:web
+ *                    document, or null if the resolver has no caching information.
+ */
+public record ResolvedDidDocument(DidDocument didDocument, @Nullable Duration maxAge) {
+}
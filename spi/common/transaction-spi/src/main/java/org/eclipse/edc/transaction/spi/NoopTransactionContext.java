@@ -42,9 +42,10 @@ public class NoopTransactionContext implements TransactionContext {
     }
 
     private void notifyAndClearSyncs() {
-        var syncList = synchronizations.get();
+        var syncList = new ArrayList<>(synchronizations.get());
+        synchronizations.get().clear();
         syncList.forEach(TransactionSynchronization::beforeCompletion);
-        syncList.clear();
+        syncList.forEach(sync -> sync.afterCompletion(true));
     }
 
 }
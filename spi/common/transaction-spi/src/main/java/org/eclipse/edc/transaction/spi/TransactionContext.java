@@ -40,7 +40,8 @@ public interface TransactionContext {
     <T> T execute(ResultTransactionBlock<T> block);
 
     /**
-     * Registers a synchronization that will be called before a transaction commits or is rolled back.
+     * Registers a synchronization that will be called before a transaction commits or is rolled back, and after it has
+     * completed.
      */
     void registerSynchronization(TransactionSynchronization sync);
 
@@ -66,10 +67,41 @@ public interface TransactionContext {
     }
 
     /**
-     * Implementations receive callbacks before a transaction commits or is rolled back.
+     * Implementations receive callbacks before a transaction commits or is rolled back, and after it has completed.
      */
     @FunctionalInterface
     interface TransactionSynchronization {
+
+        /**
+         * Creates a synchronization that runs the action once the transaction has been committed, and never if it
+         * has been rolled back.
+         *
+         * @param action the action.
+         * @return the synchronization.
+         */
+        static TransactionSynchronization afterCommit(Runnable action) {
+            return new TransactionSynchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(boolean committed) {
+                    if (committed) {
+                        action.run();
+                    }
+                }
+            };
+        }
+
         void beforeCompletion();
+
+        /**
+         * Called after the transaction has been committed or rolled back.
+         *
+         * @param committed true if the transaction has been committed.
+         */
+        default void afterCompletion(boolean committed) {
+        }
     }
 }
@@ -31,6 +31,11 @@ public abstract class AssetEvent extends Event {
         return assetId;
     }
 
+    @Override
+    public String entityId() {
+        return assetId;
+    }
+
 
     public abstract static class Payload extends EventPayload {
         protected String assetId;
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.spi;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+
+/**
+ * A page of a {@link Catalog} that is written to the response one dataset at a time. The datasets of the page are
+ * resolved before the response is sent, so that whether a next page exists is known upfront and a failure can still
+ * be reported as an error response. The page can be smaller than requested, as the number of datasets held in memory
+ * is bounded: the returned {@link #getPage()} tells which datasets it contains.
+ */
+public class StreamedCatalog {
+
+    private final Catalog catalog;
+    private final QuerySpec page;
+    private final boolean hasNextPage;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param catalog     the catalog, with the datasets of the page.
+     * @param page        the query of the page, whose limit may be lower than the requested one.
+     * @param hasNextPage whether more datasets follow the page.
+     */
+    public StreamedCatalog(Catalog catalog, QuerySpec page, boolean hasNextPage) {
+        this.catalog = catalog;
+        this.page = page;
+        this.hasNextPage = hasNextPage;
+    }
+
+    /**
+     * Wraps a catalog whose datasets have been resolved for the requested page.
+     *
+     * @param catalog   the catalog.
+     * @param querySpec the requested page.
+     * @return the streamed catalog.
+     */
+    public static StreamedCatalog of(Catalog catalog, QuerySpec querySpec) {
+        return new StreamedCatalog(catalog, querySpec, catalog.getDatasets().size() == querySpec.getLimit());
+    }
+
+    public Catalog getCatalog() {
+        return catalog;
+    }
+
+    public QuerySpec getPage() {
+        return page;
+    }
+
+    public boolean hasNextPage() {
+        return hasNextPage;
+    }
+}
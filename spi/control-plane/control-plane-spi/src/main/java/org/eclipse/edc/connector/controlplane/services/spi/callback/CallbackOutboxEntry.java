@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An event waiting in the {@link CallbackOutboxStore} to be delivered to a non-transactional callback. The entry keeps
+ * track of the delivery attempts, of when the next one is due and, once the attempts are exhausted, whether it has
+ * been dead-lettered.
+ */
+public class CallbackOutboxEntry {
+
+    private String id;
+    private CallbackAddress callbackAddress;
+    private EventEnvelope<?> eventEnvelope;
+    private int attempts;
+    private long nextAttemptAt;
+    private long createdAt;
+    private boolean deadLettered;
+    private String lastError;
+
+    private CallbackOutboxEntry() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public CallbackAddress getCallbackAddress() {
+        return callbackAddress;
+    }
+
+    public EventEnvelope<?> getEventEnvelope() {
+        return eventEnvelope;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public boolean isDeadLettered() {
+        return deadLettered;
+    }
+
+    @Nullable
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .callbackAddress(callbackAddress)
+                .eventEnvelope(eventEnvelope)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(createdAt)
+                .deadLettered(deadLettered)
+                .lastError(lastError);
+    }
+
+    public static class Builder {
+
+        private final CallbackOutboxEntry entry;
+
+        private Builder() {
+            entry = new CallbackOutboxEntry();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            entry.id = id;
+            return this;
+        }
+
+        public Builder callbackAddress(CallbackAddress callbackAddress) {
+            entry.callbackAddress = callbackAddress;
+            return this;
+        }
+
+        public Builder eventEnvelope(EventEnvelope<?> eventEnvelope) {
+            entry.eventEnvelope = eventEnvelope;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            entry.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            entry.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder createdAt(long createdAt) {
+            entry.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder deadLettered(boolean deadLettered) {
+            entry.deadLettered = deadLettered;
+            return this;
+        }
+
+        public Builder lastError(String lastError) {
+            entry.lastError = lastError;
+            return this;
+        }
+
+        public CallbackOutboxEntry build() {
+            Objects.requireNonNull(entry.callbackAddress, "callbackAddress");
+            Objects.requireNonNull(entry.eventEnvelope, "eventEnvelope");
+            if (entry.id == null) {
+                entry.id = UUID.randomUUID().toString();
+            }
+            return entry;
+        }
+    }
+}
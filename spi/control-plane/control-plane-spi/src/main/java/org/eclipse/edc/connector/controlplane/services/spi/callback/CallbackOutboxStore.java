@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+
+/**
+ * Persists the events that still have to be delivered to non-transactional callbacks, so that they survive a restart
+ * of the runtime and can be retried when the callback endpoint is not reachable.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStore {
+
+    /**
+     * Inserts the entry, or replaces it if an entry with the same id already exists.
+     *
+     * @param entry the entry.
+     */
+    void save(CallbackOutboxEntry entry);
+
+    /**
+     * Claims the entries that are not dead-lettered and whose next attempt is due, oldest due first. The next attempt
+     * of the claimed entries is moved to {@code claimedUntil}, so they are not returned again, neither to this nor to
+     * another runtime sharing the store, until they are saved or the claim expires.
+     *
+     * @param max          the maximum number of entries.
+     * @param now          the current time in epoch millis.
+     * @param claimedUntil the time in epoch millis until which the entries are claimed.
+     * @return the claimed entries.
+     */
+    List<CallbackOutboxEntry> claimPending(int max, long now, long claimedUntil);
+
+    /**
+     * Removes the entry, typically after it has been delivered.
+     *
+     * @param id the entry id.
+     */
+    void delete(String id);
+
+    /**
+     * The number of entries that are still to be delivered.
+     *
+     * @return the number of entries that are not dead-lettered.
+     */
+    long countPending();
+
+    /**
+     * The number of entries whose delivery has been given up.
+     *
+     * @return the number of dead-lettered entries.
+     */
+    long countDeadLettered();
+}
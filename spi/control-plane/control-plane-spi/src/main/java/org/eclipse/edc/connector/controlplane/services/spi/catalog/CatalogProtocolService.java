@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.services.spi.catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -37,6 +38,20 @@ public interface CatalogProtocolService {
     @NotNull
     ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation);
 
+    /**
+     * Returns a page of the catalog given a {@link CatalogRequestMessage} and a {@link ClaimToken}, to be written
+     * dataset by dataset. The page can be smaller than the requested one, see {@link StreamedCatalog#getPage()}.
+     *
+     * @param message             the request message.
+     * @param tokenRepresentation the claim token.
+     * @return succeeded result with the {@link StreamedCatalog}, failed result otherwise.
+     */
+    @NotNull
+    default ServiceResult<StreamedCatalog> getStreamedCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
+        return getCatalog(message, tokenRepresentation)
+                .map(catalog -> StreamedCatalog.of(catalog, message.getQuerySpec()));
+    }
+
     /**
      * Returns a dataset given its id and a {@link ClaimToken}
      *
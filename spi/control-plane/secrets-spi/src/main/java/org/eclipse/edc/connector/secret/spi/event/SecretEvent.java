@@ -30,6 +30,11 @@ public abstract class SecretEvent extends Event {
         return secretId;
     }
 
+    @Override
+    public String entityId() {
+        return secretId;
+    }
+
     public abstract static class Builder<T extends SecretEvent, B extends SecretEvent.Builder<T, B>> {
 
         protected final T event;
@@ -37,6 +37,11 @@ public abstract class TransferProcessEvent extends Event {
         return transferProcessId;
     }
 
+    @Override
+    public String entityId() {
+        return transferProcessId;
+    }
+
     public String getAssetId() {
         return assetId;
     }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.selector.spi.client;
 
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
@@ -52,4 +53,13 @@ public interface DataPlaneClient {
      * @return success if available, failure if not available.
      */
     StatusResult<Void> checkAvailability();
+
+    /**
+     * Check Data Plane availability to accept new transfer flows, and obtain its current load.
+     *
+     * @return the load if available, with null content if the Data Plane does not report its load, failure if not available.
+     */
+    default StatusResult<DataPlaneLoad> checkLoad() {
+        return checkAvailability().map(it -> null);
+    }
 }
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.selector.spi.instance;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -67,6 +68,7 @@ public class DataPlaneInstance extends StatefulEntity<DataPlaneInstance> {
     private int turnCount = 0;
     private long lastActive = Instant.now().toEpochMilli();
     private URL url;
+    private DataPlaneLoad load;
 
     private DataPlaneInstance() {
     }
@@ -80,7 +82,8 @@ public class DataPlaneInstance extends StatefulEntity<DataPlaneInstance> {
                 .allowedDestTypes(allowedDestTypes)
                 .allowedSourceTypes(allowedSourceTypes)
                 .allowedTransferType(allowedTransferTypes)
-                .properties(properties);
+                .properties(properties)
+                .load(load);
 
         return copy(builder);
     }
@@ -134,6 +137,20 @@ public class DataPlaneInstance extends StatefulEntity<DataPlaneInstance> {
         return Collections.unmodifiableSet(allowedTransferTypes);
     }
 
+    /**
+     * The load reported by the data plane on the last availability check.
+     *
+     * @return the load, null if the data plane did not report it.
+     */
+    @Nullable
+    public DataPlaneLoad getLoad() {
+        return load;
+    }
+
+    public void updateLoad(@Nullable DataPlaneLoad load) {
+        this.load = load;
+    }
+
     public void transitionToRegistered() {
         transitionTo(REGISTERED.code());
     }
@@ -231,6 +248,11 @@ public class DataPlaneInstance extends StatefulEntity<DataPlaneInstance> {
             return this;
         }
 
+        public Builder load(DataPlaneLoad load) {
+            entity.load = load;
+            return this;
+        }
+
         @Override
         public Builder self() {
             return this;
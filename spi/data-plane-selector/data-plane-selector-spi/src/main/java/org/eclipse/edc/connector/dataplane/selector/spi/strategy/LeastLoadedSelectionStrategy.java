@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the less loaded of two {@link DataPlaneInstance}s picked at random ("power of two choices"). Comparing two
+ * random instances instead of picking the least loaded of all avoids that all the selections made between two load
+ * reports pile up on the same instance.
+ * <p>
+ * The load is compared by the number of flows in flight first, then by the throughput. Instances that do not report
+ * their load are considered as loaded as any other one.
+ */
+public class LeastLoadedSelectionStrategy implements SelectionStrategy {
+
+    private static final Comparator<DataPlaneLoad> LOAD_COMPARATOR = Comparator.comparingInt(DataPlaneLoad::inFlightFlows)
+            .thenComparingLong(DataPlaneLoad::bytesPerSecond);
+
+    /**
+     * Guaranteed to always produce a non-null result given that the instances list is not empty
+     */
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+
+        var random = ThreadLocalRandom.current();
+        var firstIndex = random.nextInt(instances.size());
+        var secondIndex = random.nextInt(instances.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+
+        var first = instances.get(firstIndex);
+        var second = instances.get(secondIndex);
+        return compare(first, second) <= 0 ? first : second;
+    }
+
+    @Override
+    public String getName() {
+        return "leastLoaded";
+    }
+
+    private int compare(DataPlaneInstance first, DataPlaneInstance second) {
+        if (first.getLoad() == null || second.getLoad() == null) {
+            return 0;
+        }
+        return LOAD_COMPARATOR.compare(first.getLoad(), second.getLoad());
+    }
+}
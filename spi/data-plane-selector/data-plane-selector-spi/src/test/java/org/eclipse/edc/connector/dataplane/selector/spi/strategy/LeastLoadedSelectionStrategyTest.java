@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeastLoadedSelectionStrategyTest {
+
+    private final LeastLoadedSelectionStrategy strategy = new LeastLoadedSelectionStrategy();
+
+    @RepeatedTest(1000)
+    void shouldNeverSelectMostLoaded_whenTwoInstances() {
+        var idle = instance("idle", new DataPlaneLoad(0, 0));
+        var busy = instance("busy", new DataPlaneLoad(10, 0));
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @RepeatedTest(1000)
+    void shouldCompareThroughput_whenSameFlowsInFlight() {
+        var slow = instance("slow", new DataPlaneLoad(1, 100));
+        var fast = instance("fast", new DataPlaneLoad(1, 1000));
+
+        assertThat(strategy.apply(List.of(fast, slow))).isSameAs(slow);
+    }
+
+    @Test
+    void shouldNeverSelectMostLoaded_whenManyInstances() {
+        var instances = range(0, 10).mapToObj(it -> instance("instance-" + it, new DataPlaneLoad(it, 0))).toList();
+
+        var selected = range(0, 1000).mapToObj(it -> strategy.apply(instances)).toList();
+
+        assertThat(selected).doesNotContain(instances.get(9)).contains(instances.get(0));
+    }
+
+    @RepeatedTest(100)
+    void shouldSelectAny_whenLoadNotReported() {
+        var instances = range(0, 10).mapToObj(it -> instance("instance-" + it, null)).toList();
+
+        assertThat(strategy.apply(instances)).isNotNull().isIn(instances);
+    }
+
+    @Test
+    void shouldHandleEmptyAndSingleton() {
+        var instance = instance("single", null);
+
+        assertThat(strategy.apply(List.of())).isNull();
+        assertThat(strategy.apply(List.of(instance))).isSameAs(instance);
+    }
+
+    private DataPlaneInstance instance(String id, DataPlaneLoad load) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any/" + id).load(load).build();
+    }
+}
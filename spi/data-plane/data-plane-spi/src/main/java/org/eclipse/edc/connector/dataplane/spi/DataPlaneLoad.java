@@ -0,0 +1,25 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.spi;
+
+/**
+ * The load of a data plane, as reported to the data plane selector on the availability check.
+ *
+ * @param inFlightFlows  the number of data flows currently being transferred.
+ * @param bytesPerSecond the recent throughput of the data plane.
+ */
+public record DataPlaneLoad(int inFlightFlows, long bytesPerSecond) {
+}
@@ -62,10 +62,35 @@ public interface DataSource extends AutoCloseable {
             return "application/octet-stream";
         }
 
+        /**
+         * Called by the sink once the part has been transferred successfully. Sources that keep track of the delivery,
+         * e.g. to commit their position on the underlying system, can override it.
+         */
+        default void acknowledge() {
+            // no-op
+        }
+
         @Override
         default void close() throws Exception {
             // no-op
         }
     }
 
+    /**
+     * A part covering a range of a larger content. The ranges of the same content have the same name and can be
+     * transferred in parallel: a sink can reassemble the content by writing every range at its offset.
+     */
+    interface RangePart extends Part {
+
+        /**
+         * The position of the range in the content.
+         */
+        long offset();
+
+        /**
+         * The size of the whole content the range is part of.
+         */
+        long totalSize();
+    }
+
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.spi.pipeline;
 
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 
 import java.util.Set;
@@ -49,4 +50,13 @@ public interface PipelineService extends TransferService {
      */
     Set<String> supportedSinkTypes();
 
+    /**
+     * Return the current load of the pipeline.
+     *
+     * @return the load.
+     */
+    default DataPlaneLoad getLoad() {
+        return new DataPlaneLoad(0, 0);
+    }
+
 }